@@ -0,0 +1,150 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 모드별 콜드 스타트 벤치마크
+ *
+ * 추출된 애플리케이션 jar를 별도 프로세스로 실행하여
+ * 프로세스 시작부터 첫 API 요청(중대위반 메타데이터 조회)이 200으로 응답할 때까지의 시간을 측정한다.
+ * - jit: 일반 실행
+ * - aot: Spring AOT 초기화 (-Dspring.aot.enabled=true)
+ * - aot-cds: AOT 초기화 + CDS 아카이브 (-XX:SharedArchiveFile)
+ *
+ * Config 서버/Eureka 없이 내장 H2로 실행하며, 모드마다 benchmark.runs회 반복하여 중앙값을 보고한다.
+ *
+ * 실행: ./gradlew coldStartBenchmark -Dbenchmark.runs=5
+ */
+@Slf4j
+public class ColdStartBenchmark {
+
+    private static final String MAIN_CLASS = "com.nsmm.esg.csddd_service.CsdddServiceApplication";
+    private static final String PROBE_PATH = "/api/v1/csddd/violation-meta/1.1";
+
+    public static void main(String[] args) throws Exception {
+        String appJar = requiredProperty("benchmark.app-jar");
+        String cdsArchive = requiredProperty("benchmark.cds-archive");
+        String extraClasspath = System.getProperty("benchmark.extra-classpath", "");
+        int runs = Integer.getInteger("benchmark.runs", 3);
+        int timeoutSeconds = Integer.getInteger("benchmark.timeout-seconds", 120);
+        List<String> modes = Arrays.asList(System.getProperty("benchmark.modes", "jit,aot,aot-cds").split(","));
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+        String classpath = extraClasspath.isBlank() ? appJar : appJar + File.pathSeparator + extraClasspath;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        StringBuilder report = new StringBuilder()
+                .append(System.lineSeparator())
+                .append("=== 기동 모드별 첫 요청 응답 시간 (반복 ").append(runs).append("회) ===")
+                .append(System.lineSeparator())
+                .append(String.format("%-10s %12s %12s %12s%n", "mode", "median(ms)", "min(ms)", "max(ms)"));
+
+        for (String mode : modes) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = measure(java, classpath, cdsArchive, mode.trim(), client, timeoutSeconds);
+                log.info("{} #{}: {}ms", mode, run + 1, millis[run]);
+            }
+            Arrays.sort(millis);
+            report.append(String.format("%-10s %12d %12d %12d%n",
+                    mode, millis[runs / 2], millis[0], millis[runs - 1]));
+        }
+
+        log.info(report.toString());
+    }
+
+    // ============================================================================
+    // 측정 (Measurement)
+    // ============================================================================
+
+    private static long measure(String java, String classpath, String cdsArchive, String mode,
+                                HttpClient client, int timeoutSeconds) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java));
+        if (mode.startsWith("aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.equals("aot-cds")) {
+            command.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        command.addAll(List.of(
+                "-cp", classpath, MAIN_CLASS,
+                "--server.port=" + port,
+                "--spring.profiles.active=fast-startup",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.register-with-eureka=false",
+                "--eureka.client.fetch-registry=false",
+                "--spring.datasource.url=jdbc:h2:mem:coldstart;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--csddd.config-cache.enabled=false"));
+
+        Path output = Files.createTempFile("csddd-coldstart-" + mode + "-", ".log");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                .header("X-USER-TYPE", "HEADQUARTERS")
+                .header("X-HEADQUARTERS-ID", "1")
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        try {
+            long deadline = startedAt + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 비정상 종료되었습니다. 로그: " + output);
+                }
+                if (respondsOk(client, probe)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException(timeoutSeconds + "초 안에 응답하지 않았습니다. 로그: " + output);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean respondsOk(HttpClient client, HttpRequest probe) throws InterruptedException {
+        try {
+            return client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " 시스템 속성이 필요합니다. ./gradlew coldStartBenchmark로 실행하세요.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,194 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import com.nsmm.esg.csddd_service.CsdddServiceApplication;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import jakarta.servlet.Filter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * CSDDD 서비스 부하 테스트 실행기
+ *
+ * 1. 내장 H2 데이터베이스로 서비스를 기동하고 합성 데이터를 배치 적재
+ * 2. SelfAssessmentController에 대해 JVM 내부(MockMvc, 필터/직렬화 포함)에서 시나리오 동시 실행
+ *    - submit: 제출 폭주
+ *    - list: 목록 페이징 조회
+ *    - detail: 상세 조회
+ *    - violation-meta: 중대위반 메타데이터 조회
+ * 3. 시나리오별 처리량, p50/p99 지연 시간, 오류율 보고
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.headquarters=50 -Dloadtest.threads=32
+ * 샤드 라우팅: ./gradlew loadTest -Dloadtest.shards=3 (내장 H2 3개를 샤드로 사용)
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final String BASE_PATH = "/api/v1/csddd";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        Map<String, Object> properties = new HashMap<>(Map.of(
+                "spring.cloud.config.enabled", "false",
+                "eureka.client.enabled", "false",
+                "spring.datasource.url", "jdbc:h2:mem:csddd-loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto", "create",
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(settings.threads()),
+                "server.port", "0",
+                "logging.level.com.nsmm.esg", "WARN",
+                "logging.level.com.nsmm.esg.csddd_service.loadtest", "INFO"));
+        properties.putAll(shardingProperties(settings));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CsdddServiceApplication.class)
+                .properties(properties)
+                .run(args)) {
+
+            SyntheticDataset dataset = new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class),
+                    context.getBean(GradeCalculator.class),
+                    context.getBean(ShardingProperties.class))
+                    .generate(settings);
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                    .addFilters(context.getBeansOfType(Filter.class).values().toArray(new Filter[0]))
+                    .build();
+
+            ScenarioRunner runner = new ScenarioRunner(settings.threads(), settings.durationSeconds());
+            List<ScenarioRunner.ScenarioResult> results = new ArrayList<>();
+            for (String scenario : settings.scenarios()) {
+                results.add(runner.run(scenario, scenario(scenario, mockMvc, dataset)));
+            }
+
+            printReport(settings, dataset, results);
+        }
+    }
+
+    /**
+     * 샤드 라우팅 설정 (loadtest.shards > 1)
+     * spring.datasource를 기본 샤드로, 나머지는 별도 내장 H2로 구성하고 본사 ID를 샤드 수로 나눈 나머지로 배정
+     */
+    private static Map<String, Object> shardingProperties(LoadTestSettings settings) {
+        Map<String, Object> properties = new HashMap<>();
+        if (settings.shards() <= 1) {
+            return properties;
+        }
+        properties.put("csddd.sharding.enabled", "true");
+        properties.put("csddd.sharding.initialize-schema", "true");
+        for (int shard = 1; shard < settings.shards(); shard++) {
+            properties.put("csddd.sharding.shards.shard-" + shard + ".url",
+                    "jdbc:h2:mem:csddd-loadtest-shard-" + shard + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+            properties.put("csddd.sharding.shards.shard-" + shard + ".maximum-pool-size", settings.threads());
+        }
+        for (long hq = 1; hq <= settings.headquarters(); hq++) {
+            if (hq % settings.shards() != 0) {
+                properties.put("csddd.sharding.headquarters." + hq, "shard-" + hq % settings.shards());
+            }
+        }
+        return properties;
+    }
+
+    // ============================================================================
+    // 시나리오 정의 (Scenarios)
+    // ============================================================================
+
+    private static ScenarioRunner.Scenario scenario(String name, MockMvc mockMvc, SyntheticDataset dataset) {
+        return switch (name) {
+            case "submit" -> random -> {
+                SyntheticDataset.Organization org = randomOrganization(random, dataset);
+                return mockMvc.perform(withHeaders(post(BASE_PATH + "/submit"), org)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(submitBody(random, org)))
+                        .andReturn().getResponse().getStatus();
+            };
+            case "list" -> random -> {
+                SyntheticDataset.Organization org = randomOrganization(random, dataset);
+                return mockMvc.perform(withHeaders(get(BASE_PATH + "/results"), org)
+                                .param("onlyPartners", String.valueOf(random.nextBoolean()))
+                                .param("page", String.valueOf(random.nextInt(5)))
+                                .param("size", "20"))
+                        .andReturn().getResponse().getStatus();
+            };
+            case "detail" -> random -> {
+                long resultId = 1 + random.nextLong(dataset.resultCount());
+                SyntheticDataset.Organization org = dataset.organizationOfResult(resultId);
+                return mockMvc.perform(withHeaders(get(BASE_PATH + "/{resultId}", resultId), org))
+                        .andReturn().getResponse().getStatus();
+            };
+            case "violation-meta" -> random -> {
+                String questionId = SyntheticDataGenerator.QUESTION_IDS.get(
+                        random.nextInt(SyntheticDataGenerator.QUESTION_IDS.size()));
+                SyntheticDataset.Organization org = randomOrganization(random, dataset);
+                return mockMvc.perform(withHeaders(get(BASE_PATH + "/violation-meta/{questionId}", questionId), org))
+                        .andReturn().getResponse().getStatus();
+            };
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + name);
+        };
+    }
+
+    private static SyntheticDataset.Organization randomOrganization(ThreadLocalRandom random, SyntheticDataset dataset) {
+        return dataset.organizations().get(random.nextInt(dataset.organizations().size()));
+    }
+
+    private static MockHttpServletRequestBuilder withHeaders(MockHttpServletRequestBuilder builder,
+                                                             SyntheticDataset.Organization org) {
+        builder.header("X-USER-TYPE", org.userType())
+                .header("X-HEADQUARTERS-ID", String.valueOf(org.headquartersId()))
+                .header("X-TREE-PATH", org.treePath());
+        if (org.partnerId() != null) {
+            builder.header("X-PARTNER-ID", String.valueOf(org.partnerId()));
+        }
+        return builder;
+    }
+
+    private static String submitBody(ThreadLocalRandom random, SyntheticDataset.Organization org) {
+        String answers = SyntheticDataGenerator.randomAnswers(random, 0.55 + random.nextDouble() * 0.45).stream()
+                .map(answer -> """
+                        {"questionId":"%s","category":"%s","answer":"%s","weight":1.0,"critical":%s}"""
+                        .formatted(answer.questionId(), answer.category(), answer.yes() ? "yes" : "no", answer.critical()))
+                .collect(Collectors.joining(","));
+        return """
+                {"companyName":"%s","answers":[%s]}""".formatted(org.companyName(), answers);
+    }
+
+    // ============================================================================
+    // 결과 보고 (Report)
+    // ============================================================================
+
+    private static void printReport(LoadTestSettings settings, SyntheticDataset dataset,
+                                    List<ScenarioRunner.ScenarioResult> results) {
+        StringBuilder report = new StringBuilder()
+                .append(System.lineSeparator())
+                .append("=== CSDDD 부하 테스트 결과 ===").append(System.lineSeparator())
+                .append(String.format("데이터: 조직 %d개, 결과 %d건, 샤드 %d개 / 스레드 %d개, 시나리오당 %d초%n",
+                        dataset.organizations().size(), dataset.resultCount(), Math.max(1, settings.shards()),
+                        settings.threads(), settings.durationSeconds()))
+                .append(String.format("%-16s %10s %10s %10s %10s %10s%n",
+                        "scenario", "requests", "req/s", "p50(ms)", "p99(ms)", "errors(%)"));
+
+        for (ScenarioRunner.ScenarioResult result : results) {
+            report.append(String.format("%-16s %10d %10.1f %10.2f %10.2f %10.2f%n",
+                    result.name(), result.requests(), result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(99), result.errorRate() * 100));
+        }
+
+        log.info(report.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 실행 설정
+ *
+ * 시스템 프로퍼티(loadtest.*)로 지정하며, Gradle 실행 시 -Dloadtest.xxx=값 으로 전달한다.
+ * 기본값 기준 약 2.5만 건의 결과와 100만 건의 답변 행이 생성된다.
+ *
+ * @param headquarters         본사 수
+ * @param tier1PerHeadquarters 본사당 1차 협력사 수
+ * @param tier2PerTier1        1차 협력사당 2차 협력사 수
+ * @param assessmentsPerOrg    조직당 자가진단 이력 건수
+ * @param batchSize            INSERT 배치 크기 (결과 기준)
+ * @param threads              시나리오 동시 실행 스레드 수
+ * @param durationSeconds      시나리오별 실행 시간
+ * @param scenarios            실행할 시나리오 목록
+ * @param shards               내장 H2 샤드 수 (1이면 샤드 라우팅 미사용)
+ */
+public record LoadTestSettings(
+        int headquarters,
+        int tier1PerHeadquarters,
+        int tier2PerTier1,
+        int assessmentsPerOrg,
+        int batchSize,
+        int threads,
+        int durationSeconds,
+        List<String> scenarios,
+        int shards) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.headquarters", 20),
+                Integer.getInteger("loadtest.tier1PerHeadquarters", 25),
+                Integer.getInteger("loadtest.tier2PerTier1", 4),
+                Integer.getInteger("loadtest.assessmentsPerOrg", 10),
+                Integer.getInteger("loadtest.batchSize", 500),
+                Integer.getInteger("loadtest.threads", 16),
+                Integer.getInteger("loadtest.durationSeconds", 30),
+                Arrays.stream(System.getProperty("loadtest.scenarios", "submit,list,detail,violation-meta").split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList(),
+                Integer.getInteger("loadtest.shards", 1));
+    }
+
+    public int organizationsPerHeadquarters() {
+        return 1 + tier1PerHeadquarters + tier1PerHeadquarters * tier2PerTier1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오 동시 실행기
+ *
+ * 지정된 스레드 수로 시나리오 호출을 반복하여 처리량, 지연 시간 분포, 오류율을 측정한다.
+ * 2xx가 아닌 응답 상태와 예외는 모두 오류로 집계한다.
+ */
+@Slf4j
+public class ScenarioRunner {
+
+    private final int threads;
+    private final int durationSeconds;
+
+    public ScenarioRunner(int threads, int durationSeconds) {
+        this.threads = threads;
+        this.durationSeconds = durationSeconds;
+    }
+
+    /**
+     * 시나리오 실행
+     *
+     * @param name     시나리오명
+     * @param scenario 1회 호출
+     * @return 실행 결과
+     */
+    public ScenarioResult run(String name, Scenario scenario) {
+        log.info("시나리오 실행: {} (스레드 {}개, {}초)", name, threads, durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Worker> workers = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(scenario, deadline, done);
+            workers.add(worker);
+            executor.execute(worker);
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        long[] latencies = workers.stream()
+                .flatMapToLong(worker -> Arrays.stream(worker.latencies, 0, worker.count))
+                .sorted()
+                .toArray();
+        long errors = workers.stream().mapToLong(worker -> worker.errors).sum();
+        return new ScenarioResult(name, latencies, errors, elapsedSeconds);
+    }
+
+    /**
+     * 부하 시나리오 1회 호출
+     */
+    @FunctionalInterface
+    public interface Scenario {
+
+        /**
+         * @param random 스레드 전용 난수 생성기
+         * @return HTTP 응답 상태 코드
+         */
+        int call(ThreadLocalRandom random) throws Exception;
+    }
+
+    /**
+     * 시나리오 반복 호출 작업자 (스레드별 지연 시간 버퍼 보유)
+     */
+    private static class Worker implements Runnable {
+
+        private final Scenario scenario;
+        private final long deadline;
+        private final CountDownLatch done;
+        private long[] latencies = new long[1 << 14];
+        private int count;
+        private long errors;
+
+        Worker(Scenario scenario, long deadline, CountDownLatch done) {
+            this.scenario = scenario;
+            this.deadline = deadline;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        int status = scenario.call(random);
+                        success = status >= 200 && status < 300;
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    record(System.nanoTime() - start, success);
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+
+    /**
+     * 시나리오 실행 결과
+     *
+     * @param name           시나리오명
+     * @param latencies      정렬된 호출별 지연 시간 (나노초)
+     * @param errors         오류 건수
+     * @param elapsedSeconds 실행 시간
+     */
+    public record ScenarioResult(String name, long[] latencies, long errors, double elapsedSeconds) {
+
+        public long requests() {
+            return latencies.length;
+        }
+
+        public double throughput() {
+            return elapsedSeconds > 0 ? requests() / elapsedSeconds : 0;
+        }
+
+        public double errorRate() {
+            return requests() > 0 ? (double) errors / requests() : 0;
+        }
+
+        public double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.nsmm.esg.csddd_service.dto.ApiResponse;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.util.CriticalGradeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 포맷별 직렬화 벤치마크
+ *
+ * 일반적인 상세 응답(답변 40건)과 목록 응답(20건 페이지)을 JSON, CBOR, Smile로 직렬화하여
+ * 응답 크기(원본/gzip)와 직렬화 1회당 CPU 시간을 비교한다.
+ * 서버와 같은 Jackson2ObjectMapperBuilder 설정으로 ObjectMapper를 생성한다.
+ *
+ * 실행: ./gradlew serializationBenchmark -Dbenchmark.iterations=20000
+ */
+@Slf4j
+public class SerializationBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int iterations = Integer.getInteger("benchmark.iterations", 20_000);
+        int warmup = Integer.getInteger("benchmark.warmup", iterations / 2);
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("cbor", Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+        mappers.put("smile", Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+
+        SplittableRandom random = new SplittableRandom(20250101L);
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        payloads.put("detail", ApiResponse.success(
+                SelfAssessmentResultResponse.fromDetail(syntheticResult(1L, random)), "자가진단 결과가 조회되었습니다."));
+        payloads.put("page(20)", ApiResponse.success(syntheticPage(random), "자가진단 결과 목록이 조회되었습니다."));
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        StringBuilder report = new StringBuilder()
+                .append(System.lineSeparator())
+                .append("=== 응답 포맷별 직렬화 비교 (반복 ").append(iterations).append("회) ===")
+                .append(System.lineSeparator())
+                .append(String.format("%-10s %-6s %10s %10s %10s %12s%n",
+                        "payload", "format", "bytes", "gzip", "vs json", "cpu(us/op)"));
+
+        for (Map.Entry<String, Object> payload : payloads.entrySet()) {
+            int jsonBytes = 0;
+            for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+                byte[] encoded = mapper.getValue().writeValueAsBytes(payload.getValue());
+                if (mapper.getKey().equals("json")) {
+                    jsonBytes = encoded.length;
+                }
+
+                for (int i = 0; i < warmup; i++) {
+                    mapper.getValue().writeValueAsBytes(payload.getValue());
+                }
+                long cpuStart = threads.getCurrentThreadCpuTime();
+                for (int i = 0; i < iterations; i++) {
+                    mapper.getValue().writeValueAsBytes(payload.getValue());
+                }
+                double cpuMicros = (threads.getCurrentThreadCpuTime() - cpuStart) / 1_000.0 / iterations;
+
+                report.append(String.format("%-10s %-6s %10d %10d %9.0f%% %12.2f%n",
+                        payload.getKey(), mapper.getKey(), encoded.length, gzipSize(encoded),
+                        100.0 * encoded.length / jsonBytes, cpuMicros));
+            }
+        }
+
+        log.info(report.toString());
+    }
+
+    // ============================================================================
+    // 합성 응답 생성 (Synthetic Payloads)
+    // ============================================================================
+
+    private static Page<SelfAssessmentResultResponse> syntheticPage(SplittableRandom random) {
+        List<SelfAssessmentResultResponse> content = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            content.add(SelfAssessmentResultResponse.fromSummary(syntheticResult(id, random)));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, 20), 480);
+    }
+
+    private static SelfAssessmentResult syntheticResult(long id, SplittableRandom random) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 9, 0).plusMinutes(id * 37);
+        SelfAssessmentResult result = SelfAssessmentResult.builder()
+                .id(id)
+                .headquartersId(1L)
+                .partnerId(id)
+                .treePath("/1/L1-001/L2-" + String.format("%03d", id) + "/")
+                .companyName("2차협력사-1-1-" + id)
+                .userType("PARTNER")
+                .status(AssessmentStatus.IN_PROGRESS)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+
+        result.assignAnswers(SyntheticDataGenerator.randomAnswers(random, 0.8).stream()
+                .map(answer -> SelfAssessmentAnswer.builder()
+                        .questionId(answer.questionId())
+                        .category(answer.category())
+                        .answer(answer.yes())
+                        .weight(1.0)
+                        .criticalViolation(answer.critical())
+                        .criticalGrade(CriticalGradeMap.getGradeByQuestionId(answer.questionId()))
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .build())
+                .toList());
+        result.finalizeAssessment(82, 82.5, 100, AssessmentGrade.B,
+                "양호한 이행 상태이나 일부 개선 필요.", "위반 항목에 대한 문서 보완을 고려하세요.", "builtin");
+        return result;
+    }
+
+    private static int gzipSize(byte[] encoded) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(encoded);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,235 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.ViolationMeta;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.util.CriticalGradeMap;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import com.nsmm.esg.csddd_service.util.ViolationMetaMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 합성 자가진단 데이터 생성기
+ *
+ * 본사 → 1차 협력사 → 2차 협력사 계층(treePath)을 구성하고
+ * 조직별 자가진단 이력을 JDBC 배치 INSERT로 적재한다.
+ * 점수/등급은 실제 GradeCalculator로 계산하여 운영 데이터 분포와 맞춘다.
+ * 샤드 라우팅 사용 시 본사가 매핑된 샤드에 적재한다 (결과 ID는 샤드 전체에서 유일).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    public static final List<String> QUESTION_IDS = List.of(
+            "1.1", "1.2", "1.3", "1.4", "1.5", "1.6", "1.7", "1.8", "1.9",
+            "2.1", "2.2", "2.3", "2.4", "2.5", "2.6",
+            "3.1", "3.2", "3.3", "3.4", "3.5", "3.6", "3.7", "3.8",
+            "4.1", "4.2", "4.3", "4.4", "4.5", "4.6", "4.7", "4.8", "4.9",
+            "5.1", "5.2", "5.3", "5.4", "5.5", "5.6", "5.7", "5.8");
+
+    private static final String INSERT_RESULT = """
+            insert into self_assessment_results
+              (id, headquarters_id, partner_id, tree_path, company_name, user_type,
+               score, actual_score, total_possible_score, status, final_grade, summary, recommendations,
+               critical_violation_count, no_answer_count, rule_version, created_at, updated_at, completed_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ANSWER = """
+            insert into self_assessment_answer
+              (id, result_id, question_id, category, answer, weight, critical_violation, critical_grade,
+               created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeCalculator gradeCalculator;
+    private final ShardingProperties shardingProperties;
+    private final SplittableRandom random = new SplittableRandom(20250101L);
+
+    /**
+     * 설정에 따른 조직 계층 및 자가진단 이력 생성
+     */
+    public SyntheticDataset generate(LoadTestSettings settings) {
+        List<SyntheticDataset.Organization> organizations = createOrganizations(settings);
+        int resultCount = organizations.size() * settings.assessmentsPerOrg();
+        int[] resultOrgs = new int[resultCount];
+
+        log.info("합성 데이터 생성 시작: 조직 {}개, 결과 {}건, 답변 {}건",
+                organizations.size(), resultCount, (long) resultCount * QUESTION_IDS.size());
+        long startedAt = System.nanoTime();
+
+        List<Object[]> resultRows = new ArrayList<>(settings.batchSize());
+        List<Object[]> answerRows = new ArrayList<>(settings.batchSize() * QUESTION_IDS.size());
+        long resultId = 0;
+        long answerId = 0;
+        LocalDateTime base = LocalDateTime.now().minusYears(2);
+
+        long batchHeadquartersId = organizations.isEmpty() ? 0 : organizations.get(0).headquartersId();
+
+        for (int orgIndex = 0; orgIndex < organizations.size(); orgIndex++) {
+            SyntheticDataset.Organization org = organizations.get(orgIndex);
+            // 배치는 한 본사(샤드)의 행으로만 구성
+            if (org.headquartersId() != batchHeadquartersId) {
+                flush(batchHeadquartersId, resultRows, answerRows);
+                batchHeadquartersId = org.headquartersId();
+            }
+            double complianceRate = 0.55 + random.nextDouble() * 0.45;
+
+            for (int n = 0; n < settings.assessmentsPerOrg(); n++) {
+                resultId++;
+                resultOrgs[(int) (resultId - 1)] = orgIndex;
+                LocalDateTime createdAt = base.plusDays((long) n * 730 / settings.assessmentsPerOrg())
+                        .plusMinutes(random.nextInt(24 * 60));
+
+                SelfAssessmentResult result = scoreSyntheticAssessment(org, complianceRate);
+                resultRows.add(resultRow(resultId, org, result, createdAt));
+                for (SelfAssessmentAnswer answer : result.getAnswers()) {
+                    answerRows.add(answerRow(++answerId, resultId, answer, createdAt));
+                }
+
+                if (resultRows.size() >= settings.batchSize()) {
+                    flush(batchHeadquartersId, resultRows, answerRows);
+                }
+            }
+        }
+        flush(batchHeadquartersId, resultRows, answerRows);
+        restartIdentities(resultId + 1, answerId + 1);
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("합성 데이터 생성 완료: {}초, {}건/초", String.format("%.1f", seconds),
+                String.format("%.0f", (resultId + answerId) / seconds));
+        return new SyntheticDataset(organizations, resultOrgs);
+    }
+
+    /**
+     * 합성 제출 답변 목록 생성 (questionId, category, yes/no, critical)
+     * 여러 스레드에서 호출할 수 있도록 난수 생성기를 인자로 받는다.
+     */
+    public static List<SyntheticAnswer> randomAnswers(RandomGenerator random, double complianceRate) {
+        List<SyntheticAnswer> answers = new ArrayList<>(QUESTION_IDS.size());
+        for (String questionId : QUESTION_IDS) {
+            ViolationMeta meta = ViolationMetaMap.get(questionId);
+            answers.add(new SyntheticAnswer(
+                    questionId,
+                    meta.getCategory(),
+                    random.nextDouble() < complianceRate,
+                    CriticalGradeMap.getGradeByQuestionId(questionId) != null));
+        }
+        return answers;
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private List<SyntheticDataset.Organization> createOrganizations(LoadTestSettings settings) {
+        List<SyntheticDataset.Organization> organizations = new ArrayList<>();
+        long nextPartnerId = 1;
+
+        for (long hq = 1; hq <= settings.headquarters(); hq++) {
+            String hqPath = "/" + hq + "/";
+            organizations.add(new SyntheticDataset.Organization(hq, null, hqPath, "본사-" + hq));
+
+            for (int t1 = 1; t1 <= settings.tier1PerHeadquarters(); t1++) {
+                String tier1Path = hqPath + String.format("L1-%03d/", t1);
+                organizations.add(new SyntheticDataset.Organization(
+                        hq, nextPartnerId++, tier1Path, "1차협력사-" + hq + "-" + t1));
+
+                for (int t2 = 1; t2 <= settings.tier2PerTier1(); t2++) {
+                    String tier2Path = tier1Path + String.format("L2-%03d/", t2);
+                    organizations.add(new SyntheticDataset.Organization(
+                            hq, nextPartnerId++, tier2Path, "2차협력사-" + hq + "-" + t1 + "-" + t2));
+                }
+            }
+        }
+        return organizations;
+    }
+
+    private SelfAssessmentResult scoreSyntheticAssessment(SyntheticDataset.Organization org, double complianceRate) {
+        SelfAssessmentResult result = SelfAssessmentResult.builder()
+                .headquartersId(org.headquartersId())
+                .partnerId(org.partnerId())
+                .treePath(org.treePath())
+                .companyName(org.companyName())
+                .userType(org.userType())
+                .status(AssessmentStatus.IN_PROGRESS)
+                .build();
+
+        result.assignAnswers(randomAnswers(random, complianceRate).stream()
+                .map(answer -> SelfAssessmentAnswer.builder()
+                        .questionId(answer.questionId())
+                        .category(answer.category())
+                        .answer(answer.yes())
+                        .weight(1.0)
+                        .criticalViolation(answer.critical())
+                        .criticalGrade(CriticalGradeMap.getGradeByQuestionId(answer.questionId()))
+                        .build())
+                .toList());
+        gradeCalculator.evaluate(result);
+        return result;
+    }
+
+    private Object[] resultRow(long id, SyntheticDataset.Organization org, SelfAssessmentResult result,
+                               LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        return new Object[]{
+                id, org.headquartersId(), org.partnerId(), org.treePath(), org.companyName(), org.userType(),
+                result.getScore(), result.getActualScore(), result.getTotalPossibleScore(),
+                AssessmentStatus.COMPLETED.name(), result.getFinalGrade().name(),
+                result.getSummary(), result.getRecommendations(),
+                result.getCriticalViolationCount(), result.getNoAnswerCount(), result.getRuleVersion(),
+                created, created, Timestamp.valueOf(createdAt.plusMinutes(30))
+        };
+    }
+
+    private Object[] answerRow(long id, long resultId, SelfAssessmentAnswer answer, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        return new Object[]{
+                id, resultId, answer.getQuestionId(), answer.getCategory(), answer.isAnswer(), answer.getWeight(),
+                answer.getCriticalViolation(),
+                answer.getCriticalGrade() != null ? answer.getCriticalGrade().name() : null,
+                created, created
+        };
+    }
+
+    private void flush(long headquartersId, List<Object[]> resultRows, List<Object[]> answerRows) {
+        if (resultRows.isEmpty()) {
+            return;
+        }
+        ShardContext.runIn(shardingProperties.shardFor(headquartersId), () -> {
+            jdbcTemplate.batchUpdate(INSERT_RESULT, resultRows);
+            jdbcTemplate.batchUpdate(INSERT_ANSWER, answerRows);
+        });
+        resultRows.clear();
+        answerRows.clear();
+    }
+
+    /**
+     * 명시적 ID로 적재했으므로 이후 제출 시 ID 충돌이 없도록 샤드마다 IDENTITY 재시작 (H2)
+     */
+    private void restartIdentities(long nextResultId, long nextAnswerId) {
+        shardingProperties.shardKeys().forEach(shard -> ShardContext.runIn(shard, () -> {
+            jdbcTemplate.execute("alter table self_assessment_results alter column id restart with " + nextResultId);
+            jdbcTemplate.execute("alter table self_assessment_answer alter column id restart with " + nextAnswerId);
+        }));
+    }
+
+    /**
+     * 합성 답변 값
+     */
+    public record SyntheticAnswer(String questionId, String category, boolean yes, boolean critical) {
+    }
+}
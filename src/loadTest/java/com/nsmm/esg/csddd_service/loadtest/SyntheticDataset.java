@@ -0,0 +1,30 @@
+package com.nsmm.esg.csddd_service.loadtest;
+
+import java.util.List;
+
+/**
+ * 합성 데이터 생성 결과
+ *
+ * @param organizations 생성된 조직 목록 (본사 + 협력사)
+ * @param resultOrgs    결과 ID(1부터) → 조직 인덱스 (resultOrgs[id - 1])
+ */
+public record SyntheticDataset(List<Organization> organizations, int[] resultOrgs) {
+
+    public long resultCount() {
+        return resultOrgs.length;
+    }
+
+    public Organization organizationOfResult(long resultId) {
+        return organizations.get(resultOrgs[(int) (resultId - 1)]);
+    }
+
+    /**
+     * 합성 조직 정보 (요청 헤더 구성용)
+     */
+    public record Organization(long headquartersId, Long partnerId, String treePath, String companyName) {
+
+        public String userType() {
+            return partnerId == null ? "HEADQUARTERS" : "PARTNER";
+        }
+    }
+}
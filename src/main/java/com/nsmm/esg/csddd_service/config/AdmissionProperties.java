@@ -0,0 +1,76 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 본사별 제출 허용 제어 설정 (csddd.admission.*)
+ *
+ * Config 서버 값 변경 후 /actuator/refresh 시 다시 바인딩되며, 다음 제출 요청부터 새 한도가 적용된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.admission")
+public class AdmissionProperties {
+
+    /**
+     * 제출 허용 제어 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 본사별 초당 허용 제출 수 (토큰 보충 속도)
+     */
+    private double ratePerSecond = 5.0;
+
+    /**
+     * 본사별 순간 허용 제출 수 (토큰 버킷 크기)
+     */
+    private int burst = 20;
+
+    /**
+     * 본사별 동시 처리 중 제출 수 상한
+     */
+    private int maxConcurrent = 4;
+
+    /**
+     * 처리 중인 제출 없이 이 시간 동안 요청이 없던 본사의 상태(버킷/동시 처리 수) 제거
+     */
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    /**
+     * 본사 ID별 한도 재정의 (지정하지 않은 항목은 기본값 사용)
+     */
+    private Map<Long, Limit> headquarters = new HashMap<>();
+
+    public double ratePerSecondFor(Long headquartersId) {
+        Limit limit = headquarters.get(headquartersId);
+        return limit != null && limit.getRatePerSecond() != null ? limit.getRatePerSecond() : ratePerSecond;
+    }
+
+    public int burstFor(Long headquartersId) {
+        Limit limit = headquarters.get(headquartersId);
+        return limit != null && limit.getBurst() != null ? limit.getBurst() : burst;
+    }
+
+    public int maxConcurrentFor(Long headquartersId) {
+        Limit limit = headquarters.get(headquartersId);
+        return limit != null && limit.getMaxConcurrent() != null ? limit.getMaxConcurrent() : maxConcurrent;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private Double ratePerSecond;
+
+        private Integer burst;
+
+        private Integer maxConcurrent;
+    }
+}
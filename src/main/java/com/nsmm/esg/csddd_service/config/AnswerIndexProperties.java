@@ -0,0 +1,29 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 문항 답변 역색인 설정 (csddd.answer-index.*)
+ *
+ * 정기 재구성 주기는 csddd.answer-index.rebuild-interval (기본 PT10M)로 지정하며,
+ * 다른 인스턴스에서 제출된 결과를 반영한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.answer-index")
+public class AnswerIndexProperties implements IndexRebuildProperties {
+
+    /**
+     * 답변 역색인 사용 여부 (비활성화 시 답변 조건 조회 API는 404)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정기 재구성 주기
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
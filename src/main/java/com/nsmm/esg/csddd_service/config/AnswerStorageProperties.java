@@ -0,0 +1,30 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.enums.AnswerRowStorage;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 답변 저장 방식 설정 (csddd.answers.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.answers")
+public class AnswerStorageProperties {
+
+    /**
+     * 답변 행 저장 정책
+     */
+    private AnswerRowStorage rowStorage = AnswerRowStorage.ALWAYS;
+
+    /**
+     * 패킹 답변 이관 시 이관된 결과의 답변 행 삭제 여부
+     */
+    private boolean deleteRowsAfterMigration = false;
+
+    /**
+     * 패킹 답변 이관 청크 크기
+     */
+    private int migrationChunkSize = 500;
+}
@@ -0,0 +1,41 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 자가진단 결과 콜드 저장소 이관 설정 (csddd.archival.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.archival")
+public class ArchivalProperties {
+
+    /**
+     * 이관 작업 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 이관 대상 최소 경과 기간 (생성 일시 기준)
+     */
+    private Duration maxAge = Duration.ofDays(365);
+
+    /**
+     * 트랜잭션 1회당 이관 건수
+     */
+    private int chunkSize = 200;
+
+    /**
+     * 청크 사이 대기 시간 (운영 트래픽 보호용 스로틀)
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(500);
+
+    /**
+     * 1회 실행 시 최대 처리 청크 수 (0 이하이면 제한 없음)
+     */
+    private int maxChunksPerRun = 500;
+}
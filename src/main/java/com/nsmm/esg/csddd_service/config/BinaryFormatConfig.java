@@ -0,0 +1,35 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 포맷 설정 (콘텐츠 협상)
+ *
+ * JSON과 함께 CBOR(application/cbor), Smile(application/x-jackson-smile) 변환기를 등록
+ * - Accept 헤더로 포맷을 선택하며, 지정하지 않으면 기존과 같이 JSON으로 응답
+ * - Spring Boot가 구성한 ObjectMapper 설정(JavaTimeModule 등)을 그대로 사용
+ * - 대량 조회하는 내부 ESG 서비스의 응답 크기와 직렬화 비용 절감용
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false)
+                .factory(new CBORFactory())
+                .build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false)
+                .factory(new SmileFactory())
+                .build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 완료된 자가진단 결과만 2차 캐시에 남기는 Hibernate 이벤트 리스너
+ *
+ * Hibernate는 엔티티 인스턴스 단위로 캐시 여부를 지정할 수 없으므로,
+ * 캐시 적재가 끝난 시점(로드 직후, 커밋 직후)에 상태를 확인하여
+ * COMPLETED가 아닌 결과와 그 답변 컬렉션을 캐시에서 제거한다.
+ */
+@Slf4j
+public class CompletedOnlyCacheListener
+        implements PostLoadEventListener, PostCommitInsertEventListener, PostCommitUpdateEventListener {
+
+    private static final String ANSWERS_ROLE = SelfAssessmentResult.class.getName() + ".answers";
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        evictIfNotCompleted(event.getSession().getFactory(), event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evictIfNotCompleted(event.getSession().getFactory(), event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 커밋 실패 시 캐시 적재가 일어나지 않으므로 처리할 내용 없음
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evictIfNotCompleted(event.getSession().getFactory(), event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 커밋 실패 시 캐시 적재가 일어나지 않으므로 처리할 내용 없음
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return SelfAssessmentResult.class.equals(persister.getMappedClass());
+    }
+
+    /**
+     * 완료되지 않은 결과의 엔티티/컬렉션 캐시 제거
+     */
+    private void evictIfNotCompleted(SessionFactoryImplementor factory, Object entity, Object id) {
+        if (!(entity instanceof SelfAssessmentResult result) || id == null) {
+            return;
+        }
+        if (result.getStatus() == AssessmentStatus.COMPLETED) {
+            return;
+        }
+
+        factory.getCache().evictEntityData(SelfAssessmentResult.class, id);
+        factory.getCache().evictCollectionData(ANSWERS_ROLE, id);
+        log.debug("미완료 자가진단 결과 캐시 제거: ID={}, 상태={}", id, result.getStatus());
+    }
+}
@@ -0,0 +1,32 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Config 서버 설정 스냅샷 캐시 설정 (csddd.config-cache.*)
+ *
+ * 스냅샷 경로(csddd.config-cache.location)는 spring.config.import에서도 사용하므로
+ * 바인딩하지 않고 시스템 속성/환경 변수(CSDDD_CONFIG_CACHE_LOCATION)로만 지정한다.
+ * 저장을 켜면 경로를 작업 디렉터리 밖의 절대 경로로 반드시 지정해야 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.config-cache")
+public class ConfigCacheProperties {
+
+    /**
+     * Config 서버에서 받은 설정을 로컬 파일로 저장할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷에서 제외할 키 패턴 (대소문자 무시 부분 일치, 기본 제외 패턴에 추가)
+     * 값이 {cipher}로 시작하는 항목은 항상 제외
+     */
+    private List<String> excludedKeyPatterns = new ArrayList<>();
+}
@@ -0,0 +1,168 @@
+package com.nsmm.esg.csddd_service.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Config 서버 설정 스냅샷 캐시
+ *
+ * Config 서버에서 받은 설정을 로컬 파일(csddd.config-cache.location)로 저장하고,
+ * 다음 기동 시 spring.config.import의 optional:file: 항목으로 먼저 읽힌다.
+ * Config 서버 값이 더 높은 우선순위로 import되므로 서버가 응답하면 서버 값이,
+ * 응답하지 않으면(optional 실패) 마지막으로 저장된 스냅샷 값이 적용된다.
+ *
+ * - 저장 시점: 기동 완료(ApplicationReadyEvent), 설정 갱신(EnvironmentChangeEvent)
+ * - 임시 파일에 쓴 뒤 이동하여 기동 중인 다른 인스턴스가 쓰다 만 파일을 읽지 않도록 함
+ * - 기본 비활성화, 켜면 경로를 작업 디렉터리 밖 절대 경로로 명시해야 하며 아니면 저장하지 않음
+ * - 비밀 값(password/secret/token/credential/private-key 키, {cipher} 값)은 저장하지 않음
+ *   (스냅샷으로 기동하면 해당 값은 로컬 설정/환경 변수에서 받아야 함)
+ * - 임시 파일 기본 권한(POSIX에서 소유자 전용)을 이동 후에도 유지
+ * - csddd.config.cache.fallback 지표: 이번 기동이 스냅샷으로 대체되었으면 1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigSnapshotCache {
+
+    static final String LOCATION_PROPERTY = "csddd.config-cache.location";
+    private static final String CIPHER_PREFIX = "{cipher}";
+    private static final List<String> SECRET_KEY_PATTERNS =
+            List.of("password", "secret", "token", "credential", "private-key", "privatekey");
+    static final String WRITTEN_AT_KEY = "csddd.config-cache.written-at";
+    private static final String CONFIG_SERVER_SOURCE_PREFIX = "configserver:";
+
+    private final ConfigurableEnvironment environment;
+    private final ConfigCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        boolean fallback = configServerSources().isEmpty() && environment.containsProperty(WRITTEN_AT_KEY);
+        Gauge.builder("csddd.config.cache.fallback", () -> fallback ? 1 : 0)
+                .description("Config 서버 대신 로컬 설정 스냅샷으로 기동했는지 여부")
+                .register(meterRegistry);
+
+        if (fallback) {
+            log.warn("Config 서버 응답 없음: 로컬 설정 스냅샷으로 기동 (저장 일시={}, 경로={})",
+                    environment.getProperty(WRITTEN_AT_KEY), location());
+        }
+        writeSnapshot();
+    }
+
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange() {
+        writeSnapshot();
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    /**
+     * 현재 Config 서버 설정을 스냅샷 파일로 저장 (Config 서버 설정이 없으면 기존 파일 유지)
+     */
+    private void writeSnapshot() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path target = resolveTarget();
+        if (target == null) {
+            return;
+        }
+        List<EnumerablePropertySource<?>> sources = configServerSources();
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        // 우선순위가 높은 소스부터 순회하므로 먼저 넣은 값을 유지
+        Properties snapshot = new Properties();
+        for (EnumerablePropertySource<?> source : sources) {
+            for (String name : source.getPropertyNames()) {
+                Object value = source.getProperty(name);
+                if (value != null && !snapshot.containsKey(name) && !isSecret(name, value.toString())) {
+                    snapshot.setProperty(name, value.toString());
+                }
+            }
+        }
+        snapshot.setProperty(WRITTEN_AT_KEY, LocalDateTime.now().toString());
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                snapshot.store(out, "csddd-service config server snapshot");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("로컬 설정 스냅샷 저장: {}개 항목, 경로={}", snapshot.size() - 1, target);
+        } catch (IOException e) {
+            log.warn("로컬 설정 스냅샷 저장 실패: 경로={}", target, e);
+        }
+    }
+
+    private String location() {
+        return environment.getProperty(LOCATION_PROPERTY);
+    }
+
+    /**
+     * 저장 경로 확인
+     * 명시되지 않았거나 상대 경로 또는 작업 디렉터리 하위이면 null (소스 트리/배포 디렉터리에 설정이 남지 않도록)
+     */
+    private Path resolveTarget() {
+        String location = location();
+        if (location == null || location.isBlank()) {
+            log.warn("로컬 설정 스냅샷 저장 생략: {} 경로가 지정되지 않음", LOCATION_PROPERTY);
+            return null;
+        }
+        Path target = Path.of(location);
+        Path workingDirectory = Path.of("").toAbsolutePath().normalize();
+        if (!target.isAbsolute() || target.normalize().startsWith(workingDirectory)) {
+            log.warn("로컬 설정 스냅샷 저장 생략: 작업 디렉터리 밖의 절대 경로가 필요함 (경로={})", location);
+            return null;
+        }
+        return target.normalize();
+    }
+
+    /**
+     * 비밀 값 여부 (키 이름 패턴 또는 {cipher} 암호문)
+     */
+    private boolean isSecret(String name, String value) {
+        if (value.startsWith(CIPHER_PREFIX)) {
+            return true;
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        return SECRET_KEY_PATTERNS.stream().anyMatch(key::contains)
+                || properties.getExcludedKeyPatterns().stream()
+                        .anyMatch(pattern -> key.contains(pattern.toLowerCase(Locale.ROOT)));
+    }
+
+    private List<EnumerablePropertySource<?>> configServerSources() {
+        List<EnumerablePropertySource<?>> sources = new ArrayList<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (source.getName().startsWith(CONFIG_SERVER_SOURCE_PREFIX)
+                    && source instanceof EnumerablePropertySource<?> enumerable) {
+                sources.add(enumerable);
+            }
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.util.SqlStatementStats;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 프록시 설정
+ *
+ * 모든 DataSource 빈을 datasource-proxy로 감싸 다음을 수행:
+ * - 요청 단위 SQL 문장 수 / 행 수 / 실행 시간 집계 (SqlStatementStats)
+ * - 느린 쿼리를 바인딩 파라미터와 함께 WARN 로그로 기록
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor() {
+        return new DataSourceProxyBeanPostProcessor();
+    }
+
+    /**
+     * DataSource 빈을 프록시로 감싸는 후처리기
+     * 빈 후처리기는 설정 바인딩보다 먼저 생성되므로 Environment에서 직접 설정을 읽는다.
+     */
+    static class DataSourceProxyBeanPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private SqlStatsProperties properties = new SqlStatsProperties();
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.properties = Binder.get(environment)
+                    .bind("csddd.sql-stats", SqlStatsProperties.class)
+                    .orElseGet(SqlStatsProperties::new);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                return bean;
+            }
+
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new StatementCountingListener())
+                    .methodListener(new FetchedRowCountingListener())
+                    .proxyResultSet()
+                    .logSlowQueryBySlf4j(properties.getSlowQueryThreshold().toMillis(),
+                            TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN)
+                    .build();
+        }
+    }
+
+    /**
+     * 문장 실행 횟수/시간 및 변경 행 수 집계
+     */
+    static class StatementCountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStatementStats.recordStatement(execInfo.getElapsedTime(), affectedRows(execInfo.getResult()));
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                long sum = 0;
+                for (int count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * 결과셋 next() 호출 결과로 조회 행 수 집계
+     */
+    static class FetchedRowCountingListener implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                SqlStatementStats.recordFetchedRow();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 자가진단 결과 변경 피드 설정 (csddd.feed.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.feed")
+public class FeedProperties {
+
+    /**
+     * 재연결 시 재전송을 위해 보관하는 최근 이벤트 수 (전체 본사 공통)
+     */
+    private int replayBufferSize = 2000;
+
+    /**
+     * 구독자별 전송 대기열 크기 (초과 시 해당 구독자 연결 종료)
+     */
+    private int subscriberQueueCapacity = 256;
+
+    /**
+     * 인스턴스당 최대 동시 구독자 수
+     */
+    private int maxSubscribers = 2000;
+
+    /**
+     * 전송 스레드 수
+     */
+    private int dispatchThreads = 4;
+
+    /**
+     * 연결 유지용 heartbeat 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * SSE 연결 최대 유지 시간 (만료 시 클라이언트가 커서로 재연결)
+     */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+}
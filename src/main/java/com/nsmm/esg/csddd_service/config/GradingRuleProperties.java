@@ -0,0 +1,65 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.util.GradingRuleSet;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 등급 산정 규칙 설정 (csddd.grading.*)
+ *
+ * 규칙 세트는 Spring Cloud Config에서 버전별로 제공되며,
+ * active-version 변경 후 /actuator/refresh 호출 시 재배포 없이 반영된다.
+ *
+ * 예시 (문항 ID에 '.'이 포함되므로 대괄호 표기 필요):
+ * csddd.grading.active-version: 2025-07
+ * csddd.grading.rule-sets.2025-07.threshold-a: 90
+ * csddd.grading.rule-sets.2025-07.critical-grades.[1.1]: D
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.grading")
+public class GradingRuleProperties {
+
+    /**
+     * 현재 적용할 규칙 세트 버전 (builtin이면 내장 기본 규칙 사용)
+     */
+    private String activeVersion = GradingRuleSet.BUILTIN_VERSION;
+
+    /**
+     * 버전별 규칙 세트
+     */
+    private Map<String, RuleSet> ruleSets = new HashMap<>();
+
+    /**
+     * 단일 버전의 등급 산정 규칙
+     */
+    @Getter
+    @Setter
+    public static class RuleSet {
+
+        /**
+         * A 등급 최소 점수
+         */
+        private int thresholdA = 90;
+
+        /**
+         * B 등급 최소 점수
+         */
+        private int thresholdB = 75;
+
+        /**
+         * C 등급 최소 점수
+         */
+        private int thresholdC = 60;
+
+        /**
+         * 중대위반 문항별 강등 등급 (문항 ID → 등급)
+         */
+        private Map<String, AssessmentGrade> criticalGrades = new HashMap<>();
+    }
+}
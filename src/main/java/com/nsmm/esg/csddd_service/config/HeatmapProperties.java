@@ -0,0 +1,29 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 문항별 미준수 히트맵 집계 설정 (csddd.heatmap.*)
+ *
+ * 정기 재구성 주기는 csddd.heatmap.rebuild-interval (기본 PT10M)로 지정하며,
+ * 다른 인스턴스에서 제출된 결과를 반영한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.heatmap")
+public class HeatmapProperties implements IndexRebuildProperties {
+
+    /**
+     * 히트맵 집계 사용 여부 (비활성화 시 히트맵 API는 404)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정기 재구성 주기
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
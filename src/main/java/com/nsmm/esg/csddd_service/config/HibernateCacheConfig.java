@@ -0,0 +1,38 @@
+package com.nsmm.esg.csddd_service.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * - 캐시 영역 크기/만료 정책: resources/ehcache.xml
+ * - 영역별 hit/miss/put 통계: hibernate-micrometer를 통해 Prometheus로 노출
+ * - 완료된 결과만 캐시되도록 CompletedOnlyCacheListener 등록
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void registerCacheListeners() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+
+        CompletedOnlyCacheListener listener = new CompletedOnlyCacheListener();
+        registry.appendListeners(EventType.POST_LOAD, listener);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+
+        log.info("2차 캐시 리스너 등록 완료: 완료된 자가진단 결과만 캐시");
+    }
+}
@@ -0,0 +1,29 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 과거 자가진단 CSV 일괄 가져오기 설정 (csddd.import.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.import")
+public class ImportProperties {
+
+    /**
+     * 가져올 CSV 파일 디렉터리 (요청의 파일명은 이 디렉터리 기준, 거절 파일도 여기에 기록)
+     */
+    private String directory = "import";
+
+    /**
+     * 트랜잭션 1회당 가져오기 행 수 (JDBC 배치 크기)
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 파싱/채점 병렬도 (0 이하이면 가용 CPU 수)
+     */
+    private int parallelism = 0;
+}
@@ -0,0 +1,20 @@
+package com.nsmm.esg.csddd_service.config;
+
+import java.time.Duration;
+
+/**
+ * 본사별 메모리 색인 공통 설정 (csddd.<색인>.enabled, csddd.<색인>.rebuild-interval)
+ * HeadquartersIndexService가 기동 시 구성과 정기 재구성 여부/주기를 판단하는 데 사용한다.
+ */
+public interface IndexRebuildProperties {
+
+    /**
+     * 색인 사용 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 정기 재구성 주기
+     */
+    Duration getRebuildInterval();
+}
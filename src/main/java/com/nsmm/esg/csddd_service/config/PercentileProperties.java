@@ -0,0 +1,29 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 본사 내 협력사 점수 백분위 색인 설정 (csddd.percentile.*)
+ *
+ * 정기 재구성 주기는 csddd.percentile.rebuild-interval (기본 PT10M)로 지정하며,
+ * 다른 인스턴스에서 제출된 결과와 재채점으로 바뀐 점수를 반영한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.percentile")
+public class PercentileProperties implements IndexRebuildProperties {
+
+    /**
+     * 백분위 색인 사용 여부 (비활성화 시 상세 응답에서 백분위 생략, 백분위 API는 404)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정기 재구성 주기
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,19 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동시 동일 조회 요청 병합 설정 (csddd.read-coalescing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.read-coalescing")
+public class ReadCoalescingProperties {
+
+    /**
+     * 조회 요청 병합 사용 여부 (비활성화 시 요청마다 개별 조회)
+     */
+    private boolean enabled = true;
+}
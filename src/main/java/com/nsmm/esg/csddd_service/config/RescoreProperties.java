@@ -0,0 +1,31 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 자가진단 결과 일괄 재채점 설정 (csddd.rescore.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.rescore")
+public class RescoreProperties {
+
+    /**
+     * 트랜잭션 1회당 재채점 건수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 채점 병렬도 (0 이하이면 가용 CPU 수)
+     */
+    private int parallelism = 0;
+
+    /**
+     * 청크 사이 대기 시간 (DB 부하 제한용 스로틀)
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(100);
+}
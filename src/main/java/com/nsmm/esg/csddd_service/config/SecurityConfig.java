@@ -20,10 +20,16 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        // 노출한 조회용 엔드포인트만 허용 (refresh 등 상태 변경 엔드포인트는 HTTP로 노출하지 않음)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**",
+                                "/actuator/info", "/actuator/metrics", "/actuator/metrics/**",
+                                "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
+                        // 재채점/가져오기/이관 등 운영 작업은 HTTP로 실행하지 않음 (JMX 엔드포인트로만 노출)
+                        .requestMatchers("/api/v1/csddd/admin/**").denyAll()
                         .requestMatchers("/api/v1/csddd/**").permitAll()
                 );
 
@@ -0,0 +1,67 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 샤드별 2차 캐시 키 생성
+ *
+ * 샤드마다 IDENTITY 컬럼이 따로 증가하므로 서로 다른 샤드의 결과가 같은 ID를 가질 수 있다.
+ * 엔티티/컬렉션 캐시 키의 테넌트 자리에 현재 샤드 키를 넣어 샤드 간 캐시 항목이 섞이지 않도록 한다.
+ * 샤드가 지정되지 않은 스레드(배치 작업 등)는 기본 샤드 키를 사용하여 요청 스레드와 같은 키를 만든다.
+ * 키 구조는 Hibernate 기본 키(DefaultCacheKeysFactory)와 같다.
+ */
+public class ShardAwareCacheKeysFactory implements CacheKeysFactory {
+
+    private final String defaultShard;
+
+    public ShardAwareCacheKeysFactory(String defaultShard) {
+        this.defaultShard = defaultShard;
+    }
+
+    @Override
+    public Object createCollectionKey(Object id, CollectionPersister persister, SessionFactoryImplementor factory,
+                                      String tenantIdentifier) {
+        return DefaultCacheKeysFactory.staticCreateCollectionKey(id, persister, factory, shardOf(tenantIdentifier));
+    }
+
+    @Override
+    public Object createEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory,
+                                  String tenantIdentifier) {
+        return DefaultCacheKeysFactory.staticCreateEntityKey(id, persister, factory, shardOf(tenantIdentifier));
+    }
+
+    @Override
+    public Object createNaturalIdKey(Object naturalIdValues, EntityPersister persister,
+                                     SharedSessionContractImplementor session) {
+        return DefaultCacheKeysFactory.staticCreateNaturalIdKey(naturalIdValues, persister, session);
+    }
+
+    @Override
+    public Object getEntityId(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetEntityId(cacheKey);
+    }
+
+    @Override
+    public Object getCollectionId(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetCollectionId(cacheKey);
+    }
+
+    @Override
+    public Object getNaturalIdValues(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetNaturalIdValues(cacheKey);
+    }
+
+    private String shardOf(String tenantIdentifier) {
+        if (tenantIdentifier != null) {
+            return tenantIdentifier;
+        }
+        String shard = ShardContext.current();
+        return shard != null ? shard : defaultShard;
+    }
+}
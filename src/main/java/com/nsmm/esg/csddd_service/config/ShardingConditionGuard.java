@@ -0,0 +1,35 @@
+package com.nsmm.esg.csddd_service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 라우팅 설정과 실제 적용 여부 일치 검사
+ *
+ * ShardingConfig/ShardRoutingFilter의 @ConditionalOnProperty(csddd.sharding.enabled)는
+ * AOT 실행(spring.aot.enabled=true)에서는 processAot 시점 값으로 고정된다.
+ * 빌드 시점과 실행 시점 값이 다르면 샤드 라우팅 없이 모든 샤드 작업이 기본 DB에서 반복되거나
+ * 그 반대가 되므로 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardingConditionGuard {
+
+    private final ShardingProperties properties;
+    private final ObjectProvider<ShardingConfig> shardingConfig;
+
+    @PostConstruct
+    void verify() {
+        boolean applied = shardingConfig.getIfAvailable() != null;
+        if (properties.isEnabled() != applied) {
+            throw new IllegalStateException(String.format(
+                    "csddd.sharding.enabled=%s이지만 샤드 라우팅 구성은 %s 상태입니다. "
+                            + "AOT 실행에서는 processAot 시점 값으로 조건이 고정되므로 같은 값으로 다시 빌드해야 합니다.",
+                    properties.isEnabled(), applied ? "적용" : "미적용"));
+        }
+    }
+}
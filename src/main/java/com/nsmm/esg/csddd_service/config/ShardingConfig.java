@@ -0,0 +1,150 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 본사 ID 기준 샤드 라우팅 설정 (csddd.sharding.enabled=true일 때만 적용)
+ *
+ * - 샤드마다 별도 Hikari 풀 (풀 이름 csddd-shard-{샤드 키}, hikaricp.* 지표의 pool 태그)
+ * - ShardRoutingDataSource가 ShardContext의 샤드 키로 풀을 선택 (미지정 시 기본 샤드)
+ * - 2차 캐시 키에 샤드 키 포함 (ShardAwareCacheKeysFactory)
+ * - initialize-schema 설정 시 기본 샤드 외 샤드에도 엔티티 스키마 생성
+ *
+ * AOT 실행에서는 적용 여부가 processAot 시점의 csddd.sharding.enabled 값으로 고정된다.
+ * 실행 시점 값과 다르면 ShardingConditionGuard가 기동을 중단한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "csddd.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final String CACHE_KEYS_FACTORY = "hibernate.cache.keys_factory";
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties,
+                                 DataSourceProperties dataSourceProperties,
+                                 MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        if (!properties.getShards().containsKey(properties.getDefaultShard())) {
+            targets.put(properties.getDefaultShard(), createPool(properties.getDefaultShard(),
+                    dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword(), new ShardingProperties.Shard().getMaximumPoolSize(),
+                    meterRegistry));
+        }
+        properties.getShards().forEach((key, shard) -> targets.put(key,
+                createPool(key, shard.getUrl(), shard.getUsername(), shard.getPassword(),
+                        shard.getMaximumPoolSize(), meterRegistry)));
+
+        properties.getHeadquarters().forEach((headquartersId, shard) -> {
+            if (!targets.containsKey(shard)) {
+                throw new IllegalStateException(String.format(
+                        "본사 %d가 정의되지 않은 샤드 '%s'에 매핑되어 있습니다.", headquartersId, shard));
+            }
+        });
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(targets.get(properties.getDefaultShard()));
+        routingDataSource.setLenientFallback(false);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("샤드 라우팅 활성화: 샤드={}, 기본샤드={}, 본사 매핑 {}건",
+                targets.keySet(), properties.getDefaultShard(), properties.getHeadquarters().size());
+        return routingDataSource;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardAwareCacheKeysCustomizer(ShardingProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(CACHE_KEYS_FACTORY,
+                new ShardAwareCacheKeysFactory(properties.getDefaultShard()));
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardingProperties properties,
+                                                         EntityManagerFactory entityManagerFactory) {
+        return new ShardSchemaInitializer(properties, entityManagerFactory);
+    }
+
+    private HikariDataSource createPool(String key, String url, String username, String password,
+                                        int maximumPoolSize, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("csddd-shard-" + key);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * 현재 스레드의 샤드 키로 대상 풀을 선택하는 DataSource
+     * 종료 시 샤드별 풀을 함께 닫는다.
+     */
+    static class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return ShardContext.current();
+        }
+
+        @Override
+        public void close() {
+            getResolvedDataSources().values().forEach(dataSource -> {
+                if (dataSource instanceof HikariDataSource hikariDataSource) {
+                    hikariDataSource.close();
+                }
+            });
+        }
+    }
+
+    /**
+     * 기본 샤드 외 샤드의 엔티티 스키마 생성
+     * 기본 샤드는 spring.jpa.hibernate.ddl-auto로 처리되므로 제외한다.
+     */
+    static class ShardSchemaInitializer {
+
+        private final ShardingProperties properties;
+        private final EntityManagerFactory entityManagerFactory;
+
+        ShardSchemaInitializer(ShardingProperties properties, EntityManagerFactory entityManagerFactory) {
+            this.properties = properties;
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @EventListener(ApplicationStartedEvent.class)
+        public void initialize() {
+            if (!properties.isInitializeSchema()) {
+                return;
+            }
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            properties.shardKeys().stream()
+                    .filter(key -> !key.equals(properties.getDefaultShard()))
+                    .forEach(key -> {
+                        ShardContext.runIn(key, () -> sessionFactory.getSchemaManager().exportMappedObjects(true));
+                        log.info("샤드 스키마 생성: {}", key);
+                    });
+        }
+    }
+}
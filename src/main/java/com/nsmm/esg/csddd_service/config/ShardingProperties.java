@@ -0,0 +1,89 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본사 ID 기준 샤드 라우팅 설정 (csddd.sharding.*)
+ *
+ * - headquarters에 매핑되지 않은 본사는 기본 샤드(default-shard)로 라우팅
+ * - 기본 샤드는 shards에 정의하지 않으면 spring.datasource.* 설정을 사용
+ * - 비활성화 시 spring.datasource 단일 DataSource로 동작 (ShardingConfig 미적용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.sharding")
+public class ShardingProperties {
+
+    /**
+     * 샤드 라우팅 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 매핑되지 않은 본사와 요청 범위 밖 작업이 사용할 샤드 키
+     */
+    private String defaultShard = "default";
+
+    /**
+     * 샤드 키별 접속 정보
+     */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    /**
+     * 본사 ID → 샤드 키
+     */
+    private Map<Long, String> headquarters = new HashMap<>();
+
+    /**
+     * 기동 시 기본 샤드 외 샤드에 엔티티 스키마 생성 (내장 DB로 로컬 검증할 때 사용)
+     */
+    private boolean initializeSchema = false;
+
+    /**
+     * 본사 ID의 샤드 키
+     */
+    public String shardFor(Long headquartersId) {
+        if (headquartersId == null) {
+            return defaultShard;
+        }
+        return headquarters.getOrDefault(headquartersId, defaultShard);
+    }
+
+    /**
+     * 전체 샤드 키 (기본 샤드 우선, 비활성화 시 기본 샤드만)
+     */
+    public List<String> shardKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(defaultShard);
+        if (enabled) {
+            shards.keySet().stream()
+                    .filter(key -> !key.equals(defaultShard))
+                    .forEach(keys::add);
+        }
+        return keys;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * 샤드별 커넥션 풀 최대 크기
+         */
+        private int maximumPoolSize = 10;
+    }
+}
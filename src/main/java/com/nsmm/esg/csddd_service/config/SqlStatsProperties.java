@@ -0,0 +1,26 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 SQL 실행 통계 설정 (csddd.sql-stats.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.sql-stats")
+public class SqlStatsProperties {
+
+    /**
+     * 응답 헤더(X-SQL-Statements 등) 노출 여부 (운영 프로파일에서는 비활성화)
+     */
+    private boolean exposeHeader = true;
+
+    /**
+     * 느린 쿼리 기준 시간 (초과 시 바인딩 파라미터와 함께 WARN 로그)
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(500);
+}
@@ -0,0 +1,48 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.util.SqlStatementStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청 단위 SQL 실행 통계 응답 헤더 추가
+ *
+ * 응답 본문 직렬화 직전까지 실행된 SQL 통계를 헤더로 노출 (비운영 프로파일 전용)
+ * - X-SQL-Statements: 실행 문장 수
+ * - X-SQL-Rows: 조회/변경 행 수
+ * - X-SQL-Time-Ms: 누적 실행 시간
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatsProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isExposeHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStats.Snapshot snapshot = SqlStatementStats.current();
+        if (snapshot != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(snapshot.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(snapshot.getRows()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(snapshot.getElapsedMillis()));
+        }
+        return body;
+    }
+}
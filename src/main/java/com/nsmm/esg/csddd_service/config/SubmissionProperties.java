@@ -0,0 +1,20 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.enums.SubmissionMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 자가진단 제출 방식 설정 (csddd.submission.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.submission")
+public class SubmissionProperties {
+
+    /**
+     * 결과 행 저장 방식
+     */
+    private SubmissionMode mode = SubmissionMode.APPEND;
+}
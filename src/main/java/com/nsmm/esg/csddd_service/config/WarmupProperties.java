@@ -0,0 +1,53 @@
+package com.nsmm.esg.csddd_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 워밍업 설정 (csddd.warmup.*)
+ *
+ * 워밍업이 끝나거나 제한 시간이 지날 때까지 readiness와 Eureka 상태(STARTING → UP) 전환을 미룬다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "csddd.warmup")
+public class WarmupProperties {
+
+    /**
+     * 워밍업 실행 여부 (false이면 기동 직후 바로 UP)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워밍업 제한 시간 (초과 시 남은 작업을 중단하고 UP 전환)
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * 합성 답변 채점 반복 횟수 (GradeCalculator, 패킹 답변 복원)
+     */
+    private int scoringIterations = 5000;
+
+    /**
+     * 상세 응답 직렬화 반복 횟수 (JSON, CBOR, Smile)
+     */
+    private int serializationIterations = 2000;
+
+    /**
+     * 조회 쿼리 반복 횟수 (스레드당)
+     */
+    private int readIterations = 20;
+
+    /**
+     * 조회 쿼리 동시 실행 스레드 수 (커넥션 풀을 이 수만큼 미리 채움)
+     */
+    private int readConcurrency = 4;
+
+    /**
+     * 2차 캐시에 미리 적재할 최근 완료 결과 수 (0이면 적재하지 않음)
+     */
+    private int preloadRecentResults = 200;
+}
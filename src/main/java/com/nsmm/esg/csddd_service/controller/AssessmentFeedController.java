@@ -0,0 +1,77 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.dto.ApiResponse;
+import com.nsmm.esg.csddd_service.service.AssessmentFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * CSDDD 자가진단 결과 변경 피드 API 컨트롤러
+ *
+ * 대시보드의 주기적인 /results 폴링을 대체하는 SSE 스트림
+ * - 새로 완료된 자가진단 결과 요약을 구독 범위(본사/하위 협력사)별로 전달
+ * - Last-Event-ID 헤더 또는 since 파라미터로 마지막 수신 이후부터 재개
+ * - 오류는 SSE error 이벤트(ApiResponse)로 전달 후 연결 종료
+ */
+@RestController
+@RequestMapping("/api/v1/csddd")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "CSDDD 변경 피드", description = "새로 완료된 자가진단 결과 스트리밍 API")
+public class AssessmentFeedController {
+
+    private final AssessmentFeedService feedService;
+
+    /**
+     * 자가진단 결과 변경 피드 구독
+     */
+    @GetMapping(value = "/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "자가진단 결과 변경 피드", description = "새로 완료된 자가진단 결과 요약을 Server-Sent Events로 전달합니다")
+    public SseEmitter streamResults(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
+            @RequestHeader(value = "X-PARTNER-ID", required = false) Long partnerId,
+            @RequestHeader(value = "X-TREE-PATH", required = false) String treePath) {
+
+        log.info("변경 피드 구독 요청: 사용자유형={}, 본사ID={}", userType, headquartersId);
+
+        try {
+            AssessmentFeedService.FeedScope scope =
+                    AssessmentFeedService.FeedScope.of(userType, headquartersId, partnerId, treePath);
+            return feedService.subscribe(scope, lastEventId != null ? lastEventId : since);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("변경 피드 구독 실패 (잘못된 요청): {}", e.getMessage());
+            return errorStream(ApiResponse.error(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IllegalStateException e) {
+            log.warn("변경 피드 구독 실패 (구독자 한도): {}", e.getMessage());
+            return errorStream(ApiResponse.error(e.getMessage(), "FEED_UNAVAILABLE"));
+        } catch (Exception e) {
+            log.error("변경 피드 구독 중 서버 오류 발생", e);
+            return errorStream(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    /**
+     * 오류 이벤트 1건을 전송하고 종료하는 SSE 연결
+     */
+    private SseEmitter errorStream(ApiResponse<Void> error) {
+        SseEmitter emitter = new SseEmitter(0L);
+        try {
+            emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+}
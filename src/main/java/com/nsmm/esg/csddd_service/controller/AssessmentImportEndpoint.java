@@ -0,0 +1,49 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.dto.response.ImportStatusResponse;
+import com.nsmm.esg.csddd_service.service.AssessmentImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * CSDDD 과거 자가진단 CSV 일괄 가져오기 관리 엔드포인트 (JMX 전용)
+ *
+ * 서버의 가져오기 디렉터리(csddd.import.directory)에 둔 CSV 파일을 백그라운드에서 가져온다.
+ * 임의 본사의 완료 결과를 저장하므로 HTTP로 노출하지 않고
+ * JMX(org.springframework.boot:type=Endpoint,name=AssessmentImport)로만 실행한다.
+ */
+@Slf4j
+@Component
+@JmxEndpoint(id = "assessmentImport")
+@RequiredArgsConstructor
+public class AssessmentImportEndpoint {
+
+    private final AssessmentImportService importService;
+
+    /**
+     * 가져오기 작업 시작
+     * 헤더를 검증한 뒤 백그라운드에서 실행하며, 거절된 행은 <파일>.rejected.csv에 기록
+     *
+     * @throws IllegalArgumentException 가져오기 디렉터리 밖의 경로이거나 헤더가 올바르지 않은 경우
+     * @throws IllegalStateException    이미 실행 중인 경우
+     */
+    @WriteOperation
+    public ImportStatusResponse start(String file) {
+        log.info("가져오기 작업 시작 요청 (JMX): 파일={}", file);
+        return importService.start(file);
+    }
+
+    /**
+     * 최근 가져오기 작업 상태 조회 (작업 이력이 없으면 null)
+     */
+    @ReadOperation
+    @Nullable
+    public ImportStatusResponse status() {
+        return importService.latest().orElse(null);
+    }
+}
@@ -0,0 +1,53 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.dto.response.RescoreStatusResponse;
+import com.nsmm.esg.csddd_service.service.AssessmentRescoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * CSDDD 자가진단 일괄 재채점 관리 엔드포인트 (JMX 전용)
+ *
+ * 등급 산정 규칙 변경 후 저장된 결과 전체를 현재 규칙으로 재채점
+ * 모든 샤드의 결과와 스냅샷을 다시 쓰므로 refresh와 같이 HTTP로 노출하지 않고
+ * JMX(org.springframework.boot:type=Endpoint,name=Rescore)로만 실행한다.
+ */
+@Slf4j
+@Component
+@JmxEndpoint(id = "rescore")
+@RequiredArgsConstructor
+public class AssessmentRescoreEndpoint {
+
+    private final AssessmentRescoreService rescoreService;
+
+    /**
+     * 재채점 작업 시작 (전체 샤드)
+     * 현재 규칙 버전과 같은 미완료 작업이 있으면 샤드별 체크포인트부터 재개
+     *
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    @WriteOperation
+    public List<RescoreStatusResponse> start(boolean resume) {
+        log.info("재채점 작업 시작 요청 (JMX): 재개={}", resume);
+        return rescoreService.start(resume).stream()
+                .map(checkpoint -> RescoreStatusResponse.from(checkpoint, true))
+                .toList();
+    }
+
+    /**
+     * 샤드별 최근 재채점 작업 상태 조회 (작업 이력이 없으면 빈 목록)
+     */
+    @ReadOperation
+    public List<RescoreStatusResponse> status() {
+        boolean running = rescoreService.isRunning();
+        return rescoreService.latest().stream()
+                .map(checkpoint -> RescoreStatusResponse.from(checkpoint, running))
+                .toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.dto.response.PackedAnswerMigrationResponse;
+import com.nsmm.esg.csddd_service.service.PackedAnswerMigrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * CSDDD 패킹 답변 이관 관리 엔드포인트 (JMX 전용)
+ *
+ * 기존 답변 행을 packed_answers로 변환
+ * 모든 샤드의 결과 행을 다시 쓰므로 HTTP로 노출하지 않고
+ * JMX(org.springframework.boot:type=Endpoint,name=PackedAnswerMigration)로만 실행한다.
+ */
+@Slf4j
+@Component
+@JmxEndpoint(id = "packedAnswerMigration")
+@RequiredArgsConstructor
+public class PackedAnswerMigrationEndpoint {
+
+    private static final int DEFAULT_MAX_CHUNKS = 20;
+
+    private final PackedAnswerMigrationService migrationService;
+
+    /**
+     * 패킹 답변 이관 실행 (전체 샤드)
+     * 응답의 hasMore가 true이면 shard/lastResultId를 shard/afterId로 다시 실행
+     *
+     * @param shard     이어서 처리할 샤드 키 (없으면 첫 샤드부터)
+     * @param afterId   해당 샤드에서 이 ID 이후의 결과부터 처리 (없으면 0)
+     * @param maxChunks 이번 실행에서 처리할 최대 청크 수 (없으면 20)
+     * @throws IllegalArgumentException maxChunks가 1 미만이거나 정의되지 않은 샤드인 경우
+     * @throws IllegalStateException    이미 실행 중인 경우
+     */
+    @WriteOperation
+    public PackedAnswerMigrationResponse migrate(@Nullable String shard, @Nullable Long afterId,
+                                                 @Nullable Integer maxChunks) {
+        int chunks = maxChunks != null ? maxChunks : DEFAULT_MAX_CHUNKS;
+        if (chunks < 1) {
+            throw new IllegalArgumentException("maxChunks는 1 이상이어야 합니다.");
+        }
+        log.info("패킹 답변 이관 요청 (JMX): 시작커서={}/{}, 최대청크={}", shard, afterId, chunks);
+        return migrationService.migrate(shard, afterId != null ? afterId : 0L, chunks);
+    }
+}
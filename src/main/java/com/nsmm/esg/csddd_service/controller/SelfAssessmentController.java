@@ -1,29 +1,61 @@
 package com.nsmm.esg.csddd_service.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nsmm.esg.csddd_service.dto.ApiResponse;
+import com.nsmm.esg.csddd_service.dto.request.PackedSelfAssessmentSubmitRequest;
 import com.nsmm.esg.csddd_service.dto.request.SelfAssessmentSubmitRequest;
+import com.nsmm.esg.csddd_service.dto.response.AnswerQueryMatchResponse;
+import com.nsmm.esg.csddd_service.dto.response.AssessmentComparisonResponse;
+import com.nsmm.esg.csddd_service.dto.response.PercentileRankResponse;
+import com.nsmm.esg.csddd_service.dto.response.RawJsonPayload;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultFields;
 import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.dto.response.QuestionHeatmapResponse;
+import com.nsmm.esg.csddd_service.dto.response.TreeRiskResponse;
 import com.nsmm.esg.csddd_service.dto.response.ViolationMeta;
+import com.nsmm.esg.csddd_service.entity.AssessmentDetailSnapshot;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.service.AnswerBitmapIndexService;
+import com.nsmm.esg.csddd_service.service.AssessmentComparisonService;
+import com.nsmm.esg.csddd_service.service.ReadCoalescingService;
+import com.nsmm.esg.csddd_service.service.ScorePercentileService;
 import com.nsmm.esg.csddd_service.service.SelfAssessmentService;
+import com.nsmm.esg.csddd_service.service.SubmissionAdmissionService;
+import com.nsmm.esg.csddd_service.service.QuestionHeatmapService;
+import com.nsmm.esg.csddd_service.service.TreeRiskRollupService;
+import com.nsmm.esg.csddd_service.util.AssessmentMetrics;
 import com.nsmm.esg.csddd_service.util.ViolationMetaMap;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * CSDDD 자가진단 API 컨트롤러
  *
  * 주요 기능:
  * - 자가진단 제출 (점수 계산, 등급 산정)
  * - 자가진단 결과 조회 (단건/목록, 권한별 필터링)
+ * - 자가진단 결과 비교 (기준 결과 대비 문항별 차이)
+ * - 본사 내 협력사 점수 백분위 조회
+ * - 공급망 계층(treePath) 위험 집계 조회
  * - 중대위반 메타데이터 조회
  * - 본사/협력사 권한 기반 접근 제어
  *
@@ -35,11 +67,24 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "CSDDD 자가진단", description = "CSDDD 자가진단 제출, 조회, 메타데이터 관리 API")
 public class SelfAssessmentController {
 
+    private static final List<MediaType> BINARY_MEDIA_TYPES = List.of(
+            MediaType.valueOf("application/cbor"), MediaType.valueOf("application/x-jackson-smile"));
+
     private final SelfAssessmentService selfAssessmentService;
+    private final SubmissionAdmissionService admissionService;
+    private final ReadCoalescingService readCoalescingService;
+    private final AssessmentComparisonService comparisonService;
+    private final ScorePercentileService scorePercentileService;
+    private final TreeRiskRollupService treeRiskRollupService;
+    private final QuestionHeatmapService questionHeatmapService;
+    private final AnswerBitmapIndexService answerBitmapIndexService;
+    private final ObjectMapper objectMapper;
+    private final AssessmentMetrics assessmentMetrics;
 
     /**
      * 자가진단 결과 제출
      * 답변 데이터 검증, 점수 계산, 등급 산정을 통한 자가진단 완료 처리
+     * UPSERT 모드에서 현재 결과가 다른 제출로 먼저 갱신되었으면 409 (VERSION_CONFLICT)
      */
     @PostMapping("/submit")
     @Operation(summary = "자가진단 제출", description = "완료된 자가진단 답변을 제출하여 점수 계산 및 등급을 산정합니다")
@@ -52,12 +97,30 @@ public class SelfAssessmentController {
 
         log.info("자가진단 제출 요청: 회사={}, 사용자유형={}", request.getCompanyName(), userType);
 
+        Long tenantId = parseHeadquartersId(headquartersId);
+        if (tenantId == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 본사 ID입니다.", "INVALID_DATA"));
+        }
+
+        SubmissionAdmissionService.Admission admission = admissionService.tryAdmit(tenantId);
+        if (!admission.isAdmitted()) {
+            log.warn("자가진단 제출 거절 (허용 한도 초과): 본사ID={}, 재시도={}초",
+                    headquartersId, admission.getRetryAfterSeconds());
+            return tooManyRequests(admission);
+        }
+
         try {
             selfAssessmentService.submitSelfAssessment(request, userType, headquartersId, partnerId, treePath);
 
             log.info("자가진단 제출 성공: 회사={}", request.getCompanyName());
             return ResponseEntity.ok(ApiResponse.success(null, "자가진단이 성공적으로 제출되었습니다."));
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("자가진단 제출 실패 (현재 결과 버전 충돌): {}", e.getMessage());
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error("다른 제출로 현재 결과가 먼저 갱신되었습니다. 최신 결과를 조회한 뒤 다시 제출해주세요.",
+                            "VERSION_CONFLICT"));
         } catch (IllegalArgumentException e) {
             log.warn("자가진단 제출 실패 (잘못된 데이터): {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -70,29 +133,96 @@ public class SelfAssessmentController {
             log.error("자가진단 제출 중 서버 오류 발생", e);
             return ResponseEntity.status(500)
                     .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        } finally {
+            admission.release();
+        }
+    }
+
+    /**
+     * 자가진단 패킹 제출
+     * 문항 버전 순서의 YES/NO 비트 벡터(Base64)로 답변을 제출합니다
+     * UPSERT 모드에서 현재 결과가 다른 제출로 먼저 갱신되었으면 409 (VERSION_CONFLICT)
+     */
+    @PostMapping("/submit/packed")
+    @Operation(summary = "자가진단 패킹 제출", description = "문항 버전 순서의 YES/NO 비트 벡터(Base64)로 답변을 제출하여 점수 계산 및 등급을 산정합니다")
+    public ResponseEntity<ApiResponse<Void>> submitPackedSelfAssessment(
+            @Valid @RequestBody PackedSelfAssessmentSubmitRequest request,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+            @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerId,
+            @RequestHeader("X-TREE-PATH") String treePath) {
+
+        log.info("자가진단 패킹 제출 요청: 회사={}, 사용자유형={}, 문항버전={}",
+                request.getCompanyName(), userType, request.getQuestionnaireVersion());
+
+        Long tenantId = parseHeadquartersId(headquartersId);
+        if (tenantId == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 본사 ID입니다.", "INVALID_DATA"));
+        }
+
+        SubmissionAdmissionService.Admission admission = admissionService.tryAdmit(tenantId);
+        if (!admission.isAdmitted()) {
+            log.warn("자가진단 패킹 제출 거절 (허용 한도 초과): 본사ID={}, 재시도={}초",
+                    headquartersId, admission.getRetryAfterSeconds());
+            return tooManyRequests(admission);
+        }
+
+        try {
+            selfAssessmentService.submitPackedSelfAssessment(request, userType, headquartersId, partnerId, treePath);
+
+            log.info("자가진단 패킹 제출 성공: 회사={}", request.getCompanyName());
+            return ResponseEntity.ok(ApiResponse.success(null, "자가진단이 성공적으로 제출되었습니다."));
+
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("자가진단 패킹 제출 실패 (현재 결과 버전 충돌): {}", e.getMessage());
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error("다른 제출로 현재 결과가 먼저 갱신되었습니다. 최신 결과를 조회한 뒤 다시 제출해주세요.",
+                            "VERSION_CONFLICT"));
+        } catch (IllegalArgumentException e) {
+            log.warn("자가진단 패킹 제출 실패 (잘못된 데이터): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_DATA"));
+        } catch (IllegalStateException e) {
+            log.warn("자가진단 패킹 제출 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_STATE"));
+        } catch (Exception e) {
+            log.error("자가진단 패킹 제출 중 서버 오류 발생", e);
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        } finally {
+            admission.release();
         }
     }
 
     /**
      * 자가진단 결과 단건 상세 조회
      * 특정 자가진단 결과의 상세 정보 및 문항별 답변을 조회합니다
+     *
+     * JSON 응답이면 제출 시점에 저장된 상세 스냅샷을 그대로 사용하고,
+     * 스냅샷이 없거나 CBOR/Smile 응답이면 결과 엔티티에서 응답을 생성합니다
+     * 같은 권한 범위의 동일 요청이 처리 중이면 그 결과를 공유합니다 (ReadCoalescingService)
      */
     @GetMapping("/{resultId}")
     @Operation(summary = "자가진단 결과 상세 조회", description = "특정 자가진단 결과의 상세 정보와 문항별 답변을 조회합니다")
-    public ResponseEntity<ApiResponse<SelfAssessmentResultResponse>> getSelfAssessmentResult(
+    public ResponseEntity<ApiResponse<?>> getSelfAssessmentResult(
             @PathVariable Long resultId,
             @RequestHeader("X-USER-TYPE") String userType,
             @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
             @RequestHeader(value = "X-PARTNER-ID", required = false) Long partnerId,
-            @RequestHeader("X-TREE-PATH") String treePath) {
+            @RequestHeader("X-TREE-PATH") String treePath,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
         log.info("자가진단 결과 상세 조회 요청: ID={}, 사용자유형={}", resultId, userType);
 
         try {
-            SelfAssessmentResult result = selfAssessmentService.getSelfAssessmentResult(
-                    resultId, userType, headquartersId, partnerId, treePath);
+            boolean json = prefersJson(accept);
+            DetailKey key = new DetailKey(resultId,
+                    ReadCoalescingService.AccessScope.of(userType, headquartersId, partnerId, treePath));
 
-            SelfAssessmentResultResponse response = SelfAssessmentResultResponse.fromDetail(result);
+            Object response = readCoalescingService.execute("detail", key, json,
+                    () -> loadDetail(resultId, userType, headquartersId, partnerId, treePath, json));
 
             log.info("자가진단 결과 상세 조회 성공: ID={}", resultId);
             return ResponseEntity.ok(ApiResponse.success(response, "자가진단 결과가 조회되었습니다."));
@@ -115,10 +245,13 @@ public class SelfAssessmentController {
     /**
      * 자가진단 결과 목록 조회 (페이징)
      * 조건별 필터링과 권한 기반 접근 제어를 통한 자가진단 결과 목록 조회
+     * fields 지정 시 해당 필드만 응답하며 SELECT 절도 필요한 컬럼으로 제한
+     * 같은 권한 범위의 동일 조건 요청이 처리 중이면 그 결과를 공유합니다 (ReadCoalescingService)
      */
     @GetMapping("/results")
-    @Operation(summary = "자가진단 결과 목록 조회", description = "조건별 필터링과 페이징을 통한 자가진단 결과 목록을 조회합니다")
-    public ResponseEntity<ApiResponse<Page<SelfAssessmentResultResponse>>> getSelfAssessmentResults(
+    @Operation(summary = "자가진단 결과 목록 조회", description = "조건별 필터링과 페이징을 통한 자가진단 결과 목록을 조회합니다 (fields=id,companyName,... 로 응답 필드 선택 가능)")
+    public ResponseEntity<ApiResponse<?>> getSelfAssessmentResults(
+            @RequestParam(required = false) String fields,
             @RequestParam(required = false) String companyName,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String startDate,
@@ -128,20 +261,36 @@ public class SelfAssessmentController {
             @RequestHeader("X-USER-TYPE") String userType,
             @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
             @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerIdRaw,
-            @RequestHeader(value = "X-TREE-PATH", required = false) String treePath) {
+            @RequestHeader(value = "X-TREE-PATH", required = false) String treePath,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
         log.info("자가진단 결과 목록 조회 요청: 사용자유형={}, 본사ID={}", userType, headquartersId);
 
         try {
             // 협력사 ID 안전 파싱
             Long resolvedPartnerId = parsePartnerIdSafely(partnerIdRaw);
+            SelfAssessmentResultFields selectedFields = fields != null ? SelfAssessmentResultFields.parse(fields) : null;
+
+            ListKey key = new ListKey(
+                    ReadCoalescingService.AccessScope.of(userType, headquartersId, resolvedPartnerId, treePath),
+                    selectedFields != null ? selectedFields.fields() : null,
+                    normalizeSearchText(companyName), normalizeSearchText(category), startDate, endDate,
+                    Boolean.TRUE.equals(onlyPartners), pageable);
+
+            Object resultPage = readCoalescingService.execute("list", key, prefersJson(accept), () -> {
+                Page<?> page = selectedFields != null
+                        ? selfAssessmentService.getSelfAssessmentResultFields(userType, headquartersId,
+                                resolvedPartnerId, treePath, companyName, category, startDate, endDate, pageable,
+                                onlyPartners, selectedFields)
+                        : selfAssessmentService
+                        .getSelfAssessmentResults(userType, headquartersId, resolvedPartnerId, treePath,
+                                companyName, category, startDate, endDate, pageable, onlyPartners)
+                        .map(SelfAssessmentResultResponse::fromSummary);
+
+                log.info("자가진단 결과 목록 조회 성공: 총 {}건", page.getTotalElements());
+                return page;
+            });
 
-            Page<SelfAssessmentResultResponse> resultPage = selfAssessmentService
-                    .getSelfAssessmentResults(userType, headquartersId, resolvedPartnerId, treePath,
-                            companyName, category, startDate, endDate, pageable, onlyPartners)
-                    .map(SelfAssessmentResultResponse::fromSummary);
-
-            log.info("자가진단 결과 목록 조회 성공: 총 {}건", resultPage.getTotalElements());
             return ResponseEntity.ok(ApiResponse.success(resultPage, "자가진단 결과 목록이 조회되었습니다."));
 
         } catch (IllegalArgumentException e) {
@@ -155,6 +304,174 @@ public class SelfAssessmentController {
         }
     }
 
+    /**
+     * 자가진단 결과 비교
+     * 기준 결과 대비 비교 대상 결과들의 점수/등급 변화, 바뀐 답변, 발생/해소된 중대위반을 조회합니다
+     */
+    @GetMapping("/compare")
+    @Operation(summary = "자가진단 결과 비교", description = "기준 결과(baselineId)와 비교 대상 결과들(targetIds, 최대 20건)의 문항별 차이를 조회합니다")
+    public ResponseEntity<ApiResponse<AssessmentComparisonResponse>> compareSelfAssessmentResults(
+            @RequestParam Long baselineId,
+            @RequestParam List<Long> targetIds,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
+            @RequestHeader(value = "X-PARTNER-ID", required = false) Long partnerId,
+            @RequestHeader("X-TREE-PATH") String treePath) {
+
+        log.info("자가진단 결과 비교 요청: 기준ID={}, 대상ID={}, 사용자유형={}", baselineId, targetIds, userType);
+
+        try {
+            AssessmentComparisonResponse response = comparisonService.compare(
+                    baselineId, targetIds, userType, headquartersId, partnerId, treePath);
+
+            log.info("자가진단 결과 비교 성공: 기준ID={}, 대상 {}건", baselineId, response.getComparisons().size());
+            return ResponseEntity.ok(ApiResponse.success(response, "자가진단 결과 비교가 완료되었습니다."));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("자가진단 결과 비교 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_REQUEST"));
+        } catch (SecurityException e) {
+            log.warn("자가진단 결과 비교 접근 권한 없음: {}", e.getMessage());
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error(e.getMessage(), "ACCESS_DENIED"));
+        } catch (Exception e) {
+            log.error("자가진단 결과 비교 중 서버 오류 발생", e);
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    /**
+     * 협력사 점수 백분위 조회
+     * 같은 본사 협력사들의 최신 완료 결과 점수 기준 순위와 백분위를 조회합니다
+     * 본사는 소속 협력사 전체, 협력사는 자신의 순위만 조회할 수 있습니다
+     */
+    @GetMapping("/partners/{partnerId}/percentile-rank")
+    @Operation(summary = "협력사 점수 백분위 조회", description = "본사 내 협력사들의 최신 점수 기준 순위와 백분위를 조회합니다")
+    public ResponseEntity<ApiResponse<PercentileRankResponse>> getPercentileRank(
+            @PathVariable Long partnerId,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
+            @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerIdRaw) {
+
+        log.info("협력사 점수 백분위 조회 요청: 협력사ID={}, 사용자유형={}", partnerId, userType);
+
+        if ("PARTNER".equalsIgnoreCase(userType) && !partnerId.equals(parsePartnerIdSafely(partnerIdRaw))) {
+            log.warn("협력사 점수 백분위 접근 권한 없음: 협력사ID={}", partnerId);
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error("다른 협력사의 순위는 조회할 수 없습니다.", "ACCESS_DENIED"));
+        }
+        if (!"PARTNER".equalsIgnoreCase(userType) && !"HEADQUARTERS".equalsIgnoreCase(userType)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 사용자 유형입니다.", "INVALID_REQUEST"));
+        }
+
+        return scorePercentileService.rankOf(headquartersId, partnerId)
+                .map(rank -> ResponseEntity.ok(ApiResponse.success(rank, "협력사 점수 백분위가 조회되었습니다.")))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(ApiResponse.error("완료된 자가진단 결과가 없는 협력사입니다.", "RESULT_NOT_FOUND")));
+    }
+
+    /**
+     * 공급망 계층 위험 집계 조회
+     * treePath 노드 하위 전체 조직의 최신 결과 기준 등급별 수, 고위험 수, 최저 점수, 중대위반 합계를 조회합니다
+     * 본사는 소속 전체 트리, 협력사는 자신의 treePath 하위만 조회할 수 있습니다
+     */
+    @GetMapping("/tree-risk")
+    @Operation(summary = "공급망 계층 위험 집계 조회", description = "treePath 노드 하위 협력사 전체의 위험 집계와 직속 하위 노드별 집계를 조회합니다 (treePath 생략 시 요청자 경로)")
+    public ResponseEntity<ApiResponse<TreeRiskResponse>> getTreeRisk(
+            @RequestParam(required = false) String treePath,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId,
+            @RequestHeader("X-TREE-PATH") String callerTreePath) {
+
+        String target = TreeRiskRollupService.normalize(treePath != null ? treePath : callerTreePath);
+        log.info("공급망 위험 집계 조회 요청: 경로={}, 사용자유형={}", target, userType);
+
+        if (!"PARTNER".equalsIgnoreCase(userType) && !"HEADQUARTERS".equalsIgnoreCase(userType)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 사용자 유형입니다.", "INVALID_REQUEST"));
+        }
+        if ("PARTNER".equalsIgnoreCase(userType)
+                && !target.startsWith(TreeRiskRollupService.normalize(callerTreePath))) {
+            log.warn("공급망 위험 집계 접근 권한 없음: 경로={}", target);
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error("자신의 하위 경로만 조회할 수 있습니다.", "ACCESS_DENIED"));
+        }
+
+        return treeRiskRollupService.subtreeOf(headquartersId, target)
+                .map(risk -> ResponseEntity.ok(ApiResponse.success(risk, "공급망 위험 집계가 조회되었습니다.")))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(ApiResponse.error("해당 경로 하위에 완료된 자가진단 결과가 없습니다.", "RESULT_NOT_FOUND")));
+    }
+
+    /**
+     * 문항별 미준수 히트맵 조회
+     * 본사 협력사들의 최신 완료 결과 기준 카테고리/문항별 YES/NO 건수를 조회합니다
+     * 본사만 조회할 수 있습니다
+     */
+    @GetMapping("/heatmap")
+    @Operation(summary = "문항별 미준수 히트맵 조회", description = "본사 협력사들의 최신 결과 기준 문항별 YES/NO 건수와 NO 비율을 조회합니다")
+    public ResponseEntity<ApiResponse<QuestionHeatmapResponse>> getHeatmap(
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId) {
+
+        log.info("문항별 미준수 히트맵 조회 요청: 본사ID={}, 사용자유형={}", headquartersId, userType);
+
+        if ("PARTNER".equalsIgnoreCase(userType)) {
+            log.warn("문항별 미준수 히트맵 접근 권한 없음: 본사ID={}", headquartersId);
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error("본사만 히트맵을 조회할 수 있습니다.", "ACCESS_DENIED"));
+        }
+        if (!"HEADQUARTERS".equalsIgnoreCase(userType)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 사용자 유형입니다.", "INVALID_REQUEST"));
+        }
+
+        return questionHeatmapService.heatmapOf(headquartersId)
+                .map(heatmap -> ResponseEntity.ok(ApiResponse.success(heatmap, "문항별 미준수 히트맵이 조회되었습니다.")))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(ApiResponse.error("히트맵 집계가 비활성화되어 있습니다.", "RESULT_NOT_FOUND")));
+    }
+
+    /**
+     * 문항 답변 조건 조회
+     * 협력사 최신 완료 결과 기준으로 문항 답변 조건(AND/OR/NOT 조합)을 만족하는 협력사를 조회합니다
+     * 본사만 조회할 수 있습니다
+     */
+    @GetMapping("/answer-query")
+    @Operation(summary = "문항 답변 조건 조회", description = "예: q=1.1:NO AND 4.4:NO AND NOT 2.2:NO (NOT > AND > OR, 괄호 사용 가능, 협력사 ID 오름차순 페이지)")
+    public ResponseEntity<ApiResponse<Page<AnswerQueryMatchResponse>>> queryAnswers(
+            @RequestParam("q") String expression,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestHeader("X-USER-TYPE") String userType,
+            @RequestHeader("X-HEADQUARTERS-ID") Long headquartersId) {
+
+        log.info("문항 답변 조건 조회 요청: 본사ID={}, 조건={}", headquartersId, expression);
+
+        if ("PARTNER".equalsIgnoreCase(userType)) {
+            log.warn("문항 답변 조건 조회 접근 권한 없음: 본사ID={}", headquartersId);
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error("본사만 답변 조건 조회를 사용할 수 있습니다.", "ACCESS_DENIED"));
+        }
+        if (!"HEADQUARTERS".equalsIgnoreCase(userType)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 사용자 유형입니다.", "INVALID_REQUEST"));
+        }
+
+        try {
+            return answerBitmapIndexService.query(headquartersId, expression, pageable)
+                    .map(page -> ResponseEntity.ok(ApiResponse.success(page, "문항 답변 조건 조회가 완료되었습니다.")))
+                    .orElseGet(() -> ResponseEntity.status(404)
+                            .body(ApiResponse.error("답변 역색인이 비활성화되어 있습니다.", "RESULT_NOT_FOUND")));
+        } catch (IllegalArgumentException e) {
+            log.warn("문항 답변 조건 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
     /**
      * 중대위반 메타데이터 조회
      * 특정 문항의 중대위반 관련 법적 근거, 처벌 정보 등을 조회합니다
@@ -212,6 +529,104 @@ public class SelfAssessmentController {
         }
     }
 
+    /**
+     * 상세 응답 생성 (JSON이면 상세 스냅샷 우선, 없으면 결과 엔티티 매핑)
+     * 협력사 결과이면 조회 시점의 본사 내 점수 백분위를 추가 (스냅샷에는 저장하지 않음)
+     */
+    private Object loadDetail(Long resultId, String userType, Long headquartersId, Long partnerId,
+                              String treePath, boolean json) {
+        if (json) {
+            Optional<AssessmentDetailSnapshot> snapshot = selfAssessmentService.findDetailSnapshot(
+                    resultId, userType, headquartersId, partnerId, treePath);
+            if (snapshot.isPresent()) {
+                RawJsonPayload payload = RawJsonPayload.of(snapshot.get().getPayload());
+                Optional<PercentileRankResponse> percentileRank = scorePercentileService.rankOf(
+                        snapshot.get().getHeadquartersId(), snapshot.get().getPartnerId());
+                return percentileRank.isPresent()
+                        ? payload.withField("percentileRank", toJsonBytes(percentileRank.get()))
+                        : payload;
+            }
+        }
+
+        SelfAssessmentResult result = selfAssessmentService.getSelfAssessmentResult(
+                resultId, userType, headquartersId, partnerId, treePath);
+
+        SelfAssessmentResultResponse response = assessmentMetrics.recordReadStage("mapping", userType,
+                () -> SelfAssessmentResultResponse.fromDetail(result));
+        scorePercentileService.rankOf(result.getHeadquartersId(), result.getPartnerId())
+                .ifPresent(response::setPercentileRank);
+        return response;
+    }
+
+    private byte[] toJsonBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 빈 값은 조건 없음과 동일하게 처리)
+     */
+    private String normalizeSearchText(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    /**
+     * 제출 허용 한도 초과 응답 (429 + Retry-After)
+     */
+    private ResponseEntity<ApiResponse<Void>> tooManyRequests(SubmissionAdmissionService.Admission admission) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(admission.getRetryAfterSeconds()))
+                .body(ApiResponse.error("제출 요청이 많습니다. 잠시 후 다시 시도해주세요.", "TOO_MANY_REQUESTS"));
+    }
+
+    /**
+     * Accept 헤더 기준 JSON 응답 여부 (상세 스냅샷은 JSON 바이트이므로 JSON 응답에만 사용)
+     * 품질값이 높은 순으로 JSON(와일드카드 포함)이 CBOR/Smile보다 먼저 나오면 JSON으로 판단합니다
+     */
+    private boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+
+        try {
+            List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+                if (BINARY_MEDIA_TYPES.stream().anyMatch(mediaType::isCompatibleWith)) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 본사 ID 헤더 검증 ("01", " 1" 등은 같은 본사로 정규화)
+     *
+     * @return 양수 본사 ID, 형식이 잘못되었으면 null
+     */
+    private Long parseHeadquartersId(String headquartersIdRaw) {
+        if (headquartersIdRaw == null || headquartersIdRaw.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            long headquartersId = Long.parseLong(headquartersIdRaw.trim());
+            return headquartersId > 0 ? headquartersId : null;
+        } catch (NumberFormatException e) {
+            log.warn("본사 ID 파싱 실패: {}", headquartersIdRaw);
+            return null;
+        }
+    }
+
     /**
      * 협력사 ID 안전 파싱
      * 문자열로 전달된 협력사 ID를 Long으로 안전하게 변환합니다
@@ -228,4 +643,18 @@ public class SelfAssessmentController {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 상세 조회 병합 키
+     */
+    private record DetailKey(Long resultId, ReadCoalescingService.AccessScope scope) {
+    }
+
+    /**
+     * 목록 조회 병합 키 (정규화된 검색 조건 + 페이지 + 권한 범위)
+     */
+    private record ListKey(ReadCoalescingService.AccessScope scope, List<String> fields, String companyName,
+                           String category, String startDate, String endDate, boolean onlyPartners,
+                           Pageable pageable) {
+    }
+}
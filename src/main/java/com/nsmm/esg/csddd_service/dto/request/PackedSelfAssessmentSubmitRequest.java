@@ -0,0 +1,37 @@
+package com.nsmm.esg.csddd_service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * CSDDD 자가진단 패킹 제출 요청 DTO
+ *
+ * 문항 버전의 문항 순서대로 YES=1, NO=0인 비트 벡터를 Base64로 전달
+ * (비트 i는 byte[i / 8]의 (i % 8)번째 하위 비트, v1 기준 5바이트)
+ */
+@Schema(description = "CSDDD 자가진단 패킹 제출 요청")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackedSelfAssessmentSubmitRequest {
+
+    @Schema(description = "회사명", example = "삼성전자")
+    @NotBlank(message = "회사명은 필수입니다.")
+    private String companyName;
+
+    @Schema(description = "문항 버전", example = "v1")
+    @NotBlank(message = "문항 버전은 필수입니다.")
+    private String questionnaireVersion;
+
+    @Schema(description = "패킹 답변 (Base64)", example = "//9/3+8=")
+    @NotBlank(message = "답변은 필수입니다.")
+    private String answers;
+
+    @Schema(description = "갱신 대상 현재 결과 버전 (UPSERT 모드, 선택)", example = "3")
+    private Long expectedVersion;
+}
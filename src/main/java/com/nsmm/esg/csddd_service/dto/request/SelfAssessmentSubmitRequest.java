@@ -43,4 +43,12 @@ public class SelfAssessmentSubmitRequest {
     @NotEmpty(message = "답변 목록은 비어있을 수 없습니다.")
     @Valid
     private List<SelfAssessmentAnswerRequest> answers;
+
+    /**
+     * 갱신 대상 현재 결과의 버전 (선택)
+     * 제자리 갱신 제출 방식(csddd.submission.mode=UPSERT)에서만 사용하며,
+     * 현재 결과 버전과 다르면 409로 거절
+     */
+    @Schema(description = "갱신 대상 현재 결과 버전 (UPSERT 모드, 선택)", example = "3")
+    private Long expectedVersion;
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문항 답변 조건 조회 결과 DTO
+ *
+ * 조건을 만족하는 협력사와 그 협력사의 최신 완료 결과 ID
+ */
+@Schema(description = "문항 답변 조건 조회 결과")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerQueryMatchResponse {
+
+    @Schema(description = "협력사 ID", example = "2")
+    private Long partnerId;
+
+    @Schema(description = "조건 평가에 사용된 최신 자가진단 결과 ID", example = "15")
+    private Long resultId;
+}
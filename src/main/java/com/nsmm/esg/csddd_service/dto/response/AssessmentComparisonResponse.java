@@ -0,0 +1,123 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자가진단 결과 비교 응답 DTO
+ *
+ * 기준 결과 1건과 비교 대상 결과 여러 건의 점수/등급 변화와 문항별 차이
+ */
+@Schema(description = "자가진단 결과 비교 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentComparisonResponse {
+
+    @Schema(description = "비교 기준 문항 버전", example = "v1")
+    private String questionnaireVersion;
+
+    @Schema(description = "기준 결과")
+    private ComparedResult baseline;
+
+    @Schema(description = "비교 대상별 차이 (요청 순서)")
+    private List<Comparison> comparisons;
+
+    /**
+     * 비교에 사용된 결과 요약
+     */
+    @Schema(description = "비교 결과 요약")
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ComparedResult {
+
+        @Schema(description = "자가진단 결과 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "회사명", example = "삼성전자")
+        private String companyName;
+
+        @Schema(description = "협력사 ID (협력사인 경우)", example = "2")
+        private Long partnerId;
+
+        @Schema(description = "정규화된 점수 (0~100)", example = "85.5")
+        private double score;
+
+        @Schema(description = "최종 등급", example = "B")
+        private AssessmentGrade finalGrade;
+
+        @Schema(description = "중대위반 건수", example = "1")
+        private Integer criticalViolationCount;
+
+        @Schema(description = "완료 일시")
+        private LocalDateTime completedAt;
+
+        public static ComparedResult from(SelfAssessmentResult result) {
+            return ComparedResult.builder()
+                    .id(result.getId())
+                    .companyName(result.getCompanyName())
+                    .partnerId(result.getPartnerId())
+                    .score(result.getScore())
+                    .finalGrade(result.getFinalGrade())
+                    .criticalViolationCount(result.getCriticalViolationCount())
+                    .completedAt(result.getCompletedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * 기준 대비 비교 대상 1건의 차이
+     */
+    @Schema(description = "기준 대비 차이")
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Comparison {
+
+        @Schema(description = "비교 대상 결과")
+        private ComparedResult target;
+
+        @Schema(description = "점수 변화 (대상 - 기준)", example = "-7.5")
+        private double scoreDelta;
+
+        @Schema(description = "등급 변화 단계 (양수: 상승, 음수: 하락)", example = "-1")
+        private int gradeDelta;
+
+        @Schema(description = "답변이 바뀐 문항 수", example = "3")
+        private int changedCount;
+
+        @Schema(description = "NO → YES로 바뀐 문항 ID", example = "[\"2.3\"]")
+        private List<String> flippedToYes;
+
+        @Schema(description = "YES → NO로 바뀐 문항 ID", example = "[\"1.2\", \"4.1\"]")
+        private List<String> flippedToNo;
+
+        @Schema(description = "새로 발생한 중대위반 문항 ID", example = "[\"1.2\"]")
+        private List<String> criticalAppeared;
+
+        @Schema(description = "해소된 중대위반 문항 ID", example = "[]")
+        private List<String> criticalCleared;
+
+        @Schema(description = "기준에만 답변이 있는 문항 ID", example = "[]")
+        private List<String> answeredOnlyInBaseline;
+
+        @Schema(description = "대상에만 답변이 있는 문항 ID", example = "[]")
+        private List<String> answeredOnlyInTarget;
+    }
+}
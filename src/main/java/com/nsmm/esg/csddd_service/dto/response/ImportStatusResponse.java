@@ -0,0 +1,55 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSV 일괄 가져오기 작업 상태 응답 DTO
+ */
+@Schema(description = "CSV 일괄 가져오기 작업 상태 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportStatusResponse {
+
+    @Schema(description = "가져오는 파일", example = "assessments-2021.csv")
+    private String file;
+
+    @Schema(description = "거절된 행을 기록하는 파일", example = "assessments-2021.csv.rejected.csv")
+    private String rejectFile;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "현재 인스턴스에서 실행 중 여부", example = "true")
+    private Boolean running;
+
+    @Schema(description = "읽은 데이터 행 수 (헤더 제외)", example = "120000")
+    private Long readRows;
+
+    @Schema(description = "저장된 결과 수", example = "119850")
+    private Long importedRows;
+
+    @Schema(description = "거절된 행 수", example = "150")
+    private Long rejectedRows;
+
+    @Schema(description = "평균 처리 속도 (읽은 행/초)", example = "8500.0")
+    private Double rowsPerSecond;
+
+    @Schema(description = "오류 메시지")
+    private String errorMessage;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,38 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 패킹 답변 이관 결과 응답 DTO
+ */
+@Schema(description = "패킹 답변 이관 결과 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackedAnswerMigrationResponse {
+
+    @Schema(description = "적용 문항 버전", example = "v1")
+    private String questionnaireVersion;
+
+    @Schema(description = "패킹 답변으로 이관된 결과 수", example = "5000")
+    private Long migratedCount;
+
+    @Schema(description = "문항 구성이 달라 답변 행으로 유지된 결과 수", example = "12")
+    private Long skippedCount;
+
+    @Schema(description = "다음 요청의 shard (샤드를 마치면 다음 샤드)", example = "default")
+    private String shard;
+
+    @Schema(description = "해당 샤드의 마지막 처리 결과 ID (다음 요청의 afterId)", example = "5012")
+    private Long lastResultId;
+
+    @Schema(description = "이관 대상이 남아 있는지 여부", example = "true")
+    private Boolean hasMore;
+}
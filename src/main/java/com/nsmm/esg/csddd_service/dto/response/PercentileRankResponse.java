@@ -0,0 +1,46 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 본사 내 협력사 점수 백분위 응답 DTO
+ *
+ * 같은 본사 협력사들의 최신 완료 결과 점수(정수 반올림) 기준 순위
+ */
+@Schema(description = "본사 내 협력사 점수 백분위")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentileRankResponse {
+
+    @Schema(description = "소속 본사 ID", example = "1")
+    private Long headquartersId;
+
+    @Schema(description = "협력사 ID", example = "2")
+    private Long partnerId;
+
+    @Schema(description = "순위 산정에 사용된 최신 결과 ID", example = "150")
+    private Long resultId;
+
+    @Schema(description = "순위 산정 점수 (0~100 정수)", example = "82")
+    private int score;
+
+    @Schema(description = "순위 (동점은 같은 순위)", example = "12")
+    private int rank;
+
+    @Schema(description = "본사 내 비교 대상 협력사 수", example = "60")
+    private int totalPartners;
+
+    @Schema(description = "상위 비율 (%, 순위 / 협력사 수)", example = "20.0")
+    private double topPercent;
+
+    @Schema(description = "백분위 (점수가 같거나 낮은 협력사 비율, %)", example = "81.7")
+    private double percentile;
+}
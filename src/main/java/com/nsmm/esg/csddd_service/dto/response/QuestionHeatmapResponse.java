@@ -0,0 +1,103 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 문항별 미준수 히트맵 응답 DTO
+ *
+ * 본사 협력사들의 최신 완료 결과 기준 카테고리/문항별 YES/NO 건수
+ * 카테고리와 문항은 문항 버전 순서를 따른다.
+ */
+@Schema(description = "문항별 미준수 히트맵 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionHeatmapResponse {
+
+    @Schema(description = "본사 ID", example = "1")
+    private Long headquartersId;
+
+    @Schema(description = "문항 버전", example = "v1")
+    private String questionnaireVersion;
+
+    @Schema(description = "집계에 포함된 협력사 수", example = "120")
+    private int partnerCount;
+
+    @Schema(description = "카테고리별 집계")
+    private List<CategoryCell> categories;
+
+    /**
+     * 카테고리 1개의 집계
+     */
+    @Schema(description = "카테고리별 집계")
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryCell {
+
+        @Schema(description = "카테고리", example = "인권 및 노동")
+        private String category;
+
+        @Schema(description = "YES 답변 수", example = "980")
+        private int yesCount;
+
+        @Schema(description = "NO 답변 수", example = "100")
+        private int noCount;
+
+        @Schema(description = "NO 비율 (%)", example = "9.3")
+        private double noRate;
+
+        @Schema(description = "문항별 집계")
+        private List<QuestionCell> questions;
+    }
+
+    /**
+     * 문항 1개의 집계
+     */
+    @Schema(description = "문항별 집계")
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class QuestionCell {
+
+        @Schema(description = "문항 ID", example = "1.1")
+        private String questionId;
+
+        @Schema(description = "YES 답변 수", example = "110")
+        private int yesCount;
+
+        @Schema(description = "NO 답변 수", example = "10")
+        private int noCount;
+
+        @Schema(description = "NO 비율 (%)", example = "8.3")
+        private double noRate;
+
+        @Schema(description = "중대위반 문항 여부", example = "true")
+        private boolean critical;
+
+        @Schema(description = "중대위반 시 적용 등급 (중대위반 문항만)", example = "D")
+        private AssessmentGrade criticalGrade;
+
+        @Schema(description = "법적 근거 (중대위반 문항만)", example = "EU CSDDD Art.6, ILO 138")
+        private String legalBasis;
+
+        @Schema(description = "처벌 정보 (중대위반 문항만)", example = "연매출 5% 이하 벌금")
+        private String penaltyInfo;
+    }
+}
@@ -0,0 +1,77 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 직렬화된 JSON 응답 데이터
+ *
+ * 상세 스냅샷처럼 이미 JSON으로 저장된 값을 ApiResponse의 data에 그대로 기록한다.
+ * (객체 그래프를 다시 직렬화하지 않음, JSON 응답 전용)
+ */
+@JsonSerialize(using = RawJsonPayload.Serializer.class)
+public final class RawJsonPayload {
+
+    private final byte[] json;
+
+    private RawJsonPayload(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json UTF-8 JSON 값
+     */
+    public static RawJsonPayload of(byte[] json) {
+        return new RawJsonPayload(json);
+    }
+
+    /**
+     * JSON 객체 끝에 필드 하나를 추가한 새 값 (원본 객체에 같은 이름의 필드가 없어야 함)
+     *
+     * @param name      필드명
+     * @param valueJson UTF-8 JSON 값
+     */
+    public RawJsonPayload withField(String name, byte[] valueJson) {
+        int end = json.length - 1;
+        while (end >= 0 && Character.isWhitespace(json[end])) {
+            end--;
+        }
+        if (end < 0 || json[end] != '}') {
+            throw new IllegalStateException("JSON 객체에만 필드를 추가할 수 있습니다.");
+        }
+        boolean empty = isEmptyObject(end);
+
+        byte[] prefix = ((empty ? "" : ",") + "\"" + name + "\":").getBytes(StandardCharsets.UTF_8);
+        byte[] merged = new byte[end + prefix.length + valueJson.length + 1];
+        System.arraycopy(json, 0, merged, 0, end);
+        System.arraycopy(prefix, 0, merged, end, prefix.length);
+        System.arraycopy(valueJson, 0, merged, end + prefix.length, valueJson.length);
+        merged[merged.length - 1] = '}';
+        return new RawJsonPayload(merged);
+    }
+
+    private boolean isEmptyObject(int closingBrace) {
+        int i = closingBrace - 1;
+        while (i >= 0 && Character.isWhitespace(json[i])) {
+            i--;
+        }
+        return i >= 0 && json[i] == '{';
+    }
+
+    public static final class Serializer extends StdSerializer<RawJsonPayload> {
+
+        public Serializer() {
+            super(RawJsonPayload.class);
+        }
+
+        @Override
+        public void serialize(RawJsonPayload value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue(new String(value.json, StandardCharsets.UTF_8));
+        }
+    }
+}
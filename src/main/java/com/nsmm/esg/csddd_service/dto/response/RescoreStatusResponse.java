@@ -0,0 +1,72 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import com.nsmm.esg.csddd_service.entity.RescoreCheckpoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 재채점 작업 상태 응답 DTO (샤드별)
+ */
+@Schema(description = "샤드별 일괄 재채점 작업 상태 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreStatusResponse {
+
+    @Schema(description = "작업 ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "샤드 키", example = "default")
+    private String shard;
+
+    @Schema(description = "적용 규칙 버전", example = "builtin")
+    private String ruleVersion;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "현재 인스턴스에서 실행 중 여부", example = "true")
+    private Boolean running;
+
+    @Schema(description = "마지막 반영 결과 ID", example = "150000")
+    private Long lastResultId;
+
+    @Schema(description = "누적 재채점 건수", example = "150000")
+    private Long processedCount;
+
+    @Schema(description = "평균 처리 속도 (건/초)", example = "4200.5")
+    private Double rowsPerSecond;
+
+    @Schema(description = "오류 메시지")
+    private String errorMessage;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시")
+    private LocalDateTime finishedAt;
+
+    public static RescoreStatusResponse from(RescoreCheckpoint checkpoint, boolean running) {
+        return RescoreStatusResponse.builder()
+                .jobId(checkpoint.getId())
+                .shard(checkpoint.getShardKey())
+                .ruleVersion(checkpoint.getRuleVersion())
+                .status(checkpoint.getStatus().name())
+                .running(running)
+                .lastResultId(checkpoint.getLastResultId())
+                .processedCount(checkpoint.getProcessedCount())
+                .rowsPerSecond(checkpoint.rowsPerSecond())
+                .errorMessage(checkpoint.getErrorMessage())
+                .startedAt(checkpoint.getStartedAt())
+                .finishedAt(checkpoint.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import jakarta.persistence.Tuple;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자가진단 결과 목록의 부분 응답 필드 선택 (fields 파라미터)
+ *
+ * SelfAssessmentResultResponse 필드명 중 허용된 필드만 선택할 수 있으며,
+ * 선택된 필드 계산에 필요한 엔티티 속성만 SELECT 절에 포함된다.
+ * 예: fields=id,companyName,score,finalGrade,createdAt
+ */
+public final class SelfAssessmentResultFields {
+
+    /**
+     * 응답 필드 → 필요한 엔티티 속성 (허용 목록)
+     */
+    private static final Map<String, List<String>> FIELD_ATTRIBUTES = new LinkedHashMap<>();
+
+    static {
+        FIELD_ATTRIBUTES.put("id", List.of("id"));
+        FIELD_ATTRIBUTES.put("companyName", List.of("companyName"));
+        FIELD_ATTRIBUTES.put("userType", List.of("userType"));
+        FIELD_ATTRIBUTES.put("headquartersId", List.of("headquartersId"));
+        FIELD_ATTRIBUTES.put("partnerId", List.of("partnerId"));
+        FIELD_ATTRIBUTES.put("treePath", List.of("treePath"));
+        FIELD_ATTRIBUTES.put("score", List.of("score"));
+        FIELD_ATTRIBUTES.put("actualScore", List.of("actualScore"));
+        FIELD_ATTRIBUTES.put("totalPossibleScore", List.of("totalPossibleScore"));
+        FIELD_ATTRIBUTES.put("completionRate", List.of("actualScore", "totalPossibleScore"));
+        FIELD_ATTRIBUTES.put("status", List.of("status"));
+        FIELD_ATTRIBUTES.put("finalGrade", List.of("finalGrade"));
+        FIELD_ATTRIBUTES.put("criticalViolationCount", List.of("criticalViolationCount"));
+        FIELD_ATTRIBUTES.put("noAnswerCount", List.of("noAnswerCount"));
+        FIELD_ATTRIBUTES.put("isHighRisk", List.of("score", "criticalViolationCount"));
+        FIELD_ATTRIBUTES.put("ruleVersion", List.of("ruleVersion"));
+        FIELD_ATTRIBUTES.put("version", List.of("version"));
+        FIELD_ATTRIBUTES.put("summary", List.of("summary"));
+        FIELD_ATTRIBUTES.put("recommendations", List.of("recommendations"));
+        FIELD_ATTRIBUTES.put("createdAt", List.of("createdAt"));
+        FIELD_ATTRIBUTES.put("updatedAt", List.of("updatedAt"));
+        FIELD_ATTRIBUTES.put("completedAt", List.of("completedAt"));
+    }
+
+    private final List<String> fields;
+    private final Set<String> attributes;
+
+    private SelfAssessmentResultFields(List<String> fields) {
+        this.fields = fields;
+        this.attributes = new LinkedHashSet<>();
+        fields.forEach(field -> attributes.addAll(FIELD_ATTRIBUTES.get(field)));
+    }
+
+    /**
+     * fields 파라미터 파싱 (쉼표 구분, 요청 순서 유지)
+     *
+     * @throws IllegalArgumentException 비어있거나 허용되지 않은 필드가 포함된 경우
+     */
+    public static SelfAssessmentResultFields parse(String fields) {
+        List<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("조회할 필드를 하나 이상 지정해주세요.");
+        }
+        for (String field : requested) {
+            if (!FIELD_ATTRIBUTES.containsKey(field)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + field
+                        + " (허용: " + String.join(",", FIELD_ATTRIBUTES.keySet()) + ")");
+            }
+        }
+        return new SelfAssessmentResultFields(requested);
+    }
+
+    /**
+     * 응답 필드 (요청 순서, 중복 제거)
+     */
+    public List<String> fields() {
+        return fields;
+    }
+
+    /**
+     * SELECT 절에 포함할 엔티티 속성
+     */
+    public Set<String> attributes() {
+        return attributes;
+    }
+
+    /**
+     * 조회 결과 Tuple을 요청 필드 순서의 응답 맵으로 변환 (fromSummary와 같은 값 규칙)
+     */
+    public Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> response = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            response.put(field, switch (field) {
+                case "completionRate" -> completionRate(
+                        tuple.get("actualScore", Double.class), tuple.get("totalPossibleScore", Double.class));
+                case "isHighRisk" -> tuple.get("score", Double.class) < 60.0
+                        || tuple.get("criticalViolationCount", Integer.class) > 0;
+                default -> {
+                    Object value = tuple.get(field);
+                    yield value instanceof Enum<?> enumValue ? enumValue.name() : value;
+                }
+            });
+        }
+        return response;
+    }
+
+    private static Double completionRate(Double actualScore, Double totalPossibleScore) {
+        if (totalPossibleScore == null || totalPossibleScore == 0) {
+            return 0.0;
+        }
+        return (actualScore / totalPossibleScore) * 100;
+    }
+}
@@ -1,5 +1,6 @@
 package com.nsmm.esg.csddd_service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.nsmm.esg.csddd_service.dto.ActionPlanDto;
 import com.nsmm.esg.csddd_service.dto.CategoryAnalysisDto;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
@@ -92,6 +93,12 @@ public class SelfAssessmentResultResponse {
     @Schema(description = "고위험 여부", example = "false")
     private Boolean isHighRisk;
 
+    @Schema(description = "등급 산정 규칙 버전", example = "builtin")
+    private String ruleVersion;
+
+    @Schema(description = "결과 버전 (갱신될 때마다 증가, UPSERT 모드 제출의 expectedVersion)", example = "0")
+    private Long version;
+
     @Schema(description = "평가 요약")
     private String summary;
 
@@ -127,6 +134,10 @@ public class SelfAssessmentResultResponse {
     @Schema(description = "구체적인 개선 계획 (상세 조회 시)")
     private List<ActionPlanDto> actionPlan;
 
+    @Schema(description = "본사 내 협력사 점수 백분위 (협력사 결과 상세 조회 시, 조회 시점 기준)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PercentileRankResponse percentileRank;
+
     // ============================================================================
     // 정적 팩토리 메서드 (Static Factory Methods)
     // ============================================================================
@@ -151,6 +162,8 @@ public class SelfAssessmentResultResponse {
                 .criticalViolationCount(result.getCriticalViolationCount())
                 .noAnswerCount(result.getNoAnswerCount())
                 .isHighRisk(result.isHighRisk())
+                .ruleVersion(result.getRuleVersion())
+                .version(result.getVersion())
                 .summary(result.getSummary())
                 .recommendations(result.getRecommendations())
                 .createdAt(result.getCreatedAt())
@@ -179,12 +192,14 @@ public class SelfAssessmentResultResponse {
                 .criticalViolationCount(result.getCriticalViolationCount())
                 .noAnswerCount(result.getNoAnswerCount())
                 .isHighRisk(result.isHighRisk())
+                .ruleVersion(result.getRuleVersion())
+                .version(result.getVersion())
                 .summary(result.getSummary())
                 .recommendations(result.getRecommendations())
                 .createdAt(result.getCreatedAt())
                 .updatedAt(result.getUpdatedAt())
                 .completedAt(result.getCompletedAt())
-                .answers(result.getAnswers().stream()
+                .answers(result.getEffectiveAnswers().stream()
                         .map(SelfAssessmentAnswerResponse::from)
                         .collect(Collectors.toList()))
                 // TODO: 필요시 categoryAnalysis, strengths, actionPlan 추가
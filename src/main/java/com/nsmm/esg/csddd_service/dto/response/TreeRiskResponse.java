@@ -0,0 +1,48 @@
+package com.nsmm.esg.csddd_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공급망 계층 위험 집계 응답 DTO
+ *
+ * treePath 노드 하위 전체(자기 자신 포함) 조직의 최신 완료 결과 기준 집계
+ */
+@Schema(description = "공급망 계층(treePath) 위험 집계")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TreeRiskResponse {
+
+    @Schema(description = "집계 노드 경로", example = "/1/L1-001/")
+    private String treePath;
+
+    @Schema(description = "하위 조직 결과 수 (조직별 최신 결과 1건)", example = "24")
+    private int resultCount;
+
+    @Schema(description = "등급별 결과 수", example = "{\"A\": 5, \"B\": 10, \"C\": 6, \"D\": 3}")
+    private Map<String, Integer> gradeCounts;
+
+    @Schema(description = "고위험 결과 수 (60점 미만 또는 중대위반 존재)", example = "4")
+    private int highRiskCount;
+
+    @Schema(description = "최저 점수 (0~100 정수, 결과가 없으면 생략)", example = "42")
+    private Integer minScore;
+
+    @Schema(description = "중대위반 건수 합계", example = "7")
+    private long criticalViolationTotal;
+
+    @Schema(description = "직속 하위 노드별 집계 (요청 노드에만 포함)")
+    private List<TreeRiskResponse> children;
+}
@@ -0,0 +1,210 @@
+package com.nsmm.esg.csddd_service.entity;
+
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.util.AnswerCodec;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSDDD 자가진단 결과 콜드 저장소 엔티티
+ *
+ * 최신 결과로 대체된(superseded) 오래된 자가진단 결과를 보관하는 엔티티
+ * 결과 1건당 행 1개만 저장하며, 답변 목록은 AnswerCodec으로 인코딩하여 함께 보관
+ *
+ * 주요 특징:
+ * - 기본키는 원본 SelfAssessmentResult의 ID를 그대로 사용 (ID 기반 조회 호환)
+ * - 답변 테이블의 행/인덱스를 남기지 않아 핫 테이블 크기 증가를 억제
+ * - 조회 시 toResult()로 영속화되지 않은 SelfAssessmentResult로 복원
+ *
+ */
+@Entity
+@Table(name = "self_assessment_result_archive", indexes = {
+        @Index(name = "idx_archive_headquarters_id", columnList = "headquarters_id"),
+        @Index(name = "idx_archive_partner_id", columnList = "partner_id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedAssessmentResult implements Persistable<Long> {
+
+    // ============================================================================
+    // 기본 식별자 (Primary Key)
+    // ============================================================================
+
+    @Id
+    private Long id; // 원본 자가진단 결과 ID
+
+    // ============================================================================
+    // 원본 결과 정보 (Original Result)
+    // ============================================================================
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId;
+
+    @Column(name = "partner_id")
+    private Long partnerId;
+
+    @Column(name = "tree_path", nullable = false, length = 500)
+    private String treePath;
+
+    @Column(name = "company_name", nullable = false, length = 255)
+    private String companyName;
+
+    @Column(name = "user_type", nullable = false, length = 30)
+    private String userType;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "actual_score", nullable = false)
+    private Double actualScore;
+
+    @Column(name = "total_possible_score", nullable = false)
+    private Double totalPossibleScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AssessmentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "final_grade", length = 10)
+    private AssessmentGrade finalGrade;
+
+    @Column(length = 1000)
+    private String summary;
+
+    @Column(length = 2000)
+    private String recommendations;
+
+    @Column(name = "critical_violation_count", nullable = false)
+    private Integer criticalViolationCount;
+
+    @Column(name = "no_answer_count", nullable = false)
+    private Integer noAnswerCount;
+
+    @Column(name = "rule_version", length = 50)
+    private String ruleVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // ============================================================================
+    // 보관 정보 (Archive Information)
+    // ============================================================================
+
+    /**
+     * 인코딩된 답변 목록
+     * AnswerCodec 포맷의 압축 바이너리 (결과 1건의 전체 답변)
+     */
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "encoded_answers", nullable = false, length = 8000)
+    private byte[] encodedAnswers;
+
+    @Column(name = "answer_count", nullable = false)
+    private Integer answerCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt; // 콜드 저장소 이관 일시
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    // ============================================================================
+    // 정적 팩토리 메서드 (Static Factory Methods)
+    // ============================================================================
+
+    /**
+     * 핫 테이블 결과로부터 보관 엔티티 생성
+     *
+     * @param result     원본 결과 (답변 목록 로딩 필요)
+     * @param archivedAt 이관 일시
+     * @return 보관 엔티티
+     */
+    public static ArchivedAssessmentResult from(SelfAssessmentResult result, LocalDateTime archivedAt) {
+        return ArchivedAssessmentResult.builder()
+                .id(result.getId())
+                .headquartersId(result.getHeadquartersId())
+                .partnerId(result.getPartnerId())
+                .treePath(result.getTreePath())
+                .companyName(result.getCompanyName())
+                .userType(result.getUserType())
+                .score(result.getScore())
+                .actualScore(result.getActualScore())
+                .totalPossibleScore(result.getTotalPossibleScore())
+                .status(result.getStatus())
+                .finalGrade(result.getFinalGrade())
+                .summary(result.getSummary())
+                .recommendations(result.getRecommendations())
+                .criticalViolationCount(result.getCriticalViolationCount())
+                .noAnswerCount(result.getNoAnswerCount())
+                .ruleVersion(result.getRuleVersion())
+                .createdAt(result.getCreatedAt())
+                .updatedAt(result.getUpdatedAt())
+                .completedAt(result.getCompletedAt())
+                .encodedAnswers(AnswerCodec.encode(result.getEffectiveAnswers()))
+                .answerCount(result.getEffectiveAnswers().size())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    // ============================================================================
+    // 비즈니스 메서드 (Business Methods)
+    // ============================================================================
+
+    /**
+     * 보관된 결과를 SelfAssessmentResult로 복원
+     * 영속성 컨텍스트에 속하지 않는 읽기 전용 객체를 반환
+     *
+     * @return 답변 목록이 포함된 자가진단 결과
+     */
+    public SelfAssessmentResult toResult() {
+        SelfAssessmentResult result = SelfAssessmentResult.builder()
+                .id(id)
+                .headquartersId(headquartersId)
+                .partnerId(partnerId)
+                .treePath(treePath)
+                .companyName(companyName)
+                .userType(userType)
+                .score(score)
+                .actualScore(actualScore)
+                .totalPossibleScore(totalPossibleScore)
+                .status(status)
+                .finalGrade(finalGrade)
+                .summary(summary)
+                .recommendations(recommendations)
+                .criticalViolationCount(criticalViolationCount)
+                .noAnswerCount(noAnswerCount)
+                .ruleVersion(ruleVersion)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .completedAt(completedAt)
+                .build();
+        result.assignAnswers(AnswerCodec.decode(encodedAnswers, createdAt));
+        return result;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
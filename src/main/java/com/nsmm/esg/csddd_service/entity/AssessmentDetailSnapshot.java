@@ -0,0 +1,104 @@
+package com.nsmm.esg.csddd_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSDDD 자가진단 결과 상세 스냅샷 엔티티 (조회 모델)
+ *
+ * 완료된 결과의 상세 응답(SelfAssessmentResultResponse)을 제출 시점에 JSON으로 한 번 직렬화하여 보관
+ * 상세 조회는 기본키 1회 조회 후 저장된 바이트를 그대로 응답 본문에 사용한다.
+ *
+ * 주요 특징:
+ * - 기본키는 원본 SelfAssessmentResult의 ID를 그대로 사용
+ * - 권한 범위 조건에 필요한 본사/협력사/treePath를 함께 보관 (조회 WHERE 절에 포함, 결과 엔티티 로딩 없음)
+ * - 재채점/답변 이관 등으로 결과가 바뀌면 같은 트랜잭션에서 재생성, 콜드 저장소 이관 시 삭제
+ */
+@Entity
+@Table(name = "self_assessment_detail_snapshot")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AssessmentDetailSnapshot implements Persistable<Long> {
+
+    // ============================================================================
+    // 기본 식별자 (Primary Key)
+    // ============================================================================
+
+    @Id
+    @Column(name = "result_id")
+    private Long resultId; // 원본 자가진단 결과 ID
+
+    // ============================================================================
+    // 권한 범위 정보 (Access Scope)
+    // ============================================================================
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId;
+
+    @Column(name = "partner_id")
+    private Long partnerId;
+
+    @Column(name = "tree_path", nullable = false, length = 500)
+    private String treePath;
+
+    // ============================================================================
+    // 스냅샷 정보 (Snapshot)
+    // ============================================================================
+
+    /**
+     * 직렬화된 상세 응답 (UTF-8 JSON, ApiResponse의 data 부분)
+     */
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "rule_version", length = 50)
+    private String ruleVersion; // 스냅샷 생성 시점의 등급 산정 규칙 버전
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt; // 스냅샷 생성 일시
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    // ============================================================================
+    // 정적 팩토리 메서드 (Static Factory Methods)
+    // ============================================================================
+
+    /**
+     * 결과와 직렬화된 상세 응답으로 스냅샷 생성
+     */
+    public static AssessmentDetailSnapshot of(SelfAssessmentResult result, byte[] payload) {
+        return AssessmentDetailSnapshot.builder()
+                .resultId(result.getId())
+                .headquartersId(result.getHeadquartersId())
+                .partnerId(result.getPartnerId())
+                .treePath(result.getTreePath())
+                .payload(payload)
+                .ruleVersion(result.getRuleVersion())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public Long getId() {
+        return resultId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
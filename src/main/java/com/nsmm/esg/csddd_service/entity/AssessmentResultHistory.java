@@ -0,0 +1,140 @@
+package com.nsmm.esg.csddd_service.entity;
+
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.util.AnswerCodec;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSDDD 자가진단 결과 이력 엔티티
+ *
+ * 제자리 갱신 제출 방식(csddd.submission.mode=UPSERT)에서 현재 결과가 새 제출로 덮어쓰이기 직전의
+ * 버전을 보관하는 엔티티
+ * 버전 1건당 행 1개만 저장하며 답변 테이블 행은 남기지 않는다.
+ *
+ * 주요 특징:
+ * - (result_id, version)으로 원본 결과의 이전 버전을 식별
+ * - 점수/등급/위반 건수 등 목록 조회에 필요한 요약만 보관 (요약/권고사항 문구 제외)
+ * - 답변은 패킹 답변이 있으면 그대로, 없으면 AnswerCodec으로 인코딩하여 보관
+ *
+ */
+@Entity
+@Table(name = "self_assessment_result_history", indexes = {
+        @Index(name = "idx_history_result_version", columnList = "result_id, version"),
+        @Index(name = "idx_history_headquarters_id", columnList = "headquarters_id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AssessmentResultHistory {
+
+    // ============================================================================
+    // 기본 식별자 (Primary Key)
+    // ============================================================================
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 이력 고유 식별자
+
+    // ============================================================================
+    // 원본 결과 버전 정보 (Original Result Version)
+    // ============================================================================
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId; // 원본 자가진단 결과 ID
+
+    @Column(name = "version", nullable = false)
+    private Long version; // 덮어쓰이기 전 결과 버전
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId;
+
+    @Column(name = "partner_id")
+    private Long partnerId;
+
+    @Column(name = "tree_path", nullable = false, length = 500)
+    private String treePath;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "final_grade", length = 10)
+    private AssessmentGrade finalGrade;
+
+    @Column(name = "critical_violation_count", nullable = false)
+    private Integer criticalViolationCount;
+
+    @Column(name = "no_answer_count", nullable = false)
+    private Integer noAnswerCount;
+
+    @Column(name = "rule_version", length = 50)
+    private String ruleVersion;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // ============================================================================
+    // 답변 정보 (Answers)
+    // ============================================================================
+
+    /**
+     * 문항 버전 (패킹 답변 해석 기준)
+     */
+    @Column(name = "questionnaire_version", length = 20)
+    private String questionnaireVersion;
+
+    /**
+     * 패킹 답변 (원본 결과에 패킹 답변이 있는 경우)
+     */
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "packed_answers", length = 16)
+    private byte[] packedAnswers;
+
+    /**
+     * 인코딩된 답변 목록 (패킹 답변이 없는 경우, AnswerCodec 포맷)
+     */
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "encoded_answers", length = 8000)
+    private byte[] encodedAnswers;
+
+    @Column(name = "superseded_at", nullable = false)
+    private LocalDateTime supersededAt; // 새 제출로 대체된 일시
+
+    // ============================================================================
+    // 정적 팩토리 메서드 (Static Factory Methods)
+    // ============================================================================
+
+    /**
+     * 현재 결과로부터 이력 엔티티 생성
+     *
+     * @param result       덮어쓰이기 전 현재 결과 (패킹 답변이 없으면 답변 목록 로딩)
+     * @param supersededAt 대체 일시
+     * @return 이력 엔티티
+     */
+    public static AssessmentResultHistory from(SelfAssessmentResult result, LocalDateTime supersededAt) {
+        boolean packed = result.getPackedAnswers() != null;
+        return AssessmentResultHistory.builder()
+                .resultId(result.getId())
+                .version(result.getVersion() != null ? result.getVersion() : 0L)
+                .headquartersId(result.getHeadquartersId())
+                .partnerId(result.getPartnerId())
+                .treePath(result.getTreePath())
+                .score(result.getScore())
+                .finalGrade(result.getFinalGrade())
+                .criticalViolationCount(result.getCriticalViolationCount())
+                .noAnswerCount(result.getNoAnswerCount())
+                .ruleVersion(result.getRuleVersion())
+                .completedAt(result.getCompletedAt())
+                .questionnaireVersion(packed ? result.getQuestionnaireVersion() : null)
+                .packedAnswers(packed ? result.getPackedAnswers() : null)
+                .encodedAnswers(packed ? null : AnswerCodec.encode(result.getEffectiveAnswers()))
+                .supersededAt(supersededAt)
+                .build();
+    }
+}
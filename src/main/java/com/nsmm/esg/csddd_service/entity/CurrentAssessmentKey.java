@@ -0,0 +1,70 @@
+package com.nsmm.esg.csddd_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * CSDDD 현재 자가진단 결과 키 엔티티
+ *
+ * 제자리 갱신 제출 방식(csddd.submission.mode=UPSERT)에서 본사/협력사별 현재 결과를 가리키는 키
+ * (headquarters_id, partner_key) 유니크 제약으로 동시 최초 제출이 현재 결과를 두 개 만드는 것을 막는다.
+ *
+ * 주요 특징:
+ * - UPSERT 모드에서만 저장 (APPEND 모드 제출은 키를 만들지 않음)
+ * - 키가 최신 결과를 가리키지 않으면(APPEND 모드 제출, 이관된 결과) 다음 UPSERT 제출에서 다시 지정
+ * - 본사 결과는 partnerId가 없으므로 partner_key = 0 으로 저장 (NULL은 유니크 제약에서 서로 다른 값으로 취급됨)
+ * - 유니크 제약 위반은 버전 충돌(409 VERSION_CONFLICT)과 같이 처리
+ */
+@Entity
+@Table(name = "self_assessment_current_key", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_current_key_headquarters_partner", columnNames = {"headquarters_id", "partner_key"})
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CurrentAssessmentKey {
+
+    /**
+     * 본사 결과의 partner_key 값
+     */
+    public static final long HEADQUARTERS_PARTNER_KEY = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId;
+
+    @Column(name = "partner_key", nullable = false)
+    private Long partnerKey; // 협력사 ID, 본사 결과는 0
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId; // 현재 자가진단 결과 ID
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ============================================================================
+    // 비즈니스 메서드 (Business Methods)
+    // ============================================================================
+
+    /**
+     * 결과를 현재 결과로 지정하는 키 생성
+     */
+    public static CurrentAssessmentKey of(SelfAssessmentResult result) {
+        return CurrentAssessmentKey.builder()
+                .headquartersId(result.getHeadquartersId())
+                .partnerKey(partnerKeyOf(result.getPartnerId()))
+                .resultId(result.getId())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static long partnerKeyOf(Long partnerId) {
+        return partnerId != null ? partnerId : HEADQUARTERS_PARTNER_KEY;
+    }
+}
@@ -0,0 +1,120 @@
+package com.nsmm.esg.csddd_service.entity;
+
+import com.nsmm.esg.csddd_service.enums.RescoreStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 재채점 작업 체크포인트 엔티티
+ *
+ * 재채점 작업 1회 실행(및 재개)의 샤드별 진행 상황을 기록
+ * 샤드마다 해당 샤드 DB에 저장되며, 청크 처리와 같은 트랜잭션에서 갱신되므로
+ * lastResultId 이하 결과는 모두 재채점이 반영된 상태
+ */
+@Entity
+@Table(name = "self_assessment_rescore_checkpoint")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RescoreCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rule_version", nullable = false, length = 50)
+    private String ruleVersion; // 작업 시작 시 적용된 등급 산정 규칙 버전
+
+    @Column(name = "shard_key", length = 50)
+    private String shardKey; // 처리 대상 샤드 키 (샤드별 체크포인트 도입 이전 작업은 null)
+
+    @Builder.Default
+    @Column(name = "last_result_id", nullable = false)
+    private Long lastResultId = 0L; // 마지막으로 반영된 결과 ID (keyset 커서)
+
+    @Builder.Default
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RescoreStatus status = RescoreStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    // ============================================================================
+    // 비즈니스 메서드 (Business Methods)
+    // ============================================================================
+
+    /**
+     * 샤드의 새 재채점 작업 시작
+     */
+    public static RescoreCheckpoint start(String ruleVersion, String shardKey) {
+        LocalDateTime now = LocalDateTime.now();
+        return RescoreCheckpoint.builder()
+                .ruleVersion(ruleVersion)
+                .shardKey(shardKey)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 중단된 작업 재개
+     */
+    public void resume() {
+        this.status = RescoreStatus.RUNNING;
+        this.errorMessage = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(Long lastResultId, int processed) {
+        this.lastResultId = lastResultId;
+        this.processedCount += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == RescoreStatus.COMPLETED;
+    }
+
+    public void complete() {
+        this.status = RescoreStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+        this.updatedAt = this.finishedAt;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = RescoreStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 시작 이후 평균 처리 속도 (건/초)
+     */
+    public double rowsPerSecond() {
+        LocalDateTime end = finishedAt != null ? finishedAt : updatedAt;
+        long millis = Duration.between(startedAt, end).toMillis();
+        return millis > 0 ? processedCount * 1000.0 / millis : 0;
+    }
+}
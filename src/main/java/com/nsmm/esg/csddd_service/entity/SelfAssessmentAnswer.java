@@ -3,6 +3,8 @@ package com.nsmm.esg.csddd_service.entity;
 import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -27,6 +29,8 @@ import java.time.LocalDateTime;
  *
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "csddd.answer")
 @Table(name = "self_assessment_answer", indexes = {
         @Index(name = "idx_result_id", columnList = "result_id"),
         @Index(name = "idx_question_id", columnList = "question_id"),
@@ -92,6 +96,7 @@ public class SelfAssessmentAnswer {
     /**
      * 중대위반 항목 여부
      * 해당 문항이 중대위반 대상인지 표시 (NO 응답 시 등급 강등 적용)
+     * 채점 시 현재 등급 산정 규칙 세트 기준으로 다시 지정된다 (요청값은 참고용)
      */
     @Builder.Default
     @Column(name = "critical_violation", nullable = false)
@@ -99,7 +104,7 @@ public class SelfAssessmentAnswer {
 
     /**
      * 중대위반 시 적용 등급
-     * 중대위반 발생 시 강등될 등급 정보 (프론트엔드에서 전달)
+     * 중대위반 발생 시 강등될 등급 정보 (채점 시 현재 규칙 세트 기준으로 지정)
      */
     @Enumerated(EnumType.STRING)
     @Column(name = "critical_grade", length = 10)
@@ -143,6 +148,17 @@ public class SelfAssessmentAnswer {
         this.result = result;
     }
 
+    /**
+     * 규칙 세트의 중대위반 기준 적용
+     * 채점 시점의 규칙 세트가 정한 강등 등급으로 중대위반 항목 여부를 지정
+     *
+     * @param criticalGrade 문항의 강등 등급 (중대위반 대상이 아니면 null)
+     */
+    public void applyCriticalGrade(AssessmentGrade criticalGrade) {
+        this.criticalViolation = criticalGrade != null;
+        this.criticalGrade = criticalGrade;
+    }
+
     /**
      * 중대위반 발생 여부 확인
      * 중대위반 항목이면서 NO 응답인 경우 true 반환
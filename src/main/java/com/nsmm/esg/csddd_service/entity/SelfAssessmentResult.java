@@ -2,10 +2,17 @@ package com.nsmm.esg.csddd_service.entity;
 
 import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
 import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -33,8 +40,25 @@ import java.util.List;
  * - C등급: 60점 이상 75점 미만
  * - D등급: 60점 미만 또는 중대위반 발생
  *
+ * 패킹 답변:
+ * - 문항 버전(QuestionnaireCatalog)과 일치하는 답변은 packed_answers 비트 벡터로도 저장
+ * - 답변 행(self_assessment_answer)이 없으면 getEffectiveAnswers()가 패킹 답변에서 복원
+ *
+ * 2차 캐시:
+ * - 완료(COMPLETED)된 결과만 csddd.result 영역에 캐시 (READ_WRITE)
+ * - 완료 전 상태의 결과는 CompletedOnlyCacheListener가 캐시에서 즉시 제거
+ * - 완료 결과도 재채점/패킹 답변 이관(JDBC 갱신 후 캐시 제거)과
+ *   제자리 갱신 재제출(UPSERT 모드, IN_PROGRESS로 되돌린 뒤 다시 완료)로 변경될 수 있다.
+ *
+ * 낙관적 잠금:
+ * - version 컬럼으로 제자리 갱신(csddd.submission.mode=UPSERT)의 동시 수정을 검출
+ * - 본사/협력사별 현재 결과는 CurrentAssessmentKey의 유니크 제약으로 하나만 지정
+ * - JDBC로 결과를 갱신하는 작업(재채점, 패킹 답변 이관)은 조회 시점 version 조건으로 갱신하고 version을 증가시킨다.
+ *
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "csddd.result")
 @Table(name = "self_assessment_results", indexes = {
         @Index(name = "idx_headquarters_id", columnList = "headquarters_id"),
         @Index(name = "idx_partner_id", columnList = "partner_id"),
@@ -174,6 +198,13 @@ public class SelfAssessmentResult {
     @Column(name = "no_answer_count", nullable = false)
     private Integer noAnswerCount = 0;
 
+    /**
+     * 등급 산정 규칙 버전
+     * 채점 시 적용된 규칙 세트 버전 (GradingRuleSet)
+     */
+    @Column(name = "rule_version", length = 50)
+    private String ruleVersion;
+
     // ============================================================================
     // 연관 관계 (Relationships)
     // ============================================================================
@@ -183,9 +214,46 @@ public class SelfAssessmentResult {
      * 하나의 진단 결과에 포함된 모든 문항 답변
      */
     @OneToMany(mappedBy = "result", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "csddd.result.answers")
     @Builder.Default
     private List<SelfAssessmentAnswer> answers = new ArrayList<>();
 
+    // ============================================================================
+    // 패킹 답변 (Packed Answers)
+    // ============================================================================
+
+    /**
+     * 문항 버전
+     * 패킹 답변 해석 기준 (QuestionnaireCatalog)
+     */
+    @Column(name = "questionnaire_version", length = 20)
+    private String questionnaireVersion;
+
+    /**
+     * 패킹 답변
+     * 문항 순서별 YES=1, NO=0 비트 벡터 (40문항 기준 5바이트)
+     */
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "packed_answers", length = 16)
+    private byte[] packedAnswers;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<SelfAssessmentAnswer> unpackedAnswers; // 패킹 답변 복원 결과 (지연 생성)
+
+    // ============================================================================
+    // 낙관적 잠금 (Optimistic Locking)
+    // ============================================================================
+
+    /**
+     * 결과 버전
+     * 결과 행이 갱신될 때마다 1씩 증가 (컬럼 추가 이전 행은 0으로 채워짐)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // ============================================================================
     // 타임스탬프 (Timestamps)
     // ============================================================================
@@ -237,6 +305,48 @@ public class SelfAssessmentResult {
         answers.forEach(answer -> answer.assignToResult(this));
     }
 
+    /**
+     * 영속화된 결과의 답변 목록 교체
+     * 답변 컬렉션을 새로 만들지 않고 내용만 바꾸어 기존 답변 행은 orphanRemoval로 삭제된다.
+     *
+     * @param answers 새 답변 목록
+     */
+    public void replaceAnswers(List<SelfAssessmentAnswer> answers) {
+        this.answers.clear();
+        this.answers.addAll(answers);
+        answers.forEach(answer -> answer.assignToResult(this));
+    }
+
+    /**
+     * 패킹 답변 할당
+     *
+     * @param questionnaireVersion 문항 버전
+     * @param packedAnswers        검증된 패킹 답변
+     */
+    public void assignPackedAnswers(String questionnaireVersion, byte[] packedAnswers) {
+        this.questionnaireVersion = questionnaireVersion;
+        this.packedAnswers = packedAnswers;
+        this.unpackedAnswers = null;
+    }
+
+    /**
+     * 평가/응답에 사용할 답변 목록
+     * 답변 행이 이미 메모리에 있으면 그대로 사용하고, 아니면 패킹 답변에서 복원하여
+     * 답변 테이블 조회를 생략한다. 패킹 답변이 없으면 답변 행 컬렉션을 반환한다.
+     *
+     * @return 답변 목록 (패킹 답변에서 복원한 경우 영속화되지 않은 읽기 전용 객체)
+     */
+    public List<SelfAssessmentAnswer> getEffectiveAnswers() {
+        if (packedAnswers == null || (Hibernate.isInitialized(answers) && !answers.isEmpty())) {
+            return answers;
+        }
+        if (unpackedAnswers == null) {
+            unpackedAnswers = QuestionnaireCatalog.get(questionnaireVersion)
+                    .unpack(packedAnswers, this, createdAt);
+        }
+        return unpackedAnswers;
+    }
+
     /**
      * 진단 결과 기본 정보 업데이트
      * 회사 정보 및 조직 계층 정보 수정
@@ -256,6 +366,26 @@ public class SelfAssessmentResult {
         this.treePath = treePath;
     }
 
+    /**
+     * 현재 결과 재제출 준비 (제자리 갱신)
+     * 기본 정보를 갱신하고 이전 답변/패킹 답변과 완료 일시를 비워 새 제출로 다시 평가되도록 한다.
+     *
+     * @param companyName 회사명
+     * @param userType    사용자 유형
+     * @param treePath    계층 경로
+     */
+    public void prepareResubmission(String companyName, String userType, String treePath) {
+        this.companyName = companyName;
+        this.userType = userType;
+        this.treePath = treePath;
+        this.status = AssessmentStatus.IN_PROGRESS;
+        this.completedAt = null;
+        this.questionnaireVersion = null;
+        this.packedAnswers = null;
+        this.unpackedAnswers = null;
+        this.answers.clear();
+    }
+
     /**
      * 평가 완료 처리
      * 최종 점수와 결과를 설정하고 완료 상태로 변경
@@ -266,6 +396,7 @@ public class SelfAssessmentResult {
      * @param finalGrade      최종 등급
      * @param summary         평가 요약
      * @param recommendations 개선 권고사항
+     * @param ruleVersion     적용된 등급 산정 규칙 버전
      */
     public void finalizeAssessment(
             double score,
@@ -273,13 +404,15 @@ public class SelfAssessmentResult {
             double totalScore,
             AssessmentGrade finalGrade,
             String summary,
-            String recommendations) {
+            String recommendations,
+            String ruleVersion) {
         this.score = score;
         this.actualScore = actualScore;
         this.totalPossibleScore = totalScore;
         this.finalGrade = finalGrade;
         this.summary = summary;
         this.recommendations = recommendations;
+        this.ruleVersion = ruleVersion;
         this.status = AssessmentStatus.COMPLETED;
 
         // 완료 시간 설정 (최초 완료 시에만)
@@ -305,7 +438,7 @@ public class SelfAssessmentResult {
      * 답변 목록에서 중대위반 발생 건수를 계산하여 업데이트
      */
     public void updateCriticalViolationCount() {
-        this.criticalViolationCount = (int) answers.stream()
+        this.criticalViolationCount = (int) getEffectiveAnswers().stream()
                 .filter(SelfAssessmentAnswer::hasCriticalViolation)
                 .count();
     }
@@ -315,7 +448,7 @@ public class SelfAssessmentResult {
      * 답변 목록에서 "아니오(false)"로 답변한 모든 항목의 개수를 계산하여 업데이트
      */
     public void updateNoAnswerCount() {
-        this.noAnswerCount = (int) answers.stream()
+        this.noAnswerCount = (int) getEffectiveAnswers().stream()
                 .filter(answer -> !answer.isAnswer()) // answer가 false인 경우
                 .count();
     }
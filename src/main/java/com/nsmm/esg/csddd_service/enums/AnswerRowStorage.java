@@ -0,0 +1,13 @@
+package com.nsmm.esg.csddd_service.enums;
+
+/**
+ * AnswerRowStorage
+ * - 답변 행(self_assessment_answer) 저장 정책
+ *
+ * ALWAYS: 패킹 가능 여부와 관계없이 답변 행을 항상 저장 (기존 동작)
+ * FALLBACK_ONLY: 문항 버전과 일치하여 패킹된 제출은 답변 행을 저장하지 않음
+ */
+public enum AnswerRowStorage {
+    ALWAYS,
+    FALLBACK_ONLY
+}
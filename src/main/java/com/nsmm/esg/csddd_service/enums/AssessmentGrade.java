@@ -7,10 +7,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
  * AssessmentGrade
  * - 자가진단 결과에 따라 매겨지는 평가 등급 (A ~ D)
  *
- * A: 매우 우수 (90점 이상)
- * B: 양호 (75점 이상)
- * C: 보통 (60점 이상)
- * D: 미흡 / 위험 수준 (60점 미만 또는 중대위반 존재)
+ * A: 매우 우수
+ * B: 양호
+ * C: 보통
+ * D: 미흡 / 위험 수준
+ *
+ * 점수 기준과 중대위반 등급은 활성 규칙 세트(GradingRuleSet, csddd.grading.*)가 정한다.
  */
 public enum AssessmentGrade {
     D, C, B, A;
@@ -24,21 +26,4 @@ public enum AssessmentGrade {
     public static AssessmentGrade fromValue(String value) {
         return AssessmentGrade.valueOf(value.toUpperCase());
     }
-
-    public static AssessmentGrade fromScore(int score, boolean hasCriticalViolation) {
-        if (hasCriticalViolation) return D;
-        if (score >= 90) return A;
-        if (score >= 75) return B;
-        if (score >= 60) return C;
-        return D;
-    }
-
-    public static AssessmentGrade fromScoreWithCriticals(int score, java.util.List<AssessmentGrade> criticalGrades) {
-        if (criticalGrades != null && !criticalGrades.isEmpty()) {
-            return criticalGrades.stream()
-                    .min(java.util.Comparator.naturalOrder())
-                    .orElse(D);
-        }
-        return fromScore(score, false);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.nsmm.esg.csddd_service.enums;
+
+/**
+ * ImportStatus
+ * - CSV 일괄 가져오기 작업 상태
+ *
+ * RUNNING: 실행 중
+ * COMPLETED: 파일 끝까지 처리 완료 (거절된 행은 거절 파일에 기록)
+ * FAILED: 오류로 중단됨 (이미 커밋된 청크는 유지)
+ */
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,15 @@
+package com.nsmm.esg.csddd_service.enums;
+
+/**
+ * RescoreStatus
+ * - 일괄 재채점 작업 상태
+ *
+ * RUNNING: 실행 중 (비정상 종료 시에도 이 상태로 남아 재개 대상이 됨)
+ * COMPLETED: 전체 결과 재채점 완료
+ * FAILED: 오류로 중단됨 (재개 가능)
+ */
+public enum RescoreStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
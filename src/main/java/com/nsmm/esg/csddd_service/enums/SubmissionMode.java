@@ -0,0 +1,14 @@
+package com.nsmm.esg.csddd_service.enums;
+
+/**
+ * SubmissionMode
+ * - 자가진단 제출 시 결과 행 저장 방식
+ *
+ * APPEND: 제출마다 새 결과 행 추가 (기존 동작)
+ * UPSERT: 본사/협력사별 현재 결과 1건을 낙관적 잠금(version)으로 제자리 갱신하고,
+ *         이전 버전은 이력 테이블(self_assessment_result_history)에 압축 보관
+ */
+public enum SubmissionMode {
+    APPEND,
+    UPSERT
+}
@@ -0,0 +1,49 @@
+package com.nsmm.esg.csddd_service.event;
+
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.util.AnswerBitSet;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+
+/**
+ * 자가진단 제출 완료 이벤트
+ *
+ * 제출 트랜잭션 내에서 발행되며, 구독자는 @TransactionalEventListener(AFTER_COMMIT)로
+ * 커밋이 확정된 결과만 처리한다.
+ *
+ * @param resultId       결과 ID
+ * @param version        결과 버전 (제자리 갱신 제출이면 같은 결과 ID에서 증가)
+ * @param headquartersId 본사 ID (구독 범위 판별용)
+ * @param partnerId      협력사 ID (본사 결과이면 null)
+ * @param treePath       조직 계층 경로
+ * @param summary        목록 조회와 동일한 요약 응답
+ * @param answers        현재 문항 버전 기준 답변 비트 집합 (문항별 집계용)
+ */
+public record AssessmentCompletedEvent(
+        Long resultId,
+        Long version,
+        Long headquartersId,
+        Long partnerId,
+        String treePath,
+        SelfAssessmentResultResponse summary,
+        AnswerBitSet answers) {
+
+    public static AssessmentCompletedEvent from(SelfAssessmentResult result) {
+        return new AssessmentCompletedEvent(
+                result.getId(),
+                result.getVersion(),
+                result.getHeadquartersId(),
+                result.getPartnerId(),
+                result.getTreePath(),
+                SelfAssessmentResultResponse.fromSummary(result),
+                AnswerBitSet.of(result, QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION)));
+    }
+
+    /**
+     * 메모리 색인의 최신 결과 판별 기준
+     */
+    public ResultRevision revision() {
+        return ResultRevision.of(resultId, version);
+    }
+}
@@ -0,0 +1,36 @@
+package com.nsmm.esg.csddd_service.event;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+
+import java.util.List;
+
+/**
+ * 자가진단 제출 지표 이벤트
+ *
+ * 제출 트랜잭션 내에서 발행되며, 지표는 AFTER_COMMIT 리스너에서만 기록한다.
+ * 롤백되거나 버전 충돌(409)로 끝난 제출은 집계되지 않는다.
+ *
+ * @param grade               최종 등급 (없으면 NONE)
+ * @param userType            제출자 유형 (헤더 원본값)
+ * @param criticalQuestionIds 중대위반이 발생한 문항 ID 목록 (클라이언트 제출값)
+ * @param answerCount         답변 수
+ */
+public record SubmissionMetricsEvent(
+        String grade,
+        String userType,
+        List<String> criticalQuestionIds,
+        int answerCount) {
+
+    public static SubmissionMetricsEvent from(SelfAssessmentResult result, String userType) {
+        List<SelfAssessmentAnswer> answers = result.getEffectiveAnswers();
+        return new SubmissionMetricsEvent(
+                result.getFinalGrade() != null ? result.getFinalGrade().name() : "NONE",
+                userType,
+                answers.stream()
+                        .filter(SelfAssessmentAnswer::hasCriticalViolation)
+                        .map(SelfAssessmentAnswer::getQuestionId)
+                        .toList(),
+                answers.size());
+    }
+}
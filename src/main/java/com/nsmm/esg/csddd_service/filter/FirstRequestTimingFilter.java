@@ -0,0 +1,70 @@
+package com.nsmm.esg.csddd_service.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 콜드 스타트 측정 필터
+ *
+ * JVM 시작부터 첫 API 요청 처리 완료까지의 시간을 한 번만 기록
+ * - csddd.startup.first.request: JVM 시작 → 첫 /api/ 요청 응답 완료
+ * - 기동 완료(ApplicationReadyEvent)까지의 시간과 함께 INFO 로그로 보고
+ *
+ * 헬스 체크 등 /api/ 외 요청은 제외 (실제 트래픽 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean(false);
+    private volatile long readyMillis = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        readyMillis = uptimeMillis();
+        log.info("애플리케이션 준비 완료: JVM 시작 후 {}ms", readyMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorded.get() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                long firstRequestMillis = uptimeMillis();
+                TimeGauge.builder("csddd.startup.first.request", () -> firstRequestMillis, TimeUnit.MILLISECONDS)
+                        .description("JVM 시작부터 첫 API 요청 응답 완료까지의 시간")
+                        .register(meterRegistry);
+                log.info("콜드 스타트: JVM 시작 후 첫 요청 응답까지 {}ms (준비 완료 {}ms, {} {})",
+                        firstRequestMillis, readyMillis, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+
+    private long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
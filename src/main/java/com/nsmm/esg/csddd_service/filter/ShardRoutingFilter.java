@@ -0,0 +1,71 @@
+package com.nsmm.esg.csddd_service.filter;
+
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 샤드 라우팅 필터 (csddd.sharding.enabled=true일 때만 등록)
+ *
+ * X-HEADQUARTERS-ID 헤더의 본사가 매핑된 샤드를 요청 스레드의 ShardContext로 지정
+ * - 헤더가 없거나 숫자가 아니면 기본 샤드 (헤더 검증은 컨트롤러에서 수행)
+ * - 관리자 API 중 재채점/패킹 답변 이관은 헤더와 무관하게 전체 샤드를 차례로 처리
+ * - csddd.shard.requests: 샤드별 요청 수
+ *
+ * AOT 실행에서는 등록 여부가 processAot 시점 값으로 고정된다 (ShardingConditionGuard 참고).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "csddd.sharding", name = "enabled", havingValue = "true")
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    private static final String HEADQUARTERS_HEADER = "X-HEADQUARTERS-ID";
+
+    private final ShardingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String shard = properties.shardFor(parseHeadquartersId(request.getHeader(HEADQUARTERS_HEADER)));
+        Counter.builder("csddd.shard.requests")
+                .description("샤드별 요청 수")
+                .tag("shard", shard)
+                .register(meterRegistry)
+                .increment();
+
+        ShardContext.set(shard);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private Long parseHeadquartersId(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.nsmm.esg.csddd_service.filter;
+
+import com.nsmm.esg.csddd_service.util.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청 단위 SQL 실행 통계 필터
+ *
+ * API 요청마다 SQL 문장 수, 조회/변경 행 수, 실행 시간을 집계하여 지표로 기록
+ * - csddd.sql.statements / csddd.sql.rows: 요청당 분포 (method, uri 태그)
+ * - csddd.sql.time: 요청당 누적 SQL 실행 시간
+ *
+ * 응답 헤더 노출은 SqlStatsResponseAdvice에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.Snapshot snapshot = SqlStatementStats.end();
+            if (snapshot != null) {
+                record(request, snapshot);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats.Snapshot snapshot) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("csddd.sql.statements")
+                .description("요청당 SQL 실행 문장 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(snapshot.getStatements());
+
+        DistributionSummary.builder("csddd.sql.rows")
+                .description("요청당 SQL 조회/변경 행 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(snapshot.getRows());
+
+        Timer.builder("csddd.sql.time")
+                .description("요청당 누적 SQL 실행 시간")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(snapshot.getElapsedMillis()));
+    }
+}
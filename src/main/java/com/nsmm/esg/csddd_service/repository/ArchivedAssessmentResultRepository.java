@@ -0,0 +1,11 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.ArchivedAssessmentResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 자가진단 결과 콜드 저장소 (ArchivedAssessmentResult) 레포지터리
+ * - 이관된 결과 저장 및 ID 기반 조회 (권한 범위 판정은 SelfAssessmentResultRepository에서 핫/콜드 함께 수행)
+ */
+public interface ArchivedAssessmentResultRepository extends JpaRepository<ArchivedAssessmentResult, Long> {
+}
@@ -0,0 +1,50 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.AssessmentDetailSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 자가진단 결과 상세 스냅샷 (AssessmentDetailSnapshot) 레포지터리
+ * - 조회 권한 범위를 WHERE 절에 포함한 결과 ID 단건 조회 (SelfAssessmentResultRepository와 동일 조건)
+ * - 결과 변경 시 일괄 삭제
+ */
+public interface AssessmentDetailSnapshotRepository extends JpaRepository<AssessmentDetailSnapshot, Long> {
+
+    /**
+     * 본사 권한 범위 내 스냅샷 조회 (같은 본사의 결과만)
+     */
+    @Query("select s from AssessmentDetailSnapshot s where s.resultId = :id and s.headquartersId = :headquartersId")
+    Optional<AssessmentDetailSnapshot> findByIdInHeadquartersScope(@Param("id") Long id,
+                                                                   @Param("headquartersId") Long headquartersId);
+
+    /**
+     * 협력사 권한 범위 내 스냅샷 조회 (자신의 결과 또는 하위 협력사 결과)
+     *
+     * @param treePathPrefix LIKE 패턴 ('!' 이스케이프 적용 후 '%' 추가)
+     */
+    @Query("""
+            select s from AssessmentDetailSnapshot s
+            where s.resultId = :id
+              and s.headquartersId = :headquartersId
+              and (s.partnerId = :partnerId
+                   or (s.treePath like :treePathPrefix escape '!' and s.treePath <> :treePath))
+            """)
+    Optional<AssessmentDetailSnapshot> findByIdInPartnerScope(@Param("id") Long id,
+                                                              @Param("headquartersId") Long headquartersId,
+                                                              @Param("partnerId") Long partnerId,
+                                                              @Param("treePath") String treePath,
+                                                              @Param("treePathPrefix") String treePathPrefix);
+
+    /**
+     * 결과 ID 목록의 스냅샷 일괄 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from AssessmentDetailSnapshot s where s.resultId in :resultIds")
+    int deleteAllByResultIdIn(@Param("resultIds") Collection<Long> resultIds);
+}
@@ -0,0 +1,18 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.AssessmentResultHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 자가진단 결과 이력 (AssessmentResultHistory) 레포지터리
+ * - 제자리 갱신 제출 시 이전 버전 저장 및 결과별 이력 조회
+ */
+public interface AssessmentResultHistoryRepository extends JpaRepository<AssessmentResultHistory, Long> {
+
+    /**
+     * 결과의 이전 버전 목록 (최신 버전 순)
+     */
+    List<AssessmentResultHistory> findAllByResultIdOrderByVersionDesc(Long resultId);
+}
@@ -0,0 +1,36 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.CurrentAssessmentKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 현재 자가진단 결과 키 (CurrentAssessmentKey) 레포지터리
+ * - UPSERT 모드 제출 시 본사/협력사별 현재 결과 조회 및 최초 지정
+ * - 키가 최신 결과를 가리키지 않으면(APPEND 모드 제출, 이관된 결과) 조건부 갱신/삭제로 다시 지정
+ */
+public interface CurrentAssessmentKeyRepository extends JpaRepository<CurrentAssessmentKey, Long> {
+
+    /**
+     * 본사/협력사의 현재 결과 키 (본사 결과는 partnerKey = 0)
+     */
+    Optional<CurrentAssessmentKey> findByHeadquartersIdAndPartnerKey(Long headquartersId, Long partnerKey);
+
+    /**
+     * 키가 여전히 이전 결과를 가리킬 때만 다른 결과로 변경 (0이면 다른 제출이 먼저 변경함)
+     */
+    @Modifying
+    @Query("update CurrentAssessmentKey k set k.resultId = :resultId where k.id = :id and k.resultId = :previousResultId")
+    int repoint(@Param("id") Long id, @Param("previousResultId") Long previousResultId, @Param("resultId") Long resultId);
+
+    /**
+     * 키가 여전히 이전 결과를 가리킬 때만 삭제 (0이면 다른 제출이 먼저 변경함)
+     */
+    @Modifying
+    @Query("delete from CurrentAssessmentKey k where k.id = :id and k.resultId = :previousResultId")
+    int release(@Param("id") Long id, @Param("previousResultId") Long previousResultId);
+}
@@ -0,0 +1,17 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.RescoreCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 일괄 재채점 체크포인트 (RescoreCheckpoint) 레포지터리
+ */
+public interface RescoreCheckpointRepository extends JpaRepository<RescoreCheckpoint, Long> {
+
+    /**
+     * 가장 최근 작업 조회
+     */
+    Optional<RescoreCheckpoint> findFirstByOrderByIdDesc();
+}
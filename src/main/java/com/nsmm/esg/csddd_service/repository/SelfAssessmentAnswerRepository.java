@@ -2,6 +2,11 @@ package com.nsmm.esg.csddd_service.repository;
 
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 /**
  * 자가진단 답변 (SelfAssessmentAnswer) 레포지터리
@@ -9,4 +14,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface SelfAssessmentAnswerRepository extends JpaRepository<SelfAssessmentAnswer, Long> {
 
-}
\ No newline at end of file
+    /**
+     * 결과 ID 목록에 속한 답변 일괄 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from SelfAssessmentAnswer a where a.result.id in :resultIds")
+    int deleteAllByResultIdIn(@Param("resultIds") Collection<Long> resultIds);
+}
@@ -0,0 +1,28 @@
+package com.nsmm.esg.csddd_service.repository;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * 자가진단 결과 프로젝션 조회 (SelfAssessmentResultRepository 커스텀 프래그먼트)
+ * 필요한 컬럼만 SELECT하여 엔티티 로딩과 변경 감지 스냅샷을 생략
+ */
+public interface SelfAssessmentResultProjectionRepository {
+
+    /**
+     * Specification 조건으로 지정한 속성만 조회 (페이징)
+     *
+     * @param spec       검색 조건
+     * @param attributes 조회할 엔티티 속성명 (Tuple 별칭으로도 사용)
+     * @param pageable   페이징/정렬
+     * @return 속성별 값을 담은 Tuple 페이지
+     */
+    Page<Tuple> findAllProjected(Specification<SelfAssessmentResult> spec,
+                                 Collection<String> attributes,
+                                 Pageable pageable);
+}
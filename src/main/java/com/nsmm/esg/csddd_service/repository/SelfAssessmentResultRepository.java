@@ -1,15 +1,207 @@
 package com.nsmm.esg.csddd_service.repository;
 
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 자가진단 결과 (SelfAssessmentResult) 레포지터리
  * - 진단 결과 저장, 조회, 수정
  * - 조건 검색을 위한 Specification 기능 지원
+ * - 필요한 컬럼만 조회하는 프로젝션 목록 조회 (SelfAssessmentResultProjectionRepository)
+ * - 단건 조회 권한 범위 판정 (핫/콜드 저장소 위치와 권한 범위 포함 여부를 한 번에 조회)
+ * - 콜드 저장소 이관 대상 조회 및 일괄 삭제
+ * - 제자리 갱신 제출의 현재 결과 조회
  */
 public interface SelfAssessmentResultRepository extends JpaRepository<SelfAssessmentResult, Long>,
 
-                JpaSpecificationExecutor<SelfAssessmentResult> {
-}
\ No newline at end of file
+                JpaSpecificationExecutor<SelfAssessmentResult>,
+                SelfAssessmentResultProjectionRepository {
+
+    /**
+     * 본사 권한 범위 판정 (핫 테이블과 콜드 저장소를 기본키로 한 번씩 조회하는 UNION ALL 1회)
+     * 결과가 있으면 저장 위치와 권한 범위 포함 여부를 반환하며, 없으면 빈 목록 (404/403 구분에 사용)
+     */
+    @Query("""
+            select r.id as id, 'HOT' as location,
+                   case when r.headquartersId = :headquartersId then true else false end as inScope
+            from SelfAssessmentResult r
+            where r.id = :id
+            union all
+            select a.id, 'ARCHIVE',
+                   case when a.headquartersId = :headquartersId then true else false end
+            from ArchivedAssessmentResult a
+            where a.id = :id
+            """)
+    List<ResultScope> findScopeForHeadquarters(@Param("id") Long id,
+                                               @Param("headquartersId") Long headquartersId);
+
+    /**
+     * 협력사 권한 범위 판정 (자신의 결과 또는 하위 협력사 결과, 조건은 본사 판정과 같은 방식)
+     *
+     * @param treePathPrefix LIKE 패턴 ('!' 이스케이프 적용 후 '%' 추가)
+     */
+    @Query("""
+            select r.id as id, 'HOT' as location,
+                   case when r.headquartersId = :headquartersId
+                             and (r.partnerId = :partnerId
+                                  or (r.treePath like :treePathPrefix escape '!' and r.treePath <> :treePath))
+                        then true else false end as inScope
+            from SelfAssessmentResult r
+            where r.id = :id
+            union all
+            select a.id, 'ARCHIVE',
+                   case when a.headquartersId = :headquartersId
+                             and (a.partnerId = :partnerId
+                                  or (a.treePath like :treePathPrefix escape '!' and a.treePath <> :treePath))
+                        then true else false end
+            from ArchivedAssessmentResult a
+            where a.id = :id
+            """)
+    List<ResultScope> findScopeForPartner(@Param("id") Long id,
+                                          @Param("headquartersId") Long headquartersId,
+                                          @Param("partnerId") Long partnerId,
+                                          @Param("treePath") String treePath,
+                                          @Param("treePathPrefix") String treePathPrefix);
+
+    /**
+     * 본사/협력사의 가장 최근 생성 결과 조회 (제자리 갱신 제출에서 현재 결과 키가 없는 경우)
+     * partnerId가 null이면 본사 자체 결과(partner_id is null)를 조회
+     */
+    Optional<SelfAssessmentResult> findFirstByHeadquartersIdAndPartnerIdOrderByCreatedAtDescIdDesc(
+            Long headquartersId, Long partnerId);
+
+    /**
+     * 이관 대상 결과 ID 조회 (ID 오름차순 키셋 페이징)
+     * 기준 시각 이전에 생성되었고, 같은 본사/협력사의 더 최근 결과로 대체된 결과만 대상
+     */
+    @Query("""
+            select r.id from SelfAssessmentResult r
+            where r.id > :afterId
+              and r.createdAt < :cutoff
+              and exists (
+                  select n.id from SelfAssessmentResult n
+                  where n.headquartersId = r.headquartersId
+                    and (n.partnerId = r.partnerId or (n.partnerId is null and r.partnerId is null))
+                    and n.createdAt > r.createdAt)
+            order by r.id
+            """)
+    List<Long> findSupersededIds(@Param("afterId") Long afterId,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    /**
+     * 협력사별 최신 완료 결과 점수 조회 (점수 백분위 색인 구성용)
+     * 같은 본사/협력사의 더 최근(생성 일시, 같으면 ID 기준) 완료 결과가 없는 결과만 대상
+     */
+    @Query("""
+            select r.headquartersId as headquartersId, r.partnerId as partnerId, r.id as resultId,
+                   r.version as version, r.score as score
+            from SelfAssessmentResult r
+            where r.partnerId is not null
+              and r.status = com.nsmm.esg.csddd_service.enums.AssessmentStatus.COMPLETED
+              and not exists (
+                  select n.id from SelfAssessmentResult n
+                  where n.headquartersId = r.headquartersId
+                    and n.partnerId = r.partnerId
+                    and n.status = com.nsmm.esg.csddd_service.enums.AssessmentStatus.COMPLETED
+                    and (n.createdAt > r.createdAt or (n.createdAt = r.createdAt and n.id > r.id)))
+            """)
+    List<LatestPartnerScore> findLatestPartnerScores();
+
+    /**
+     * 조직(본사/협력사)별 최신 완료 결과의 위험 지표 조회 (treePath 위험 집계 색인 구성용)
+     * 본사 자체 결과(partnerId 없음)도 포함
+     */
+    @Query("""
+            select r.headquartersId as headquartersId, r.partnerId as partnerId, r.id as resultId,
+                   r.version as version, r.treePath as treePath, r.score as score, r.finalGrade as finalGrade,
+                   r.criticalViolationCount as criticalViolationCount
+            from SelfAssessmentResult r
+            where r.status = com.nsmm.esg.csddd_service.enums.AssessmentStatus.COMPLETED
+              and not exists (
+                  select n.id from SelfAssessmentResult n
+                  where n.headquartersId = r.headquartersId
+                    and (n.partnerId = r.partnerId or (n.partnerId is null and r.partnerId is null))
+                    and n.status = com.nsmm.esg.csddd_service.enums.AssessmentStatus.COMPLETED
+                    and (n.createdAt > r.createdAt or (n.createdAt = r.createdAt and n.id > r.id)))
+            """)
+    List<LatestResultRisk> findLatestResultRisks();
+
+    /**
+     * 답변 목록을 함께 로딩하는 결과 조회
+     */
+    @Query("select distinct r from SelfAssessmentResult r left join fetch r.answers where r.id in :ids")
+    List<SelfAssessmentResult> findAllWithAnswersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 결과 일괄 삭제 (답변은 SelfAssessmentAnswerRepository에서 먼저 삭제해야 함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SelfAssessmentResult r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 단건 조회 권한 범위 판정 프로젝션
+     */
+    interface ResultScope {
+
+        Long getId();
+
+        String getLocation(); // HOT: 자가진단 결과 테이블, ARCHIVE: 콜드 저장소
+
+        Boolean getInScope();
+
+        default boolean isArchived() {
+            return "ARCHIVE".equals(getLocation());
+        }
+    }
+
+    /**
+     * 협력사별 최신 점수 프로젝션
+     */
+    interface LatestPartnerScore {
+
+        Long getHeadquartersId();
+
+        Long getPartnerId();
+
+        Long getResultId();
+
+        Long getVersion();
+
+        double getScore();
+    }
+
+    /**
+     * 조직별 최신 결과 위험 지표 프로젝션
+     */
+    interface LatestResultRisk {
+
+        Long getHeadquartersId();
+
+        Long getPartnerId();
+
+        Long getResultId();
+
+        Long getVersion();
+
+        String getTreePath();
+
+        double getScore();
+
+        AssessmentGrade getFinalGrade();
+
+        Integer getCriticalViolationCount();
+    }
+}
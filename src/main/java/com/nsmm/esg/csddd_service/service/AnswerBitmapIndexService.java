@@ -0,0 +1,193 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.AnswerIndexProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.AnswerQueryMatchResponse;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.util.AnswerBitSet;
+import com.nsmm.esg.csddd_service.util.AnswerQuery;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 문항 답변 역색인 서비스
+ *
+ * "1.1과 4.4에 NO, 2.2에 YES로 답한 협력사" 같은 조건 조회를 조건마다 답변 테이블 자기 조인 없이
+ * 본사별 (문항, 답변) → 협력사 비트맵의 AND/OR/NOT 연산으로 처리한다.
+ * - 본사별로 협력사에 0부터 순서대로 슬롯 번호를 부여하고, 비트맵은 슬롯 번호 기준 BitSet
+ *   (슬롯이 조밀하므로 비트맵 크기는 본사 협력사 수 비트)
+ * - 협력사별 최신 완료 결과 1건만 반영하며, 새 결과 제출 시 해당 슬롯의 비트를 다시 설정
+ * - 기동 시 DB에서 구성, 제출 커밋 이후 갱신, 정기 재구성(csddd.answer-index.rebuild-interval)으로
+ *   다른 인스턴스 제출 반영 (재채점은 답변을 바꾸지 않으므로 재구성 대상이 아니다)
+ * - 조회 결과는 협력사 ID 오름차순으로 페이지 처리
+ * - 구성/재구성/이벤트 반영 절차는 HeadquartersIndexService 공통 (csddd.answer-index.rebuild: 색인 구성 시간)
+ */
+@Slf4j
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AnswerBitmapIndexService extends HeadquartersIndexService<AnswerBitmapIndexService.HeadquartersBitmaps> {
+
+    private final LatestPartnerAnswerLoader answerLoader;
+
+    public AnswerBitmapIndexService(LatestPartnerAnswerLoader answerLoader,
+                                    ShardingProperties shardingProperties,
+                                    AnswerIndexProperties properties,
+                                    MeterRegistry meterRegistry) {
+        super(properties, shardingProperties, meterRegistry, "csddd.answer-index.rebuild", "답변 역색인");
+        this.answerLoader = answerLoader;
+    }
+
+    /**
+     * 본사 협력사 중 답변 조건을 만족하는 협력사 조회
+     *
+     * @param expression 답변 조건 (예: "1.1:NO AND (4.4:NO OR NOT 2.2:YES)")
+     * @return 비활성화된 경우 빈 값
+     * @throws IllegalArgumentException 질의 문법 오류, 알 수 없는 문항, 조건 수 초과
+     */
+    public Optional<Page<AnswerQueryMatchResponse>> query(Long headquartersId, String expression, Pageable pageable) {
+        if (!isEnabled() || headquartersId == null) {
+            return Optional.empty();
+        }
+        AnswerQuery query = AnswerQuery.parse(expression, currentQuestionnaire());
+        HeadquartersBitmaps bitmaps = indexOf(headquartersId);
+        if (bitmaps == null) {
+            return Optional.of(Page.empty(pageable));
+        }
+        Page<AnswerQueryMatchResponse> page = bitmaps.query(query, pageable);
+        log.debug("답변 조건 조회: 본사ID={}, 질의={}, {}건", headquartersId, query, page.getTotalElements());
+        return Optional.of(page);
+    }
+
+    // ============================================================================
+    // 색인 구성/갱신 (Index Hooks)
+    // ============================================================================
+
+    /**
+     * 본사 자체 결과는 조회 대상이 아님
+     */
+    @Override
+    protected boolean accepts(AssessmentCompletedEvent event) {
+        return event.partnerId() != null;
+    }
+
+    @Override
+    protected void loadShard(Map<Long, HeadquartersBitmaps> target) {
+        QuestionnaireCatalog.Questionnaire questionnaire = currentQuestionnaire();
+        answerLoader.forEachLatest(questionnaire, (headquartersId, partnerId, revision, answers) -> target
+                .computeIfAbsent(headquartersId, key -> new HeadquartersBitmaps(questionnaire.size()))
+                .update(partnerId, revision, answers));
+    }
+
+    @Override
+    protected void apply(Map<Long, HeadquartersBitmaps> target, AssessmentCompletedEvent event) {
+        target.computeIfAbsent(event.headquartersId(), key -> new HeadquartersBitmaps(currentQuestionnaire().size()))
+                .update(event.partnerId(), event.revision(), event.answers());
+    }
+
+    @Override
+    protected String summarize(Map<Long, HeadquartersBitmaps> built) {
+        return "본사 %d곳, 협력사 %d곳".formatted(
+                built.size(), built.values().stream().mapToInt(HeadquartersBitmaps::size).sum());
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private static QuestionnaireCatalog.Questionnaire currentQuestionnaire() {
+        return QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+    }
+
+    /**
+     * 본사 1곳의 협력사 슬롯과 (문항, 답변)별 슬롯 비트맵
+     */
+    static final class HeadquartersBitmaps implements AnswerQuery.Bitmaps {
+
+        private final BitSet[] yesBits;
+        private final BitSet[] noBits;
+        private final BitSet present = new BitSet();
+        private final Map<Long, Integer> slotByPartner = new HashMap<>();
+        private final List<Long> partnerBySlot = new ArrayList<>();
+        private final List<ResultRevision> revisionBySlot = new ArrayList<>();
+
+        private HeadquartersBitmaps(int questionCount) {
+            this.yesBits = new BitSet[questionCount];
+            this.noBits = new BitSet[questionCount];
+            for (int ordinal = 0; ordinal < questionCount; ordinal++) {
+                yesBits[ordinal] = new BitSet();
+                noBits[ordinal] = new BitSet();
+            }
+        }
+
+        /**
+         * 협력사 최신 답변 반영 (이미 더 최근 결과가 반영되어 있으면 무시)
+         */
+        private synchronized void update(Long partnerId, ResultRevision revision, AnswerBitSet answers) {
+            Integer slot = slotByPartner.get(partnerId);
+            if (slot == null) {
+                slot = partnerBySlot.size();
+                slotByPartner.put(partnerId, slot);
+                partnerBySlot.add(partnerId);
+                revisionBySlot.add(revision);
+            } else {
+                if (!revision.isNewerThan(revisionBySlot.get(slot))) {
+                    return;
+                }
+                revisionBySlot.set(slot, revision);
+            }
+
+            present.set(slot);
+            for (int ordinal = 0; ordinal < yesBits.length; ordinal++) {
+                boolean answered = answers.isAnswered(ordinal);
+                yesBits[ordinal].set(slot, answered && answers.isYes(ordinal));
+                noBits[ordinal].set(slot, answered && !answers.isYes(ordinal));
+            }
+        }
+
+        private synchronized Page<AnswerQueryMatchResponse> query(AnswerQuery query, Pageable pageable) {
+            BitSet matched = query.evaluate(this);
+            List<AnswerQueryMatchResponse> matches = new ArrayList<>(matched.cardinality());
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                matches.add(AnswerQueryMatchResponse.builder()
+                        .partnerId(partnerBySlot.get(slot))
+                        .resultId(revisionBySlot.get(slot).resultId())
+                        .build());
+            }
+            matches.sort(Comparator.comparing(AnswerQueryMatchResponse::getPartnerId));
+
+            int from = (int) Math.min(pageable.getOffset(), matches.size());
+            int to = Math.min(from + pageable.getPageSize(), matches.size());
+            return new PageImpl<>(new ArrayList<>(matches.subList(from, to)), pageable, matches.size());
+        }
+
+        @Override
+        public BitSet matching(int ordinal, boolean yes) {
+            return (BitSet) (yes ? yesBits[ordinal] : noBits[ordinal]).clone();
+        }
+
+        @Override
+        public BitSet universe() {
+            return (BitSet) present.clone();
+        }
+
+        private synchronized int size() {
+            return partnerBySlot.size();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.ArchivalProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.entity.ArchivedAssessmentResult;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.ArchivedAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentAnswerRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CSDDD 자가진단 결과 콜드 저장소 이관 서비스
+ *
+ * 같은 본사/협력사의 최신 결과로 대체되었고 설정된 기간이 지난 결과를
+ * self_assessment_result_archive 테이블로 이관하고 핫 테이블의 결과/답변 행과 상세 스냅샷을 삭제
+ *
+ * - 청크 단위 트랜잭션 + 청크 간 대기로 운영 트래픽 영향 최소화
+ * - 동시에 하나의 이관 작업만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentArchivalService {
+
+    private final SelfAssessmentResultRepository resultRepository;
+    private final SelfAssessmentAnswerRepository answerRepository;
+    private final ArchivedAssessmentResultRepository archivedResultRepository;
+    private final AssessmentSnapshotService snapshotService;
+    private final ArchivalProperties properties;
+    private final ShardingProperties shardingProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 정기 이관 실행 (기본: 매일 03시, 샤드 라우팅 사용 시 샤드별로 차례대로 실행)
+     */
+    @Scheduled(cron = "${csddd.archival.cron:0 0 3 * * *}")
+    public void scheduledArchival() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        shardingProperties.shardKeys().forEach(shard -> ShardContext.runIn(shard, this::archiveSupersededResults));
+    }
+
+    /**
+     * 대체된 오래된 결과 이관
+     *
+     * @return 이관된 결과 건수
+     */
+    public int archiveSupersededResults() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("콜드 저장소 이관 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMaxAge());
+            log.info("콜드 저장소 이관 시작: 기준일시={}, 청크크기={}", cutoff, properties.getChunkSize());
+
+            long afterId = 0L;
+            int archived = 0;
+            int chunks = 0;
+
+            while (properties.getMaxChunksPerRun() <= 0 || chunks < properties.getMaxChunksPerRun()) {
+                List<Long> ids = resultRepository.findSupersededIds(
+                        afterId, cutoff, PageRequest.of(0, properties.getChunkSize()));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer moved = transactionTemplate.execute(status -> archiveChunk(ids));
+                archived += moved != null ? moved : 0;
+                afterId = ids.get(ids.size() - 1);
+                chunks++;
+
+                pauseBetweenChunks();
+            }
+
+            log.info("콜드 저장소 이관 완료: 이관건수={}, 청크수={}", archived, chunks);
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 청크 1개 이관 (하나의 트랜잭션 내에서 실행)
+     */
+    private int archiveChunk(List<Long> ids) {
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<SelfAssessmentResult> results = resultRepository.findAllWithAnswersByIdIn(ids);
+
+        archivedResultRepository.saveAll(results.stream()
+                .map(result -> ArchivedAssessmentResult.from(result, archivedAt))
+                .toList());
+
+        snapshotService.delete(ids);
+        answerRepository.deleteAllByResultIdIn(ids);
+        resultRepository.deleteAllByIdIn(ids);
+
+        log.debug("콜드 저장소 청크 이관: {}건 (ID {} ~ {})", results.size(), ids.get(0), ids.get(ids.size() - 1));
+        return results.size();
+    }
+
+    private void pauseBetweenChunks() {
+        long pauseMillis = properties.getPauseBetweenChunks().toMillis();
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("콜드 저장소 이관 작업이 중단되었습니다.", e);
+        }
+    }
+}
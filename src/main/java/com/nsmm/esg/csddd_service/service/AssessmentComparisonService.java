@@ -0,0 +1,128 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.dto.response.AssessmentComparisonResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.util.AnswerBitSet;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * CSDDD 자가진단 결과 비교 서비스
+ *
+ * 기준 결과 1건과 비교 대상 결과 여러 건(같은 협력사의 이전 분기, 형제 협력사 등)을 비교한다.
+ * 각 결과의 답변/중대위반을 문항 ordinal 기준 비트 집합(AnswerBitSet)으로 인코딩하고
+ * 바뀐 답변, 발생/해소된 중대위반을 비트 연산으로 계산한다.
+ *
+ * - 결과 조회는 단건 상세 조회와 같은 권한 검사를 거치므로 권한 범위 밖 결과는 403/404
+ * - 비교 기준 문항 버전은 기준 결과의 문항 버전 (없으면 현재 버전)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentComparisonService {
+
+    /**
+     * 한 번에 비교할 수 있는 대상 결과 수
+     */
+    public static final int MAX_TARGETS = 20;
+
+    private final SelfAssessmentService selfAssessmentService;
+
+    /**
+     * 기준 결과와 비교 대상 결과들의 차이 계산
+     *
+     * @throws IllegalArgumentException 비교 대상이 없거나 한도를 넘는 경우, 결과를 찾을 수 없는 경우
+     * @throws SecurityException        권한 범위 밖의 결과가 포함된 경우
+     */
+    @Transactional(readOnly = true)
+    public AssessmentComparisonResponse compare(
+            Long baselineId,
+            List<Long> targetIds,
+            String userType,
+            Long headquartersId,
+            Long partnerId,
+            String treePath) {
+        List<Long> targets = targetIds != null ? targetIds.stream().distinct().toList() : List.of();
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("비교할 자가진단 결과를 하나 이상 지정해주세요.");
+        }
+        if (targets.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException("한 번에 비교할 수 있는 결과는 최대 " + MAX_TARGETS + "건입니다.");
+        }
+        if (targets.contains(baselineId)) {
+            throw new IllegalArgumentException("기준 결과는 비교 대상에 포함할 수 없습니다.");
+        }
+
+        log.info("자가진단 결과 비교: 기준ID={}, 대상 {}건, 사용자유형={}", baselineId, targets.size(), userType);
+
+        SelfAssessmentResult baseline = selfAssessmentService.getSelfAssessmentResult(
+                baselineId, userType, headquartersId, partnerId, treePath);
+        QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(
+                baseline.getQuestionnaireVersion() != null
+                        ? baseline.getQuestionnaireVersion() : QuestionnaireCatalog.CURRENT_VERSION);
+        AnswerBitSet baselineBits = AnswerBitSet.of(baseline, questionnaire);
+
+        List<AssessmentComparisonResponse.Comparison> comparisons = new ArrayList<>(targets.size());
+        for (Long targetId : targets) {
+            SelfAssessmentResult target = selfAssessmentService.getSelfAssessmentResult(
+                    targetId, userType, headquartersId, partnerId, treePath);
+            AnswerBitSet.Diff diff = baselineBits.diff(AnswerBitSet.of(target, questionnaire));
+            comparisons.add(toComparison(baseline, target, diff, questionnaire));
+        }
+
+        return AssessmentComparisonResponse.builder()
+                .questionnaireVersion(questionnaire.getVersion())
+                .baseline(AssessmentComparisonResponse.ComparedResult.from(baseline))
+                .comparisons(comparisons)
+                .build();
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private AssessmentComparisonResponse.Comparison toComparison(
+            SelfAssessmentResult baseline,
+            SelfAssessmentResult target,
+            AnswerBitSet.Diff diff,
+            QuestionnaireCatalog.Questionnaire questionnaire) {
+        return AssessmentComparisonResponse.Comparison.builder()
+                .target(AssessmentComparisonResponse.ComparedResult.from(target))
+                .scoreDelta(target.getScore() - baseline.getScore())
+                .gradeDelta(gradeDelta(baseline.getFinalGrade(), target.getFinalGrade()))
+                .changedCount(diff.flippedToYes().cardinality() + diff.flippedToNo().cardinality())
+                .flippedToYes(questionIds(diff.flippedToYes(), questionnaire))
+                .flippedToNo(questionIds(diff.flippedToNo(), questionnaire))
+                .criticalAppeared(questionIds(diff.criticalAppeared(), questionnaire))
+                .criticalCleared(questionIds(diff.criticalCleared(), questionnaire))
+                .answeredOnlyInBaseline(questionIds(diff.answeredOnlyInBaseline(), questionnaire))
+                .answeredOnlyInTarget(questionIds(diff.answeredOnlyInTarget(), questionnaire))
+                .build();
+    }
+
+    /**
+     * 등급 변화 단계 (D < C < B < A, 등급이 없으면 0)
+     */
+    private int gradeDelta(AssessmentGrade baseline, AssessmentGrade target) {
+        if (baseline == null || target == null) {
+            return 0;
+        }
+        return target.ordinal() - baseline.ordinal();
+    }
+
+    private List<String> questionIds(BitSet bits, QuestionnaireCatalog.Questionnaire questionnaire) {
+        List<String> questionIds = new ArrayList<>(bits.cardinality());
+        for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            questionIds.add(questionnaire.getQuestions().get(ordinal).questionId());
+        }
+        return questionIds;
+    }
+}
@@ -0,0 +1,334 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.csddd_service.config.FeedProperties;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSDDD 자가진단 결과 변경 피드 (Server-Sent Events)
+ *
+ * 제출 트랜잭션 커밋 이후 AssessmentCompletedEvent를 받아 구독 범위(본사/하위 협력사)가
+ * 일치하는 구독자에게 결과 요약을 전달한다.
+ *
+ * - 이벤트마다 인스턴스 내 순번을 부여하고 최근 이벤트를 링 버퍼에 보관
+ * - 이벤트 ID(에포크-순번)를 커서로 재연결 시 누락분을 재전송
+ *   (서버 재시작 또는 버퍼를 벗어난 커서는 reset 이벤트로 목록 재조회를 안내)
+ * - 구독자별 대기열은 고정 크기이며, 가득 차면 느린 구독자로 보고 연결을 종료
+ * - 이벤트 JSON은 한 번만 직렬화하여 모든 구독자가 공유
+ */
+@Slf4j
+@Service
+public class AssessmentFeedService {
+
+    public static final String COMPLETED_EVENT = "assessment-completed";
+    public static final String RESET_EVENT = "reset";
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment("ping").build();
+
+    private final FeedProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Object publishLock = new Object();
+    private final FeedEntry[] replayBuffer;
+    private long lastSequence; // publishLock으로 보호
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final Counter droppedSubscribers;
+
+    public AssessmentFeedService(FeedProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.replayBuffer = new FeedEntry[Math.max(1, properties.getReplayBufferSize())];
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, properties.getDispatchThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "csddd-feed-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("csddd.feed.subscribers", subscribers, Set::size)
+                .description("변경 피드 동시 구독자 수")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("csddd.feed.dropped")
+                .description("대기열 초과로 연결이 종료된 느린 구독자 수")
+                .register(meterRegistry);
+    }
+
+    // ============================================================================
+    // 구독 (Subscribe)
+    // ============================================================================
+
+    /**
+     * 변경 피드 구독
+     *
+     * @param scope       구독 범위
+     * @param lastEventId 마지막으로 수신한 이벤트 ID (없으면 이후 이벤트만 수신)
+     * @return SSE 연결
+     * @throws IllegalStateException 동시 구독자 수 한도 초과
+     */
+    public SseEmitter subscribe(FeedScope scope, String lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new IllegalStateException("변경 피드 구독자 수가 한도를 초과했습니다.");
+        }
+
+        Subscriber subscriber = new Subscriber(createEmitter(), scope, properties.getSubscriberQueueCapacity());
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        // 재전송과 등록을 발행과 같은 잠금에서 수행하여 누락/중복 없이 실시간 수신으로 전환
+        synchronized (publishLock) {
+            replay(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+        if (subscriber.closed.get()) {
+            subscribers.remove(subscriber); // 등록 전에 연결이 종료된 경우
+        }
+        enqueue(subscriber, HEARTBEAT); // 응답 헤더 즉시 전송
+
+        log.debug("변경 피드 구독: 범위={}, 커서={}", scope, lastEventId);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 구독자 SSE 연결 생성 (테스트에서 전송 내용을 기록하는 연결로 재정의)
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.getEmitterTimeout().toMillis());
+    }
+
+    // ============================================================================
+    // 이벤트 발행 (Publish)
+    // ============================================================================
+
+    /**
+     * 제출 트랜잭션 커밋 후 구독자에게 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAssessmentCompleted(AssessmentCompletedEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event.summary());
+        } catch (JsonProcessingException e) {
+            log.warn("변경 피드 이벤트 직렬화 실패: 결과ID={}", event.resultId(), e);
+            return;
+        }
+
+        synchronized (publishLock) {
+            long sequence = ++lastSequence;
+            String eventId = epoch + "-" + sequence;
+            FeedEntry entry = new FeedEntry(event, SseEmitter.event()
+                    .id(eventId)
+                    .name(COMPLETED_EVENT)
+                    .data(json)
+                    .build());
+            replayBuffer[(int) (sequence % replayBuffer.length)] = entry;
+
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.scope.matches(event)) {
+                    enqueue(subscriber, entry.payload);
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결 유지용 heartbeat (끊어진 연결 정리 겸용)
+     */
+    @Scheduled(fixedDelayString = "${csddd.feed.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdownNow();
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    /**
+     * 커서 이후 이벤트 재전송 (publishLock 보유 상태에서 호출)
+     */
+    private void replay(Subscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        long cursor = parseCursor(lastEventId);
+        long oldestBuffered = Math.max(1, lastSequence - replayBuffer.length + 1);
+        if (cursor < 0 || cursor > lastSequence || cursor + 1 < oldestBuffered) {
+            enqueue(subscriber, resetEvent());
+            return;
+        }
+
+        int matching = 0;
+        for (long sequence = cursor + 1; sequence <= lastSequence; sequence++) {
+            if (subscriber.scope.matches(entryAt(sequence).event)) {
+                matching++;
+            }
+        }
+        if (matching >= properties.getSubscriberQueueCapacity()) {
+            enqueue(subscriber, resetEvent());
+            return;
+        }
+
+        for (long sequence = cursor + 1; sequence <= lastSequence; sequence++) {
+            FeedEntry entry = entryAt(sequence);
+            if (subscriber.scope.matches(entry.event)) {
+                enqueue(subscriber, entry.payload);
+            }
+        }
+    }
+
+    /**
+     * 이벤트 ID에서 순번 추출 (다른 에포크이거나 형식 오류이면 -1)
+     */
+    private long parseCursor(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator <= 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private FeedEntry entryAt(long sequence) {
+        return replayBuffer[(int) (sequence % replayBuffer.length)];
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> resetEvent() {
+        synchronized (publishLock) {
+            return SseEmitter.event()
+                    .id(epoch + "-" + lastSequence)
+                    .name(RESET_EVENT)
+                    .data("커서 이후 이벤트를 재전송할 수 없습니다. 목록을 다시 조회하세요.")
+                    .build();
+        }
+    }
+
+    /**
+     * 구독자 대기열에 추가 (가득 차면 느린 구독자로 보고 연결 종료)
+     */
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(payload)) {
+            droppedSubscribers.increment();
+            log.info("느린 변경 피드 구독자 연결 종료: 범위={}", subscriber.scope);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 대기열 전송 (구독자당 동시에 하나의 전송 작업만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> payload;
+            while ((payload = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(payload);
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscriber);
+                    return;
+                }
+            }
+            subscriber.scheduled.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        }
+    }
+
+    /**
+     * 구독 범위 (상세 조회 권한과 동일한 기준)
+     * - 본사: 같은 본사의 모든 결과
+     * - 협력사: 자신의 결과 또는 하위 협력사(treePath 하위) 결과
+     */
+    public record FeedScope(String userType, Long headquartersId, Long partnerId, String treePath) {
+
+        public static FeedScope of(String userType, Long headquartersId, Long partnerId, String treePath) {
+            if (!"HEADQUARTERS".equalsIgnoreCase(userType) && !"PARTNER".equalsIgnoreCase(userType)) {
+                throw new IllegalArgumentException("유효하지 않은 사용자 유형입니다.");
+            }
+            if (headquartersId == null) {
+                throw new IllegalArgumentException("본사 ID가 필요합니다.");
+            }
+            return new FeedScope(userType.toUpperCase(), headquartersId, partnerId, treePath);
+        }
+
+        boolean matches(AssessmentCompletedEvent event) {
+            if (!headquartersId.equals(event.headquartersId())) {
+                return false;
+            }
+            if ("HEADQUARTERS".equals(userType)) {
+                return true;
+            }
+            if (partnerId != null && partnerId.equals(event.partnerId())) {
+                return true;
+            }
+            return treePath != null && event.treePath() != null
+                    && event.treePath().startsWith(treePath) && !event.treePath().equals(treePath);
+        }
+    }
+
+    private record FeedEntry(AssessmentCompletedEvent event, Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final FeedScope scope;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        Subscriber(SseEmitter emitter, FeedScope scope, int queueCapacity) {
+            this.emitter = emitter;
+            this.scope = scope;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        }
+    }
+}
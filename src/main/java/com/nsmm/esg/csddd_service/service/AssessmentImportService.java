@@ -0,0 +1,592 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.AnswerStorageProperties;
+import com.nsmm.esg.csddd_service.config.ImportProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.ImportStatusResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AnswerRowStorage;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.enums.ImportStatus;
+import com.nsmm.esg.csddd_service.util.CsvLines;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 과거 자가진단 CSV 일괄 가져오기 서비스
+ *
+ * 스프레드시트로 관리하던 과거 자가진단을 제출 API를 거치지 않고 대량으로 저장한다.
+ *
+ * 1. 헤더 검증 후 백그라운드에서 파일을 한 줄씩 스트리밍으로 읽어 청크(csddd.import.chunk-size) 단위로 처리
+ * 2. 청크의 행을 ForkJoinPool에서 병렬로 파싱하고 GradeCalculator로 채점
+ *    (다음 청크 파싱은 이전 청크 저장과 동시에 진행)
+ * 3. 본사 ID의 샤드별로 결과/답변 행을 JDBC 배치 INSERT하고 같은 트랜잭션에서 상세 스냅샷 생성
+ * 4. 검증/채점에 실패한 행은 원본 행 + 행 번호 + 사유로 거절 파일에 기록 (수정 후 다시 가져올 수 있음)
+ * 5. 완료 후 메모리 색인(점수 백분위, 공급망 위험, 문항 히트맵, 답변 역색인) 재구성
+ *
+ * CSV 형식 (헤더 필수, 열 순서 무관):
+ * - headquarters_id, tree_path, company_name, user_type(HEADQUARTERS/PARTNER), created_at: 필수
+ * - partner_id(협력사만), completed_at(없으면 created_at): 선택
+ * - 문항 ID 열(1.1, 1.2, ...): YES/NO (Y/N, TRUE/FALSE, 1/0), 빈 값은 미답변
+ * - 그 외 열은 무시
+ *
+ * - 생성/완료 일시는 원본 값을 그대로 저장 (수정 일시는 완료 일시)
+ * - 문항 버전 구성과 일치하는 행은 패킹 답변으로 저장하며, 답변 행 저장은 csddd.answers.row-storage 정책을 따름
+ * - 과거 데이터이므로 완료 이벤트(변경 피드)는 발행하지 않음
+ * - csddd.import.rows(result=imported/rejected): 처리 건수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentImportService {
+
+    private static final String INSERT_RESULT = """
+            insert into self_assessment_results
+            (headquarters_id, partner_id, tree_path, company_name, user_type, score, actual_score,
+             total_possible_score, status, final_grade, summary, recommendations, critical_violation_count,
+             no_answer_count, rule_version, questionnaire_version, packed_answers, created_at, updated_at, completed_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ANSWER = """
+            insert into self_assessment_answer
+            (result_id, question_id, category, answer, weight, critical_violation, critical_grade, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("headquarters_id", "tree_path", "company_name", "user_type", "created_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GradeCalculator gradeCalculator;
+    private final AssessmentSnapshotService snapshotService;
+    private final ShardingProperties shardingProperties;
+    private final AnswerStorageProperties answerStorageProperties;
+    private final ImportProperties properties;
+    private final ScorePercentileService scorePercentileService;
+    private final TreeRiskRollupService treeRiskRollupService;
+    private final QuestionHeatmapService questionHeatmapService;
+    private final AnswerBitmapIndexService answerBitmapIndexService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csddd-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ImportJob lastJob;
+
+    /**
+     * 가져오기 작업 시작 (백그라운드 실행)
+     *
+     * @param fileName csddd.import.directory 기준 CSV 파일명
+     * @return 시작된 작업 상태
+     * @throws IllegalArgumentException 파일이 없거나 디렉터리 밖을 가리키는 경우, 헤더가 올바르지 않은 경우
+     * @throws IllegalStateException    이미 실행 중인 경우
+     */
+    public ImportStatusResponse start(String fileName) {
+        return start(fileName, jobExecutor);
+    }
+
+    /**
+     * 지정한 실행기로 가져오기 작업 시작 (테스트에서 동기 실행 시 사용)
+     */
+    ImportStatusResponse start(String fileName, Executor executor) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("가져오기 작업이 이미 실행 중입니다.");
+        }
+
+        try {
+            Path file = resolve(fileName);
+            QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+            BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            CsvLayout layout;
+            String header;
+            try {
+                header = reader.readLine();
+                layout = CsvLayout.of(header, questionnaire);
+            } catch (RuntimeException | IOException e) {
+                reader.close();
+                throw e;
+            }
+
+            Path rejectFile = file.resolveSibling(file.getFileName() + ".rejected.csv");
+            ImportJob job = new ImportJob(file.getFileName().toString(), rejectFile.getFileName().toString());
+            lastJob = job;
+            executor.execute(() -> run(job, reader, header, layout, rejectFile));
+            return toResponse(job);
+        } catch (IOException e) {
+            running.set(false);
+            throw new IllegalArgumentException("가져올 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 가장 최근 작업 상태
+     */
+    public Optional<ImportStatusResponse> latest() {
+        ImportJob job = lastJob;
+        return job != null ? Optional.of(toResponse(job)) : Optional.empty();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // ============================================================================
+    // 작업 실행 (Job Execution)
+    // ============================================================================
+
+    private void run(ImportJob job, BufferedReader reader, String header, CsvLayout layout, Path rejectFile) {
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool parsingPool = new ForkJoinPool(parallelism);
+        Counter imported = Counter.builder("csddd.import.rows")
+                .description("CSV 일괄 가져오기 처리 건수")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("csddd.import.rows")
+                .description("CSV 일괄 가져오기 처리 건수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+
+        log.info("가져오기 시작: 파일={}, 병렬도={}, 청크크기={}", job.file, parallelism, properties.getChunkSize());
+
+        try (reader; BufferedWriter rejects = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8)) {
+            rejects.write(header + ",_line,_error");
+            rejects.newLine();
+
+            long[] lineNumber = {1};
+            List<RawLine> first = readChunk(reader, lineNumber);
+            CompletableFuture<List<ParsedRow>> parsing = first.isEmpty() ? null : parseAsync(first, layout, parsingPool);
+            while (parsing != null && !Thread.currentThread().isInterrupted()) {
+                List<ParsedRow> parsed = parsing.join();
+                List<RawLine> next = readChunk(reader, lineNumber);
+                parsing = next.isEmpty() ? null : parseAsync(next, layout, parsingPool);
+
+                List<ParsedRow> accepted = parsed.stream().filter(row -> row.error() == null).toList();
+                writeChunk(accepted);
+                for (ParsedRow row : parsed) {
+                    if (row.error() != null) {
+                        rejects.write(row.line().text() + "," + row.line().number() + "," + CsvLines.quote(row.error()));
+                        rejects.newLine();
+                    }
+                }
+
+                job.readRows.addAndGet(parsed.size());
+                job.importedRows.addAndGet(accepted.size());
+                job.rejectedRows.addAndGet(parsed.size() - accepted.size());
+                imported.increment(accepted.size());
+                rejected.increment(parsed.size() - accepted.size());
+                log.debug("가져오기 청크 반영: 저장 {}건, 거절 {}건 (누적 {}행)",
+                        accepted.size(), parsed.size() - accepted.size(), job.readRows.get());
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                job.fail("가져오기가 중단되었습니다.");
+                log.warn("가져오기 중단: 파일={}, {}행까지 처리", job.file, job.readRows.get());
+                return;
+            }
+
+            job.complete();
+            log.info("가져오기 완료: 파일={}, 저장 {}건, 거절 {}건, {}행/초",
+                    job.file, job.importedRows.get(), job.rejectedRows.get(),
+                    String.format("%.0f", job.rowsPerSecond()));
+        } catch (IOException | RuntimeException e) {
+            log.error("가져오기 실패: 파일={}, {}행까지 처리", job.file, job.readRows.get(), e);
+            job.fail(e.getMessage());
+        } finally {
+            parsingPool.shutdown();
+            if (job.importedRows.get() > 0) {
+                rebuildIndexes();
+            }
+            running.set(false);
+        }
+    }
+
+    private List<RawLine> readChunk(BufferedReader reader, long[] lineNumber) throws IOException {
+        List<RawLine> chunk = new ArrayList<>(properties.getChunkSize());
+        String text;
+        while (chunk.size() < properties.getChunkSize() && (text = reader.readLine()) != null) {
+            lineNumber[0]++;
+            if (!text.isBlank()) {
+                chunk.add(new RawLine(lineNumber[0], text));
+            }
+        }
+        return chunk;
+    }
+
+    private CompletableFuture<List<ParsedRow>> parseAsync(List<RawLine> chunk, CsvLayout layout, ForkJoinPool pool) {
+        return CompletableFuture.supplyAsync(
+                () -> chunk.parallelStream().map(line -> parse(line, layout)).toList(), pool);
+    }
+
+    /**
+     * 한 행을 결과/답변으로 변환하고 채점 (실패 시 사유를 담은 거절 행)
+     */
+    private ParsedRow parse(RawLine line, CsvLayout layout) {
+        try {
+            List<String> fields = CsvLines.split(line.text());
+            Long partnerId = parseLong(layout.value(fields, "partner_id"), "partner_id");
+            String userType = required(layout.value(fields, "user_type"), "user_type").toUpperCase(Locale.ROOT);
+            if ("PARTNER".equals(userType) == (partnerId == null) || !List.of("PARTNER", "HEADQUARTERS").contains(userType)) {
+                throw new IllegalArgumentException("user_type은 HEADQUARTERS(partner_id 없음) 또는 PARTNER(partner_id 필수)여야 합니다.");
+            }
+            LocalDateTime createdAt = parseTimestamp(required(layout.value(fields, "created_at"), "created_at"));
+            String completedRaw = layout.value(fields, "completed_at");
+            LocalDateTime completedAt = completedRaw.isEmpty() ? createdAt : parseTimestamp(completedRaw);
+
+            List<SelfAssessmentAnswer> answers = new ArrayList<>(layout.questions().size());
+            layout.questions().forEach((column, question) -> {
+                String value = column < fields.size() ? fields.get(column) : "";
+                if (!value.isEmpty()) {
+                    answers.add(SelfAssessmentAnswer.builder()
+                            .questionId(question.questionId())
+                            .category(question.category())
+                            .answer(parseAnswer(value, question.questionId()))
+                            .weight(question.weight())
+                            .criticalViolation(question.critical())
+                            .criticalGrade(question.criticalGrade())
+                            .createdAt(createdAt)
+                            .updatedAt(completedAt)
+                            .build());
+                }
+            });
+            if (answers.isEmpty()) {
+                throw new IllegalArgumentException("답변한 문항이 없습니다.");
+            }
+
+            SelfAssessmentResult result = SelfAssessmentResult.builder()
+                    .headquartersId(parseLong(required(layout.value(fields, "headquarters_id"), "headquarters_id"),
+                            "headquarters_id"))
+                    .partnerId(partnerId)
+                    .treePath(required(layout.value(fields, "tree_path"), "tree_path"))
+                    .companyName(required(layout.value(fields, "company_name"), "company_name"))
+                    .userType(userType)
+                    .status(AssessmentStatus.IN_PROGRESS)
+                    .createdAt(createdAt)
+                    .updatedAt(completedAt)
+                    .completedAt(completedAt)
+                    .build();
+
+            byte[] packed = layout.questionnaire().pack(answers);
+            if (packed != null) {
+                result.assignPackedAnswers(layout.questionnaire().getVersion(), packed);
+            } else {
+                result.assignAnswers(answers);
+            }
+            gradeCalculator.evaluate(result);
+
+            boolean writeRows = packed == null || answerStorageProperties.getRowStorage() == AnswerRowStorage.ALWAYS;
+            return new ParsedRow(line, result, writeRows ? answers : List.of(), null);
+        } catch (RuntimeException e) {
+            return new ParsedRow(line, null, List.of(), e.getMessage());
+        }
+    }
+
+    /**
+     * 본사 샤드별로 결과/답변 배치 INSERT와 상세 스냅샷 생성 (샤드별 트랜잭션)
+     */
+    private void writeChunk(List<ParsedRow> rows) {
+        Map<String, List<ParsedRow>> byShard = rows.stream().collect(Collectors.groupingBy(
+                row -> shardingProperties.shardFor(row.result().getHeadquartersId()),
+                LinkedHashMap::new, Collectors.toList()));
+
+        byShard.forEach((shard, shardRows) -> ShardContext.runIn(shard, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Long> ids = insertResults(shardRows);
+                    insertAnswers(shardRows, ids);
+                    snapshotService.regenerate(ids);
+                })));
+    }
+
+    private List<Long> insertResults(List<ParsedRow> rows) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_RESULT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        SelfAssessmentResult result = rows.get(i).result();
+                        ps.setLong(1, result.getHeadquartersId());
+                        if (result.getPartnerId() != null) {
+                            ps.setLong(2, result.getPartnerId());
+                        } else {
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setString(3, result.getTreePath());
+                        ps.setString(4, result.getCompanyName());
+                        ps.setString(5, result.getUserType());
+                        ps.setDouble(6, result.getScore());
+                        ps.setDouble(7, result.getActualScore());
+                        ps.setDouble(8, result.getTotalPossibleScore());
+                        ps.setString(9, result.getStatus().name());
+                        ps.setString(10, result.getFinalGrade().name());
+                        ps.setString(11, result.getSummary());
+                        ps.setString(12, result.getRecommendations());
+                        ps.setInt(13, result.getCriticalViolationCount());
+                        ps.setInt(14, result.getNoAnswerCount());
+                        ps.setString(15, result.getRuleVersion());
+                        ps.setString(16, result.getQuestionnaireVersion());
+                        ps.setBytes(17, result.getPackedAnswers());
+                        ps.setTimestamp(18, Timestamp.valueOf(result.getCreatedAt()));
+                        ps.setTimestamp(19, Timestamp.valueOf(result.getUpdatedAt()));
+                        ps.setTimestamp(20, Timestamp.valueOf(result.getCompletedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private void insertAnswers(List<ParsedRow> rows, List<Long> ids) {
+        List<Object[]> answerRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Long resultId = ids.get(i);
+            for (SelfAssessmentAnswer answer : rows.get(i).answerRows()) {
+                answerRows.add(new Object[]{
+                        resultId,
+                        answer.getQuestionId(),
+                        answer.getCategory(),
+                        answer.isAnswer(),
+                        answer.getWeight(),
+                        answer.getCriticalViolation(),
+                        answer.getCriticalGrade() != null ? answer.getCriticalGrade().name() : null,
+                        Timestamp.valueOf(answer.getCreatedAt()),
+                        Timestamp.valueOf(answer.getUpdatedAt())
+                });
+            }
+        }
+        if (!answerRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ANSWER, answerRows);
+        }
+    }
+
+    private void rebuildIndexes() {
+        scorePercentileService.rebuild();
+        treeRiskRollupService.rebuild();
+        questionHeatmapService.rebuild();
+        answerBitmapIndexService.rebuild();
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("가져올 파일명을 입력해주세요.");
+        }
+        Path directory = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("가져오기 디렉터리 밖의 파일은 지정할 수 없습니다.");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("가져올 파일이 없습니다: " + fileName);
+        }
+        return file;
+    }
+
+    private static String required(String value, String column) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(column + " 값이 없습니다.");
+        }
+        return value;
+    }
+
+    private static Long parseLong(String value, String column) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        try {
+            return value.length() == 10
+                    ? LocalDateTime.parse(value + "T00:00:00")
+                    : LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("일시 형식이 올바르지 않습니다 (yyyy-MM-dd[ HH:mm:ss]): " + value);
+        }
+    }
+
+    private static boolean parseAnswer(String value, String questionId) {
+        return switch (value.toUpperCase(Locale.ROOT)) {
+            case "YES", "Y", "TRUE", "1" -> true;
+            case "NO", "N", "FALSE", "0" -> false;
+            default -> throw new IllegalArgumentException(questionId + " 문항의 답변이 올바르지 않습니다: " + value);
+        };
+    }
+
+    private ImportStatusResponse toResponse(ImportJob job) {
+        return ImportStatusResponse.builder()
+                .file(job.file)
+                .rejectFile(job.rejectFile)
+                .status(job.status.name())
+                .running(job.status == ImportStatus.RUNNING && running.get())
+                .readRows(job.readRows.get())
+                .importedRows(job.importedRows.get())
+                .rejectedRows(job.rejectedRows.get())
+                .rowsPerSecond(job.rowsPerSecond())
+                .errorMessage(job.errorMessage)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .build();
+    }
+
+    /**
+     * 헤더에서 읽은 열 위치
+     *
+     * @param columns   필수/선택 열 이름 → 위치
+     * @param questions 문항 열 위치 → 문항 (헤더 순서)
+     */
+    private record CsvLayout(Map<String, Integer> columns,
+                             Map<Integer, QuestionnaireCatalog.Question> questions,
+                             QuestionnaireCatalog.Questionnaire questionnaire) {
+
+        static CsvLayout of(String header, QuestionnaireCatalog.Questionnaire questionnaire) {
+            if (header == null || header.isBlank()) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            Map<String, Integer> columns = new LinkedHashMap<>();
+            Map<Integer, QuestionnaireCatalog.Question> questions = new LinkedHashMap<>();
+            List<String> names = CsvLines.split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                QuestionnaireCatalog.Question question = questionnaire.find(name);
+                if (question != null) {
+                    questions.put(i, question);
+                } else {
+                    columns.putIfAbsent(name.toLowerCase(Locale.ROOT), i);
+                }
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 열이 없습니다: " + String.join(", ", missing));
+            }
+            if (questions.isEmpty()) {
+                throw new IllegalArgumentException("CSV 헤더에 문항 버전 " + questionnaire.getVersion() + "의 문항 열이 없습니다.");
+            }
+            return new CsvLayout(columns, questions, questionnaire);
+        }
+
+        String value(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? fields.get(index) : "";
+        }
+    }
+
+    private record RawLine(long number, String text) {
+    }
+
+    private record ParsedRow(RawLine line, SelfAssessmentResult result, List<SelfAssessmentAnswer> answerRows,
+                             String error) {
+    }
+
+    /**
+     * 가져오기 작업 1건의 진행 상태 (현재 인스턴스 메모리에만 유지)
+     */
+    private static final class ImportJob {
+
+        private final String file;
+        private final String rejectFile;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong readRows = new AtomicLong();
+        private final AtomicLong importedRows = new AtomicLong();
+        private final AtomicLong rejectedRows = new AtomicLong();
+        private volatile ImportStatus status = ImportStatus.RUNNING;
+        private volatile String errorMessage;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private ImportJob(String file, String rejectFile) {
+            this.file = file;
+            this.rejectFile = rejectFile;
+        }
+
+        private void complete() {
+            finish(ImportStatus.COMPLETED, null);
+        }
+
+        private void fail(String message) {
+            finish(ImportStatus.FAILED, message);
+        }
+
+        private void finish(ImportStatus finalStatus, String message) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            errorMessage = message;
+            status = finalStatus;
+        }
+
+        private double rowsPerSecond() {
+            long end = status == ImportStatus.RUNNING ? System.nanoTime() : finishedNanos;
+            double seconds = (end - startedNanos) / 1_000_000_000.0;
+            return seconds > 0 ? Math.round(readRows.get() / seconds * 10) / 10.0 : 0.0;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.RescoreProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.entity.RescoreCheckpoint;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.repository.RescoreCheckpointRepository;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.GradingRuleRegistry;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CSDDD 자가진단 결과 일괄 재채점 서비스
+ *
+ * 등급 산정 규칙 변경 시 저장된 모든 완료 결과를 현재 규칙으로 다시 채점
+ *
+ * 1. 결과 ID keyset 순서로 청크 조회 (JDBC, 엔티티 로딩 없음)
+ * 2. 패킹 답변이 있는 결과는 패킹 답변으로 채점, 나머지는 답변 행을 결과 ID 범위로 한 번에 조회
+ * 3. ForkJoinPool에서 GradeCalculator.evaluate로 병렬 채점 (영속화되지 않은 객체 사용)
+ * 4. 점수/등급/요약/건수를 version 조건부 배치 UPDATE하고 같은 트랜잭션에서 상세 스냅샷 재생성 및 체크포인트 갱신
+ *    (스냅샷 재생성 시 답변 행의 중대위반 항목 여부도 현재 규칙 세트 기준으로 갱신)
+ * 5. 커밋 후 갱신된 결과의 2차 캐시 항목 제거
+ *
+ * - 조회 이후 재제출(UPSERT)로 version이 바뀐 결과는 갱신되지 않으며 건너뜀
+ *   (재제출 시 현재 규칙으로 이미 채점되었으므로 이전 답변 기준 점수로 덮어쓰지 않는다)
+ * 6. 모든 샤드 완료 후 점수 백분위/공급망 위험 집계 색인 재구성
+ *
+ * - 전체 샤드(shardKeys)를 차례로 처리하며, 체크포인트는 샤드마다 해당 샤드 DB에 저장
+ *   (결과 ID는 샤드별로 발급되므로 커서도 샤드별로 유지)
+ * - 비정상 종료/실패 시 같은 규칙 버전이면 샤드별 마지막 체크포인트부터 재개 (완료된 샤드는 건너뜀)
+ * - 청크 간 대기로 DB 부하 제한, 처리 속도(건/초)를 로그/지표로 보고
+ * - 콜드 저장소(이관된 결과)는 재채점 대상이 아님
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentRescoreService {
+
+    private static final String SELECT_RESULTS = """
+            select id, version, questionnaire_version, packed_answers from self_assessment_results
+            where id > ? and status = ?
+            order by id
+            limit ?
+            """;
+
+    private static final String SELECT_ANSWERS = """
+            select result_id, question_id, category, answer, weight, critical_violation
+            from self_assessment_answer
+            where result_id between ? and ?
+            """;
+
+    private static final String UPDATE_RESULT = """
+            update self_assessment_results
+            set score = ?, actual_score = ?, total_possible_score = ?, final_grade = ?,
+                summary = ?, recommendations = ?, critical_violation_count = ?, no_answer_count = ?,
+                rule_version = ?, updated_at = ?, version = version + 1
+            where id = ? and version = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RescoreCheckpointRepository checkpointRepository;
+    private final GradeCalculator gradeCalculator;
+    private final AssessmentSnapshotService snapshotService;
+    private final GradingRuleRegistry gradingRuleRegistry;
+    private final ScorePercentileService scorePercentileService;
+    private final TreeRiskRollupService treeRiskRollupService;
+    private final RescoreProperties properties;
+    private final ShardingProperties shardingProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csddd-rescore");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 재채점 작업 시작 (백그라운드 실행)
+     *
+     * @param resume 현재 규칙 버전의 미완료 샤드 작업이 있으면 샤드별 체크포인트부터 이어서 실행
+     * @return 샤드별 체크포인트 (샤드 키 순서)
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public List<RescoreCheckpoint> start(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("재채점 작업이 이미 실행 중입니다.");
+        }
+
+        try {
+            String ruleVersion = gradingRuleRegistry.current().getVersion();
+            Map<String, RescoreCheckpoint> resumable = resume ? findResumable(ruleVersion) : Map.of();
+            List<RescoreCheckpoint> checkpoints = shardingProperties.shardKeys().stream()
+                    .map(shard -> ShardContext.callIn(shard, () -> {
+                        RescoreCheckpoint checkpoint = resumable.getOrDefault(shard,
+                                RescoreCheckpoint.start(ruleVersion, shard));
+                        if (checkpoint.isCompleted()) {
+                            return checkpoint;
+                        }
+                        checkpoint.resume();
+                        return checkpointRepository.save(checkpoint);
+                    }))
+                    .toList();
+
+            jobExecutor.execute(() -> run(checkpoints));
+            return checkpoints;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드별 가장 최근 작업 상태 (작업 이력이 없는 샤드 제외)
+     */
+    public List<RescoreCheckpoint> latest() {
+        return shardingProperties.shardKeys().stream()
+                .flatMap(shard -> ShardContext.callIn(shard, checkpointRepository::findFirstByOrderByIdDesc).stream())
+                .toList();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // ============================================================================
+    // 작업 실행 (Job Execution)
+    // ============================================================================
+
+    private void run(List<RescoreCheckpoint> checkpoints) {
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool scoringPool = new ForkJoinPool(parallelism);
+
+        try {
+            boolean completed = true;
+            for (RescoreCheckpoint checkpoint : checkpoints) {
+                if (checkpoint.isCompleted()) {
+                    log.info("재채점 건너뜀: 샤드={}, 작업ID={} (같은 규칙 버전으로 완료됨)",
+                            checkpoint.getShardKey(), checkpoint.getId());
+                    continue;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    completed = false;
+                    break;
+                }
+                completed &= ShardContext.callIn(checkpoint.getShardKey(),
+                        () -> runShard(checkpoint, scoringPool, parallelism));
+            }
+
+            if (completed) {
+                scorePercentileService.rebuild();
+                treeRiskRollupService.rebuild();
+            }
+        } finally {
+            scoringPool.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재 샤드의 재채점 실행
+     *
+     * @return 샤드의 모든 결과를 반영했으면 true (중단/실패 시 false, 체크포인트부터 재개 가능)
+     */
+    private boolean runShard(RescoreCheckpoint checkpoint, ForkJoinPool scoringPool, int parallelism) {
+        Counter rows = Counter.builder("csddd.rescore.rows")
+                .description("일괄 재채점 반영 건수")
+                .register(meterRegistry);
+        Counter conflicts = Counter.builder("csddd.rescore.conflicts")
+                .description("재제출로 version이 바뀌어 재채점을 건너뛴 건수")
+                .register(meterRegistry);
+
+        long startedAt = System.nanoTime();
+        long processedInRun = 0;
+        log.info("재채점 시작: 샤드={}, 작업ID={}, 규칙버전={}, 시작커서={}, 병렬도={}, 청크크기={}",
+                checkpoint.getShardKey(), checkpoint.getId(), checkpoint.getRuleVersion(),
+                checkpoint.getLastResultId(), parallelism, properties.getChunkSize());
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<SelfAssessmentResult> chunk = readChunk(checkpoint.getLastResultId());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Long firstId = chunk.get(0).getId();
+                Long lastId = chunk.get(chunk.size() - 1).getId();
+
+                List<SelfAssessmentResult> scored = scoreChunk(chunk, scoringPool);
+                List<SelfAssessmentResult> applied = applyChunk(checkpoint, scored, lastId);
+
+                rows.increment(applied.size());
+                conflicts.increment(scored.size() - applied.size());
+                processedInRun += applied.size();
+                log.debug("재채점 청크 반영: 샤드={}, {}건, 버전충돌 {}건 (ID {} ~ {}), 누적 {}건",
+                        checkpoint.getShardKey(), applied.size(), scored.size() - applied.size(),
+                        firstId, lastId, checkpoint.getProcessedCount());
+
+                pauseBetweenChunks();
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("재채점 중단: 샤드={}, 작업ID={}, 마지막커서={} (재개 가능)",
+                        checkpoint.getShardKey(), checkpoint.getId(), checkpoint.getLastResultId());
+                return false;
+            }
+
+            checkpoint.complete();
+            checkpointRepository.save(checkpoint);
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            log.info("재채점 완료: 샤드={}, 작업ID={}, 이번실행 {}건, {}초, {}건/초 (누적 {}건)",
+                    checkpoint.getShardKey(), checkpoint.getId(), processedInRun, String.format("%.1f", seconds),
+                    String.format("%.0f", seconds > 0 ? processedInRun / seconds : 0),
+                    checkpoint.getProcessedCount());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("재채점 실패: 샤드={}, 작업ID={}, 마지막커서={}",
+                    checkpoint.getShardKey(), checkpoint.getId(), checkpoint.getLastResultId(), e);
+            checkpoint.fail(e.getMessage());
+            checkpointRepository.save(checkpoint);
+            return false;
+        }
+    }
+
+    /**
+     * 커서 이후 완료 결과 청크 조회 (조회 시점의 version 포함)
+     */
+    List<SelfAssessmentResult> readChunk(long afterResultId) {
+        return jdbcTemplate.query(SELECT_RESULTS,
+                (rs, rowNum) -> {
+                    SelfAssessmentResult result = SelfAssessmentResult.builder()
+                            .id(rs.getLong("id"))
+                            .version(rs.getLong("version"))
+                            .status(AssessmentStatus.IN_PROGRESS)
+                            .build();
+                    byte[] packed = rs.getBytes("packed_answers");
+                    if (packed != null) {
+                        result.assignPackedAnswers(rs.getString("questionnaire_version"), packed);
+                    }
+                    return result;
+                },
+                afterResultId, AssessmentStatus.COMPLETED.name(), properties.getChunkSize());
+    }
+
+    /**
+     * 청크 결과의 답변 조회 후 병렬 채점
+     * 패킹 답변이 없는 결과만 답변 행을 조회하며, 답변이 없는 결과는 재채점하지 않는다.
+     */
+    List<SelfAssessmentResult> scoreChunk(List<SelfAssessmentResult> chunk, ForkJoinPool scoringPool) {
+        Map<Long, List<SelfAssessmentAnswer>> answersByResult = new HashMap<>(chunk.size() * 2);
+        chunk.stream()
+                .filter(result -> result.getPackedAnswers() == null)
+                .forEach(result -> answersByResult.put(result.getId(), new ArrayList<>()));
+
+        if (!answersByResult.isEmpty()) {
+            jdbcTemplate.query(SELECT_ANSWERS, rs -> {
+                List<SelfAssessmentAnswer> answers = answersByResult.get(rs.getLong("result_id"));
+                if (answers != null) {
+                    answers.add(SelfAssessmentAnswer.builder()
+                            .questionId(rs.getString("question_id"))
+                            .category(rs.getString("category"))
+                            .answer(rs.getBoolean("answer"))
+                            .weight(rs.getDouble("weight"))
+                            .criticalViolation(rs.getBoolean("critical_violation"))
+                            .build());
+                }
+            }, chunk.get(0).getId(), chunk.get(chunk.size() - 1).getId());
+        }
+
+        List<SelfAssessmentResult> results = chunk.stream()
+                .filter(result -> {
+                    if (result.getPackedAnswers() != null) {
+                        return true;
+                    }
+                    List<SelfAssessmentAnswer> answers = answersByResult.get(result.getId());
+                    if (answers.isEmpty()) {
+                        return false;
+                    }
+                    result.assignAnswers(answers);
+                    return true;
+                })
+                .toList();
+
+        scoringPool.submit(() -> results.parallelStream().forEach(gradeCalculator::evaluate)).join();
+        return results;
+    }
+
+    /**
+     * 채점 결과 반영
+     * 실제로 갱신된 결과만 스냅샷 재생성/캐시 제거/체크포인트 건수에 반영한다.
+     *
+     * @return version 조건을 통과해 갱신된 결과 목록
+     */
+    List<SelfAssessmentResult> applyChunk(RescoreCheckpoint checkpoint, List<SelfAssessmentResult> scored, Long lastId) {
+        List<SelfAssessmentResult> applied = transactionTemplate.execute(status -> {
+            List<SelfAssessmentResult> updated = writeScores(scored);
+            snapshotService.regenerate(updated.stream().map(SelfAssessmentResult::getId).toList(),
+                    gradingRuleRegistry.current());
+            checkpoint.advance(lastId, updated.size());
+            checkpointRepository.save(checkpoint);
+            return updated;
+        });
+        evictFromCache(applied);
+        if (applied.size() < scored.size()) {
+            log.info("재채점 버전 충돌로 {}건 건너뜀 (ID ~ {}, 재제출로 이미 현재 규칙 적용)",
+                    scored.size() - applied.size(), lastId);
+        }
+        return applied;
+    }
+
+    /**
+     * 조회 시점 version 조건으로 배치 UPDATE
+     * MySQL Connector/J는 UPDATE 배치(rewriteBatchedStatements 포함)도 문장별 갱신 건수를 반환하므로
+     * 갱신 건수 0인 결과를 버전 충돌로 판단한다.
+     */
+    private List<SelfAssessmentResult> writeScores(List<SelfAssessmentResult> scored) {
+        if (scored.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_RESULT, scored, scored.size(), (ps, result) -> {
+            ps.setDouble(1, result.getScore());
+            ps.setDouble(2, result.getActualScore());
+            ps.setDouble(3, result.getTotalPossibleScore());
+            ps.setString(4, result.getFinalGrade().name());
+            ps.setString(5, result.getSummary());
+            ps.setString(6, result.getRecommendations());
+            ps.setInt(7, result.getCriticalViolationCount());
+            ps.setInt(8, result.getNoAnswerCount());
+            ps.setString(9, result.getRuleVersion());
+            ps.setTimestamp(10, now);
+            ps.setLong(11, result.getId());
+            ps.setLong(12, result.getVersion());
+        });
+
+        List<SelfAssessmentResult> updated = new ArrayList<>(scored.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    updated.add(scored.get(index));
+                }
+                index++;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * JDBC로 직접 갱신했으므로 2차 캐시의 이전 값 제거
+     */
+    private void evictFromCache(List<SelfAssessmentResult> scored) {
+        scored.forEach(result -> entityManagerFactory.getCache().evict(SelfAssessmentResult.class, result.getId()));
+    }
+
+    /**
+     * 재개 대상 샤드별 체크포인트
+     * 현재 규칙 버전의 미완료 샤드가 하나라도 있으면 각 샤드의 최근 같은 버전 작업을 이어서 실행하고
+     * (완료된 샤드는 건너뜀), 모두 완료되었으면 전체를 새로 시작한다.
+     * 샤드 키가 없는 이전 작업은 재개하지 않는다.
+     */
+    private Map<String, RescoreCheckpoint> findResumable(String ruleVersion) {
+        Map<String, RescoreCheckpoint> latest = new HashMap<>();
+        for (String shard : shardingProperties.shardKeys()) {
+            ShardContext.callIn(shard, checkpointRepository::findFirstByOrderByIdDesc)
+                    .filter(checkpoint -> shard.equals(checkpoint.getShardKey()))
+                    .filter(checkpoint -> checkpoint.getRuleVersion().equals(ruleVersion))
+                    .ifPresent(checkpoint -> latest.put(shard, checkpoint));
+        }
+        boolean unfinished = latest.values().stream().anyMatch(checkpoint -> !checkpoint.isCompleted());
+        return unfinished ? latest : Map.of();
+    }
+
+    private void pauseBetweenChunks() {
+        long pauseMillis = properties.getPauseBetweenChunks().toMillis();
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
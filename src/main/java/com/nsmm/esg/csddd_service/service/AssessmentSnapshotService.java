@@ -0,0 +1,117 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.entity.AssessmentDetailSnapshot;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.GradingRuleSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CSDDD 자가진단 결과 상세 스냅샷 서비스
+ *
+ * 상세 응답을 미리 직렬화한 조회 모델(AssessmentDetailSnapshot)을 생성/재생성/삭제
+ * 결과를 변경하는 작업(제출, 제자리 갱신 제출, 재채점, 답변 이관, 콜드 저장소 이관)의 트랜잭션 안에서 호출되어
+ * 결과와 스냅샷이 함께 커밋된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentSnapshotService {
+
+    private final AssessmentDetailSnapshotRepository snapshotRepository;
+    private final SelfAssessmentResultRepository resultRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 완료된 결과의 상세 스냅샷 저장
+     * 결과의 최종 상태(점수, 수정 일시 등)가 DB에 반영된 뒤 호출해야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(SelfAssessmentResult result) {
+        snapshotRepository.save(AssessmentDetailSnapshot.of(result, serialize(result)));
+    }
+
+    /**
+     * 제자리 갱신된 결과의 상세 스냅샷 교체 (기존 스냅샷 삭제 후 저장)
+     * 결과의 최종 상태가 DB에 반영된 뒤 호출해야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(SelfAssessmentResult result) {
+        snapshotRepository.deleteAllByResultIdIn(List.of(result.getId()));
+        snapshotRepository.save(AssessmentDetailSnapshot.of(result, serialize(result)));
+    }
+
+    /**
+     * 결과 ID 목록의 스냅샷 재생성 (결과와 답변을 DB에서 다시 읽어 직렬화)
+     *
+     * @return 재생성된 스냅샷 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int regenerate(Collection<Long> resultIds) {
+        return regenerateWith(resultIds, result -> { });
+    }
+
+    /**
+     * 재채점된 결과의 스냅샷 재생성
+     * 재채점에 사용한 규칙 세트로 답변의 중대위반 항목 여부를 다시 지정한 뒤 직렬화한다.
+     * 답변 행은 영속 상태이므로 항목 여부가 바뀐 행만 커밋 시 함께 갱신된다.
+     *
+     * @return 재생성된 스냅샷 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int regenerate(Collection<Long> resultIds, GradingRuleSet rules) {
+        return regenerateWith(resultIds, result -> rules.applyCriticalGrades(result.getEffectiveAnswers()));
+    }
+
+    /**
+     * 결과 ID 목록의 스냅샷 삭제 (콜드 저장소 이관 등 핫 테이블에서 제거되는 경우)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(Collection<Long> resultIds) {
+        if (!resultIds.isEmpty()) {
+            snapshotRepository.deleteAllByResultIdIn(resultIds);
+        }
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private int regenerateWith(Collection<Long> resultIds, Consumer<SelfAssessmentResult> beforeSerialize) {
+        if (resultIds.isEmpty()) {
+            return 0;
+        }
+        snapshotRepository.deleteAllByResultIdIn(resultIds);
+
+        List<AssessmentDetailSnapshot> snapshots = resultRepository.findAllWithAnswersByIdIn(resultIds).stream()
+                .map(result -> {
+                    beforeSerialize.accept(result);
+                    return AssessmentDetailSnapshot.of(result, serialize(result));
+                })
+                .toList();
+        snapshotRepository.saveAll(snapshots);
+
+        log.debug("상세 스냅샷 재생성: {}건", snapshots.size());
+        return snapshots.size();
+    }
+
+    private byte[] serialize(SelfAssessmentResult result) {
+        try {
+            return objectMapper.writeValueAsBytes(SelfAssessmentResultResponse.fromDetail(result));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상세 스냅샷 직렬화에 실패했습니다: ID=" + result.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.IndexRebuildProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본사별 메모리 색인 공통 구성/갱신 절차
+ *
+ * 점수 백분위, 위험 집계, 문항 히트맵, 답변 역색인이 같은 방식으로 색인을 유지한다.
+ * - 기동 시(ApplicationRunner) 모든 샤드에서 색인을 구성하고, csddd.<색인>.rebuild-interval 주기로 재구성
+ * - 제출 커밋 이후 AssessmentCompletedEvent를 현재 색인에 반영
+ * - 재구성은 새 색인을 만든 뒤 교체하며, 재구성 중 도착한 이벤트는 새 색인에 다시 적용한 뒤 교체
+ * - 구성에 실패하면 기존 색인을 유지
+ * - csddd.<색인>.rebuild: 색인 구성 시간
+ *
+ * @param <V> 본사 1곳의 색인
+ */
+@Slf4j
+public abstract class HeadquartersIndexService<V> implements ApplicationRunner, SchedulingConfigurer {
+
+    private final IndexRebuildProperties properties;
+    private final ShardingProperties shardingProperties;
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+    private final String displayName;
+
+    private final Object rebuildLock = new Object();
+    private volatile Map<Long, V> index = new ConcurrentHashMap<>();
+    private List<AssessmentCompletedEvent> pendingDuringRebuild; // rebuildLock으로 보호
+
+    /**
+     * @param metricName  구성 시간 지표 이름 (예: csddd.percentile.rebuild)
+     * @param displayName 로그에 표시할 색인 이름 (예: 점수 백분위 색인)
+     */
+    protected HeadquartersIndexService(IndexRebuildProperties properties, ShardingProperties shardingProperties,
+                                       MeterRegistry meterRegistry, String metricName, String displayName) {
+        this.properties = properties;
+        this.shardingProperties = shardingProperties;
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.displayName = displayName;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 정기 재구성 등록 (기본 10분 간격)
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        Duration interval = properties.getRebuildInterval();
+        registrar.addFixedDelayTask(new FixedDelayTask(() -> {
+            if (properties.isEnabled()) {
+                rebuild();
+            }
+        }, interval, interval));
+    }
+
+    /**
+     * 모든 샤드의 최신 결과로 색인 재구성
+     * 실패 시 기존 색인을 유지한다.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (pendingDuringRebuild != null) {
+                log.debug("{} 재구성이 이미 진행 중입니다.", displayName);
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Long, V> rebuilt = new ConcurrentHashMap<>();
+        try {
+            for (String shard : shardingProperties.shardKeys()) {
+                ShardContext.runIn(shard, () -> loadShard(rebuilt));
+            }
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingDuringRebuild = null;
+            }
+            log.error("{} 구성 실패 (기존 색인 유지)", displayName, e);
+            return;
+        }
+
+        int replayed;
+        synchronized (rebuildLock) {
+            replayed = pendingDuringRebuild.size();
+            pendingDuringRebuild.forEach(event -> apply(rebuilt, event));
+            pendingDuringRebuild = null;
+            index = rebuilt;
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder(metricName)
+                .description(displayName + " 구성 시간")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("{} 구성: {}, 재적용 이벤트 {}건, {}ms",
+                displayName, summarize(rebuilt), replayed, elapsed / 1_000_000);
+    }
+
+    /**
+     * 제출 커밋 이후 현재 색인 갱신 (재구성 중이면 새 색인에 다시 적용하도록 보관)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAssessmentCompleted(AssessmentCompletedEvent event) {
+        if (!properties.isEnabled() || !accepts(event)) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            apply(index, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+
+    // ============================================================================
+    // 하위 색인 구현 (Index Hooks)
+    // ============================================================================
+
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 본사 1곳의 현재 색인 (없으면 null)
+     */
+    protected V indexOf(Long headquartersId) {
+        return index.get(headquartersId);
+    }
+
+    /**
+     * 색인에 반영할 이벤트인지 여부 (기본: 모든 이벤트)
+     */
+    protected boolean accepts(AssessmentCompletedEvent event) {
+        return true;
+    }
+
+    /**
+     * 현재 샤드(ShardContext)의 최신 결과를 새 색인에 적재
+     */
+    protected abstract void loadShard(Map<Long, V> target);
+
+    /**
+     * 제출 이벤트 1건을 색인에 반영 (이미 더 최근 결과가 반영되어 있으면 무시해야 한다)
+     */
+    protected abstract void apply(Map<Long, V> target, AssessmentCompletedEvent event);
+
+    /**
+     * 구성 로그용 색인 요약 (예: 본사 3곳, 협력사 120곳)
+     */
+    protected abstract String summarize(Map<Long, V> built);
+}
@@ -0,0 +1,112 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.AnswerBitSet;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 협력사별 최신 완료 결과 답변 로더
+ *
+ * 문항 단위 메모리 색인(QuestionHeatmapService, AnswerBitmapIndexService)의 기동/정기 재구성에서
+ * 현재 샤드의 협력사별 최신 완료 결과를 답변 비트 집합으로 읽는다.
+ * - 결과 ID를 LOAD_BATCH_SIZE 단위 IN 절로 조회하며, 패킹 답변이 있는 결과는 결과 행만 읽는다.
+ * - 패킹 답변이 없는 결과만 답변 행을 조회한다.
+ * - 호출자가 ShardContext로 샤드를 지정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestPartnerAnswerLoader {
+
+    /**
+     * 답변 조회 IN 절 크기
+     */
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final SelfAssessmentResultRepository resultRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 샤드의 협력사별 최신 완료 결과 답변을 순서대로 전달
+     */
+    public void forEachLatest(QuestionnaireCatalog.Questionnaire questionnaire, LatestAnswersConsumer consumer) {
+        List<SelfAssessmentResultRepository.LatestPartnerScore> latest = resultRepository.findLatestPartnerScores();
+        for (int from = 0; from < latest.size(); from += LOAD_BATCH_SIZE) {
+            List<SelfAssessmentResultRepository.LatestPartnerScore> batch =
+                    latest.subList(from, Math.min(from + LOAD_BATCH_SIZE, latest.size()));
+            Map<Long, SelfAssessmentResult> results = loadResults(batch);
+            for (SelfAssessmentResultRepository.LatestPartnerScore row : batch) {
+                SelfAssessmentResult result = results.get(row.getResultId());
+                if (result != null) {
+                    consumer.accept(row.getHeadquartersId(), row.getPartnerId(),
+                            ResultRevision.of(row.getResultId(), row.getVersion()), AnswerBitSet.of(result, questionnaire));
+                }
+            }
+        }
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private Map<Long, SelfAssessmentResult> loadResults(List<SelfAssessmentResultRepository.LatestPartnerScore> batch) {
+        Object[] ids = batch.stream().map(SelfAssessmentResultRepository.LatestPartnerScore::getResultId).toArray();
+
+        Map<Long, SelfAssessmentResult> results = new HashMap<>(ids.length * 2);
+        Map<Long, List<SelfAssessmentAnswer>> answersByResult = new HashMap<>();
+        jdbcTemplate.query(
+                "select id, questionnaire_version, packed_answers from self_assessment_results where id in ("
+                        + placeholders(ids.length) + ")",
+                rs -> {
+                    SelfAssessmentResult result = SelfAssessmentResult.builder().id(rs.getLong("id")).build();
+                    byte[] packed = rs.getBytes("packed_answers");
+                    if (packed != null) {
+                        result.assignPackedAnswers(rs.getString("questionnaire_version"), packed);
+                    } else {
+                        answersByResult.put(result.getId(), new ArrayList<>());
+                    }
+                    results.put(result.getId(), result);
+                },
+                ids);
+
+        if (!answersByResult.isEmpty()) {
+            Object[] answerIds = answersByResult.keySet().toArray();
+            jdbcTemplate.query(
+                    "select result_id, question_id, answer, critical_violation from self_assessment_answer"
+                            + " where result_id in (" + placeholders(answerIds.length) + ")",
+                    rs -> {
+                        answersByResult.get(rs.getLong("result_id")).add(SelfAssessmentAnswer.builder()
+                                .questionId(rs.getString("question_id"))
+                                .answer(rs.getBoolean("answer"))
+                                .criticalViolation(rs.getBoolean("critical_violation"))
+                                .build());
+                    },
+                    answerIds);
+            answersByResult.forEach((resultId, answers) -> results.get(resultId).assignAnswers(answers));
+        }
+        return results;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * 협력사 최신 결과 1건의 답변 수신
+     */
+    @FunctionalInterface
+    public interface LatestAnswersConsumer {
+        void accept(Long headquartersId, Long partnerId, ResultRevision revision, AnswerBitSet answers);
+    }
+}
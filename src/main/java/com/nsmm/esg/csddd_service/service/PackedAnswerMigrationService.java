@@ -0,0 +1,265 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.AnswerStorageProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.PackedAnswerMigrationResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentAnswerRepository;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CSDDD 패킹 답변 이관 서비스
+ *
+ * 패킹 답변 도입 이전에 저장된 결과의 답변 행을 packed_answers로 변환
+ *
+ * 1. packed_answers가 없는 완료 결과를 ID keyset 순서로 청크 조회 (JDBC)
+ * 2. 청크의 답변 행을 결과 ID 범위로 한 번에 조회
+ * 3. 현재 문항 버전과 정확히 일치하는 결과만 패킹하여 조회 시점 version 조건으로 배치 UPDATE
+ * 4. 설정 시 실제로 갱신된 결과만 답변 행 삭제 및 상세 스냅샷 재생성 (답변 ID가 응답에서 빠지므로)
+ * 5. 커밋 후 갱신된 결과와 답변 컬렉션의 2차 캐시 항목 제거
+ *
+ * - 문항 구성이 다른 결과(사용자 정의 가중치 등)는 답변 행으로 계속 유지
+ * - 조회 이후 재제출(UPSERT)로 version이 바뀐 결과는 갱신/삭제하지 않고 유지 건수로 집계 (처음부터 다시 실행하면 재대상)
+ * - 전체 샤드(shardKeys)를 차례로 처리하며, 결과 ID는 샤드별로 발급되므로 커서는 (샤드, 결과 ID) 쌍
+ * - 요청당 처리 청크 수를 제한하며, 응답의 shard/lastResultId로 이어서 실행 (샤드를 마치면 다음 샤드의 처음부터)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PackedAnswerMigrationService {
+
+    private static final String SELECT_RESULT_IDS = """
+            select id, version from self_assessment_results
+            where id > ? and status = ? and packed_answers is null
+            order by id
+            limit ?
+            """;
+
+    private static final String SELECT_ANSWERS = """
+            select result_id, question_id, category, answer, weight, critical_violation, critical_grade
+            from self_assessment_answer
+            where result_id between ? and ?
+            """;
+
+    private static final String UPDATE_PACKED = """
+            update self_assessment_results
+            set questionnaire_version = ?, packed_answers = ?, version = version + 1
+            where id = ? and version = ?
+            """;
+
+    private static final String ANSWERS_COLLECTION_ROLE = SelfAssessmentResult.class.getName() + ".answers";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SelfAssessmentAnswerRepository answerRepository;
+    private final AssessmentSnapshotService snapshotService;
+    private final AnswerStorageProperties properties;
+    private final ShardingProperties shardingProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 패킹 답변 이관 실행
+     *
+     * @param shard         이어서 처리할 샤드 키 (null이면 첫 샤드부터)
+     * @param afterResultId 해당 샤드에서 이 ID 이후의 결과부터 처리
+     * @param maxChunks     이번 요청에서 처리할 최대 청크 수 (전체 샤드 합계)
+     * @return 이관/유지 건수와 다음 시작 커서 (샤드, 결과 ID)
+     * @throws IllegalArgumentException 정의되지 않은 샤드인 경우
+     * @throws IllegalStateException    이미 실행 중인 경우
+     */
+    public PackedAnswerMigrationResponse migrate(String shard, long afterResultId, int maxChunks) {
+        List<String> shards = shardingProperties.shardKeys();
+        int shardIndex = shard != null ? shards.indexOf(shard) : 0;
+        if (shardIndex < 0) {
+            throw new IllegalArgumentException("정의되지 않은 샤드입니다: " + shard);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("패킹 답변 이관이 이미 실행 중입니다.");
+        }
+
+        try {
+            QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+            long cursor = afterResultId;
+            int chunksLeft = maxChunks;
+            long migrated = 0;
+            long skipped = 0;
+            boolean hasMore = true;
+
+            while (true) {
+                long startCursor = cursor;
+                int budget = chunksLeft;
+                ShardProgress progress = ShardContext.callIn(shards.get(shardIndex),
+                        () -> migrateShard(startCursor, budget, questionnaire));
+                migrated += progress.migrated();
+                skipped += progress.skipped();
+                chunksLeft -= progress.chunks();
+                cursor = progress.lastResultId();
+
+                if (progress.hasMore()) {
+                    break;
+                }
+                if (shardIndex == shards.size() - 1) {
+                    hasMore = false;
+                    break;
+                }
+                // 샤드를 마쳤으면 다음 샤드의 처음부터
+                shardIndex++;
+                cursor = 0;
+                if (chunksLeft <= 0) {
+                    break;
+                }
+            }
+
+            log.info("패킹 답변 이관 완료: 이관 {}건, 유지 {}건, 마지막커서={}/{}, 남은작업={}",
+                    migrated, skipped, shards.get(shardIndex), cursor, hasMore);
+            return PackedAnswerMigrationResponse.builder()
+                    .questionnaireVersion(questionnaire.getVersion())
+                    .migratedCount(migrated)
+                    .skippedCount(skipped)
+                    .shard(shards.get(shardIndex))
+                    .lastResultId(cursor)
+                    .hasMore(hasMore)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재 샤드의 패킹 답변 이관 (최대 maxChunks 청크)
+     */
+    private ShardProgress migrateShard(long afterResultId, int maxChunks, QuestionnaireCatalog.Questionnaire questionnaire) {
+        long cursor = afterResultId;
+        long migrated = 0;
+        long skipped = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunks) {
+            Map<Long, Long> versions = new LinkedHashMap<>();
+            jdbcTemplate.query(SELECT_RESULT_IDS,
+                    rs -> { versions.put(rs.getLong("id"), rs.getLong("version")); },
+                    cursor, AssessmentStatus.COMPLETED.name(), properties.getMigrationChunkSize());
+            if (versions.isEmpty()) {
+                return new ShardProgress(migrated, skipped, chunks, cursor, false);
+            }
+            List<Long> ids = List.copyOf(versions.keySet());
+
+            List<Object[]> updates = packChunk(versions, questionnaire);
+            List<Long> packedIds = transactionTemplate.execute(status -> {
+                List<Long> updated = writePacked(updates);
+                if (properties.isDeleteRowsAfterMigration() && !updated.isEmpty()) {
+                    answerRepository.deleteAllByResultIdIn(updated);
+                    snapshotService.regenerate(updated);
+                }
+                return updated;
+            });
+            evictFromCache(packedIds);
+
+            migrated += packedIds.size();
+            skipped += ids.size() - packedIds.size();
+            cursor = ids.get(ids.size() - 1);
+            chunks++;
+            log.debug("패킹 답변 이관 청크 반영: 샤드={}, 이관 {}건, 유지 {}건, 버전충돌 {}건 (ID {} ~ {})",
+                    ShardContext.current(), packedIds.size(), ids.size() - packedIds.size(),
+                    updates.size() - packedIds.size(), ids.get(0), cursor);
+        }
+        return new ShardProgress(migrated, skipped, chunks, cursor, true);
+    }
+
+    /**
+     * 샤드 하나의 이관 진행 결과
+     *
+     * @param hasMore 청크 수 제한으로 샤드 처리를 마치지 못했으면 true
+     */
+    private record ShardProgress(long migrated, long skipped, int chunks, long lastResultId, boolean hasMore) {
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    /**
+     * 청크 결과의 답변 행 조회 후 패킹
+     *
+     * @param versions 결과 ID별 조회 시점 version (ID 순서)
+     * @return UPDATE_PACKED 파라미터 목록 (문항 버전, 패킹 답변, 결과 ID, 조회 시점 version)
+     */
+    private List<Object[]> packChunk(Map<Long, Long> versions, QuestionnaireCatalog.Questionnaire questionnaire) {
+        List<Long> ids = List.copyOf(versions.keySet());
+        Map<Long, List<SelfAssessmentAnswer>> answersByResult = new HashMap<>(ids.size() * 2);
+        ids.forEach(id -> answersByResult.put(id, new ArrayList<>()));
+
+        jdbcTemplate.query(SELECT_ANSWERS, rs -> {
+            List<SelfAssessmentAnswer> answers = answersByResult.get(rs.getLong("result_id"));
+            if (answers != null) {
+                String criticalGrade = rs.getString("critical_grade");
+                answers.add(SelfAssessmentAnswer.builder()
+                        .questionId(rs.getString("question_id"))
+                        .category(rs.getString("category"))
+                        .answer(rs.getBoolean("answer"))
+                        .weight(rs.getDouble("weight"))
+                        .criticalViolation(rs.getBoolean("critical_violation"))
+                        .criticalGrade(criticalGrade != null ? AssessmentGrade.valueOf(criticalGrade) : null)
+                        .build());
+            }
+        }, ids.get(0), ids.get(ids.size() - 1));
+
+        List<Object[]> updates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            byte[] packed = questionnaire.pack(answersByResult.get(id));
+            if (packed != null) {
+                updates.add(new Object[]{questionnaire.getVersion(), packed, id, versions.get(id)});
+            }
+        }
+        return updates;
+    }
+
+    /**
+     * version 조건부 배치 UPDATE 후 실제로 갱신된 결과 ID만 반환
+     * 갱신 건수 0은 조회 이후 재제출로 version이 바뀐 결과
+     */
+    private List<Long> writePacked(List<Object[]> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_PACKED, updates);
+        List<Long> updated = new ArrayList<>(updates.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                updated.add((Long) updates.get(i)[2]);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * JDBC로 직접 갱신했으므로 2차 캐시의 이전 값 제거
+     */
+    private void evictFromCache(List<Long> ids) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        ids.forEach(id -> {
+            cache.evictEntityData(SelfAssessmentResult.class, id);
+            cache.evictCollectionData(ANSWERS_COLLECTION_ROLE, id);
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.HeatmapProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.QuestionHeatmapResponse;
+import com.nsmm.esg.csddd_service.dto.response.ViolationMeta;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.util.AnswerBitSet;
+import com.nsmm.esg.csddd_service.util.GradingRuleRegistry;
+import com.nsmm.esg.csddd_service.util.GradingRuleSet;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+import com.nsmm.esg.csddd_service.util.ViolationMetaMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 문항별 미준수 히트맵 서비스
+ *
+ * 본사 대시보드의 "어느 문항에서 협력사들이 가장 많이 NO를 답했는가" 히트맵을 요청마다
+ * 협력사 수 × 문항 수의 답변 행을 집계하지 않도록 본사별 문항 YES/NO 건수를 메모리에 유지한다.
+ * - 집계 대상: 협력사별 최신 완료 결과 1건 (현재 문항 버전 기준, 버전에 없는 문항은 제외)
+ * - 새 결과 제출(또는 제자리 갱신) 시 이전 답변 비트를 빼고 새 답변 비트를 더함 (문항 수만큼만 갱신)
+ * - 히트맵 조회는 본사 1곳의 카운터 배열 복사 1회 (DB 조회 없음)
+ * - 기동 시 DB에서 구성(패킹 답변 우선, 없으면 답변 행), 제출 커밋 이후 갱신,
+ *   정기 재구성(csddd.heatmap.rebuild-interval)으로 다른 인스턴스 제출 반영
+ * - 재채점은 답변을 바꾸지 않으므로 재구성 대상이 아니다.
+ * - 구성/재구성/이벤트 반영 절차는 HeadquartersIndexService 공통 (csddd.heatmap.rebuild: 집계 구성 시간)
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QuestionHeatmapService extends HeadquartersIndexService<QuestionHeatmapService.HeadquartersCounters> {
+
+    private final LatestPartnerAnswerLoader answerLoader;
+    private final GradingRuleRegistry gradingRuleRegistry;
+
+    public QuestionHeatmapService(LatestPartnerAnswerLoader answerLoader,
+                                  ShardingProperties shardingProperties,
+                                  HeatmapProperties properties,
+                                  GradingRuleRegistry gradingRuleRegistry,
+                                  MeterRegistry meterRegistry) {
+        super(properties, shardingProperties, meterRegistry, "csddd.heatmap.rebuild", "문항 히트맵");
+        this.answerLoader = answerLoader;
+        this.gradingRuleRegistry = gradingRuleRegistry;
+    }
+
+    /**
+     * 본사 협력사들의 문항별 미준수 히트맵 조회
+     *
+     * @return 비활성화된 경우 빈 값 (집계된 협력사가 없으면 건수 0인 히트맵)
+     */
+    public Optional<QuestionHeatmapResponse> heatmapOf(Long headquartersId) {
+        if (!isEnabled() || headquartersId == null) {
+            return Optional.empty();
+        }
+        QuestionnaireCatalog.Questionnaire questionnaire = currentQuestionnaire();
+        HeadquartersCounters counters = indexOf(headquartersId);
+        Snapshot snapshot = counters != null
+                ? counters.snapshot()
+                : new Snapshot(0, new int[questionnaire.size()], new int[questionnaire.size()]);
+        return Optional.of(toResponse(headquartersId, questionnaire, snapshot));
+    }
+
+    // ============================================================================
+    // 색인 구성/갱신 (Index Hooks)
+    // ============================================================================
+
+    /**
+     * 본사 자체 결과는 집계 대상이 아님
+     */
+    @Override
+    protected boolean accepts(AssessmentCompletedEvent event) {
+        return event.partnerId() != null;
+    }
+
+    @Override
+    protected void loadShard(Map<Long, HeadquartersCounters> target) {
+        QuestionnaireCatalog.Questionnaire questionnaire = currentQuestionnaire();
+        answerLoader.forEachLatest(questionnaire, (headquartersId, partnerId, revision, answers) -> target
+                .computeIfAbsent(headquartersId, key -> new HeadquartersCounters(questionnaire.size()))
+                .update(partnerId, revision, answers));
+    }
+
+    @Override
+    protected void apply(Map<Long, HeadquartersCounters> target, AssessmentCompletedEvent event) {
+        target.computeIfAbsent(event.headquartersId(), key -> new HeadquartersCounters(currentQuestionnaire().size()))
+                .update(event.partnerId(), event.revision(), event.answers());
+    }
+
+    @Override
+    protected String summarize(Map<Long, HeadquartersCounters> built) {
+        return "본사 %d곳, 협력사 %d곳".formatted(
+                built.size(), built.values().stream().mapToInt(HeadquartersCounters::size).sum());
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private static QuestionnaireCatalog.Questionnaire currentQuestionnaire() {
+        return QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+    }
+
+    private QuestionHeatmapResponse toResponse(
+            Long headquartersId, QuestionnaireCatalog.Questionnaire questionnaire, Snapshot snapshot) {
+        // 중대위반 표시는 문항 목록의 내장 기본값이 아닌 현재 규칙 세트 기준
+        GradingRuleSet rules = gradingRuleRegistry.current();
+        Map<String, List<QuestionHeatmapResponse.QuestionCell>> byCategory = new LinkedHashMap<>();
+        for (QuestionnaireCatalog.Question question : questionnaire.getQuestions()) {
+            int yes = snapshot.yesCounts()[question.ordinal()];
+            int no = snapshot.noCounts()[question.ordinal()];
+            AssessmentGrade criticalGrade = rules.criticalGrade(question.questionId());
+            QuestionHeatmapResponse.QuestionCell.QuestionCellBuilder cell = QuestionHeatmapResponse.QuestionCell.builder()
+                    .questionId(question.questionId())
+                    .yesCount(yes)
+                    .noCount(no)
+                    .noRate(rate(no, yes + no))
+                    .critical(criticalGrade != null);
+            if (criticalGrade != null) {
+                ViolationMeta meta = ViolationMetaMap.get(question.questionId());
+                cell.criticalGrade(criticalGrade)
+                        .legalBasis(meta.getLegalBasis())
+                        .penaltyInfo(meta.getPenaltyInfo());
+            }
+            byCategory.computeIfAbsent(question.category(), key -> new ArrayList<>()).add(cell.build());
+        }
+
+        List<QuestionHeatmapResponse.CategoryCell> categories = new ArrayList<>(byCategory.size());
+        byCategory.forEach((category, questions) -> {
+            int yes = questions.stream().mapToInt(QuestionHeatmapResponse.QuestionCell::getYesCount).sum();
+            int no = questions.stream().mapToInt(QuestionHeatmapResponse.QuestionCell::getNoCount).sum();
+            categories.add(QuestionHeatmapResponse.CategoryCell.builder()
+                    .category(category)
+                    .yesCount(yes)
+                    .noCount(no)
+                    .noRate(rate(no, yes + no))
+                    .questions(questions)
+                    .build());
+        });
+
+        return QuestionHeatmapResponse.builder()
+                .headquartersId(headquartersId)
+                .questionnaireVersion(questionnaire.getVersion())
+                .partnerCount(snapshot.partnerCount())
+                .categories(categories)
+                .build();
+    }
+
+    private static double rate(int count, int total) {
+        return total == 0 ? 0.0 : Math.round(count * 1000.0 / total) / 10.0;
+    }
+
+    /**
+     * 본사 1곳의 협력사별 최신 답변 비트와 문항별 YES/NO 건수
+     */
+    static final class HeadquartersCounters {
+
+        private final int[] yesCounts;
+        private final int[] noCounts;
+        private final Map<Long, LatestAnswers> latest = new HashMap<>();
+
+        private HeadquartersCounters(int questionCount) {
+            this.yesCounts = new int[questionCount];
+            this.noCounts = new int[questionCount];
+        }
+
+        /**
+         * 협력사 최신 답변 반영 (이미 더 최근 결과가 반영되어 있으면 무시)
+         */
+        private synchronized void update(Long partnerId, ResultRevision revision, AnswerBitSet answers) {
+            LatestAnswers previous = latest.get(partnerId);
+            if (previous != null) {
+                if (!revision.isNewerThan(previous.revision())) {
+                    return;
+                }
+                previous.answers().accumulate(yesCounts, noCounts, -1);
+            }
+            latest.put(partnerId, new LatestAnswers(revision, answers));
+            answers.accumulate(yesCounts, noCounts, 1);
+        }
+
+        private synchronized Snapshot snapshot() {
+            return new Snapshot(latest.size(), yesCounts.clone(), noCounts.clone());
+        }
+
+        private synchronized int size() {
+            return latest.size();
+        }
+    }
+
+    private record LatestAnswers(ResultRevision revision, AnswerBitSet answers) {
+    }
+
+    private record Snapshot(int partnerCount, int[] yesCounts, int[] noCounts) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.csddd_service.config.ReadCoalescingProperties;
+import com.nsmm.esg.csddd_service.dto.response.RawJsonPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시 동일 조회 요청 병합 서비스 (single-flight)
+ *
+ * 본사 대시보드가 열릴 때 여러 탭/위젯이 같은 목록 페이지와 상세를 동시에 요청하면
+ * 먼저 도착한 요청(leader)만 조회/매핑/직렬화를 수행하고, 처리 중에 도착한 같은 키의
+ * 요청(follower)은 그 결과를 기다려 공유한다.
+ *
+ * - 키는 정규화된 요청 파라미터와 권한 범위(AccessScope)를 함께 포함하므로
+ *   권한 범위가 다른 호출자끼리는 결과도, 권한 검사 결과(403/404)도 공유하지 않음
+ * - 완료된 결과는 보관하지 않음 (처리 중인 동안만 공유, 캐시 아님)
+ * - JSON 응답은 leader가 한 번 직렬화한 바이트(RawJsonPayload)를 공유
+ * - csddd.read.coalescing: 조회 구분(endpoint)별 leader/follower 요청 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadCoalescingService {
+
+    private final ReadCoalescingProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키의 조회가 처리 중이면 그 결과를 공유하고, 없으면 직접 조회
+     *
+     * @param endpoint 조회 구분 (detail, list)
+     * @param key      정규화된 요청 파라미터와 AccessScope를 포함한 키 (값 기반 equals/hashCode)
+     * @param json     JSON 응답 여부 (true면 결과를 RawJsonPayload로 직렬화하여 공유)
+     * @param work     실제 조회 (ApiResponse의 data 값)
+     * @return ApiResponse의 data 값
+     */
+    public Object execute(String endpoint, Object key, boolean json, Supplier<?> work) {
+        if (!properties.isEnabled()) {
+            return work.get();
+        }
+
+        FlightKey flightKey = new FlightKey(endpoint, key, json);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            count(endpoint, "follower");
+            log.debug("진행 중인 조회 결과 공유: {}", flightKey);
+            return await(existing);
+        }
+
+        count(endpoint, "leader");
+        try {
+            Object value = json ? toJson(work.get()) : work.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    /**
+     * leader 결과 대기 (leader의 예외를 그대로 전달하여 컨트롤러의 예외 처리를 동일하게 적용)
+     */
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Object toJson(Object value) {
+        if (value instanceof RawJsonPayload) {
+            return value;
+        }
+        try {
+            return RawJsonPayload.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("조회 결과 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private void count(String endpoint, String role) {
+        Counter.builder("csddd.read.coalescing")
+                .description("조회 요청 병합 (leader: 직접 조회, follower: 진행 중인 결과 공유)")
+                .tag("endpoint", endpoint)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record FlightKey(String endpoint, Object key, boolean json) {
+    }
+
+    /**
+     * 조회 권한 범위 (병합 키 구성용)
+     *
+     * 본사 사용자는 본사 ID만으로 권한이 결정되므로 협력사 ID/treePath를 제외하여
+     * 같은 본사의 요청끼리 병합되도록 정규화한다.
+     */
+    public record AccessScope(String userType, Long headquartersId, Long partnerId, String treePath) {
+
+        public static AccessScope of(String userType, Long headquartersId, Long partnerId, String treePath) {
+            String normalizedType = userType != null ? userType.toUpperCase(Locale.ROOT) : null;
+            if ("HEADQUARTERS".equals(normalizedType)) {
+                return new AccessScope(normalizedType, headquartersId, null, null);
+            }
+            return new AccessScope(normalizedType, headquartersId, partnerId, treePath);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.PercentileProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.PercentileRankResponse;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.FenwickTree;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 본사 내 협력사 점수 백분위 서비스
+ *
+ * "본사 협력사 중 상위 20%" 같은 순위를 요청마다 전체 결과를 집계하지 않고 메모리 색인으로 계산한다.
+ * - 본사별로 협력사의 최신 완료 결과 점수(0~100 정수 반올림) 히스토그램을 Fenwick 트리로 유지
+ * - 순위/백분위 조회는 누적합 1회 (O(log 101))
+ * - 기동 시(다른 ApplicationRunner보다 먼저) DB에서 구성하고, 제출 커밋 이후 AssessmentCompletedEvent로 갱신
+ * - 다른 인스턴스의 제출과 재채점 결과는 정기 재구성(csddd.percentile.rebuild-interval)으로 반영
+ * - 구성/재구성/이벤트 반영 절차는 HeadquartersIndexService 공통 (csddd.percentile.rebuild: 색인 구성 시간)
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ScorePercentileService extends HeadquartersIndexService<ScorePercentileService.HeadquartersScores> {
+
+    private static final int MAX_SCORE = 100;
+
+    private final SelfAssessmentResultRepository resultRepository;
+
+    public ScorePercentileService(SelfAssessmentResultRepository resultRepository,
+                                  ShardingProperties shardingProperties,
+                                  PercentileProperties properties,
+                                  MeterRegistry meterRegistry) {
+        super(properties, shardingProperties, meterRegistry, "csddd.percentile.rebuild", "점수 백분위 색인");
+        this.resultRepository = resultRepository;
+    }
+
+    /**
+     * 본사 내 협력사의 점수 순위/백분위 조회
+     *
+     * @return 색인에 협력사의 완료 결과가 없으면 빈 값
+     */
+    public Optional<PercentileRankResponse> rankOf(Long headquartersId, Long partnerId) {
+        if (!isEnabled() || headquartersId == null || partnerId == null) {
+            return Optional.empty();
+        }
+        HeadquartersScores scores = indexOf(headquartersId);
+        return scores != null ? scores.rank(headquartersId, partnerId) : Optional.empty();
+    }
+
+    // ============================================================================
+    // 색인 구성/갱신 (Index Hooks)
+    // ============================================================================
+
+    /**
+     * 본사 자체 결과는 순위 대상이 아님
+     */
+    @Override
+    protected boolean accepts(AssessmentCompletedEvent event) {
+        return event.partnerId() != null;
+    }
+
+    @Override
+    protected void loadShard(Map<Long, HeadquartersScores> target) {
+        resultRepository.findLatestPartnerScores().forEach(row ->
+                target.computeIfAbsent(row.getHeadquartersId(), key -> new HeadquartersScores())
+                        .update(row.getPartnerId(), ResultRevision.of(row.getResultId(), row.getVersion()),
+                                bucket(row.getScore())));
+    }
+
+    @Override
+    protected void apply(Map<Long, HeadquartersScores> target, AssessmentCompletedEvent event) {
+        target.computeIfAbsent(event.headquartersId(), key -> new HeadquartersScores())
+                .update(event.partnerId(), event.revision(), bucket(event.summary().getScore()));
+    }
+
+    @Override
+    protected String summarize(Map<Long, HeadquartersScores> built) {
+        return "본사 %d곳, 협력사 %d곳".formatted(
+                built.size(), built.values().stream().mapToInt(HeadquartersScores::size).sum());
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private static int bucket(double score) {
+        return (int) Math.max(0, Math.min(MAX_SCORE, Math.round(score)));
+    }
+
+    private static double percent(long count, int total) {
+        return Math.round(count * 1000.0 / total) / 10.0;
+    }
+
+    /**
+     * 본사 1곳의 협력사별 최신 점수와 점수 히스토그램
+     */
+    static final class HeadquartersScores {
+
+        private final FenwickTree histogram = new FenwickTree(MAX_SCORE + 1);
+        private final Map<Long, LatestScore> latest = new HashMap<>();
+
+        /**
+         * 협력사 최신 점수 반영 (이미 더 최근 결과가 반영되어 있으면 무시)
+         */
+        private synchronized void update(Long partnerId, ResultRevision revision, int bucket) {
+            LatestScore previous = latest.get(partnerId);
+            if (previous != null) {
+                if (!revision.isNewerThan(previous.revision())) {
+                    return;
+                }
+                histogram.add(previous.bucket(), -1);
+            }
+            latest.put(partnerId, new LatestScore(revision, bucket));
+            histogram.add(bucket, 1);
+        }
+
+        private synchronized Optional<PercentileRankResponse> rank(Long headquartersId, Long partnerId) {
+            LatestScore own = latest.get(partnerId);
+            if (own == null) {
+                return Optional.empty();
+            }
+            int total = latest.size();
+            long atOrBelow = histogram.prefixSum(own.bucket());
+            long rank = total - atOrBelow + 1;
+            return Optional.of(PercentileRankResponse.builder()
+                    .headquartersId(headquartersId)
+                    .partnerId(partnerId)
+                    .resultId(own.revision().resultId())
+                    .score(own.bucket())
+                    .rank((int) rank)
+                    .totalPartners(total)
+                    .topPercent(percent(rank, total))
+                    .percentile(percent(atOrBelow, total))
+                    .build());
+        }
+
+        private synchronized int size() {
+            return latest.size();
+        }
+    }
+
+    private record LatestScore(ResultRevision revision, int bucket) {
+    }
+}
@@ -1,24 +1,48 @@
 package com.nsmm.esg.csddd_service.service;
 
+import com.nsmm.esg.csddd_service.config.AnswerStorageProperties;
+import com.nsmm.esg.csddd_service.config.SubmissionProperties;
+import com.nsmm.esg.csddd_service.dto.request.PackedSelfAssessmentSubmitRequest;
 import com.nsmm.esg.csddd_service.dto.request.SelfAssessmentSubmitRequest;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultFields;
+import com.nsmm.esg.csddd_service.entity.ArchivedAssessmentResult;
+import com.nsmm.esg.csddd_service.entity.AssessmentDetailSnapshot;
+import com.nsmm.esg.csddd_service.entity.AssessmentResultHistory;
+import com.nsmm.esg.csddd_service.entity.CurrentAssessmentKey;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AnswerRowStorage;
 import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.enums.SubmissionMode;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.event.SubmissionMetricsEvent;
+import com.nsmm.esg.csddd_service.repository.ArchivedAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.AssessmentResultHistoryRepository;
+import com.nsmm.esg.csddd_service.repository.CurrentAssessmentKeyRepository;
 import com.nsmm.esg.csddd_service.repository.SelfAssessmentAnswerRepository;
 import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.AssessmentMetrics;
 import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -34,7 +58,16 @@ public class SelfAssessmentService {
 
     private final SelfAssessmentResultRepository resultRepository;
     private final SelfAssessmentAnswerRepository answerRepository;
+    private final ArchivedAssessmentResultRepository archivedResultRepository;
     private final GradeCalculator gradeCalculator;
+    private final AssessmentMetrics assessmentMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnswerStorageProperties answerStorageProperties;
+    private final AssessmentSnapshotService snapshotService;
+    private final AssessmentDetailSnapshotRepository snapshotRepository;
+    private final AssessmentResultHistoryRepository historyRepository;
+    private final CurrentAssessmentKeyRepository currentKeyRepository;
+    private final SubmissionProperties submissionProperties;
 
     // ============================================================================
     // 자가진단 제출 처리 (Submit Assessment)
@@ -43,11 +76,14 @@ public class SelfAssessmentService {
     /**
      * 자가진단 결과 제출 처리
      *
-     * 1. 결과 객체 생성 및 저장
-     * 2. 답변 목록 생성 및 연관관계 설정
-     * 3. 점수 및 등급 계산
-     * 4. 중대위반 건수 계산
-     * 5. 최종 저장
+     * 1. 결과 객체 및 답변 목록 생성 (UPSERT 모드에서 현재 결과가 있으면 이전 버전을 이력으로 보관하고 재사용)
+     * 2. 현재 문항 버전과 정확히 일치하면 패킹 답변 생성
+     * 3. 답변 행 저장 정책에 따라 저장 (답변 행 포함 또는 패킹 답변만)
+     * 4. 상세 스냅샷 저장 및 제출 완료 이벤트 발행 (커밋 이후 변경 피드 등으로 전달)
+     *
+     * 각 단계의 처리 시간은 csddd.submit.stage 지표로 기록
+     *
+     * @throws ObjectOptimisticLockingFailureException UPSERT 모드에서 현재 결과가 다른 제출로 먼저 갱신(또는 지정)된 경우
      */
     @Transactional
     public void submitSelfAssessment(
@@ -58,28 +94,69 @@ public class SelfAssessmentService {
             String treePath) {
         log.info("자가진단 제출 시작: 회사={}, 사용자유형={}", requestDto.getCompanyName(), userType);
 
-        // 1. 결과 객체 생성 및 초기 저장 (ID 생성을 위해)
-        SelfAssessmentResult result = createInitialResult(requestDto, userType, headquartersId, partnerId, treePath);
-        resultRepository.save(result);
+        // 1. 결과 객체 및 답변 목록 생성 (DTO → Entity)
+        SelfAssessmentResult result = prepareResult(requestDto.getCompanyName(), userType,
+                headquartersId, partnerId, treePath, requestDto.getExpectedVersion());
+        boolean resubmission = result.getId() != null;
+        List<SelfAssessmentAnswer> answers = assessmentMetrics.recordSubmitStage("mapping", userType,
+                () -> createAnswersFromRequest(requestDto, result));
+
+        // 2. 패킹 답변 생성 (문항/카테고리/가중치 정의가 다르면 답변 행만 저장)
+        QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+        byte[] packed = questionnaire.pack(answers);
+        if (packed != null) {
+            result.assignPackedAnswers(questionnaire.getVersion(), packed);
+        }
 
-        // 2. 답변 목록 생성 및 연관관계 설정
-        List<SelfAssessmentAnswer> answers = createAnswersFromRequest(requestDto, result);
+        // 3. 저장
+        if (packed != null && answerStorageProperties.getRowStorage() == AnswerRowStorage.FALLBACK_ONLY) {
+            savePackedOnly(result, userType);
+        } else {
+            saveWithAnswerRows(result, answers, userType);
+        }
 
-        // 3. 양방향 연관관계 설정
-        result.assignAnswers(answers);
+        // 4. 제출 완료 처리
+        completeSubmission(result, userType, resubmission);
+    }
 
-        // 4. 점수 및 등급 계산
-        gradeCalculator.evaluate(result);
+    /**
+     * 자가진단 결과 패킹 제출 처리
+     *
+     * 문항 버전의 문항 순서대로 YES/NO 비트를 담은 Base64 답변을 받아 저장한다.
+     * 카테고리/가중치는 문항 버전에서, 중대위반 여부는 채점 시 현재 규칙 세트에서 가져오며,
+     * 답변 행 저장 정책이 ALWAYS이면 기존 제출과 동일하게 답변 행도 함께 저장한다.
+     *
+     * @throws IllegalArgumentException               알 수 없는 문항 버전이거나 답변 형식이 잘못된 경우
+     * @throws ObjectOptimisticLockingFailureException UPSERT 모드에서 현재 결과가 다른 제출로 먼저 갱신(또는 지정)된 경우
+     */
+    @Transactional
+    public void submitPackedSelfAssessment(
+            PackedSelfAssessmentSubmitRequest requestDto,
+            String userType,
+            String headquartersId,
+            String partnerId,
+            String treePath) {
+        log.info("자가진단 패킹 제출 시작: 회사={}, 사용자유형={}, 문항버전={}",
+                requestDto.getCompanyName(), userType, requestDto.getQuestionnaireVersion());
+
+        QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(requestDto.getQuestionnaireVersion());
+        byte[] packed = decodePackedAnswers(requestDto.getAnswers());
+        questionnaire.validate(packed);
 
-        // 5. 중대위반 건수 계산 (Entity의 updateCriticalViolationCount 메서드 사용)
-        result.updateCriticalViolationCount();
+        SelfAssessmentResult result = prepareResult(requestDto.getCompanyName(), userType,
+                headquartersId, partnerId, treePath, requestDto.getExpectedVersion());
+        boolean resubmission = result.getId() != null;
+        result.assignPackedAnswers(questionnaire.getVersion(), packed);
 
-        // 6. 최종 저장
-        answerRepository.saveAll(answers);
-        resultRepository.save(result);
+        if (answerStorageProperties.getRowStorage() == AnswerRowStorage.FALLBACK_ONLY) {
+            savePackedOnly(result, userType);
+        } else {
+            List<SelfAssessmentAnswer> answers = assessmentMetrics.recordSubmitStage("mapping", userType,
+                    () -> questionnaire.unpack(packed, result, null));
+            saveWithAnswerRows(result, answers, userType);
+        }
 
-        log.info("자가진단 제출 완료: ID={}, 점수={}, 등급={}",
-                result.getId(), result.getScore(), result.getFinalGrade());
+        completeSubmission(result, userType, resubmission);
     }
 
     // ============================================================================
@@ -89,9 +166,18 @@ public class SelfAssessmentService {
     /**
      * 자가진단 결과 단건 조회
      *
-     * 권한에 따른 접근 제어:
+     * 권한에 따른 접근 제어 (권한 범위 판정 쿼리의 CASE 조건):
      * - 본사: 본사 ID가 일치하는 모든 결과
-     * - 협력사: 자신의 협력사 ID가 일치하는 결과만
+     * - 협력사: 자신의 결과 또는 하위 협력사(treePath 하위) 결과
+     *
+     * 1. 권한 범위 판정 1회 (핫 테이블/콜드 저장소 UNION ALL, 저장 위치와 권한 범위 포함 여부)
+     *    - 없으면 찾을 수 없음, 있지만 권한 범위 밖이면 권한 없음
+     * 2. 판정된 저장 위치에서 기본키로 로딩 (핫 테이블은 2차 캐시 사용)
+     *
+     * 권한 범위 판정은 성공/실패 모두 access_check 단계 지표로 기록
+     *
+     * @throws IllegalArgumentException 결과가 존재하지 않거나 유효하지 않은 사용자 유형인 경우
+     * @throws SecurityException        결과가 존재하지만 권한 범위 밖인 경우
      */
     @Transactional(readOnly = true)
     public SelfAssessmentResult getSelfAssessmentResult(
@@ -102,13 +188,45 @@ public class SelfAssessmentService {
             String treePath) {
         log.info("자가진단 결과 조회: ID={}, 사용자유형={}", resultId, userType);
 
-        SelfAssessmentResult result = resultRepository.findById(resultId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 자가진단 결과를 찾을 수 없습니다."));
+        List<SelfAssessmentResultRepository.ResultScope> scopes = assessmentMetrics.recordReadStage("access_check",
+                userType, () -> findResultScope(resultId, userType, headquartersId, partnerId, treePath));
+        SelfAssessmentResultRepository.ResultScope scope = scopes.stream()
+                .filter(candidate -> Boolean.TRUE.equals(candidate.getInScope()))
+                .findFirst()
+                .orElseThrow(() -> scopes.isEmpty()
+                        ? new IllegalArgumentException("해당 자가진단 결과를 찾을 수 없습니다.")
+                        : new SecurityException("해당 자가진단 결과에 접근할 권한이 없습니다."));
 
-        // 권한 검증
-        validateAccessPermission(result, userType, headquartersId, partnerId, treePath);
+        return assessmentMetrics.recordReadStage("load", userType, () -> loadResult(scope));
+    }
 
-        return result;
+    /**
+     * 자가진단 결과 상세 스냅샷 조회
+     *
+     * 권한 범위 조건을 WHERE 절에 포함한 1회 조회로 미리 직렬화된 상세 응답을 읽는다.
+     * 스냅샷이 없거나(스냅샷 도입 이전 결과, 콜드 저장소 결과) 권한 범위 밖이면 빈 값을 반환하며
+     * 호출 측은 getSelfAssessmentResult로 대체 조회한다 (404/403 구분 포함).
+     *
+     * @return 상세 스냅샷 (payload: ApiResponse의 data 부분 JSON)
+     * @throws IllegalArgumentException 유효하지 않은 사용자 유형인 경우
+     */
+    @Transactional(readOnly = true)
+    public Optional<AssessmentDetailSnapshot> findDetailSnapshot(
+            Long resultId,
+            String userType,
+            Long headquartersId,
+            Long partnerId,
+            String treePath) {
+        return assessmentMetrics.recordReadStage("snapshot", userType, () -> {
+            if ("HEADQUARTERS".equalsIgnoreCase(userType)) {
+                return snapshotRepository.findByIdInHeadquartersScope(resultId, headquartersId);
+            } else if ("PARTNER".equalsIgnoreCase(userType)) {
+                String treePathPrefix = treePath != null ? escapeLikePattern(treePath) + "%" : null;
+                return snapshotRepository.findByIdInPartnerScope(
+                        resultId, headquartersId, partnerId, treePath, treePathPrefix);
+            }
+            throw new IllegalArgumentException("유효하지 않은 사용자 유형입니다.");
+        });
     }
 
     /**
@@ -140,21 +258,151 @@ public class SelfAssessmentService {
         return resultRepository.findAll(spec, pageable);
     }
 
+    /**
+     * 자가진단 결과 목록 조회 (부분 필드)
+     *
+     * 목록 조회와 같은 조건/권한 필터를 적용하되, 요청 필드에 필요한 컬럼만 SELECT하여
+     * 엔티티 로딩 없이 응답 맵으로 변환
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getSelfAssessmentResultFields(
+            String userType,
+            Long headquartersId,
+            Long partnerId,
+            String treePath,
+            String companyName,
+            String category,
+            String startDate,
+            String endDate,
+            Pageable pageable,
+            Boolean onlyPartners,
+            SelfAssessmentResultFields fields) {
+        log.info("자가진단 결과 부분 목록 조회: 사용자유형={}, 본사ID={}, 속성={}",
+                userType, headquartersId, fields.attributes());
+
+        Specification<SelfAssessmentResult> spec = createSearchSpecification(
+                userType, headquartersId, partnerId, treePath,
+                companyName, category, startDate, endDate, onlyPartners);
+
+        return resultRepository.findAllProjected(spec, fields.attributes(), pageable)
+                .map(fields::toMap);
+    }
+
     // ============================================================================
     // 프라이빗 헬퍼 메서드 (Private Helper Methods)
     // ============================================================================
 
+    /**
+     * 제출 대상 결과 준비
+     * UPSERT 모드이고 본사/협력사의 현재 결과가 있으면 제자리 갱신할 현재 결과를,
+     * 그 외에는 새 결과 객체를 반환한다.
+     *
+     * 현재 결과는 본사/협력사의 최신 결과이며, 현재 결과 키가 이를 가리키도록 맞춘다.
+     * - 키가 없으면(APPEND 모드에서 저장된 결과) 최신 결과로 키 저장
+     * - 키가 최신 결과가 아니면(이후 APPEND 모드 제출) 또는 가리키는 결과가 이관되어 없으면 키를 다시 지정
+     *
+     * @param expectedVersion 클라이언트가 조회한 현재 결과 버전 (선택, UPSERT 모드에서만 검사)
+     */
+    private SelfAssessmentResult prepareResult(
+            String companyName,
+            String userType,
+            String headquartersId,
+            String partnerId,
+            String treePath,
+            Long expectedVersion) {
+        if (submissionProperties.getMode() == SubmissionMode.UPSERT) {
+            Long hqId = parseToLong(headquartersId);
+            Long ptId = partnerId != null ? parseToLong(partnerId) : null;
+            Optional<CurrentAssessmentKey> key = currentKeyRepository
+                    .findByHeadquartersIdAndPartnerKey(hqId, CurrentAssessmentKey.partnerKeyOf(ptId));
+            Optional<SelfAssessmentResult> current =
+                    resultRepository.findFirstByHeadquartersIdAndPartnerIdOrderByCreatedAtDescIdDesc(hqId, ptId);
+            if (current.isPresent()) {
+                if (key.isEmpty()) {
+                    claimCurrentKey(current.get());
+                } else if (!key.get().getResultId().equals(current.get().getId())) {
+                    repointCurrentKey(key.get(), current.get().getId());
+                }
+                return prepareResubmission(current.get(), companyName, userType, treePath, expectedVersion);
+            }
+            // 가리키던 결과가 없는 키는 비워 두고, 새 결과 저장 후 다시 지정
+            key.ifPresent(stale -> repointCurrentKey(stale, null));
+        }
+        return createInitialResult(companyName, userType, headquartersId, partnerId, treePath);
+    }
+
+    /**
+     * 현재 결과 키 저장 (UPSERT 모드 최초 제출)
+     *
+     * 같은 본사/협력사의 최초 제출이 동시에 들어오면 유니크 제약 위반으로 한쪽만 성공하며,
+     * 실패한 쪽은 버전 충돌과 같이 409 (VERSION_CONFLICT)로 응답된다.
+     *
+     * @throws ObjectOptimisticLockingFailureException 다른 제출이 먼저 현재 결과를 지정한 경우
+     */
+    private void claimCurrentKey(SelfAssessmentResult result) {
+        try {
+            currentKeyRepository.saveAndFlush(CurrentAssessmentKey.of(result));
+        } catch (DataIntegrityViolationException e) {
+            throw new ObjectOptimisticLockingFailureException(SelfAssessmentResult.class, result.getId(), e);
+        }
+    }
+
+    /**
+     * 현재 결과 키 재지정 (resultId가 null이면 키 삭제)
+     *
+     * 키가 아직 읽은 결과를 가리킬 때만 변경하므로, 다른 제출이 먼저 재지정했으면
+     * 최초 제출 경합과 같이 409 (VERSION_CONFLICT)로 응답된다.
+     *
+     * @throws ObjectOptimisticLockingFailureException 다른 제출이 먼저 현재 결과를 재지정한 경우
+     */
+    private void repointCurrentKey(CurrentAssessmentKey key, Long resultId) {
+        int updated = resultId != null
+                ? currentKeyRepository.repoint(key.getId(), key.getResultId(), resultId)
+                : currentKeyRepository.release(key.getId(), key.getResultId());
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(CurrentAssessmentKey.class, key.getId());
+        }
+        log.info("현재 결과 키 재지정: 본사ID={}, 이전 결과ID={}, 결과ID={}",
+                key.getHeadquartersId(), key.getResultId(), resultId);
+    }
+
+    /**
+     * 현재 결과 제자리 갱신 준비
+     *
+     * 1. expectedVersion이 있으면 현재 버전과 비교 (행 잠금 없이 즉시 충돌 판정)
+     * 2. 덮어쓰기 전 버전을 이력 테이블에 압축 보관
+     * 3. 현재 결과를 재제출 상태로 되돌림 (이전 답변 행은 orphanRemoval로 삭제)
+     *
+     * 동시에 같은 버전을 읽은 다른 제출이 먼저 커밋하면 flush 시 version 조건 UPDATE가 0건이 되어
+     * ObjectOptimisticLockingFailureException으로 롤백된다 (이력 행 포함).
+     */
+    private SelfAssessmentResult prepareResubmission(
+            SelfAssessmentResult current,
+            String companyName,
+            String userType,
+            String treePath,
+            Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(SelfAssessmentResult.class, current.getId());
+        }
+        historyRepository.save(AssessmentResultHistory.from(current, LocalDateTime.now()));
+        current.prepareResubmission(companyName, userType, treePath);
+
+        log.info("자가진단 현재 결과 갱신: ID={}, 이전 버전={}", current.getId(), current.getVersion());
+        return current;
+    }
+
     /**
      * 초기 결과 객체 생성
      */
     private SelfAssessmentResult createInitialResult(
-            SelfAssessmentSubmitRequest requestDto,
+            String companyName,
             String userType,
             String headquartersId,
             String partnerId,
             String treePath) {
         return SelfAssessmentResult.builder()
-                .companyName(requestDto.getCompanyName())
+                .companyName(companyName)
                 .userType(userType)
                 .headquartersId(parseToLong(headquartersId))
                 .partnerId(partnerId != null ? parseToLong(partnerId) : null)
@@ -163,6 +411,90 @@ public class SelfAssessmentService {
                 .build();
     }
 
+    /**
+     * 답변 행 포함 저장
+     *
+     * 1. 결과 초기 저장 (ID 생성을 위해)
+     * 2. 양방향 연관관계 설정 (제자리 갱신이면 기존 답변 행은 orphanRemoval로 삭제)
+     * 3. 점수 및 등급 계산, 중대위반 건수 계산
+     * 4. 답변 저장
+     * 5. 최종 저장
+     */
+    private void saveWithAnswerRows(SelfAssessmentResult result, List<SelfAssessmentAnswer> answers, String userType) {
+        assessmentMetrics.recordSubmitStage("initial_save", userType, () -> {
+            resultRepository.save(result);
+        });
+
+        result.replaceAnswers(answers);
+
+        assessmentMetrics.recordSubmitStage("evaluate", userType, () -> {
+            gradeCalculator.evaluate(result);
+            result.updateCriticalViolationCount();
+        });
+
+        assessmentMetrics.recordSubmitStage("answer_insert", userType, () -> {
+            answerRepository.saveAll(answers);
+        });
+
+        assessmentMetrics.recordSubmitStage("final_save", userType, () -> {
+            resultRepository.save(result);
+        });
+    }
+
+    /**
+     * 패킹 답변만 저장 (답변 행 없음)
+     * 평가를 먼저 수행하므로 결과 INSERT 1회로 끝난다.
+     */
+    private void savePackedOnly(SelfAssessmentResult result, String userType) {
+        assessmentMetrics.recordSubmitStage("evaluate", userType, () -> {
+            gradeCalculator.evaluate(result);
+            result.updateCriticalViolationCount();
+        });
+
+        assessmentMetrics.recordSubmitStage("packed_save", userType, () -> {
+            resultRepository.save(result);
+        });
+    }
+
+    /**
+     * 제출 완료 처리
+     *
+     * 1. UPSERT 모드 최초 제출이면 현재 결과 키 저장
+     * 2. 최종 상태를 DB에 반영한 뒤 상세 스냅샷 저장 (같은 트랜잭션, 제자리 갱신이면 기존 스냅샷 교체)
+     * 3. 지표 이벤트 및 완료 이벤트 발행 (AFTER_COMMIT 리스너만 수신)
+     */
+    private void completeSubmission(SelfAssessmentResult result, String userType, boolean resubmission) {
+        if (submissionProperties.getMode() == SubmissionMode.UPSERT && !resubmission) {
+            claimCurrentKey(result);
+        }
+
+        assessmentMetrics.recordSubmitStage("snapshot", userType, () -> {
+            resultRepository.flush();
+            if (resubmission) {
+                snapshotService.replace(result);
+            } else {
+                snapshotService.write(result);
+            }
+        });
+
+        eventPublisher.publishEvent(SubmissionMetricsEvent.from(result, userType));
+        eventPublisher.publishEvent(AssessmentCompletedEvent.from(result));
+
+        log.info("자가진단 제출 완료: ID={}, 버전={}, 점수={}, 등급={}",
+                result.getId(), result.getVersion(), result.getScore(), result.getFinalGrade());
+    }
+
+    /**
+     * Base64 패킹 답변 디코딩
+     */
+    private byte[] decodePackedAnswers(String encoded) {
+        try {
+            return Base64.getDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("패킹 답변이 올바른 Base64 형식이 아닙니다.");
+        }
+    }
+
     /**
      * 요청 DTO에서 답변 엔티티 목록 생성
      */
@@ -183,51 +515,47 @@ public class SelfAssessmentService {
     }
 
     /**
-     * 접근 권한 검증
+     * 사용자 유형별 권한 범위 판정 조회
      */
-    private void validateAccessPermission(
-            SelfAssessmentResult result,
+    private List<SelfAssessmentResultRepository.ResultScope> findResultScope(
+            Long resultId,
             String userType,
             Long headquartersId,
             Long partnerId,
             String treePath) {
         if ("HEADQUARTERS".equalsIgnoreCase(userType)) {
-            if (!result.getHeadquartersId().equals(headquartersId)) {
-                throw new SecurityException("해당 자가진단 결과에 접근할 권한이 없습니다.");
-            }
+            return resultRepository.findScopeForHeadquarters(resultId, headquartersId);
         } else if ("PARTNER".equalsIgnoreCase(userType)) {
-            // 1. 같은 본사 소속인지 확인
-            if (!result.getHeadquartersId().equals(headquartersId)) {
-                throw new SecurityException("해당 자가진단 결과에 접근할 권한이 없습니다.");
-            }
-
-            // 2. 자신의 결과이거나 하위 파트너의 결과인지 확인
-            boolean hasAccess = false;
-
-            // 2-1. 자신의 결과인 경우
-            if (result.getPartnerId() != null && result.getPartnerId().equals(partnerId)) {
-                hasAccess = true;
-            }
-
-            // 2-2. 하위 파트너의 결과인 경우 (treePath 기반 검증)
-            if (!hasAccess && treePath != null && result.getTreePath() != null) {
-                // 현재 파트너의 treePath가 /1/L1-001/이고
-                // 조회하려는 결과의 treePath가 /1/L1-001/L2-001/인 경우
-                // 하위 파트너의 결과로 판단하여 접근 허용
-                if (result.getTreePath().startsWith(treePath) &&
-                        !result.getTreePath().equals(treePath)) {
-                    hasAccess = true;
-                }
-            }
-
-            if (!hasAccess) {
-                throw new SecurityException("해당 자가진단 결과에 접근할 권한이 없습니다.");
-            }
+            // 현재 파트너의 treePath가 /1/L1-001/이면 /1/L1-001/L2-001/ 등 하위 결과까지 허용
+            String treePathPrefix = treePath != null ? escapeLikePattern(treePath) + "%" : null;
+            return resultRepository.findScopeForPartner(
+                    resultId, headquartersId, partnerId, treePath, treePathPrefix);
         } else {
             throw new IllegalArgumentException("유효하지 않은 사용자 유형입니다.");
         }
     }
 
+    /**
+     * 판정된 저장 위치에서 결과 로딩
+     * 판정과 로딩 사이에 콜드 저장소로 이관된 경우를 위해 핫 테이블에 없으면 콜드 저장소를 확인
+     */
+    private SelfAssessmentResult loadResult(SelfAssessmentResultRepository.ResultScope scope) {
+        Optional<SelfAssessmentResult> result = scope.isArchived()
+                ? archivedResultRepository.findById(scope.getId()).map(ArchivedAssessmentResult::toResult)
+                : resultRepository.findById(scope.getId())
+                        .or(() -> archivedResultRepository.findById(scope.getId())
+                                .map(ArchivedAssessmentResult::toResult));
+        return result.orElseThrow(() -> new IllegalArgumentException("해당 자가진단 결과를 찾을 수 없습니다."));
+    }
+
+    /**
+     * LIKE 패턴 이스케이프 ('!' 이스케이프 문자 기준)
+     */
+    private String escapeLikePattern(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
 
     /**
      * 검색 조건 Specification 생성
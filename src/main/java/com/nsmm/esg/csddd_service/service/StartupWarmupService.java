@@ -0,0 +1,293 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.config.WarmupProperties;
+import com.nsmm.esg.csddd_service.dto.ApiResponse;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultFields;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.QuestionnaireCatalog;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import com.nsmm.esg.csddd_service.util.ViolationMetaMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSDDD 기동 워밍업 서비스
+ *
+ * 새 인스턴스가 실제 요청을 받기 전에 클래스 로딩, JIT 컴파일, 커넥션 풀 생성, 캐시 적재를 미리 수행
+ *
+ * 1. 문항/중대위반 카탈로그 적재 (QuestionnaireCatalog, ViolationMetaMap)
+ * 2. 합성 답변 채점 (패킹 답변 복원 + GradeCalculator)
+ * 3. 상세/목록 응답 직렬화 (JSON, CBOR, Smile)
+ * 4. 권한 범위 조회/목록/스냅샷 쿼리를 여러 스레드에서 샤드마다 실행 (샤드별 커넥션 풀 채움, 쿼리 계획 캐시)
+ * 5. 샤드마다 최근 완료 결과를 2차 캐시에 적재
+ *
+ * - ApplicationRunner에서 실행되므로 완료 전까지 ApplicationReadyEvent와 readiness(ACCEPTING_TRAFFIC)가 지연됨
+ * - Eureka 인스턴스는 STARTING으로 등록되고(eureka.instance.initial-status) 워밍업 후 UP으로 전환
+ * - 제한 시간이 지나면 남은 단계를 건너뛰고 UP 전환 (워밍업 실패로 기동이 막히지 않도록)
+ * - 합성 조회는 존재하지 않는 본사 ID(-1)로 실행하여 실제 데이터와 지표에 영향을 주지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StartupWarmupService implements ApplicationRunner {
+
+    private static final long WARMUP_HEADQUARTERS_ID = -1L;
+    private static final String WARMUP_TREE_PATH = "WARMUP/";
+    private static final Specification<SelfAssessmentResult> WARMUP_SCOPE =
+            (root, query, cb) -> cb.equal(root.get("headquartersId"), WARMUP_HEADQUARTERS_ID);
+
+    private static final String SELECT_RECENT_RESULT_IDS = """
+            select id from self_assessment_results
+            where status = ?
+            order by id desc
+            limit ?
+            """;
+
+    private final WarmupProperties properties;
+    private final ShardingProperties shardingProperties;
+    private final GradeCalculator gradeCalculator;
+    private final SelfAssessmentResultRepository resultRepository;
+    private final AssessmentDetailSnapshotRepository snapshotRepository;
+    private final List<AbstractJackson2HttpMessageConverter> jacksonConverters;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            markUp();
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getTimeout().toNanos();
+        String outcome = "completed";
+        try {
+            QuestionnaireCatalog.Questionnaire questionnaire = preloadCatalogs();
+            List<SelfAssessmentResult> samples = warmUpScoring(questionnaire, deadline);
+            warmUpSerialization(samples, deadline);
+            warmUpReadQueries(deadline);
+            if (System.nanoTime() < deadline) {
+                preloadRecentResults();
+            }
+            if (System.nanoTime() >= deadline) {
+                outcome = "timeout";
+                log.warn("기동 워밍업 제한 시간({}) 초과: 남은 단계를 건너뛰고 UP 전환", properties.getTimeout());
+            }
+        } catch (Exception e) {
+            outcome = "failed";
+            log.warn("기동 워밍업 실패: 워밍업 없이 UP 전환", e);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            Timer.builder("csddd.startup.warmup")
+                    .description("기동 워밍업 소요 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("기동 워밍업 종료: 결과={}, 소요={}ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            markUp();
+        }
+    }
+
+    // ============================================================================
+    // 워밍업 단계 (Warm-up Phases)
+    // ============================================================================
+
+    /**
+     * 문항 카탈로그와 중대위반 메타데이터 적재 (정적 초기화 수행)
+     */
+    private QuestionnaireCatalog.Questionnaire preloadCatalogs() {
+        QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+        questionnaire.getQuestions().forEach(question -> ViolationMetaMap.get(question.questionId()));
+        return questionnaire;
+    }
+
+    /**
+     * 임의 YES/NO 조합의 합성 결과 채점
+     *
+     * @return 직렬화 단계에서 사용할 채점된 합성 결과 일부
+     */
+    private List<SelfAssessmentResult> warmUpScoring(QuestionnaireCatalog.Questionnaire questionnaire, long deadline) {
+        List<SelfAssessmentResult> samples = new ArrayList<>();
+        int iterations = 0;
+        for (; iterations < properties.getScoringIterations() && System.nanoTime() < deadline; iterations++) {
+            SelfAssessmentResult result = SelfAssessmentResult.builder()
+                    .headquartersId(WARMUP_HEADQUARTERS_ID)
+                    .treePath(WARMUP_TREE_PATH)
+                    .companyName("warmup")
+                    .userType("HEADQUARTERS")
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            result.assignPackedAnswers(questionnaire.getVersion(), randomPackedAnswers(questionnaire));
+            gradeCalculator.evaluate(result);
+            if (samples.size() < 16) {
+                samples.add(result);
+            }
+        }
+        log.debug("워밍업 채점: {}회", iterations);
+        return samples;
+    }
+
+    /**
+     * 상세/목록 응답을 등록된 모든 Jackson 포맷으로 직렬화
+     */
+    private void warmUpSerialization(List<SelfAssessmentResult> samples, long deadline) throws JsonProcessingException {
+        if (samples.isEmpty()) {
+            return;
+        }
+        int iterations = 0;
+        for (; iterations < properties.getSerializationIterations() && System.nanoTime() < deadline; iterations++) {
+            SelfAssessmentResult sample = samples.get(iterations % samples.size());
+            ApiResponse<SelfAssessmentResultResponse> detail =
+                    ApiResponse.success(SelfAssessmentResultResponse.fromDetail(sample));
+            ApiResponse<List<SelfAssessmentResultResponse>> list =
+                    ApiResponse.success(List.of(SelfAssessmentResultResponse.fromSummary(sample)));
+            for (AbstractJackson2HttpMessageConverter converter : jacksonConverters) {
+                converter.getObjectMapper().writeValueAsBytes(detail);
+                converter.getObjectMapper().writeValueAsBytes(list);
+            }
+        }
+        log.debug("워밍업 직렬화: {}회, 포맷 {}개", iterations, jacksonConverters.size());
+    }
+
+    /**
+     * 조회 쿼리를 여러 스레드에서 동시 실행하여 커넥션 풀을 채우고 쿼리 경로를 컴파일
+     */
+    private void warmUpReadQueries(long deadline) throws InterruptedException {
+        int concurrency = Math.max(1, properties.getReadConcurrency());
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "csddd-warmup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                tasks.add(() -> runReadQueriesOnEveryShard(deadline));
+            }
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            int executed = 0;
+            for (Future<Integer> future : executor.invokeAll(tasks, remaining, TimeUnit.NANOSECONDS)) {
+                if (!future.isCancelled()) {
+                    try {
+                        executed += future.get();
+                    } catch (Exception e) {
+                        log.warn("워밍업 조회 쿼리 실패", e);
+                    }
+                }
+            }
+            log.debug("워밍업 조회: {}회, 스레드 {}개", executed, concurrency);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int runReadQueries(long deadline) {
+        SelfAssessmentResultFields fields = SelfAssessmentResultFields.parse("id,companyName,score,finalGrade");
+        int iterations = 0;
+        for (; iterations < properties.getReadIterations()
+                && System.nanoTime() < deadline
+                && !Thread.currentThread().isInterrupted(); iterations++) {
+            snapshotRepository.findByIdInHeadquartersScope(WARMUP_HEADQUARTERS_ID, WARMUP_HEADQUARTERS_ID);
+            snapshotRepository.findByIdInPartnerScope(WARMUP_HEADQUARTERS_ID, WARMUP_HEADQUARTERS_ID,
+                    WARMUP_HEADQUARTERS_ID, WARMUP_TREE_PATH, WARMUP_TREE_PATH + "%");
+            resultRepository.findScopeForHeadquarters(WARMUP_HEADQUARTERS_ID, WARMUP_HEADQUARTERS_ID);
+            resultRepository.findScopeForPartner(WARMUP_HEADQUARTERS_ID, WARMUP_HEADQUARTERS_ID,
+                    WARMUP_HEADQUARTERS_ID, WARMUP_TREE_PATH, WARMUP_TREE_PATH + "%");
+            resultRepository.findAll(WARMUP_SCOPE, PageRequest.of(0, 20));
+            resultRepository.findAllProjected(WARMUP_SCOPE, fields.attributes(), PageRequest.of(0, 20))
+                    .map(fields::toMap);
+        }
+        return iterations;
+    }
+
+    /**
+     * 샤드마다 조회 쿼리 실행 (샤드 라우팅 미사용 시 기본 샤드만)
+     */
+    private int runReadQueriesOnEveryShard(long deadline) {
+        int executed = 0;
+        for (String shard : shardingProperties.shardKeys()) {
+            executed += ShardContext.callIn(shard, () -> runReadQueries(deadline));
+        }
+        return executed;
+    }
+
+    /**
+     * 최근 완료 결과와 답변 컬렉션을 2차 캐시에 적재
+     */
+    private void preloadRecentResults() {
+        if (properties.getPreloadRecentResults() <= 0) {
+            return;
+        }
+        shardingProperties.shardKeys().forEach(shard -> ShardContext.runIn(shard, this::preloadRecentResultsOfShard));
+    }
+
+    private void preloadRecentResultsOfShard() {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_RECENT_RESULT_IDS, Long.class,
+                AssessmentStatus.COMPLETED.name(), properties.getPreloadRecentResults());
+        if (ids.isEmpty()) {
+            return;
+        }
+        Integer loaded = transactionTemplate.execute(status -> resultRepository.findAllWithAnswersByIdIn(ids).size());
+        log.debug("워밍업 2차 캐시 적재: 샤드={}, 결과 {}건", ShardContext.current(), loaded);
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private byte[] randomPackedAnswers(QuestionnaireCatalog.Questionnaire questionnaire) {
+        byte[] packed = new byte[questionnaire.packedLength()];
+        ThreadLocalRandom.current().nextBytes(packed);
+        int usedBitsInLastByte = questionnaire.size() % 8;
+        if (usedBitsInLastByte != 0) {
+            packed[packed.length - 1] &= (byte) ((1 << usedBitsInLastByte) - 1);
+        }
+        return packed;
+    }
+
+    /**
+     * Eureka 인스턴스 상태를 UP으로 전환 (Eureka 클라이언트가 비활성화된 경우 무시)
+     */
+    private void markUp() {
+        applicationInfoManager.ifAvailable(manager -> {
+            manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+            log.info("Eureka 인스턴스 상태 UP 전환");
+        });
+    }
+}
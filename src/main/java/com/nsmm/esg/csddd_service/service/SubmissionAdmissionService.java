@@ -0,0 +1,252 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSDDD 제출 허용 제어 서비스
+ *
+ * 한 본사의 대량 제출이 DB 커넥션을 점유하여 다른 본사의 조회/제출이 밀리지 않도록
+ * 제출 처리 전에 본사 단위로 허용 여부를 판단한다.
+ *
+ * 1. 동시 처리 한도: 처리 중인 제출 수가 max-concurrent 이상이면 거절
+ * 2. 토큰 버킷: rate-per-second로 보충되는 토큰(최대 burst)이 없으면 거절
+ *
+ * - 거절은 대기 없이 즉시 반환하며, 호출 측은 429와 Retry-After(초)로 응답
+ * - 한도는 매 요청마다 AdmissionProperties에서 읽으므로 설정 갱신이 바로 반영됨
+ * - 본사 상태는 검증된 본사 ID(Long)로 구분하며, 처리 중인 제출 없이 idle-eviction 동안 사용되지 않으면 제거
+ * - csddd.admission.decisions: 허용/거절 건수 (result, reason 태그)
+ * - csddd.admission.in.flight: 전체 본사의 처리 중 제출 수
+ * - csddd.admission.tenants: 상태를 유지 중인 본사 수
+ */
+@Slf4j
+@Service
+public class SubmissionAdmissionService {
+
+    private final AdmissionProperties properties;
+    private final Map<Long, TenantState> tenants = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter admitted;
+    private final Counter rejectedByConcurrency;
+    private final Counter rejectedByRate;
+
+    public SubmissionAdmissionService(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.admitted = decisionCounter(meterRegistry, "admitted", "none");
+        this.rejectedByConcurrency = decisionCounter(meterRegistry, "rejected", "concurrency");
+        this.rejectedByRate = decisionCounter(meterRegistry, "rejected", "rate");
+
+        Gauge.builder("csddd.admission.in.flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 제출 수 (전체 본사)")
+                .register(meterRegistry);
+        Gauge.builder("csddd.admission.tenants", tenants, Map::size)
+                .description("제출 허용 제어 상태를 유지 중인 본사 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제출 허용 여부 판단
+     *
+     * 허용된 경우 제출 처리가 끝난 뒤 반드시 Admission.release()를 호출해야 한다.
+     *
+     * @param headquartersId 검증된 본사 ID (호출 측에서 헤더를 Long으로 변환)
+     * @return 허용 결과 (거절 시 재시도 대기 시간 포함)
+     */
+    public Admission tryAdmit(Long headquartersId) {
+        if (!properties.isEnabled()) {
+            return Admission.unlimited();
+        }
+
+        // 슬롯 확보를 compute 안에서 수행하여 유휴 상태 제거(evictIdleTenants)와 경합하지 않도록 함
+        int concurrencyLimit = properties.maxConcurrentFor(headquartersId);
+        boolean[] acquired = new boolean[1];
+        TenantState tenant = tenants.compute(headquartersId, (key, state) -> {
+            TenantState current = state != null ? state : new TenantState(properties.burstFor(key));
+            acquired[0] = current.tryAcquireSlot(concurrencyLimit);
+            current.touch(System.nanoTime());
+            return current;
+        });
+
+        if (!acquired[0]) {
+            rejectedByConcurrency.increment();
+            log.debug("제출 거절 (동시 처리 한도): 본사ID={}", headquartersId);
+            return Admission.rejected(1);
+        }
+
+        long waitNanos = tenant.bucket.tryConsume(
+                properties.ratePerSecondFor(headquartersId), properties.burstFor(headquartersId), System.nanoTime());
+        if (waitNanos > 0) {
+            tenant.releaseSlot();
+            rejectedByRate.increment();
+            log.debug("제출 거절 (요청 빈도 한도): 본사ID={}", headquartersId);
+            return Admission.rejected(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+
+        admitted.increment();
+        inFlight.incrementAndGet();
+        return Admission.admitted(() -> {
+            tenant.releaseSlot();
+            inFlight.decrementAndGet();
+        });
+    }
+
+    /**
+     * 유휴 본사 상태 제거
+     * 처리 중인 제출이 없고 idle-eviction 이상 요청이 없던 본사만 제거 (다음 요청 시 가득 찬 버킷으로 다시 생성)
+     */
+    @Scheduled(fixedDelayString = "${csddd.admission.eviction-interval:PT1M}")
+    public void evictIdleTenants() {
+        long idleNanos = properties.getIdleEviction().toNanos();
+        long now = System.nanoTime();
+        int before = tenants.size();
+        tenants.keySet().forEach(key -> tenants.computeIfPresent(key,
+                (id, state) -> state.isIdle(now, idleNanos) ? null : state));
+        int evicted = before - tenants.size();
+        if (evicted > 0) {
+            log.debug("제출 허용 제어 유휴 본사 상태 제거: {}건, 남은 본사 {}건", evicted, tenants.size());
+        }
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private Counter decisionCounter(MeterRegistry meterRegistry, String result, String reason) {
+        return Counter.builder("csddd.admission.decisions")
+                .description("제출 허용 제어 판단 건수")
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 본사별 동시 처리 수와 토큰 버킷
+     */
+    private static final class TenantState {
+
+        private final AtomicInteger slots = new AtomicInteger();
+        private final TokenBucket bucket;
+        private volatile long lastUsedAt = System.nanoTime();
+
+        private TenantState(int burst) {
+            this.bucket = new TokenBucket(burst);
+        }
+
+        private boolean tryAcquireSlot(int limit) {
+            while (true) {
+                int current = slots.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (slots.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void releaseSlot() {
+            slots.decrementAndGet();
+        }
+
+        private void touch(long now) {
+            lastUsedAt = now;
+        }
+
+        private boolean isIdle(long now, long idleNanos) {
+            return slots.get() == 0 && now - lastUsedAt >= idleNanos;
+        }
+    }
+
+    /**
+     * 토큰 버킷 (경과 시간만큼 보충 후 1개 소비)
+     */
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(int burst) {
+            this.tokens = burst;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /**
+         * @return 0이면 소비 성공, 양수이면 다음 토큰까지 남은 시간(ns)
+         */
+        private synchronized long tryConsume(double ratePerSecond, int burst, long now) {
+            if (ratePerSecond <= 0) {
+                return TimeUnit.SECONDS.toNanos(1);
+            }
+            tokens = Math.min(burst, tokens + (now - refilledAt) * ratePerSecond / 1_000_000_000.0);
+            refilledAt = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            return (long) Math.ceil((1.0 - tokens) / ratePerSecond * 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * 제출 허용 결과
+     */
+    public static final class Admission {
+
+        private static final Admission UNLIMITED = new Admission(true, 0, null);
+
+        private final boolean admitted;
+        private final long retryAfterSeconds;
+        private final Runnable onRelease;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Admission(boolean admitted, long retryAfterSeconds, Runnable onRelease) {
+            this.admitted = admitted;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.onRelease = onRelease;
+        }
+
+        private static Admission unlimited() {
+            return UNLIMITED;
+        }
+
+        private static Admission admitted(Runnable onRelease) {
+            return new Admission(true, 0, onRelease);
+        }
+
+        private static Admission rejected(long retryAfterSeconds) {
+            return new Admission(false, retryAfterSeconds, null);
+        }
+
+        public boolean isAdmitted() {
+            return admitted;
+        }
+
+        /**
+         * 재시도까지 대기할 시간(초, Retry-After 헤더 값)
+         */
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+
+        /**
+         * 동시 처리 슬롯 반환 (여러 번 호출해도 한 번만 반환)
+         */
+        public void release() {
+            if (onRelease != null && released.compareAndSet(false, true)) {
+                onRelease.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.config.TreeRiskProperties;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.dto.response.TreeRiskResponse;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.ResultRevision;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 공급망 계층(treePath) 위험 집계 서비스
+ *
+ * 1차 협력사 대시보드에서 하위 협력사 전체의 위험도를 볼 때 LIKE 'prefix%' 하위 트리 조회를
+ * 반복하지 않도록 treePath 노드별 집계를 메모리에 유지한다.
+ * - 노드 키: 정규화된 treePath 접두사 (/1/, /1/L1-001/, /1/L1-001/L2-003/ ...)
+ * - 노드 집계: 등급별 수, 고위험 수, 최저 점수(점수 히스토그램), 중대위반 합계
+ * - 조직(본사/협력사)별 최신 완료 결과 1건만 반영하며, 새 결과 제출 시 이전 결과의 경로에서 빼고
+ *   새 결과의 경로를 따라 조상 노드까지 증분 반영 (경로 깊이만큼만 갱신)
+ * - 하위 트리 집계는 노드 조회 1회
+ * - 기동 시 DB에서 구성, 제출 커밋 이후 갱신, 정기 재구성(csddd.tree-risk.rebuild-interval)과
+ *   재채점 완료 시 재구성으로 다른 인스턴스 제출/등급 변경 반영
+ * - 구성/재구성/이벤트 반영 절차는 HeadquartersIndexService 공통 (csddd.tree-risk.rebuild: 색인 구성 시간)
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TreeRiskRollupService extends HeadquartersIndexService<TreeRiskRollupService.HeadquartersTree> {
+
+    private static final int MAX_SCORE = 100;
+
+    private final SelfAssessmentResultRepository resultRepository;
+
+    public TreeRiskRollupService(SelfAssessmentResultRepository resultRepository,
+                                 ShardingProperties shardingProperties,
+                                 TreeRiskProperties properties,
+                                 MeterRegistry meterRegistry) {
+        super(properties, shardingProperties, meterRegistry, "csddd.tree-risk.rebuild", "위험 집계 색인");
+        this.resultRepository = resultRepository;
+    }
+
+    /**
+     * treePath 노드 하위 트리 위험 집계 조회 (직속 하위 노드 집계 포함)
+     *
+     * @return 해당 노드 하위에 반영된 결과가 없으면 빈 값
+     */
+    public Optional<TreeRiskResponse> subtreeOf(Long headquartersId, String treePath) {
+        if (!isEnabled() || headquartersId == null) {
+            return Optional.empty();
+        }
+        HeadquartersTree tree = indexOf(headquartersId);
+        return tree != null ? tree.subtree(normalize(treePath)) : Optional.empty();
+    }
+
+    /**
+     * treePath 정규화 (앞뒤 '/' 보정, 빈 구간 제거)
+     *
+     * @return 정규화된 경로, 구간이 없으면 "/"
+     */
+    public static String normalize(String treePath) {
+        if (treePath == null) {
+            return "/";
+        }
+        StringBuilder normalized = new StringBuilder("/");
+        for (String segment : treePath.split("/")) {
+            String trimmed = segment.trim();
+            if (!trimmed.isEmpty()) {
+                normalized.append(trimmed).append('/');
+            }
+        }
+        return normalized.toString();
+    }
+
+    // ============================================================================
+    // 색인 구성/갱신 (Index Hooks)
+    // ============================================================================
+
+    @Override
+    protected void loadShard(Map<Long, HeadquartersTree> target) {
+        resultRepository.findLatestResultRisks().forEach(row ->
+                target.computeIfAbsent(row.getHeadquartersId(), key -> new HeadquartersTree())
+                        .update(row.getPartnerId(), new Contribution(
+                                ResultRevision.of(row.getResultId(), row.getVersion()), row.getTreePath(),
+                                score(row.getScore()), row.getFinalGrade(),
+                                isHighRisk(row.getScore(), row.getCriticalViolationCount()),
+                                row.getCriticalViolationCount() != null ? row.getCriticalViolationCount() : 0)));
+    }
+
+    @Override
+    protected void apply(Map<Long, HeadquartersTree> target, AssessmentCompletedEvent event) {
+        SelfAssessmentResultResponse summary = event.summary();
+        int criticalViolations = summary.getCriticalViolationCount() != null ? summary.getCriticalViolationCount() : 0;
+        target.computeIfAbsent(event.headquartersId(), key -> new HeadquartersTree())
+                .update(event.partnerId(), new Contribution(event.revision(), event.treePath(),
+                        score(summary.getScore()),
+                        summary.getFinalGrade() != null ? AssessmentGrade.valueOf(summary.getFinalGrade()) : null,
+                        Boolean.TRUE.equals(summary.getIsHighRisk()), criticalViolations));
+    }
+
+    @Override
+    protected String summarize(Map<Long, HeadquartersTree> built) {
+        return "본사 %d곳, 노드 %d개".formatted(
+                built.size(), built.values().stream().mapToInt(HeadquartersTree::nodeCount).sum());
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private static int score(double score) {
+        return (int) Math.max(0, Math.min(MAX_SCORE, Math.round(score)));
+    }
+
+    private static boolean isHighRisk(double score, Integer criticalViolationCount) {
+        return score < 60.0 || (criticalViolationCount != null && criticalViolationCount > 0);
+    }
+
+    /**
+     * 조직 최신 결과 1건이 경로상의 노드에 기여하는 값
+     */
+    private record Contribution(ResultRevision revision, String treePath, int score, AssessmentGrade grade,
+                                boolean highRisk, int criticalViolations) {
+    }
+
+    /**
+     * 본사 1곳의 treePath 노드 집계와 조직별 최신 결과
+     */
+    static final class HeadquartersTree {
+
+        private final Map<String, SubtreeRisk> nodes = new HashMap<>();
+        private final Map<Long, Contribution> latest = new HashMap<>(); // 협력사 ID (본사 자체 결과는 null)
+
+        /**
+         * 조직 최신 결과 반영 (이미 더 최근 결과가 반영되어 있으면 무시)
+         */
+        private synchronized void update(Long partnerId, Contribution contribution) {
+            Contribution previous = latest.get(partnerId);
+            if (previous != null) {
+                if (!contribution.revision().isNewerThan(previous.revision())) {
+                    return;
+                }
+                propagate(previous, -1);
+            }
+            latest.put(partnerId, contribution);
+            propagate(contribution, 1);
+        }
+
+        /**
+         * 경로의 모든 조상 노드(자기 자신 포함)에 기여값 반영, 비게 된 노드는 제거
+         */
+        private void propagate(Contribution contribution, int sign) {
+            String path = normalize(contribution.treePath());
+            String parent = null;
+            int end = 0;
+            while ((end = path.indexOf('/', end + 1)) > 0) {
+                String prefix = path.substring(0, end + 1);
+                SubtreeRisk node = nodes.computeIfAbsent(prefix, key -> new SubtreeRisk());
+                node.add(contribution, sign);
+                if (node.resultCount == 0) {
+                    nodes.remove(prefix);
+                    if (parent != null && nodes.containsKey(parent)) {
+                        nodes.get(parent).children.remove(prefix);
+                    }
+                } else if (parent != null) {
+                    nodes.get(parent).children.add(prefix);
+                }
+                parent = prefix;
+            }
+        }
+
+        private synchronized Optional<TreeRiskResponse> subtree(String treePath) {
+            SubtreeRisk node = nodes.get(treePath);
+            if (node == null) {
+                return Optional.empty();
+            }
+            TreeRiskResponse response = node.toResponse(treePath);
+            response.setChildren(node.children.stream()
+                    .map(child -> nodes.get(child).toResponse(child))
+                    .toList());
+            return Optional.of(response);
+        }
+
+        private synchronized int nodeCount() {
+            return nodes.size();
+        }
+    }
+
+    /**
+     * treePath 노드 1개의 하위 트리 집계
+     */
+    private static final class SubtreeRisk {
+
+        private final int[] gradeCounts = new int[AssessmentGrade.values().length];
+        private final int[] scoreCounts = new int[MAX_SCORE + 1];
+        private final TreeSet<String> children = new TreeSet<>();
+        private int resultCount;
+        private int highRiskCount;
+        private long criticalViolationTotal;
+
+        private void add(Contribution contribution, int sign) {
+            resultCount += sign;
+            scoreCounts[contribution.score()] += sign;
+            if (contribution.grade() != null) {
+                gradeCounts[contribution.grade().ordinal()] += sign;
+            }
+            if (contribution.highRisk()) {
+                highRiskCount += sign;
+            }
+            criticalViolationTotal += (long) sign * contribution.criticalViolations();
+        }
+
+        private TreeRiskResponse toResponse(String treePath) {
+            Map<String, Integer> grades = new LinkedHashMap<>();
+            AssessmentGrade[] values = AssessmentGrade.values();
+            for (int i = values.length - 1; i >= 0; i--) {
+                grades.put(values[i].name(), gradeCounts[i]);
+            }
+            return TreeRiskResponse.builder()
+                    .treePath(treePath)
+                    .resultCount(resultCount)
+                    .gradeCounts(grades)
+                    .highRiskCount(highRiskCount)
+                    .minScore(minScore())
+                    .criticalViolationTotal(criticalViolationTotal)
+                    .build();
+        }
+
+        private Integer minScore() {
+            for (int score = 0; score <= MAX_SCORE; score++) {
+                if (scoreCounts[score] > 0) {
+                    return score;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+
+import java.util.BitSet;
+
+/**
+ * 문항 순서(ordinal) 기준 답변 비트 집합
+ *
+ * 결과 1건의 답변을 문항 버전(QuestionnaireCatalog)의 ordinal을 키로 하는 비트 집합 3개로 표현하여
+ * 두 결과의 차이를 문항 수와 무관하게 비트 연산 몇 번으로 계산한다.
+ * - answered: 답변한 문항
+ * - yes: YES로 답변한 문항
+ * - criticalViolations: 중대위반이 발생한 문항 (중대위반 문항 + NO)
+ *
+ * 패킹 답변이 같은 문항 버전이면 패킹 바이트를 그대로 비트 집합으로 사용하며,
+ * 그 외에는 답변 행을 문항 ID로 ordinal에 매핑한다 (문항 버전에 없는 문항은 제외).
+ */
+public final class AnswerBitSet {
+
+    private final BitSet answered;
+    private final BitSet yes;
+    private final BitSet criticalViolations;
+
+    private AnswerBitSet(BitSet answered, BitSet yes, BitSet criticalViolations) {
+        this.answered = answered;
+        this.yes = yes;
+        this.criticalViolations = criticalViolations;
+    }
+
+    /**
+     * 결과의 답변을 문항 버전 기준 비트 집합으로 인코딩
+     */
+    public static AnswerBitSet of(SelfAssessmentResult result, QuestionnaireCatalog.Questionnaire questionnaire) {
+        if (result.getPackedAnswers() != null && questionnaire.getVersion().equals(result.getQuestionnaireVersion())) {
+            // 패킹 비트 순서(byte[i / 8]의 i % 8번째 비트)는 BitSet.valueOf와 동일
+            BitSet yes = BitSet.valueOf(result.getPackedAnswers());
+            BitSet answered = new BitSet(questionnaire.size());
+            answered.set(0, questionnaire.size());
+            BitSet criticalViolations = criticalMask(questionnaire);
+            criticalViolations.andNot(yes);
+            return new AnswerBitSet(answered, yes, criticalViolations);
+        }
+
+        BitSet answered = new BitSet(questionnaire.size());
+        BitSet yes = new BitSet(questionnaire.size());
+        BitSet criticalViolations = new BitSet(questionnaire.size());
+        for (SelfAssessmentAnswer answer : result.getEffectiveAnswers()) {
+            QuestionnaireCatalog.Question question = questionnaire.find(answer.getQuestionId());
+            if (question == null) {
+                continue;
+            }
+            answered.set(question.ordinal());
+            yes.set(question.ordinal(), answer.isAnswer());
+            criticalViolations.set(question.ordinal(), answer.hasCriticalViolation());
+        }
+        return new AnswerBitSet(answered, yes, criticalViolations);
+    }
+
+    /**
+     * 기준(this) 대비 대상 결과의 차이 계산
+     */
+    public Diff diff(AnswerBitSet target) {
+        BitSet bothAnswered = copy(answered);
+        bothAnswered.and(target.answered);
+
+        BitSet flipped = copy(yes);
+        flipped.xor(target.yes);
+        flipped.and(bothAnswered);
+
+        BitSet flippedToYes = copy(flipped);
+        flippedToYes.and(target.yes);
+        BitSet flippedToNo = copy(flipped);
+        flippedToNo.and(yes);
+
+        BitSet criticalAppeared = copy(target.criticalViolations);
+        criticalAppeared.andNot(criticalViolations);
+        BitSet criticalCleared = copy(criticalViolations);
+        criticalCleared.andNot(target.criticalViolations);
+
+        BitSet onlyInBaseline = copy(answered);
+        onlyInBaseline.andNot(target.answered);
+        BitSet onlyInTarget = copy(target.answered);
+        onlyInTarget.andNot(answered);
+
+        return new Diff(flippedToYes, flippedToNo, criticalAppeared, criticalCleared, onlyInBaseline, onlyInTarget);
+    }
+
+    /**
+     * 답변한 문항별 YES/NO 건수에 반영 (sign: 1이면 추가, -1이면 제거)
+     *
+     * @param yesCounts 문항 ordinal별 YES 건수
+     * @param noCounts  문항 ordinal별 NO 건수
+     */
+    public void accumulate(int[] yesCounts, int[] noCounts, int sign) {
+        for (int ordinal = answered.nextSetBit(0); ordinal >= 0; ordinal = answered.nextSetBit(ordinal + 1)) {
+            if (yes.get(ordinal)) {
+                yesCounts[ordinal] += sign;
+            } else {
+                noCounts[ordinal] += sign;
+            }
+        }
+    }
+
+    /**
+     * 문항 답변 여부
+     */
+    public boolean isAnswered(int ordinal) {
+        return answered.get(ordinal);
+    }
+
+    /**
+     * 문항 YES 답변 여부 (답변하지 않은 문항은 false)
+     */
+    public boolean isYes(int ordinal) {
+        return yes.get(ordinal);
+    }
+
+    private static BitSet criticalMask(QuestionnaireCatalog.Questionnaire questionnaire) {
+        BitSet mask = new BitSet(questionnaire.size());
+        questionnaire.getQuestions().stream()
+                .filter(QuestionnaireCatalog.Question::critical)
+                .forEach(question -> mask.set(question.ordinal()));
+        return mask;
+    }
+
+    private static BitSet copy(BitSet bits) {
+        return (BitSet) bits.clone();
+    }
+
+    /**
+     * 두 결과의 문항별 차이 (각 비트 집합의 인덱스는 문항 ordinal)
+     */
+    public record Diff(BitSet flippedToYes, BitSet flippedToNo, BitSet criticalAppeared, BitSet criticalCleared,
+                       BitSet answeredOnlyInBaseline, BitSet answeredOnlyInTarget) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 자가진단 답변 목록 압축 인코딩 유틸리티
+ *
+ * 결과 1건의 답변 목록(약 40건)을 하나의 바이너리 값으로 인코딩하여
+ * 콜드 테이블 등에 행 하나로 저장할 수 있게 한다.
+ *
+ * 포맷 (v1, Deflate 압축):
+ * - version(byte), count(int)
+ * - 답변별: id(long, 없으면 -1), questionId(UTF), category(UTF),
+ *   flags(byte: bit0=answer, bit1=criticalViolation), weight(double), criticalGrade(byte, 없으면 -1)
+ */
+public class AnswerCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int FLAG_ANSWER = 1;
+    private static final int FLAG_CRITICAL = 1 << 1;
+
+    private AnswerCodec() {
+    }
+
+    /**
+     * 답변 목록 인코딩
+     */
+    public static byte[] encode(List<SelfAssessmentAnswer> answers) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(
+                new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_COMPRESSION)))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(answers.size());
+            for (SelfAssessmentAnswer answer : answers) {
+                out.writeLong(answer.getId() != null ? answer.getId() : -1L);
+                out.writeUTF(answer.getQuestionId());
+                out.writeUTF(answer.getCategory());
+
+                int flags = 0;
+                if (answer.isAnswer()) flags |= FLAG_ANSWER;
+                if (Boolean.TRUE.equals(answer.getCriticalViolation())) flags |= FLAG_CRITICAL;
+                out.writeByte(flags);
+
+                out.writeDouble(answer.getWeight() != null ? answer.getWeight() : 0.0);
+                out.writeByte(answer.getCriticalGrade() != null ? answer.getCriticalGrade().ordinal() : -1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("답변 인코딩에 실패했습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 답변 목록 디코딩
+     * 반환된 답변은 결과와 연관관계가 설정되지 않은 상태이며 영속화되지 않은 객체이다.
+     *
+     * @param encoded    인코딩된 답변 목록
+     * @param answeredAt 답변 생성/수정 일시로 사용할 시각 (개별 시각은 보존하지 않음)
+     */
+    public static List<SelfAssessmentAnswer> decode(byte[] encoded, LocalDateTime answeredAt) {
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(encoded)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 답변 인코딩 버전입니다: " + version);
+            }
+
+            int count = in.readInt();
+            AssessmentGrade[] grades = AssessmentGrade.values();
+            List<SelfAssessmentAnswer> answers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                String questionId = in.readUTF();
+                String category = in.readUTF();
+                int flags = in.readByte();
+                double weight = in.readDouble();
+                int gradeOrdinal = in.readByte();
+
+                answers.add(SelfAssessmentAnswer.builder()
+                        .id(id >= 0 ? id : null)
+                        .questionId(questionId)
+                        .category(category)
+                        .answer((flags & FLAG_ANSWER) != 0)
+                        .criticalViolation((flags & FLAG_CRITICAL) != 0)
+                        .weight(weight)
+                        .criticalGrade(gradeOrdinal >= 0 ? grades[gradeOrdinal] : null)
+                        .createdAt(answeredAt)
+                        .updatedAt(answeredAt)
+                        .build());
+            }
+            return answers;
+        } catch (IOException e) {
+            throw new UncheckedIOException("답변 디코딩에 실패했습니다.", e);
+        }
+    }
+}
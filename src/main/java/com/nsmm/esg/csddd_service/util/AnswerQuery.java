@@ -0,0 +1,276 @@
+package com.nsmm.esg.csddd_service.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문항 답변 조건 질의
+ *
+ * "1.1:NO AND 4.4:NO AND NOT 2.2:NO" 형태의 문항 답변 조건 조합을 파싱하여
+ * 조건별 비트맵(AnswerBitmapIndexService)의 AND/OR/NOT 연산으로 평가한다.
+ * - 조건: 문항ID:YES 또는 문항ID:NO (대소문자 무관)
+ * - 연산자 우선순위: NOT > AND > OR, 괄호로 묶을 수 있음
+ * - NOT은 색인된 전체 대상(universe) 기준 여집합이므로 답변하지 않은 대상도 포함한다.
+ * - 문항 ID는 문항 버전 기준으로 검증하며, 조건은 최대 MAX_CONDITIONS개
+ * - 재귀 하강 파서의 호출 깊이를 제한하기 위해 토큰 수(MAX_TOKENS)와 NOT/괄호 중첩(MAX_DEPTH)도 제한
+ */
+public final class AnswerQuery {
+
+    /**
+     * 질의 1건에 허용되는 최대 조건 수
+     */
+    public static final int MAX_CONDITIONS = 20;
+
+    /**
+     * 질의 1건에 허용되는 최대 NOT/괄호 중첩 깊이
+     */
+    public static final int MAX_DEPTH = 10;
+
+    /**
+     * 질의 1건에 허용되는 최대 토큰 수 (조건, 연산자, 괄호)
+     */
+    public static final int MAX_TOKENS = 200;
+
+    private static final Pattern TOKEN = Pattern.compile("\\(|\\)|[^\\s()]+");
+
+    private final Node root;
+    private final String normalized;
+
+    private AnswerQuery(Node root) {
+        this.root = root;
+        this.normalized = root.toString();
+    }
+
+    /**
+     * 질의 문자열 파싱
+     *
+     * @throws IllegalArgumentException 문법 오류, 알 수 없는 문항, 조건 수/토큰 수/중첩 깊이 초과
+     */
+    public static AnswerQuery parse(String expression, QuestionnaireCatalog.Questionnaire questionnaire) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("질의 조건을 입력해주세요.");
+        }
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(expression);
+        while (matcher.find()) {
+            if (tokens.size() == MAX_TOKENS) {
+                throw new IllegalArgumentException("질의는 최대 " + MAX_TOKENS + "개의 조건/연산자/괄호로 작성해야 합니다.");
+            }
+            tokens.add(matcher.group());
+        }
+        Parser parser = new Parser(tokens, questionnaire);
+        Node root = parser.parseOr();
+        if (parser.position < tokens.size()) {
+            throw new IllegalArgumentException("질의 문법 오류: '" + tokens.get(parser.position) + "' 위치를 확인해주세요.");
+        }
+        return new AnswerQuery(root);
+    }
+
+    /**
+     * 조건별 비트맵으로 질의 평가
+     *
+     * @return 조건을 만족하는 대상의 비트맵 (새 객체)
+     */
+    public BitSet evaluate(Bitmaps bitmaps) {
+        return root.evaluate(bitmaps);
+    }
+
+    /**
+     * 정규화된 질의 문자열 (예: "(1.1:NO AND 4.4:NO)")
+     */
+    @Override
+    public String toString() {
+        return normalized;
+    }
+
+    /**
+     * 질의 평가에 사용하는 비트맵 공급자
+     * 반환된 비트맵은 평가 중 변경되지 않는 복사본이어야 한다.
+     */
+    public interface Bitmaps {
+
+        /**
+         * 문항 ordinal에 해당 답변을 한 대상
+         */
+        BitSet matching(int ordinal, boolean yes);
+
+        /**
+         * 색인된 전체 대상
+         */
+        BitSet universe();
+    }
+
+    // ============================================================================
+    // 구문 트리 (Syntax Tree)
+    // ============================================================================
+
+    private interface Node {
+        BitSet evaluate(Bitmaps bitmaps);
+    }
+
+    private record Condition(String questionId, int ordinal, boolean yes) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            return bitmaps.matching(ordinal, yes);
+        }
+
+        @Override
+        public String toString() {
+            return questionId + ":" + (yes ? "YES" : "NO");
+        }
+    }
+
+    private record Not(Node operand) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = bitmaps.universe();
+            result.andNot(operand.evaluate(bitmaps));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    private record And(List<Node> operands) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = operands.get(0).evaluate(bitmaps);
+            for (int i = 1; i < operands.size() && !result.isEmpty(); i++) {
+                result.and(operands.get(i).evaluate(bitmaps));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + String.join(" AND ", operands.stream().map(Node::toString).toList()) + ")";
+        }
+    }
+
+    private record Or(List<Node> operands) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = operands.get(0).evaluate(bitmaps);
+            for (int i = 1; i < operands.size(); i++) {
+                result.or(operands.get(i).evaluate(bitmaps));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + String.join(" OR ", operands.stream().map(Node::toString).toList()) + ")";
+        }
+    }
+
+    /**
+     * 재귀 하강 파서 (or := and (OR and)*, and := unary (AND unary)*, unary := NOT unary | '(' or ')' | 조건)
+     */
+    private static final class Parser {
+
+        private final List<String> tokens;
+        private final QuestionnaireCatalog.Questionnaire questionnaire;
+        private int position;
+        private int conditions;
+        private int depth;
+
+        private Parser(List<String> tokens, QuestionnaireCatalog.Questionnaire questionnaire) {
+            this.tokens = tokens;
+            this.questionnaire = questionnaire;
+        }
+
+        private Node parseOr() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (acceptKeyword("OR")) {
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands);
+        }
+
+        private Node parseAnd() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseUnary());
+            while (acceptKeyword("AND")) {
+                operands.add(parseUnary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands);
+        }
+
+        private Node parseUnary() {
+            if (acceptKeyword("NOT")) {
+                enterNested();
+                try {
+                    return new Not(parseUnary());
+                } finally {
+                    depth--;
+                }
+            }
+            String token = next();
+            if ("(".equals(token)) {
+                enterNested();
+                try {
+                    Node inner = parseOr();
+                    if (position >= tokens.size() || !")".equals(tokens.get(position++))) {
+                        throw new IllegalArgumentException("질의 문법 오류: 닫는 괄호가 없습니다.");
+                    }
+                    return inner;
+                } finally {
+                    depth--;
+                }
+            }
+            return parseCondition(token);
+        }
+
+        /**
+         * NOT/괄호 중첩 진입 (깊이 초과 시 StackOverflowError 대신 입력 오류로 거절)
+         */
+        private void enterNested() {
+            if (++depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("질의의 NOT/괄호 중첩은 최대 " + MAX_DEPTH + "단계까지 지정할 수 있습니다.");
+            }
+        }
+
+        private Node parseCondition(String token) {
+            int separator = token.lastIndexOf(':');
+            if (separator <= 0 || separator == token.length() - 1) {
+                throw new IllegalArgumentException("질의 조건은 '문항ID:YES' 또는 '문항ID:NO' 형식이어야 합니다: " + token);
+            }
+            String questionId = token.substring(0, separator);
+            String answer = token.substring(separator + 1).toUpperCase(Locale.ROOT);
+            if (!"YES".equals(answer) && !"NO".equals(answer)) {
+                throw new IllegalArgumentException("질의 조건의 답변은 YES 또는 NO여야 합니다: " + token);
+            }
+            QuestionnaireCatalog.Question question = questionnaire.find(questionId);
+            if (question == null) {
+                throw new IllegalArgumentException("문항 버전 " + questionnaire.getVersion() + "에 없는 문항입니다: " + questionId);
+            }
+            if (++conditions > MAX_CONDITIONS) {
+                throw new IllegalArgumentException("질의 조건은 최대 " + MAX_CONDITIONS + "개까지 지정할 수 있습니다.");
+            }
+            return new Condition(question.questionId(), question.ordinal(), "YES".equals(answer));
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (position < tokens.size() && keyword.equalsIgnoreCase(tokens.get(position))) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private String next() {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("질의 문법 오류: 조건이 끝나지 않았습니다.");
+            }
+            return tokens.get(position++);
+        }
+    }
+}
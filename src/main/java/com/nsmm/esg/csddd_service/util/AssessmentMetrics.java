@@ -0,0 +1,137 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.event.SubmissionMetricsEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * CSDDD 자가진단 처리 지표 수집 컴포넌트
+ *
+ * 단계별 타이머 (히스토그램 포함):
+ * - csddd.submit.stage: 제출 처리 단계 (mapping, initial_save, evaluate, answer_insert, final_save, packed_save, snapshot)
+ * - csddd.read.stage: 상세 조회 단계 (snapshot, load, access_check, mapping)
+ *
+ * 업무 지표:
+ * - csddd.submissions: 등급별 제출 건수
+ * - csddd.critical.violations: 문항별 중대위반 발생 건수
+ * - csddd.submit.answers: 제출당 답변 수
+ *
+ * 업무 지표는 제출 커밋 이후에만 기록한다 (롤백/버전 충돌 제출 제외).
+ * 모든 지표는 userType(HEADQUARTERS, PARTNER, OTHER) 태그를 가진다.
+ * questionId 태그는 현재 문항 버전의 문항 ID만 사용하고, 그 외 값은 other로 묶는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssessmentMetrics {
+
+    public static final String SUBMIT_STAGE = "csddd.submit.stage";
+    public static final String READ_STAGE = "csddd.read.stage";
+    public static final String OTHER_QUESTION_TAG = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    // ============================================================================
+    // 단계별 타이머 (Stage Timers)
+    // ============================================================================
+
+    /**
+     * 제출 처리 단계 시간 측정
+     */
+    public <T> T recordSubmitStage(String stage, String userType, Supplier<T> work) {
+        return stageTimer(SUBMIT_STAGE, stage, userType).record(work);
+    }
+
+    /**
+     * 제출 처리 단계 시간 측정 (반환값 없음)
+     */
+    public void recordSubmitStage(String stage, String userType, Runnable work) {
+        stageTimer(SUBMIT_STAGE, stage, userType).record(work);
+    }
+
+    /**
+     * 조회 처리 단계 시간 측정
+     */
+    public <T> T recordReadStage(String stage, String userType, Supplier<T> work) {
+        return stageTimer(READ_STAGE, stage, userType).record(work);
+    }
+
+    /**
+     * 조회 처리 단계 시간 측정 (반환값 없음)
+     */
+    public void recordReadStage(String stage, String userType, Runnable work) {
+        stageTimer(READ_STAGE, stage, userType).record(work);
+    }
+
+    // ============================================================================
+    // 업무 지표 (Business Counters)
+    // ============================================================================
+
+    /**
+     * 제출 커밋 이후 업무 지표 기록
+     * 등급별 제출 건수, 문항별 중대위반 건수, 제출당 답변 수
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmissionCommitted(SubmissionMetricsEvent event) {
+        String userTypeTag = normalizeUserType(event.userType());
+
+        Counter.builder("csddd.submissions")
+                .description("등급별 자가진단 제출 건수")
+                .tag("grade", event.grade())
+                .tag("userType", userTypeTag)
+                .register(meterRegistry)
+                .increment();
+
+        for (String questionId : event.criticalQuestionIds()) {
+            Counter.builder("csddd.critical.violations")
+                    .description("문항별 중대위반 발생 건수")
+                    .tag("questionId", normalizeQuestionId(questionId))
+                    .tag("userType", userTypeTag)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        DistributionSummary.builder("csddd.submit.answers")
+                .description("제출당 답변 수")
+                .tag("userType", userTypeTag)
+                .register(meterRegistry)
+                .record(event.answerCount());
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    private Timer stageTimer(String name, String stage, String userType) {
+        return Timer.builder(name)
+                .tag("stage", stage)
+                .tag("userType", normalizeUserType(userType))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 태그 카디널리티 제한을 위한 사용자 유형 정규화
+     */
+    private String normalizeUserType(String userType) {
+        if ("HEADQUARTERS".equalsIgnoreCase(userType)) return "HEADQUARTERS";
+        if ("PARTNER".equalsIgnoreCase(userType)) return "PARTNER";
+        return "OTHER";
+    }
+
+    /**
+     * 태그 카디널리티 제한을 위한 문항 ID 정규화
+     * 클라이언트가 보낸 임의 문항 ID는 현재 문항 버전에 없으면 other로 묶는다.
+     */
+    private String normalizeQuestionId(String questionId) {
+        QuestionnaireCatalog.Questionnaire questionnaire = QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+        return questionId != null && questionnaire.find(questionId) != null ? questionId : OTHER_QUESTION_TAG;
+    }
+}
@@ -5,6 +5,10 @@ import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 중대위반 문항별 강등 등급 (내장 기본 규칙)
+ * 설정된 규칙 세트가 없을 때 GradingRuleSet.builtin()의 기준으로 사용
+ */
 public class CriticalGradeMap {
 
     private static final Map<String, AssessmentGrade> map = new HashMap<>();
@@ -35,4 +39,11 @@ public class CriticalGradeMap {
     public static AssessmentGrade getGradeByQuestionId(String questionId) {
         return map.get(questionId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 매핑의 읽기 전용 사본
+     */
+    public static Map<String, AssessmentGrade> asMap() {
+        return Map.copyOf(map);
+    }
+}
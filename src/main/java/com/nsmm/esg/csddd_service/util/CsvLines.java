@@ -0,0 +1,64 @@
+package com.nsmm.esg.csddd_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄 분리/인용 유틸리티 (RFC 4180의 큰따옴표 인용, 줄 안의 필드만 지원)
+ *
+ * 일괄 가져오기는 파일을 한 줄씩 스트리밍으로 읽으므로 인용 필드 안의 줄바꿈은 지원하지 않는다.
+ */
+public final class CsvLines {
+
+    private CsvLines() {
+    }
+
+    /**
+     * 한 줄을 필드로 분리 (앞뒤 공백 제거)
+     *
+     * @throws IllegalArgumentException 닫히지 않은 큰따옴표
+     */
+    public static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * 필드 값 인용 (쉼표, 큰따옴표가 있는 경우만)
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,36 @@
+package com.nsmm.esg.csddd_service.util;
+
+/**
+ * Fenwick 트리 (Binary Indexed Tree)
+ *
+ * 0 ~ size-1 구간 빈도의 점 갱신과 누적합 조회를 모두 O(log n)으로 처리한다.
+ * 점수 히스토그램(0~100점)처럼 값 범위가 작은 분포의 순위 계산용이며 스레드 안전하지 않다.
+ */
+public final class FenwickTree {
+
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    /**
+     * index 위치 빈도에 delta 더하기
+     */
+    public void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 0 ~ index 구간 빈도 합 (index가 음수이면 0)
+     */
+    public long prefixSum(int index) {
+        long sum = 0;
+        for (int i = Math.min(index + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
@@ -3,12 +3,13 @@ package com.nsmm.esg.csddd_service.util;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
 import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
 import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 /**
  * CSDDD 자가진단 점수 및 등급 계산 유틸리티
@@ -16,13 +17,20 @@ import java.util.Optional;
  * - YES 응답 항목만 실제 점수로 인정됨
  * - 최종 점수는 100점 만점 기준으로 환산됨
  * - 중대 위반 항목(NO 응답) 존재 시 등급은 자동 강등될 수 있음
+ * - 등급 기준과 중대위반 강등 등급은 GradingRuleRegistry의 현재 규칙 세트를 따름
+ * - 답변의 중대위반 항목 여부도 채점 시 현재 규칙 세트로 다시 지정 (요청값/내장 기본값 무시)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GradeCalculator {
 
+    private final GradingRuleRegistry gradingRuleRegistry;
+
     public void evaluate(SelfAssessmentResult result) {
-        List<SelfAssessmentAnswer> answers = result.getAnswers();
+        // 채점 도중 규칙이 교체되어도 한 결과에는 동일한 규칙 세트를 적용
+        GradingRuleSet rules = gradingRuleRegistry.current();
+        List<SelfAssessmentAnswer> answers = result.getEffectiveAnswers();
 
         if (answers == null || answers.isEmpty()) {
             log.warn("자가진단 답변이 비어있습니다. 평가를 건너뜁니다.");
@@ -30,7 +38,8 @@ public class GradeCalculator {
                     0, 0, 0,
                     AssessmentGrade.D,
                     "평가할 데이터가 없습니다.",
-                    "필수 항목을 모두 입력해주세요."
+                    "필수 항목을 모두 입력해주세요.",
+                    rules.getVersion()
             );
             return;
         }
@@ -55,17 +64,16 @@ public class GradeCalculator {
         int normalizedScore = totalPossibleScore == 0 ? 0 :
                 (int) Math.round((actualScore / totalPossibleScore) * 100);
 
-        // 중대위반 항목 중 사용자가 '아니오(false)'로 응답한 항목만 필터링
+        // 현재 규칙 세트의 중대위반 항목 중 사용자가 '아니오(false)'로 응답한 항목만 필터링
+        rules.applyCriticalGrades(validAnswers);
         List<AssessmentGrade> criticalGrades = validAnswers.stream()
-                .filter(a -> Boolean.TRUE.equals(a.getCriticalViolation()) && !a.isAnswer())
-                .map(SelfAssessmentAnswer::getQuestionId)
-                .map(this::getCriticalGrade)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+                .filter(SelfAssessmentAnswer::hasCriticalViolation)
+                .map(SelfAssessmentAnswer::getCriticalGrade)
+                .filter(Objects::nonNull)
                 .toList();
 
         AssessmentGrade finalGrade = criticalGrades.isEmpty()
-                ? AssessmentGrade.fromScore(normalizedScore, false)
+                ? rules.gradeForScore(normalizedScore)
                 : criticalGrades.stream().min(Comparator.naturalOrder()).orElse(AssessmentGrade.D);
 
         String summary = switch (finalGrade) {
@@ -88,14 +96,8 @@ public class GradeCalculator {
                 totalPossibleScore,
                 finalGrade,
                 summary,
-                recommendation
+                recommendation,
+                rules.getVersion()
         );
     }
-
-    /**
-     * 프론트에서 관리 중인 criticalViolation.grade 정보를 기반으로 등급 반환
-     */
-    private Optional<AssessmentGrade> getCriticalGrade(String questionId) {
-        return Optional.ofNullable(CriticalGradeMap.getGradeByQuestionId(questionId));
-    }
-}
\ No newline at end of file
+}
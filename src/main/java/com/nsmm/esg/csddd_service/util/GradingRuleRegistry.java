@@ -0,0 +1,98 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.config.GradingRuleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 적용 중인 등급 산정 규칙 세트 보관소
+ *
+ * - 기동 시 csddd.grading 설정을 컴파일하여 적용 (설정 오류 시 기동 실패)
+ * - Spring Cloud Config 갱신(EnvironmentChangeEvent) 시 새 규칙 세트를 컴파일한 뒤 참조를 원자적으로 교체
+ * - 갱신된 설정이 잘못된 경우 기존 규칙 세트를 유지하고 오류만 기록
+ *
+ * 채점 경로는 current()로 불변 규칙 세트를 한 번 읽어 사용하므로 잠금이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GradingRuleRegistry {
+
+    private static final String PREFIX = "csddd.grading";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<GradingRuleSet> current = new AtomicReference<>(GradingRuleSet.builtin());
+
+    @PostConstruct
+    void initialize() {
+        current.set(compileActive());
+        log.info("등급 산정 규칙 적용: version={}", current.get().getVersion());
+    }
+
+    /**
+     * 현재 규칙 세트
+     */
+    public GradingRuleSet current() {
+        return current.get();
+    }
+
+    /**
+     * 설정 갱신 시 규칙 세트 재컴파일 및 교체
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(PREFIX))) {
+            return;
+        }
+
+        try {
+            GradingRuleSet next = compileActive();
+            GradingRuleSet previous = current.getAndSet(next);
+            Counter.builder("csddd.grading.rule.reloads")
+                    .description("등급 산정 규칙 세트 교체 횟수")
+                    .tag("version", next.getVersion())
+                    .register(meterRegistry)
+                    .increment();
+            log.info("등급 산정 규칙 교체: {} → {}", previous.getVersion(), next.getVersion());
+        } catch (RuntimeException e) {
+            log.error("등급 산정 규칙 갱신 실패, 기존 규칙 유지: version={}", current.get().getVersion(), e);
+        }
+    }
+
+    // ============================================================================
+    // 프라이빗 헬퍼 메서드 (Private Helper Methods)
+    // ============================================================================
+
+    /**
+     * 현재 Environment 기준으로 활성 규칙 세트 컴파일
+     * (@ConfigurationProperties 재바인딩 순서에 의존하지 않도록 Binder로 직접 바인딩)
+     */
+    private GradingRuleSet compileActive() {
+        GradingRuleProperties properties = Binder.get(environment)
+                .bind(PREFIX, GradingRuleProperties.class)
+                .orElseGet(GradingRuleProperties::new);
+
+        String version = properties.getActiveVersion();
+        if (version == null || GradingRuleSet.BUILTIN_VERSION.equals(version)) {
+            return GradingRuleSet.builtin();
+        }
+
+        GradingRuleProperties.RuleSet ruleSet = properties.getRuleSets().get(version);
+        if (ruleSet == null) {
+            throw new IllegalStateException("활성 규칙 세트가 정의되지 않았습니다: " + version);
+        }
+        return GradingRuleSet.compile(version, ruleSet);
+    }
+}
@@ -0,0 +1,98 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.config.GradingRuleProperties;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 등급 산정 규칙 세트 (불변)
+ *
+ * 설정(GradingRuleProperties.RuleSet)을 검증 후 조회 전용 테이블로 컴파일한 결과
+ * 생성 이후 변경되지 않으므로 채점 경로에서 잠금 없이 공유된다.
+ */
+public final class GradingRuleSet {
+
+    public static final String BUILTIN_VERSION = "builtin";
+
+    private static final GradingRuleSet BUILTIN =
+            new GradingRuleSet(BUILTIN_VERSION, 90, 75, 60, CriticalGradeMap.asMap());
+
+    private final String version;
+    private final int thresholdA;
+    private final int thresholdB;
+    private final int thresholdC;
+    private final Map<String, AssessmentGrade> criticalGrades;
+
+    private GradingRuleSet(String version, int thresholdA, int thresholdB, int thresholdC,
+                           Map<String, AssessmentGrade> criticalGrades) {
+        this.version = version;
+        this.thresholdA = thresholdA;
+        this.thresholdB = thresholdB;
+        this.thresholdC = thresholdC;
+        this.criticalGrades = Map.copyOf(criticalGrades);
+    }
+
+    /**
+     * 내장 기본 규칙 (90/75/60점, CriticalGradeMap)
+     */
+    public static GradingRuleSet builtin() {
+        return BUILTIN;
+    }
+
+    /**
+     * 설정값을 검증하여 규칙 세트로 컴파일
+     *
+     * @throws IllegalArgumentException 점수 기준이 0~100 범위의 내림차순이 아니거나 강등 등급이 비어있는 경우
+     */
+    public static GradingRuleSet compile(String version, GradingRuleProperties.RuleSet source) {
+        if (version == null || version.isBlank() || version.length() > 50) {
+            throw new IllegalArgumentException("규칙 세트 버전은 1~50자여야 합니다: " + version);
+        }
+        int a = source.getThresholdA();
+        int b = source.getThresholdB();
+        int c = source.getThresholdC();
+        if (!(100 >= a && a > b && b > c && c >= 0)) {
+            throw new IllegalArgumentException(String.format(
+                    "규칙 세트 %s의 점수 기준이 올바르지 않습니다: A=%d, B=%d, C=%d", version, a, b, c));
+        }
+        source.getCriticalGrades().forEach((questionId, grade) -> {
+            if (grade == null) {
+                throw new IllegalArgumentException(String.format(
+                        "규칙 세트 %s의 문항 %s 강등 등급이 비어있습니다.", version, questionId));
+            }
+        });
+        return new GradingRuleSet(version, a, b, c, source.getCriticalGrades());
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 환산 점수에 해당하는 등급 (중대위반 미고려)
+     */
+    public AssessmentGrade gradeForScore(int score) {
+        if (score >= thresholdA) return AssessmentGrade.A;
+        if (score >= thresholdB) return AssessmentGrade.B;
+        if (score >= thresholdC) return AssessmentGrade.C;
+        return AssessmentGrade.D;
+    }
+
+    /**
+     * 중대위반 문항의 강등 등급 (해당 없으면 null)
+     */
+    public AssessmentGrade criticalGrade(String questionId) {
+        return questionId != null ? criticalGrades.get(questionId) : null;
+    }
+
+    /**
+     * 답변의 중대위반 항목 여부/강등 등급을 이 규칙 세트 기준으로 지정
+     * 요청에 담긴 값이나 문항 목록의 내장 기본값 대신 채점 시점 규칙을 따른다.
+     */
+    public void applyCriticalGrades(Collection<SelfAssessmentAnswer> answers) {
+        answers.forEach(answer -> answer.applyCriticalGrade(criticalGrade(answer.getQuestionId())));
+    }
+}
@@ -0,0 +1,183 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전별 자가진단 문항 목록 (패킹 답변 해석 기준)
+ *
+ * 패킹 답변은 문항 순서(ordinal)대로 YES=1, NO=0인 비트 벡터이며,
+ * 비트 i는 byte[i / 8]의 (i % 8)번째 하위 비트에 위치한다.
+ * 문항 구성이 바뀌면 기존 버전을 수정하지 않고 새 버전을 추가해야 한다.
+ *
+ * v1: 기존 프론트엔드 40문항 (카테고리는 ViolationMetaMap, 중대위반 등급은 CriticalGradeMap 기준, 가중치 1.0)
+ *
+ * 문항의 중대위반 여부/강등 등급은 내장 규칙 기준 기본값이며 패킹 비트에 포함되지 않는다.
+ * 채점 시에는 GradeCalculator가 현재 등급 산정 규칙 세트 기준으로 다시 지정한다.
+ */
+public class QuestionnaireCatalog {
+
+    public static final String CURRENT_VERSION = "v1";
+
+    private static final Map<String, Questionnaire> versions = new HashMap<>();
+
+    static {
+        versions.put("v1", Questionnaire.of("v1", List.of(
+                "1.1", "1.2", "1.3", "1.4", "1.5", "1.6", "1.7", "1.8", "1.9",
+                "2.1", "2.2", "2.3", "2.4", "2.5", "2.6",
+                "3.1", "3.2", "3.3", "3.4", "3.5", "3.6", "3.7", "3.8",
+                "4.1", "4.2", "4.3", "4.4", "4.5", "4.6", "4.7", "4.8", "4.9",
+                "5.1", "5.2", "5.3", "5.4", "5.5", "5.6", "5.7", "5.8")));
+    }
+
+    /**
+     * 문항 목록 조회
+     *
+     * @throws IllegalArgumentException 지원하지 않는 버전
+     */
+    public static Questionnaire get(String version) {
+        Questionnaire questionnaire = version != null ? versions.get(version) : null;
+        if (questionnaire == null) {
+            throw new IllegalArgumentException("지원하지 않는 문항 버전입니다: " + version);
+        }
+        return questionnaire;
+    }
+
+    /**
+     * 단일 문항 정의
+     */
+    public record Question(int ordinal, String questionId, String category, double weight,
+                           boolean critical, AssessmentGrade criticalGrade) {
+    }
+
+    /**
+     * 특정 버전의 문항 목록
+     */
+    public static final class Questionnaire {
+
+        private final String version;
+        private final List<Question> questions;
+        private final Map<String, Question> byQuestionId;
+
+        private Questionnaire(String version, List<Question> questions) {
+            this.version = version;
+            this.questions = List.copyOf(questions);
+            this.byQuestionId = new HashMap<>();
+            questions.forEach(question -> byQuestionId.put(question.questionId(), question));
+        }
+
+        private static Questionnaire of(String version, List<String> questionIds) {
+            List<Question> questions = new ArrayList<>(questionIds.size());
+            for (int i = 0; i < questionIds.size(); i++) {
+                String questionId = questionIds.get(i);
+                AssessmentGrade criticalGrade = CriticalGradeMap.getGradeByQuestionId(questionId);
+                questions.add(new Question(i, questionId, ViolationMetaMap.get(questionId).getCategory(),
+                        1.0, criticalGrade != null, criticalGrade));
+            }
+            return new Questionnaire(version, questions);
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public List<Question> getQuestions() {
+            return questions;
+        }
+
+        public int size() {
+            return questions.size();
+        }
+
+        /**
+         * 문항 ID로 문항 조회 (없으면 null)
+         */
+        public Question find(String questionId) {
+            return byQuestionId.get(questionId);
+        }
+
+        /**
+         * 패킹 답변 바이트 수
+         */
+        public int packedLength() {
+            return (questions.size() + 7) / 8;
+        }
+
+        /**
+         * 패킹 답변 형식 검증
+         *
+         * @throws IllegalArgumentException 길이가 다르거나 문항 수를 넘는 비트가 설정된 경우
+         */
+        public void validate(byte[] packed) {
+            if (packed == null || packed.length != packedLength()) {
+                throw new IllegalArgumentException(String.format(
+                        "문항 버전 %s의 패킹 답변은 %d바이트여야 합니다.", version, packedLength()));
+            }
+            int usedBitsInLastByte = questions.size() % 8;
+            if (usedBitsInLastByte != 0 && (packed[packed.length - 1] & 0xFF) >>> usedBitsInLastByte != 0) {
+                throw new IllegalArgumentException("문항 수를 초과하는 답변 비트가 설정되어 있습니다.");
+            }
+        }
+
+        public boolean isYes(byte[] packed, int ordinal) {
+            return (packed[ordinal >>> 3] & (1 << (ordinal & 7))) != 0;
+        }
+
+        /**
+         * 답변 목록을 패킹 (문항 구성이 정확히 일치하는 경우만)
+         *
+         * 중대위반 여부/강등 등급은 채점 시 규칙 세트로 정해지므로 비교하지 않는다.
+         *
+         * @return 패킹 답변, 문항/카테고리/가중치 정의가 버전과 다르면 null
+         */
+        public byte[] pack(List<SelfAssessmentAnswer> answers) {
+            if (answers.size() != questions.size()) {
+                return null;
+            }
+            byte[] packed = new byte[packedLength()];
+            boolean[] seen = new boolean[questions.size()];
+            for (SelfAssessmentAnswer answer : answers) {
+                Question question = byQuestionId.get(answer.getQuestionId());
+                if (question == null || seen[question.ordinal()]
+                        || answer.getWeight() == null || answer.getWeight() != question.weight()
+                        || !question.category().equals(answer.getCategory())) {
+                    return null;
+                }
+                seen[question.ordinal()] = true;
+                if (answer.isAnswer()) {
+                    packed[question.ordinal() >>> 3] |= (byte) (1 << (question.ordinal() & 7));
+                }
+            }
+            return packed;
+        }
+
+        /**
+         * 패킹 답변을 답변 객체 목록으로 복원 (영속화되지 않은 읽기 전용 객체)
+         * 중대위반 여부/강등 등급은 내장 기본값이며, 채점 시 현재 규칙 세트로 다시 지정된다.
+         */
+        public List<SelfAssessmentAnswer> unpack(byte[] packed, SelfAssessmentResult result, LocalDateTime answeredAt) {
+            List<SelfAssessmentAnswer> answers = new ArrayList<>(questions.size());
+            for (Question question : questions) {
+                answers.add(SelfAssessmentAnswer.builder()
+                        .questionId(question.questionId())
+                        .category(question.category())
+                        .answer(isYes(packed, question.ordinal()))
+                        .weight(question.weight())
+                        .criticalViolation(question.critical())
+                        .criticalGrade(question.criticalGrade())
+                        .result(result)
+                        .createdAt(answeredAt)
+                        .updatedAt(answeredAt)
+                        .build());
+            }
+            return answers;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.nsmm.esg.csddd_service.util;
+
+/**
+ * 결과 리비전 (결과 ID, 결과 버전)
+ *
+ * 메모리 색인이 협력사별 "최신 결과"를 판별하는 기준
+ * 새 제출은 결과 ID가 더 크고(APPEND), 제자리 갱신은 같은 결과 ID의 버전이 더 크다(UPSERT).
+ *
+ * @param resultId 결과 ID
+ * @param version  결과 버전 (버전 컬럼 도입 이전 값은 0)
+ */
+public record ResultRevision(long resultId, long version) {
+
+    public static ResultRevision of(Long resultId, Long version) {
+        return new ResultRevision(resultId, version != null ? version : 0L);
+    }
+
+    /**
+     * 대상 리비전보다 최신인지 여부 (결과 ID 우선, 같으면 버전 비교)
+     */
+    public boolean isNewerThan(ResultRevision other) {
+        return resultId != other.resultId ? resultId > other.resultId : version > other.version;
+    }
+}
@@ -0,0 +1,67 @@
+package com.nsmm.esg.csddd_service.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 샤드 키 (스레드 로컬)
+ *
+ * ShardRoutingFilter가 요청의 X-HEADQUARTERS-ID로 샤드를 정해 설정하고,
+ * ShardRoutingDataSource가 커넥션을 얻을 때 이 값으로 대상 샤드를 고른다.
+ * 요청 범위 밖(배치 작업, 백그라운드 스레드)에서는 runIn/callIn으로 샤드를 지정하며,
+ * 지정하지 않으면 기본 샤드를 사용한다.
+ */
+public class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 스레드의 샤드 키 (지정되지 않았으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 샤드 지정
+     */
+    public static void set(String shard) {
+        CURRENT.set(shard);
+    }
+
+    /**
+     * 현재 스레드의 샤드 지정 해제
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행 후 이전 샤드로 복원
+     */
+    public static <T> T callIn(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행 후 이전 샤드로 복원 (반환값 없음)
+     */
+    public static void runIn(String shard, Runnable work) {
+        callIn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
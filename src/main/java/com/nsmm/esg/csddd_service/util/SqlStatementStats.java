@@ -0,0 +1,75 @@
+package com.nsmm.esg.csddd_service.util;
+
+import lombok.Getter;
+
+/**
+ * 요청 단위 SQL 실행 통계 (스레드 로컬)
+ *
+ * SqlStatementStatsFilter가 요청 시작 시 begin(), 종료 시 end()를 호출하며
+ * 그 사이 DataSource 프록시가 실행한 문장 수, 조회/변경 행 수, 실행 시간을 누적한다.
+ * 요청 범위 밖(배치 작업 등)에서 실행된 SQL은 집계하지 않는다.
+ */
+public class SqlStatementStats {
+
+    private static final ThreadLocal<Snapshot> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * 현재 스레드의 집계 시작
+     */
+    public static void begin() {
+        CURRENT.set(new Snapshot());
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     *
+     * @return 누적된 통계 (집계 중이 아니었다면 null)
+     */
+    public static Snapshot end() {
+        Snapshot snapshot = CURRENT.get();
+        CURRENT.remove();
+        return snapshot;
+    }
+
+    /**
+     * 현재 스레드의 누적 통계 (집계 중이 아니면 null)
+     */
+    public static Snapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 문장 1회 실행 기록
+     */
+    public static void recordStatement(long elapsedMillis, long affectedRows) {
+        Snapshot snapshot = CURRENT.get();
+        if (snapshot != null) {
+            snapshot.statements++;
+            snapshot.elapsedMillis += elapsedMillis;
+            snapshot.rows += affectedRows;
+        }
+    }
+
+    /**
+     * 결과셋에서 읽은 행 기록
+     */
+    public static void recordFetchedRow() {
+        Snapshot snapshot = CURRENT.get();
+        if (snapshot != null) {
+            snapshot.rows++;
+        }
+    }
+
+    /**
+     * 누적 통계 값
+     */
+    @Getter
+    public static class Snapshot {
+        private long statements;
+        private long rows;
+        private long elapsedMillis;
+    }
+}
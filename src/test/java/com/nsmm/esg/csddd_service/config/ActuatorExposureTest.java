@@ -0,0 +1,83 @@
+package com.nsmm.esg.csddd_service.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 노출 범위 테스트
+ *
+ * 조회용 엔드포인트만 인증 없이 열려 있고, 설정 재적용(refresh)과 운영 작업(재채점 등)은
+ * HTTP로 실행할 수 없으며 운영 작업은 JMX 엔드포인트로 등록되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-actuator;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class ActuatorExposureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readOnlyEndpointsArePublic() throws Exception {
+        mockMvc.perform(get("/actuator/info"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshIsNotExposedOverHttp() throws Exception {
+        mockMvc.perform(post("/actuator/refresh"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/env"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminJobsAreNotExposedOverHttp() throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/admin/rescore"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/csddd/admin/rescore"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/csddd/admin/import").param("file", "history.csv"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/csddd/admin/packed-answers/migrate"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminJobsAreRegisteredAsJmxEndpoints() throws Exception {
+        assertThat(isRegistered("Rescore")).isTrue();
+        assertThat(isRegistered("AssessmentImport")).isTrue();
+        assertThat(isRegistered("PackedAnswerMigration")).isTrue();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    /**
+     * 엔드포인트 MBean 등록 여부 (테스트 컨텍스트가 여러 개이면 context 속성이 붙으므로 패턴으로 조회)
+     */
+    private boolean isRegistered(String endpointName) throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        return !mBeanServer.queryNames(
+                new ObjectName("org.springframework.boot:type=Endpoint,name=" + endpointName + ",*"), null).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.nsmm.esg.csddd_service.config;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 완료 결과 전용 2차 캐시 테스트
+ *
+ * 결과를 진행 중 → 완료 → 재제출 준비(진행 중) 순으로 전환하며
+ * 커밋/로드 직후 결과 엔티티와 답변 컬렉션의 캐시 적재 여부를 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-cache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CompletedOnlyCacheListenerTest {
+
+    private static final String ANSWERS_ROLE = SelfAssessmentResult.class.getName() + ".answers";
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void inProgressResultIsNeverKeptInCache() {
+        Long resultId = saveInProgress(301L);
+        assertThat(isCached(resultId)).isFalse();
+
+        // 로드 직후에도 캐시에 남지 않음
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(resultRepository.findById(resultId)).isPresent());
+
+        assertThat(isCached(resultId)).isFalse();
+        assertThat(isAnswersCached(resultId)).isFalse();
+    }
+
+    @Test
+    void completedResultIsCachedAndEvictedWhenReopened() {
+        Long resultId = saveInProgress(302L);
+
+        transactionTemplate.executeWithoutResult(status -> resultRepository.findById(resultId).orElseThrow()
+                .finalizeAssessment(100.0, 100.0, 100.0, AssessmentGrade.A, "완료", "", "test"));
+        assertThat(isCached(resultId)).isTrue();
+
+        // 캐시를 비운 뒤 다시 로드해도 완료 결과는 적재
+        entityManagerFactory.getCache().evictAll();
+        transactionTemplate.executeWithoutResult(status -> {
+            SelfAssessmentResult result = resultRepository.findById(resultId).orElseThrow();
+            assertThat(result.getAnswers()).isEmpty();
+        });
+        assertThat(isCached(resultId)).isTrue();
+        assertThat(isAnswersCached(resultId)).isTrue();
+
+        // 재제출 준비로 진행 중 상태가 되면 커밋 직후 엔티티와 답변 컬렉션 모두 제거
+        transactionTemplate.executeWithoutResult(status -> resultRepository.findById(resultId).orElseThrow()
+                .prepareResubmission("테스트협력사302", "PARTNER", "/302/L1-302/"));
+
+        assertThat(isCached(resultId)).isFalse();
+        assertThat(isAnswersCached(resultId)).isFalse();
+        assertThat(resultRepository.findById(resultId).orElseThrow().getStatus())
+                .isEqualTo(AssessmentStatus.IN_PROGRESS);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private Long saveInProgress(Long headquartersId) {
+        return transactionTemplate.execute(status -> resultRepository.save(SelfAssessmentResult.builder()
+                .headquartersId(headquartersId)
+                .partnerId(headquartersId)
+                .treePath("/" + headquartersId + "/L1-" + headquartersId + "/")
+                .companyName("테스트협력사" + headquartersId)
+                .userType("PARTNER")
+                .score(0.0)
+                .status(AssessmentStatus.IN_PROGRESS)
+                .build()).getId());
+    }
+
+    private boolean isCached(Long resultId) {
+        Cache cache = entityManagerFactory.getCache();
+        return cache.contains(SelfAssessmentResult.class, resultId);
+    }
+
+    private boolean isAnswersCached(Long resultId) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .containsCollection(ANSWERS_ROLE, resultId);
+    }
+}
@@ -0,0 +1,112 @@
+package com.nsmm.esg.csddd_service.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Config 서버 설정 스냅샷 저장/대체 기동 테스트
+ *
+ * Config 서버 설정이 있으면 비밀 값을 뺀 스냅샷을 저장하고,
+ * Config 서버 없이 스냅샷만 import된 기동에서는 대체 지표를 1로 보고하며 스냅샷을 덮어쓰지 않는지 확인한다.
+ */
+class ConfigSnapshotCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void configServerValuesAreSnapshottedWithoutSecrets() throws Exception {
+        Path snapshot = cacheDirectory.resolve("csddd-service.properties");
+        StandardEnvironment environment = environment(snapshot);
+        environment.getPropertySources().addFirst(new MapPropertySource("configserver:csddd-service", Map.of(
+                "csddd.grading.active-version", "2025-07",
+                "spring.datasource.password", "plain",
+                "csddd.partner.api-key", "excluded",
+                "csddd.feed.max-subscribers", "{cipher}abcdef")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        snapshotCache(environment, meterRegistry, List.of("api-key")).onApplicationReady();
+
+        assertThat(meterRegistry.get("csddd.config.cache.fallback").gauge().value()).isZero();
+        Properties stored = load(snapshot);
+        assertThat(stored.getProperty("csddd.grading.active-version")).isEqualTo("2025-07");
+        assertThat(stored).containsKey(ConfigSnapshotCache.WRITTEN_AT_KEY);
+        assertThat(stored).doesNotContainKeys(
+                "spring.datasource.password", "csddd.partner.api-key", "csddd.feed.max-subscribers");
+    }
+
+    @Test
+    void startupWithoutConfigServerFallsBackToSnapshot() throws Exception {
+        Path snapshot = cacheDirectory.resolve("csddd-service.properties");
+        Properties previous = new Properties();
+        previous.setProperty("csddd.grading.active-version", "2025-07");
+        previous.setProperty(ConfigSnapshotCache.WRITTEN_AT_KEY, "2025-07-01T09:00");
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            previous.store(out, null);
+        }
+        String written = Files.readString(snapshot);
+
+        // spring.config.import의 optional:file: 항목으로 스냅샷만 읽힌 상태
+        StandardEnvironment environment = environment(snapshot);
+        environment.getPropertySources().addLast(new PropertiesPropertySource("snapshot", load(snapshot)));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        snapshotCache(environment, meterRegistry, List.of()).onApplicationReady();
+
+        assertThat(meterRegistry.get("csddd.config.cache.fallback").gauge().value()).isEqualTo(1.0);
+        assertThat(environment.getProperty("csddd.grading.active-version")).isEqualTo("2025-07");
+        assertThat(Files.readString(snapshot)).isEqualTo(written);
+    }
+
+    @Test
+    void relativeLocationIsNotWritten() {
+        StandardEnvironment environment = environment(Path.of("config-cache/csddd-service.properties"));
+        environment.getPropertySources().addFirst(new MapPropertySource("configserver:csddd-service",
+                Map.of("csddd.grading.active-version", "2025-07")));
+
+        snapshotCache(environment, new SimpleMeterRegistry(), List.of()).onApplicationReady();
+
+        assertThat(Path.of("config-cache")).doesNotExist();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private StandardEnvironment environment(Path location) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of(ConfigSnapshotCache.LOCATION_PROPERTY, location.toString())));
+        return environment;
+    }
+
+    private ConfigSnapshotCache snapshotCache(StandardEnvironment environment, SimpleMeterRegistry meterRegistry,
+                                              List<String> excludedKeyPatterns) {
+        ConfigCacheProperties properties = new ConfigCacheProperties();
+        properties.setEnabled(true);
+        properties.setExcludedKeyPatterns(excludedKeyPatterns);
+        return new ConfigSnapshotCache(environment, properties, meterRegistry);
+    }
+
+    private Properties load(Path snapshot) throws Exception {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(snapshot)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+}
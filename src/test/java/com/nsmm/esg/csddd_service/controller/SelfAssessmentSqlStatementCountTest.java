@@ -0,0 +1,424 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.config.SqlStatsResponseAdvice;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자가진단 API SQL 실행 문장 수 회귀 테스트
+ *
+ * 응답 헤더 X-SQL-Statements 값을 고정하여
+ * fromDetail/answers 매핑 변경 등으로 N+1 쿼리가 추가되는 것을 방지한다.
+ * 기대값을 바꿔야 한다면 쿼리 수가 늘어난 이유를 함께 검토할 것.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-sql-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "csddd.sql-stats.expose-header=true",
+        "csddd.admission.headquarters.108.max-concurrent=0"
+})
+@AutoConfigureMockMvc
+class SelfAssessmentSqlStatementCountTest {
+
+    private static final int ANSWER_COUNT = 3;
+
+    /**
+     * 제출: 결과 INSERT 1 + 답변 INSERT N + 결과 최종 UPDATE 1 + 상세 스냅샷 INSERT 1
+     */
+    private static final int SUBMIT_STATEMENTS = 1 + ANSWER_COUNT + 1 + 1;
+
+    /**
+     * 패킹 제출 (기본 정책 ALWAYS): 결과 INSERT 1 + v1 문항 답변 INSERT 40 + 결과 최종 UPDATE 1 + 상세 스냅샷 INSERT 1
+     */
+    private static final int PACKED_SUBMIT_STATEMENTS = 1 + 40 + 1 + 1;
+
+    /**
+     * 상세 조회 (스냅샷 적중): 권한 범위 조건 포함 상세 스냅샷 SELECT 1 (결과/답변 엔티티 로딩 없음)
+     */
+    private static final int DETAIL_STATEMENTS = 1;
+
+    /**
+     * 상세 조회 (스냅샷 없음, 2차 캐시 미적중):
+     * 권한 범위 조건 포함 스냅샷 SELECT 1 + 권한 범위 판정 SELECT 1 (핫/콜드 UNION ALL)
+     * + 결과 기본키 SELECT 1 + 답변 컬렉션 SELECT 1
+     */
+    private static final int DETAIL_WITHOUT_SNAPSHOT_STATEMENTS = 1 + 1 + 2;
+
+    /**
+     * 권한 없는 상세 조회 (엔티티/답변 로딩 없음):
+     * 권한 범위 조건 포함 스냅샷 SELECT 1 (미적중) + 권한 범위 판정 SELECT 1 (존재하지만 범위 밖이므로 403)
+     */
+    private static final int FORBIDDEN_DETAIL_STATEMENTS = 1 + 1;
+
+    /**
+     * 존재하지 않는 결과 상세 조회: 스냅샷 SELECT 1 (미적중) + 권한 범위 판정 SELECT 1 (결과 없음이므로 RESULT_NOT_FOUND)
+     */
+    private static final int MISSING_DETAIL_STATEMENTS = 1 + 1;
+
+    /**
+     * 허용 한도 초과로 거절된 제출: DB 접근 없음
+     */
+    private static final int REJECTED_SUBMIT_STATEMENTS = 0;
+
+    /**
+     * 결과 비교 (패킹 답변, 대상 1건): 권한 범위 판정 SELECT 1 × (기준 + 대상)
+     * 결과는 2차 캐시에서 로딩 (제출 후 조회로 적재됨), 답변 행 로딩 없음
+     */
+    private static final int COMPARE_STATEMENTS = 1 + 1;
+
+    /**
+     * 공급망 위험 집계 조회: 메모리 색인 조회만 수행 (DB 접근 없음)
+     */
+    private static final int TREE_RISK_STATEMENTS = 0;
+
+    /**
+     * 문항별 미준수 히트맵 조회: 메모리 카운터 조회만 수행 (DB 접근 없음)
+     */
+    private static final int HEATMAP_STATEMENTS = 0;
+
+    /**
+     * 문항 답변 조건 조회: 메모리 비트맵 연산만 수행 (DB 접근 없음)
+     */
+    private static final int ANSWER_QUERY_STATEMENTS = 0;
+
+    /**
+     * 목록 조회 (첫 페이지가 페이지 크기보다 작아 COUNT 생략): 결과 SELECT 1
+     */
+    private static final int LIST_STATEMENTS = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private AssessmentDetailSnapshotRepository snapshotRepository;
+
+    @Test
+    void submitExecutesOneInsertPerAnswerPlusResultInsertAndUpdate() throws Exception {
+        submit(101L)
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER, String.valueOf(SUBMIT_STATEMENTS)));
+    }
+
+    @Test
+    void detailServesSnapshotWithSinglePrimaryKeyLookup() throws Exception {
+        submit(107L);
+        Long resultId = latestResultIdOf(107L);
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", resultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "107")
+                        .header("X-TREE-PATH", "/107/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER, String.valueOf(DETAIL_STATEMENTS)))
+                .andExpect(jsonPath("$.data.id").value(resultId))
+                .andExpect(jsonPath("$.data.answers.length()").value(ANSWER_COUNT));
+    }
+
+    @Test
+    void detailWithoutSnapshotLoadsResultAndAnswersWithoutNPlusOne() throws Exception {
+        submit(102L);
+        Long resultId = latestResultIdOf(102L);
+        snapshotRepository.deleteById(resultId);
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", resultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "102")
+                        .header("X-TREE-PATH", "/102/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(DETAIL_WITHOUT_SNAPSHOT_STATEMENTS)));
+    }
+
+    @Test
+    void forbiddenDetailDoesNotLoadResultOrAnswers() throws Exception {
+        submit(104L);
+        Long resultId = latestResultIdOf(104L);
+
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", resultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "999")
+                        .header("X-TREE-PATH", "/999/"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(FORBIDDEN_DETAIL_STATEMENTS)));
+    }
+
+    @Test
+    void missingDetailIsReportedWithSingleScopeLookup() throws Exception {
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", 987_654L)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "104")
+                        .header("X-TREE-PATH", "/104/"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("RESULT_NOT_FOUND"))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(MISSING_DETAIL_STATEMENTS)));
+    }
+
+    @Test
+    void listDoesNotLoadAnswers() throws Exception {
+        submit(103L);
+        submit(103L);
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/v1/csddd/results")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "103")
+                        .header("X-TREE-PATH", "/103/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER, String.valueOf(LIST_STATEMENTS)));
+    }
+
+    @Test
+    void listWithFieldsSelectsOnlyRequestedColumns() throws Exception {
+        submit(105L);
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/v1/csddd/results")
+                        .param("fields", "id,companyName,score,finalGrade,createdAt")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "105")
+                        .header("X-TREE-PATH", "/105/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER, String.valueOf(LIST_STATEMENTS)))
+                .andExpect(jsonPath("$.data.content[0].companyName").value("테스트본사"))
+                .andExpect(jsonPath("$.data.content[0].finalGrade").exists())
+                .andExpect(jsonPath("$.data.content[0].summary").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].recommendations").doesNotExist());
+    }
+
+    @Test
+    void packedSubmitStoresAnswerRowsUnderDefaultPolicy() throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "106")
+                        .header("X-TREE-PATH", "/106/")
+                        .content("""
+                                {"companyName":"테스트본사","questionnaireVersion":"v1","answers":"//////8="}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(PACKED_SUBMIT_STATEMENTS)));
+    }
+
+    @Test
+    void submitOverAdmissionLimitIsRejectedWithoutTouchingDatabase() throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "108")
+                        .header("X-TREE-PATH", "/108/")
+                        .content(submitBody()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(REJECTED_SUBMIT_STATEMENTS)));
+    }
+
+    @Test
+    void compareDiffsPackedAnswersWithoutLoadingAnswerRows() throws Exception {
+        submitPacked(109L, "//////8=");
+        Long baselineId = latestResultIdOf(109L);
+        submitPacked(109L, "/v////8=");
+        Long targetId = latestResultIdOf(109L);
+
+        mockMvc.perform(get("/api/v1/csddd/compare")
+                        .param("baselineId", String.valueOf(baselineId))
+                        .param("targetIds", String.valueOf(targetId))
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "109")
+                        .header("X-TREE-PATH", "/109/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.comparisons[0].flippedToNo[0]").value("1.1"))
+                .andExpect(jsonPath("$.data.comparisons[0].criticalAppeared[0]").value("1.1"))
+                .andExpect(jsonPath("$.data.comparisons[0].changedCount").value(1))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(COMPARE_STATEMENTS)));
+    }
+
+    @Test
+    void detailIncludesPercentileRankWithoutExtraStatements() throws Exception {
+        submitPackedAsPartner(110L, 11L, "/110/L1-11/", "//////8=");
+        Long topPartnerResultId = latestResultIdOf(110L);
+        submitPackedAsPartner(110L, 12L, "/110/L1-12/", "/v////8=");
+
+        mockMvc.perform(get("/api/v1/csddd/partners/{partnerId}/percentile-rank", 12L)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "110"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rank").value(2))
+                .andExpect(jsonPath("$.data.totalPartners").value(2))
+                .andExpect(jsonPath("$.data.topPercent").value(100.0));
+
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", topPartnerResultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "110")
+                        .header("X-TREE-PATH", "/110/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.percentileRank.rank").value(1))
+                .andExpect(jsonPath("$.data.percentileRank.topPercent").value(50.0))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(DETAIL_STATEMENTS)));
+    }
+
+    @Test
+    void treeRiskRollsUpSubTierResultsAndReplacesPreviousSubmission() throws Exception {
+        submitPackedAsPartner(111L, 21L, "/111/L1-21/", "//////8=");
+        submitPackedAsPartner(111L, 22L, "/111/L1-21/L2-22/", "/v////8=");
+        submitPackedAsPartner(111L, 22L, "/111/L1-21/L2-22/", "//////8=");
+
+        mockMvc.perform(get("/api/v1/csddd/tree-risk")
+                        .param("treePath", "/111/L1-21/")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "111")
+                        .header("X-TREE-PATH", "/111/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resultCount").value(2))
+                .andExpect(jsonPath("$.data.gradeCounts.A").value(2))
+                .andExpect(jsonPath("$.data.highRiskCount").value(0))
+                .andExpect(jsonPath("$.data.criticalViolationTotal").value(0))
+                .andExpect(jsonPath("$.data.children[0].treePath").value("/111/L1-21/L2-22/"))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(TREE_RISK_STATEMENTS)));
+    }
+
+    @Test
+    void heatmapCountsLatestPartnerAnswersWithoutQueryingDatabase() throws Exception {
+        submitPackedAsPartner(112L, 31L, "/112/L1-31/", "/v////8=");
+        submitPackedAsPartner(112L, 32L, "/112/L1-32/", "/v////8=");
+        submitPackedAsPartner(112L, 31L, "/112/L1-31/", "//////8=");
+
+        mockMvc.perform(get("/api/v1/csddd/heatmap")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "112"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.partnerCount").value(2))
+                .andExpect(jsonPath("$.data.categories[0].questions[0].questionId").value("1.1"))
+                .andExpect(jsonPath("$.data.categories[0].questions[0].yesCount").value(1))
+                .andExpect(jsonPath("$.data.categories[0].questions[0].noCount").value(1))
+                .andExpect(jsonPath("$.data.categories[0].questions[0].critical").value(true))
+                .andExpect(jsonPath("$.data.categories[0].questions[1].noCount").value(0))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(HEATMAP_STATEMENTS)));
+
+        mockMvc.perform(get("/api/v1/csddd/heatmap")
+                        .header("X-USER-TYPE", "PARTNER")
+                        .header("X-HEADQUARTERS-ID", "112")
+                        .header("X-PARTNER-ID", "31"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void answerQueryEvaluatesBitmapConditionsWithoutQueryingDatabase() throws Exception {
+        submitPackedAsPartner(113L, 41L, "/113/L1-41/", "//////8=");
+        submitPackedAsPartner(113L, 42L, "/113/L1-42/", "/v////8=");
+        submitPackedAsPartner(113L, 43L, "/113/L1-43/", "/v////8=");
+
+        mockMvc.perform(get("/api/v1/csddd/answer-query")
+                        .param("q", "1.1:NO AND NOT (2.1:NO OR 2.2:NO)")
+                        .param("size", "1")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "113"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].partnerId").value(42))
+                .andExpect(header().string(SqlStatsResponseAdvice.STATEMENTS_HEADER,
+                        String.valueOf(ANSWER_QUERY_STATEMENTS)));
+
+        mockMvc.perform(get("/api/v1/csddd/answer-query")
+                        .param("q", "1.1:NO AND 9.9:YES")
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "113"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private ResultActions submit(Long headquartersId) throws Exception {
+        return mockMvc.perform(post("/api/v1/csddd/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/")
+                        .content(submitBody()))
+                .andExpect(status().isOk());
+    }
+
+    private void submitPacked(Long headquartersId, String packedAnswers) throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/")
+                        .content("""
+                                {"companyName":"테스트본사","questionnaireVersion":"v1","answers":"%s"}
+                                """.formatted(packedAnswers)))
+                .andExpect(status().isOk());
+    }
+
+    private void submitPackedAsPartner(Long headquartersId, Long partnerId, String treePath, String packedAnswers)
+            throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "PARTNER")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-PARTNER-ID", String.valueOf(partnerId))
+                        .header("X-TREE-PATH", treePath)
+                        .content("""
+                                {"companyName":"테스트협력사%d","questionnaireVersion":"v1","answers":"%s"}
+                                """.formatted(partnerId, packedAnswers)))
+                .andExpect(status().isOk());
+    }
+
+    private String submitBody() {
+        String answers = IntStream.rangeClosed(1, ANSWER_COUNT)
+                .mapToObj(i -> """
+                        {"questionId":"1.%d","category":"인권 및 노동","answer":"%s","weight":1.0,"critical":false}
+                        """.formatted(i, i % 2 == 0 ? "no" : "yes").trim())
+                .collect(Collectors.joining(","));
+        return """
+                {"companyName":"테스트본사","answers":[%s]}
+                """.formatted(answers);
+    }
+
+    private Long latestResultIdOf(Long headquartersId) {
+        return resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(headquartersId))
+                .map(SelfAssessmentResult::getId)
+                .max(Long::compareTo)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,256 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.config.SubmissionProperties;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.SubmissionMode;
+import com.nsmm.esg.csddd_service.repository.AssessmentResultHistoryRepository;
+import com.nsmm.esg.csddd_service.repository.CurrentAssessmentKeyRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.service.AssessmentArchivalService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 제자리 갱신(UPSERT) 제출 테스트
+ *
+ * 제출 모드를 UPSERT로 고정한 별도 컨텍스트에서
+ * 현재 결과 갱신, 이전 버전 이력 보관, 오래된 버전 제출 거절,
+ * 동시 제출 시 현재 결과가 하나로 유지되고 패자가 409로 끝나는지,
+ * APPEND 모드 제출이나 이관으로 현재 결과 키가 최신 결과를 가리키지 않을 때 키가 다시 지정되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-upsert;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "csddd.submission.mode=UPSERT",
+        "csddd.archival.max-age=30d",
+        "csddd.archival.pause-between-chunks=0ms"
+})
+@AutoConfigureMockMvc
+class SelfAssessmentUpsertTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private AssessmentResultHistoryRepository historyRepository;
+
+    @Autowired
+    private CurrentAssessmentKeyRepository currentKeyRepository;
+
+    @Autowired
+    private SubmissionProperties submissionProperties;
+
+    @Autowired
+    private AssessmentArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void restoreSubmissionMode() {
+        submissionProperties.setMode(SubmissionMode.UPSERT);
+    }
+
+    @Test
+    void upsertUpdatesCurrentResultInPlaceAndRejectsStaleVersion() throws Exception {
+        submitPacked(115L, 61L, "/v////8=", null).andExpect(status().isOk());
+        Long resultId = latestResultIdOf(115L);
+        Long firstVersion = resultRepository.findById(resultId).orElseThrow().getVersion();
+
+        submitPacked(115L, 61L, "//////8=", null).andExpect(status().isOk());
+
+        assertThat(resultCountOf(115L)).isEqualTo(1L);
+        SelfAssessmentResult current = resultRepository.findById(resultId).orElseThrow();
+        assertThat(current.getVersion()).isGreaterThan(firstVersion);
+        assertThat(current.getNoAnswerCount()).isZero();
+        assertThat(historyRepository.findAllByResultIdOrderByVersionDesc(resultId))
+                .singleElement()
+                .satisfies(history -> {
+                    assertThat(history.getVersion()).isEqualTo(firstVersion);
+                    assertThat(history.getNoAnswerCount()).isEqualTo(1);
+                    assertThat(history.getPackedAnswers()).isNotNull();
+                    assertThat(history.getEncodedAnswers()).isNull();
+                });
+
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", resultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "115")
+                        .header("X-TREE-PATH", "/115/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.noAnswerCount").value(0))
+                .andExpect(jsonPath("$.data.version").value(current.getVersion()));
+
+        submitPacked(115L, 61L, "/v////8=", firstVersion)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("VERSION_CONFLICT"));
+        assertThat(resultRepository.findById(resultId).orElseThrow().getVersion()).isEqualTo(current.getVersion());
+    }
+
+    @Test
+    void concurrentFirstSubmissionsKeepSingleCurrentResult() throws Exception {
+        List<Integer> statuses = submitConcurrently(116L, 62L, "/v////8=", "//////8=", null);
+
+        // 먼저 커밋한 제출이 현재 결과를 지정하고, 나머지는 그 결과를 갱신하거나 409로 끝난다
+        assertThat(statuses).containsAnyOf(200).allMatch(code -> code == 200 || code == 409);
+        assertThat(resultCountOf(116L)).isEqualTo(1L);
+        assertThat(currentKeyRepository.findByHeadquartersIdAndPartnerKey(116L, 62L))
+                .hasValueSatisfying(key -> assertThat(key.getResultId()).isEqualTo(latestResultIdOf(116L)));
+    }
+
+    @Test
+    void concurrentResubmissionsWithSameExpectedVersionLetOnlyOneWin() throws Exception {
+        submitPacked(117L, 63L, "/v////8=", null).andExpect(status().isOk());
+        Long resultId = latestResultIdOf(117L);
+        Long version = resultRepository.findById(resultId).orElseThrow().getVersion();
+
+        List<Integer> statuses = submitConcurrently(117L, 63L, "//////8=", "/v////8=", version);
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        assertThat(resultCountOf(117L)).isEqualTo(1L);
+        assertThat(resultRepository.findById(resultId).orElseThrow().getVersion()).isGreaterThan(version);
+        assertThat(historyRepository.findAllByResultIdOrderByVersionDesc(resultId)).hasSize(1);
+    }
+
+    @Test
+    void staleOrArchivedCurrentKeyIsRepointedToLatestResult() throws Exception {
+        submitPacked(118L, 64L, "/v////8=", null).andExpect(status().isOk());
+        Long keyedId = latestResultIdOf(118L);
+
+        // APPEND 모드 제출로 키가 가리키지 않는 최신 결과 생성
+        submissionProperties.setMode(SubmissionMode.APPEND);
+        submitPacked(118L, 64L, "/v////8=", null).andExpect(status().isOk());
+        Long appendedId = latestResultIdOf(118L);
+        submissionProperties.setMode(SubmissionMode.UPSERT);
+
+        submitPacked(118L, 64L, "//////8=", null).andExpect(status().isOk());
+
+        assertThat(resultCountOf(118L)).isEqualTo(2L);
+        assertThat(resultRepository.findById(appendedId).orElseThrow().getNoAnswerCount()).isZero();
+        assertThat(resultRepository.findById(keyedId).orElseThrow().getNoAnswerCount()).isEqualTo(1);
+        assertThat(currentKeyOf(118L, 64L)).isEqualTo(appendedId);
+
+        // 키가 가리키는 결과가 다시 APPEND 제출로 대체된 뒤 보관 테이블로 이관됨
+        submissionProperties.setMode(SubmissionMode.APPEND);
+        submitPacked(118L, 64L, "/v////8=", null).andExpect(status().isOk());
+        Long latestId = latestResultIdOf(118L);
+        submissionProperties.setMode(SubmissionMode.UPSERT);
+        backdate(keyedId, 400);
+        backdate(appendedId, 400);
+        assertThat(archivalService.archiveSupersededResults()).isEqualTo(2);
+
+        submitPacked(118L, 64L, "//////8=", null).andExpect(status().isOk());
+
+        assertThat(resultCountOf(118L)).isEqualTo(1L);
+        assertThat(resultRepository.findById(latestId).orElseThrow().getNoAnswerCount()).isZero();
+        assertThat(currentKeyOf(118L, 64L)).isEqualTo(latestId);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private ResultActions submitPacked(
+            Long headquartersId, Long partnerId, String packedAnswers, Long expectedVersion) throws Exception {
+        String expected = expectedVersion != null ? ",\"expectedVersion\":" + expectedVersion : "";
+        return mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-USER-TYPE", "PARTNER")
+                .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                .header("X-PARTNER-ID", String.valueOf(partnerId))
+                .header("X-TREE-PATH", "/" + headquartersId + "/L1-" + partnerId + "/")
+                .content("""
+                        {"companyName":"테스트협력사%d","questionnaireVersion":"v1","answers":"%s"%s}
+                        """.formatted(partnerId, packedAnswers, expected)));
+    }
+
+    /**
+     * 두 제출을 동시에 시작하여 각 응답 상태 코드를 반환
+     */
+    private List<Integer> submitConcurrently(Long headquartersId, Long partnerId,
+                                             String first, String second, Long expectedVersion) throws Exception {
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(2);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (String packedAnswers : List.of(first, second)) {
+                futures.add(writers.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return submitPacked(headquartersId, partnerId, packedAnswers, expectedVersion).andReturn();
+                }));
+            }
+            assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+            go.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<MvcResult> future : futures) {
+                statuses.add(future.get(30, TimeUnit.SECONDS).getResponse().getStatus());
+            }
+            return statuses;
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private long resultCountOf(Long headquartersId) {
+        return resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(headquartersId))
+                .count();
+    }
+
+    private Long latestResultIdOf(Long headquartersId) {
+        return resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(headquartersId))
+                .map(SelfAssessmentResult::getId)
+                .max(Long::compareTo)
+                .orElseThrow();
+    }
+
+    private Long currentKeyOf(Long headquartersId, Long partnerId) {
+        return currentKeyRepository.findByHeadquartersIdAndPartnerKey(headquartersId, partnerId)
+                .orElseThrow()
+                .getResultId();
+    }
+
+    /**
+     * 생성 일시를 과거로 변경 (JDBC로 직접 갱신하므로 2차 캐시도 비움)
+     */
+    private void backdate(Long resultId, int days) {
+        jdbcTemplate.update("update self_assessment_results set created_at = ? where id = ?",
+                LocalDateTime.now().minusDays(days), resultId);
+        entityManagerFactory.getCache().evictAll();
+    }
+}
@@ -0,0 +1,168 @@
+package com.nsmm.esg.csddd_service.controller;
+
+import com.nsmm.esg.csddd_service.entity.RescoreCheckpoint;
+import com.nsmm.esg.csddd_service.enums.RescoreStatus;
+import com.nsmm.esg.csddd_service.service.AssessmentRescoreService;
+import com.nsmm.esg.csddd_service.util.ShardContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 본사 ID 기준 샤드 라우팅 통합 테스트
+ *
+ * 내장 H2 3개(기본 샤드 + shard-a + shard-b)를 샤드로 사용하여
+ * 제출 데이터가 본사에 매핑된 샤드에만 저장되고, 샤드마다 같은 결과 ID가 생겨도
+ * 조회 응답과 2차 캐시가 섞이지 않는지 확인한다.
+ * 일괄 재채점이 모든 샤드를 샤드별 체크포인트로 처리하는지도 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-shard-default;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "csddd.sharding.enabled=true",
+        "csddd.sharding.initialize-schema=true",
+        "csddd.sharding.shards.shard-a.url=jdbc:h2:mem:csddd-shard-a;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "csddd.sharding.shards.shard-b.url=jdbc:h2:mem:csddd-shard-b;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "csddd.sharding.headquarters.201=shard-a",
+        "csddd.sharding.headquarters.202=shard-b",
+        "csddd.sharding.headquarters.211=shard-a",
+        "csddd.sharding.headquarters.212=shard-b",
+        "csddd.sharding.headquarters.221=shard-a",
+        "csddd.sharding.headquarters.222=shard-b"
+})
+@AutoConfigureMockMvc
+class ShardRoutingIntegrationTest {
+
+    private static final String COUNT_BY_HEADQUARTERS =
+            "select count(*) from self_assessment_results where headquarters_id = ?";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssessmentRescoreService rescoreService;
+
+    @Test
+    void submissionsAreStoredOnlyInTheShardOfTheirHeadquarters() throws Exception {
+        submit(201L, "샤드A본사");
+        submit(202L, "샤드B본사");
+        submit(203L, "기본샤드본사");
+
+        assertThat(countIn("shard-a", 201L)).isEqualTo(1);
+        assertThat(countIn("shard-b", 202L)).isEqualTo(1);
+        assertThat(countIn("default", 203L)).isEqualTo(1);
+
+        assertThat(countIn("default", 201L)).isZero();
+        assertThat(countIn("shard-b", 201L)).isZero();
+        assertThat(countIn("shard-a", 202L)).isZero();
+    }
+
+    @Test
+    void sameResultIdOnDifferentShardsDoesNotMixResponsesOrCacheEntries() throws Exception {
+        submit(211L, "샤드A본사");
+        submit(212L, "샤드B본사");
+        Long shardAId = latestIdIn("shard-a", 211L);
+        Long shardBId = latestIdIn("shard-b", 212L);
+        assertThat(shardAId).isEqualTo(shardBId);
+
+        // 스냅샷이 없어 엔티티(2차 캐시) 경로로 조회되도록 함
+        ShardContext.runIn("shard-a", () -> jdbcTemplate.update("delete from self_assessment_detail_snapshot"));
+        ShardContext.runIn("shard-b", () -> jdbcTemplate.update("delete from self_assessment_detail_snapshot"));
+
+        for (int i = 0; i < 2; i++) {
+            detail(211L, shardAId).andExpect(jsonPath("$.data.companyName").value("샤드A본사"));
+            detail(212L, shardBId).andExpect(jsonPath("$.data.companyName").value("샤드B본사"));
+        }
+    }
+
+    @Test
+    void rescoreProcessesEveryShardWithItsOwnCheckpoint() throws Exception {
+        submit(221L, "샤드A재채점");
+        submit(222L, "샤드B재채점");
+        Long shardAVersion = versionIn("shard-a", latestIdIn("shard-a", 221L));
+        Long shardBVersion = versionIn("shard-b", latestIdIn("shard-b", 222L));
+
+        List<RescoreCheckpoint> started = rescoreService.start(false);
+        assertThat(started).extracting(RescoreCheckpoint::getShardKey)
+                .containsExactly("default", "shard-a", "shard-b");
+        awaitRescore();
+
+        List<RescoreCheckpoint> finished = rescoreService.latest();
+        assertThat(finished).extracting(RescoreCheckpoint::getShardKey)
+                .containsExactly("default", "shard-a", "shard-b");
+        assertThat(finished).allSatisfy(checkpoint ->
+                assertThat(checkpoint.getStatus()).isEqualTo(RescoreStatus.COMPLETED));
+        assertThat(finished.get(1).getLastResultId()).isGreaterThanOrEqualTo(latestIdIn("shard-a", 221L));
+        assertThat(finished.get(2).getLastResultId()).isGreaterThanOrEqualTo(latestIdIn("shard-b", 222L));
+
+        assertThat(versionIn("shard-a", latestIdIn("shard-a", 221L))).isGreaterThan(shardAVersion);
+        assertThat(versionIn("shard-b", latestIdIn("shard-b", 222L))).isGreaterThan(shardBVersion);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private void submit(Long headquartersId, String companyName) throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/")
+                        .content("""
+                                {"companyName":"%s","answers":[
+                                  {"questionId":"1.1","category":"인권 및 노동","answer":"yes","weight":1.0,"critical":false}
+                                ]}
+                                """.formatted(companyName)))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions detail(Long headquartersId, Long resultId) throws Exception {
+        return mockMvc.perform(get("/api/v1/csddd/{resultId}", resultId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/"))
+                .andExpect(status().isOk());
+    }
+
+    private int countIn(String shard, Long headquartersId) {
+        return ShardContext.callIn(shard,
+                () -> jdbcTemplate.queryForObject(COUNT_BY_HEADQUARTERS, Integer.class, headquartersId));
+    }
+
+    private Long versionIn(String shard, Long resultId) {
+        return ShardContext.callIn(shard, () -> jdbcTemplate.queryForObject(
+                "select version from self_assessment_results where id = ?", Long.class, resultId));
+    }
+
+    private void awaitRescore() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (rescoreService.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(rescoreService.isRunning()).isFalse();
+    }
+
+    private Long latestIdIn(String shard, Long headquartersId) {
+        return ShardContext.callIn(shard, () -> jdbcTemplate.queryForObject(
+                "select max(id) from self_assessment_results where headquarters_id = ?", Long.class, headquartersId));
+    }
+}
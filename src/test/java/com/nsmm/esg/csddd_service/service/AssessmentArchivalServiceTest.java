@@ -0,0 +1,145 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.entity.ArchivedAssessmentResult;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.ArchivedAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 콜드 저장소 이관 테스트
+ *
+ * 같은 협력사의 새 결과로 대체된 오래된 결과만 보관 테이블로 옮겨지고,
+ * 보관된 결과를 복원/ID 조회했을 때 답변 목록이 원본과 같은지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-archival;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "csddd.archival.max-age=30d",
+        "csddd.archival.pause-between-chunks=0ms"
+})
+@AutoConfigureMockMvc
+class AssessmentArchivalServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssessmentArchivalService archivalService;
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private ArchivedAssessmentResultRepository archivedResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void onlySupersededOldResultsAreArchivedWithTheirAnswers() throws Exception {
+        // 401: 오래된 결과가 새 결과로 대체됨 (이관 대상)
+        submitPacked(401L, 81L, "/v////8=");
+        Long supersededId = latestResultIdOf(401L);
+        submitPacked(401L, 81L, "//////8=");
+        Long currentId = latestResultIdOf(401L);
+        // 402: 오래되었지만 대체되지 않은 유일한 결과 (유지)
+        submitPacked(402L, 82L, "/v////8=");
+        Long soleId = latestResultIdOf(402L);
+
+        backdate(supersededId, 400);
+        backdate(soleId, 400);
+        List<SelfAssessmentAnswer> originalAnswers = resultRepository.findById(supersededId).orElseThrow()
+                .getEffectiveAnswers();
+
+        int archived = archivalService.archiveSupersededResults();
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(resultRepository.findById(supersededId)).isEmpty();
+        assertThat(resultRepository.findById(currentId)).isPresent();
+        assertThat(resultRepository.findById(soleId)).isPresent();
+        assertThat(archivedResultRepository.findAll())
+                .extracting(ArchivedAssessmentResult::getId)
+                .containsExactly(supersededId);
+
+        SelfAssessmentResult restored = archivedResultRepository.findById(supersededId).orElseThrow().toResult();
+        assertThat(restored.getHeadquartersId()).isEqualTo(401L);
+        assertThat(restored.getNoAnswerCount()).isEqualTo(1);
+        assertThat(restored.getEffectiveAnswers())
+                .extracting(SelfAssessmentAnswer::getQuestionId, SelfAssessmentAnswer::isAnswer,
+                        SelfAssessmentAnswer::getWeight, SelfAssessmentAnswer::getCriticalGrade)
+                .containsExactlyElementsOf(originalAnswers.stream()
+                        .map(answer -> tuple(answer.getQuestionId(), answer.isAnswer(),
+                                answer.getWeight(), answer.getCriticalGrade()))
+                        .toList());
+
+        // 보관된 결과도 ID로 그대로 조회
+        mockMvc.perform(get("/api/v1/csddd/{resultId}", supersededId)
+                        .header("X-USER-TYPE", "HEADQUARTERS")
+                        .header("X-HEADQUARTERS-ID", "401")
+                        .header("X-TREE-PATH", "/401/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(supersededId))
+                .andExpect(jsonPath("$.data.answers.length()").value(originalAnswers.size()));
+
+        // 두 번째 실행에서는 이관할 결과 없음
+        assertThat(archivalService.archiveSupersededResults()).isZero();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private void submitPacked(Long headquartersId, Long partnerId, String packedAnswers) throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "PARTNER")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-PARTNER-ID", String.valueOf(partnerId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/L1-" + partnerId + "/")
+                        .content("""
+                                {"companyName":"테스트협력사%d","questionnaireVersion":"v1","answers":"%s"}
+                                """.formatted(partnerId, packedAnswers)))
+                .andExpect(status().isOk());
+    }
+
+    private Long latestResultIdOf(Long headquartersId) {
+        return resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(headquartersId))
+                .map(SelfAssessmentResult::getId)
+                .max(Long::compareTo)
+                .orElseThrow();
+    }
+
+    /**
+     * 생성 일시를 과거로 변경 (JDBC로 직접 갱신하므로 2차 캐시도 비움)
+     */
+    private void backdate(Long resultId, int days) {
+        jdbcTemplate.update("update self_assessment_results set created_at = ? where id = ?",
+                LocalDateTime.now().minusDays(days), resultId);
+        entityManagerFactory.getCache().evictAll();
+    }
+}
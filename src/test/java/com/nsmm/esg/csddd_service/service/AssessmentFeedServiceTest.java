@@ -0,0 +1,196 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.csddd_service.config.FeedProperties;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 피드 재전송/느린 구독자 테스트
+ *
+ * 전송 내용을 기록하는 SSE 연결로 구독하여 커서 이후 재전송, 만료/다른 에포크 커서의 reset 안내,
+ * 대기열이 가득 찬 느린 구독자의 연결 종료를 확인한다.
+ */
+class AssessmentFeedServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+    private static final Pattern EVENT_NAME = Pattern.compile("event:(\\S+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AssessmentFeedService.FeedScope headquarters1 =
+            AssessmentFeedService.FeedScope.of("HEADQUARTERS", 1L, null, "/1/");
+
+    private AssessmentFeedService service;
+    private CountDownLatch blockSends; // 설정 시 이후 구독자의 전송을 래치 해제까지 붙잡음
+
+    @AfterEach
+    void tearDown() {
+        if (blockSends != null) {
+            blockSends.countDown();
+        }
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void reconnectReplaysOnlyEventsAfterCursorInScope() throws Exception {
+        service = feedService(16, 8);
+        RecordingEmitter live = subscribe(headquarters1, null);
+
+        publish(1L, 1L);
+        publish(2L, 2L); // 다른 본사
+        publish(3L, 1L);
+
+        List<SentEvent> received = live.awaitEvents(2);
+        assertThat(received).extracting(SentEvent::name)
+                .containsOnly(AssessmentFeedService.COMPLETED_EVENT);
+
+        RecordingEmitter reconnected = subscribe(headquarters1, received.get(0).id());
+
+        assertThat(reconnected.awaitEvents(1)).containsExactly(received.get(1));
+        assertThat(reconnected.pendingEvents()).isEmpty();
+    }
+
+    @Test
+    void foreignExpiredOrFutureCursorGetsReset() throws Exception {
+        service = feedService(4, 8);
+        for (long resultId = 1; resultId <= 6; resultId++) {
+            publish(resultId, 1L);
+        }
+
+        // 다른 에포크(서버 재시작 이전) 커서
+        SentEvent foreign = subscribe(headquarters1, "previous-3").awaitEvents(1).get(0);
+        assertThat(foreign.name()).isEqualTo(AssessmentFeedService.RESET_EVENT);
+        String epoch = foreign.id().substring(0, foreign.id().lastIndexOf('-'));
+        assertThat(foreign.id()).isEqualTo(epoch + "-6");
+
+        // 버퍼(최근 4건: 3~6)를 벗어난 커서
+        assertThat(subscribe(headquarters1, epoch + "-1").awaitEvents(1))
+                .extracting(SentEvent::name).containsExactly(AssessmentFeedService.RESET_EVENT);
+        // 아직 발행되지 않은 순번
+        assertThat(subscribe(headquarters1, epoch + "-99").awaitEvents(1))
+                .extracting(SentEvent::name).containsExactly(AssessmentFeedService.RESET_EVENT);
+
+        // 버퍼 안의 가장 오래된 커서는 재전송
+        assertThat(subscribe(headquarters1, epoch + "-2").awaitEvents(4))
+                .extracting(SentEvent::id)
+                .containsExactly(epoch + "-3", epoch + "-4", epoch + "-5", epoch + "-6");
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWhenQueueIsFull() throws Exception {
+        service = feedService(16, 2);
+        blockSends = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(headquarters1, null);
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue(); // 첫 heartbeat 전송에서 멈춤
+
+        publish(1L, 1L);
+        publish(2L, 1L);
+        assertThat(meterRegistry.get("csddd.feed.dropped").counter().count()).isZero();
+
+        publish(3L, 1L); // 대기열(2건) 초과
+
+        assertThat(meterRegistry.get("csddd.feed.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("csddd.feed.subscribers").gauge().value()).isZero();
+
+        // 연결 종료 후에는 붙잡혀 있던 전송이 풀려도 이후 이벤트를 받지 않음
+        blockSends.countDown();
+        publish(4L, 1L);
+        assertThat(slow.pendingEvents()).isEmpty();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private AssessmentFeedService feedService(int replayBufferSize, int queueCapacity) {
+        FeedProperties properties = new FeedProperties();
+        properties.setReplayBufferSize(replayBufferSize);
+        properties.setSubscriberQueueCapacity(queueCapacity);
+        properties.setDispatchThreads(1);
+        return new AssessmentFeedService(properties, new ObjectMapper(), meterRegistry) {
+            @Override
+            SseEmitter createEmitter() {
+                return new RecordingEmitter(blockSends);
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(AssessmentFeedService.FeedScope scope, String lastEventId) {
+        return (RecordingEmitter) service.subscribe(scope, lastEventId);
+    }
+
+    private void publish(Long resultId, Long headquartersId) {
+        service.onAssessmentCompleted(new AssessmentCompletedEvent(
+                resultId, 1L, headquartersId, null, "/" + headquartersId + "/", null, null));
+    }
+
+    private record SentEvent(String id, String name) {
+    }
+
+    /**
+     * 전송된 이벤트를 기록하는 SSE 연결 (heartbeat 주석은 제외)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<SentEvent> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            String text = items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+            Matcher id = EVENT_ID.matcher(text);
+            Matcher name = EVENT_NAME.matcher(text);
+            if (id.find() && name.find()) {
+                events.add(new SentEvent(id.group(1), name.group(1)));
+            }
+        }
+
+        List<SentEvent> awaitEvents(int count) throws InterruptedException {
+            List<SentEvent> received = new ArrayList<>(count);
+            while (received.size() < count) {
+                SentEvent event = events.poll(5, TimeUnit.SECONDS);
+                assertThat(event).as("이벤트 %d건 수신 대기", count).isNotNull();
+                received.add(event);
+            }
+            return received;
+        }
+
+        List<SentEvent> pendingEvents() throws InterruptedException {
+            Thread.sleep(100);
+            return List.copyOf(events);
+        }
+    }
+}
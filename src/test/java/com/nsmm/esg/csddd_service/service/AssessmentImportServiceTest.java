@@ -0,0 +1,88 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.ImportProperties;
+import com.nsmm.esg.csddd_service.dto.response.ImportStatusResponse;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 과거 자가진단 CSV 일괄 가져오기 테스트
+ *
+ * 테스트마다 임시 디렉터리를 가져오기 디렉터리로 지정하고 작업을 요청 스레드에서 동기 실행하여
+ * 원본 일시 보존, 잘못된 행 거절, 상세 스냅샷 생성을 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-import;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AssessmentImportServiceTest {
+
+    @TempDir
+    Path importDirectory;
+
+    @Autowired
+    private AssessmentImportService importService;
+
+    @Autowired
+    private ImportProperties importProperties;
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private AssessmentDetailSnapshotRepository snapshotRepository;
+
+    @BeforeEach
+    void useTemporaryImportDirectory() {
+        importProperties.setDirectory(importDirectory.toString());
+    }
+
+    @Test
+    void importStoresRowsWithOriginalTimestampsAndRejectsInvalidRows() throws Exception {
+        Files.writeString(importDirectory.resolve("history.csv"), String.join("\n",
+                "headquarters_id,partner_id,tree_path,company_name,user_type,created_at,completed_at,1.1,1.2",
+                "114,51,/114/L1-51/,과거협력사,PARTNER,2021-03-31 09:00:00,2021-04-01 10:00:00,YES,NO",
+                "114,,/114/,\"본사, 과거\",PARTNER,2021-03-31,,YES,YES",
+                ""));
+
+        importService.start("history.csv", Runnable::run);
+
+        assertThat(importService.isRunning()).isFalse();
+        ImportStatusResponse importStatus = importService.latest().orElseThrow();
+        assertThat(importStatus.getStatus()).isEqualTo("COMPLETED");
+        assertThat(importStatus.getImportedRows()).isEqualTo(1L);
+        assertThat(importStatus.getRejectedRows()).isEqualTo(1L);
+        assertThat(Files.readAllLines(importDirectory.resolve("history.csv.rejected.csv"))).hasSize(2);
+
+        SelfAssessmentResult imported = resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(114L))
+                .findFirst()
+                .orElseThrow();
+        assertThat(imported.getCreatedAt()).isEqualTo(LocalDateTime.of(2021, 3, 31, 9, 0));
+        assertThat(imported.getCompletedAt()).isEqualTo(LocalDateTime.of(2021, 4, 1, 10, 0));
+        assertThat(imported.getNoAnswerCount()).isEqualTo(1);
+        assertThat(snapshotRepository.existsById(imported.getId())).isTrue();
+    }
+
+    @Test
+    void fileOutsideImportDirectoryIsRejected() {
+        assertThatThrownBy(() -> importService.start("../outside.csv", Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(importService.isRunning()).isFalse();
+    }
+}
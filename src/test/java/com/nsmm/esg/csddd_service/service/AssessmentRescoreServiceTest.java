@@ -0,0 +1,193 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.entity.RescoreCheckpoint;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.RescoreStatus;
+import com.nsmm.esg.csddd_service.repository.RescoreCheckpointRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.GradingRuleRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 재채점 테스트 (제자리 갱신 모드)
+ *
+ * - 재채점 청크 조회/채점과 반영 사이에 재제출을 끼워 넣어
+ *   조회 시점 version 조건으로 재제출 결과가 이전 답변 기준 점수로 덮어써지지 않는지 확인한다.
+ * - 중단된 체크포인트에서 재개하면 커서 이후 결과만 다시 채점하고,
+ *   같은 규칙 버전으로 완료된 작업은 재개하지 않고 처음부터 새로 시작하는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-rescore;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "csddd.submission.mode=UPSERT",
+        "csddd.rescore.chunk-size=2",
+        "csddd.rescore.pause-between-chunks=0ms"
+})
+@AutoConfigureMockMvc
+class AssessmentRescoreServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AssessmentRescoreService rescoreService;
+
+    @Autowired
+    private RescoreCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private SelfAssessmentResultRepository resultRepository;
+
+    @Autowired
+    private GradingRuleRegistry gradingRuleRegistry;
+
+    @Test
+    void rescoreSkipsResultResubmittedBetweenReadAndWrite() throws Exception {
+        submitPacked(201L, 71L, "/v////8=");
+        Long resultId = resultIdOf(201L);
+
+        // 재채점이 이전 답변(미응답 1건)으로 채점을 마친 상태
+        List<SelfAssessmentResult> scored = rescoreService.scoreChunk(
+                chunkOf(resultId), ForkJoinPool.commonPool());
+        assertThat(scored).singleElement()
+                .satisfies(result -> assertThat(result.getNoAnswerCount()).isEqualTo(1));
+
+        // 반영 전에 같은 협력사가 전체 응답으로 재제출
+        submitPacked(201L, 71L, "//////8=");
+        Long resubmittedVersion = resultRepository.findById(resultId).orElseThrow().getVersion();
+
+        RescoreCheckpoint checkpoint = checkpointRepository.save(RescoreCheckpoint.start("test", "default"));
+        List<SelfAssessmentResult> applied = rescoreService.applyChunk(checkpoint, scored, resultId);
+
+        assertThat(applied).isEmpty();
+        assertThat(checkpoint.getProcessedCount()).isZero();
+        assertThat(checkpoint.getLastResultId()).isEqualTo(resultId);
+        SelfAssessmentResult current = resultRepository.findById(resultId).orElseThrow();
+        assertThat(current.getVersion()).isEqualTo(resubmittedVersion);
+        assertThat(current.getNoAnswerCount()).isZero();
+
+        // 재제출 이후 조회한 청크는 정상 반영
+        List<SelfAssessmentResult> rescored = rescoreService.applyChunk(checkpoint,
+                rescoreService.scoreChunk(chunkOf(resultId), ForkJoinPool.commonPool()), resultId);
+
+        assertThat(rescored).hasSize(1);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(1L);
+        current = resultRepository.findById(resultId).orElseThrow();
+        assertThat(current.getVersion()).isEqualTo(resubmittedVersion + 1);
+        assertThat(current.getNoAnswerCount()).isZero();
+    }
+
+    @Test
+    void resumeContinuesFromInterruptedCheckpoint() throws Exception {
+        submitPacked(211L, 72L, "/v////8=");
+        submitPacked(212L, 73L, "/v////8=");
+        submitPacked(213L, 74L, "/v////8=");
+        Long first = resultIdOf(211L);
+        Long second = resultIdOf(212L);
+        Long third = resultIdOf(213L);
+        Long firstVersion = versionOf(first);
+        Long secondVersion = versionOf(second);
+        Long thirdVersion = versionOf(third);
+
+        // 두 번째 결과까지 반영한 뒤 중단된 작업
+        RescoreCheckpoint interrupted = RescoreCheckpoint.start(gradingRuleRegistry.current().getVersion(), "default");
+        interrupted.advance(second, 2);
+        interrupted.fail("중단");
+        interrupted = checkpointRepository.save(interrupted);
+
+        List<RescoreCheckpoint> started = rescoreService.start(true);
+        awaitCompletion();
+
+        assertThat(started).extracting(RescoreCheckpoint::getId).containsExactly(interrupted.getId());
+        RescoreCheckpoint resumed = checkpointRepository.findById(interrupted.getId()).orElseThrow();
+        assertThat(resumed.getStatus()).isEqualTo(RescoreStatus.COMPLETED);
+        assertThat(resumed.getErrorMessage()).isNull();
+        assertThat(resumed.getLastResultId()).isEqualTo(third);
+        assertThat(resumed.getProcessedCount()).isEqualTo(3L);
+
+        // 커서 이전 결과는 다시 채점하지 않음
+        assertThat(versionOf(first)).isEqualTo(firstVersion);
+        assertThat(versionOf(second)).isEqualTo(secondVersion);
+        assertThat(versionOf(third)).isEqualTo(thirdVersion + 1);
+    }
+
+    @Test
+    void completedRunIsNotResumedButRestarted() throws Exception {
+        submitPacked(214L, 75L, "/v////8=");
+        Long resultId = resultIdOf(214L);
+        Long version = versionOf(resultId);
+
+        RescoreCheckpoint completed = RescoreCheckpoint.start(gradingRuleRegistry.current().getVersion(), "default");
+        completed.advance(resultId, 1);
+        completed.complete();
+        completed = checkpointRepository.save(completed);
+
+        List<RescoreCheckpoint> started = rescoreService.start(true);
+        awaitCompletion();
+
+        assertThat(started).hasSize(1);
+        RescoreCheckpoint restarted = checkpointRepository.findById(started.get(0).getId()).orElseThrow();
+        assertThat(restarted.getId()).isNotEqualTo(completed.getId());
+        assertThat(restarted.getStatus()).isEqualTo(RescoreStatus.COMPLETED);
+        assertThat(restarted.getLastResultId()).isEqualTo(resultId);
+        assertThat(versionOf(resultId)).isEqualTo(version + 1);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private void awaitCompletion() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (rescoreService.isRunning()) {
+            assertThat(System.nanoTime()).as("재채점 완료 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private Long versionOf(Long resultId) {
+        return resultRepository.findById(resultId).orElseThrow().getVersion();
+    }
+
+    private List<SelfAssessmentResult> chunkOf(Long resultId) {
+        return rescoreService.readChunk(resultId - 1).stream()
+                .filter(result -> result.getId().equals(resultId))
+                .toList();
+    }
+
+    private void submitPacked(Long headquartersId, Long partnerId, String packedAnswers) throws Exception {
+        mockMvc.perform(post("/api/v1/csddd/submit/packed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-USER-TYPE", "PARTNER")
+                        .header("X-HEADQUARTERS-ID", String.valueOf(headquartersId))
+                        .header("X-PARTNER-ID", String.valueOf(partnerId))
+                        .header("X-TREE-PATH", "/" + headquartersId + "/L1-" + partnerId + "/")
+                        .content("""
+                                {"companyName":"테스트협력사%d","questionnaireVersion":"v1","answers":"%s"}
+                                """.formatted(partnerId, packedAnswers)))
+                .andExpect(status().isOk());
+    }
+
+    private Long resultIdOf(Long headquartersId) {
+        return resultRepository.findAll().stream()
+                .filter(result -> result.getHeadquartersId().equals(headquartersId))
+                .map(SelfAssessmentResult::getId)
+                .max(Long::compareTo)
+                .orElseThrow();
+    }
+}
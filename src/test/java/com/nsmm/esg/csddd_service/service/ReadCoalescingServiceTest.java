@@ -0,0 +1,103 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.csddd_service.config.ReadCoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 동일 조회 병합 테스트
+ *
+ * leader의 조회를 래치로 붙잡아 둔 상태에서 같은 키/다른 권한 범위의 요청을 보내
+ * 조회 실행 횟수와 공유 결과를 확인한다.
+ */
+class ReadCoalescingServiceTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadCoalescingService service =
+            new ReadCoalescingService(new ReadCoalescingProperties(), new ObjectMapper(), meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalReadsInSameScopeShareOneExecution() throws Exception {
+        ReadCoalescingService.AccessScope scope = ReadCoalescingService.AccessScope.of("HEADQUARTERS", 1L, null, "/1/");
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> callers = IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(() -> service.execute("detail", scope, false, () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "result";
+                })))
+                .toList();
+
+        awaitFollowers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void differentScopeDoesNotShareResultOrAccessFailure() throws Exception {
+        ReadCoalescingService.AccessScope denied = ReadCoalescingService.AccessScope.of("PARTNER", 1L, 10L, "/1/P10/");
+        ReadCoalescingService.AccessScope allowed = ReadCoalescingService.AccessScope.of("HEADQUARTERS", 1L, null, null);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> deniedCaller = executor.submit(() -> service.execute("detail", denied, false, () -> {
+            await(release);
+            throw new SecurityException("해당 자가진단 결과에 접근할 권한이 없습니다.");
+        }));
+        Object allowedResult = service.execute("detail", allowed, false, () -> "result");
+        release.countDown();
+
+        assertThat(allowedResult).isEqualTo("result");
+        assertThatThrownBy(() -> deniedCaller.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SecurityException.class);
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followers() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(followers()).isEqualTo((double) expected);
+    }
+
+    private double followers() {
+        Counter counter = meterRegistry.find("csddd.read.coalescing").tag("role", "follower").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.PercentileProperties;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.dto.response.PercentileRankResponse;
+import com.nsmm.esg.csddd_service.dto.response.SelfAssessmentResultResponse;
+import com.nsmm.esg.csddd_service.event.AssessmentCompletedEvent;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 본사 내 협력사 점수 백분위 색인 테스트
+ *
+ * 동점 순위(rank = 전체 - 같거나 낮은 수 + 1), 0점/100점 구간, 협력사 점수 교체,
+ * 재구성 중 도착한 제출 이벤트의 재적용과 구성 실패 시 기존 색인 유지를 확인한다.
+ */
+class ScorePercentileServiceTest {
+
+    private final SelfAssessmentResultRepository resultRepository = mock(SelfAssessmentResultRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScorePercentileService service = new ScorePercentileService(
+            resultRepository, new ShardingProperties(), new PercentileProperties(), meterRegistry);
+
+    @Test
+    void tiedScoresShareRank() {
+        when(resultRepository.findLatestPartnerScores()).thenReturn(List.of(
+                row(1L, 11L, 101L, 90.0),
+                row(1L, 12L, 102L, 80.0),
+                row(1L, 13L, 103L, 80.4),
+                row(1L, 14L, 104L, 70.0)));
+        service.rebuild();
+
+        PercentileRankResponse tied = service.rankOf(1L, 12L).orElseThrow();
+        assertThat(tied.getScore()).isEqualTo(80);
+        assertThat(tied.getRank()).isEqualTo(2);
+        assertThat(tied.getTotalPartners()).isEqualTo(4);
+        assertThat(tied.getTopPercent()).isEqualTo(50.0);
+        assertThat(tied.getPercentile()).isEqualTo(75.0);
+        assertThat(service.rankOf(1L, 13L).orElseThrow().getRank()).isEqualTo(2);
+
+        assertThat(service.rankOf(1L, 11L).orElseThrow().getRank()).isEqualTo(1);
+        assertThat(service.rankOf(1L, 14L).orElseThrow().getRank()).isEqualTo(4);
+        assertThat(meterRegistry.get("csddd.percentile.rebuild").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void zeroAndHundredBucketsAreRankedAtTheEnds() {
+        when(resultRepository.findLatestPartnerScores()).thenReturn(List.of(
+                row(2L, 21L, 201L, 0.0),
+                row(2L, 22L, 202L, 0.4),
+                row(2L, 23L, 203L, 99.6),
+                row(2L, 24L, 204L, 100.0)));
+        service.rebuild();
+
+        PercentileRankResponse lowest = service.rankOf(2L, 21L).orElseThrow();
+        assertThat(lowest.getScore()).isZero();
+        assertThat(lowest.getRank()).isEqualTo(3);
+        assertThat(lowest.getTopPercent()).isEqualTo(75.0);
+        assertThat(lowest.getPercentile()).isEqualTo(50.0);
+
+        PercentileRankResponse highest = service.rankOf(2L, 23L).orElseThrow();
+        assertThat(highest.getScore()).isEqualTo(100);
+        assertThat(highest.getRank()).isEqualTo(1);
+        assertThat(highest.getTopPercent()).isEqualTo(25.0);
+        assertThat(highest.getPercentile()).isEqualTo(100.0);
+
+        // 다른 본사와 색인에 없는 협력사는 빈 값
+        assertThat(service.rankOf(3L, 21L)).isEmpty();
+        assertThat(service.rankOf(2L, 99L)).isEmpty();
+    }
+
+    @Test
+    void newerResultReplacesPartnerScore() {
+        when(resultRepository.findLatestPartnerScores()).thenReturn(List.of(
+                row(4L, 41L, 401L, 90.0),
+                row(4L, 42L, 402L, 60.0)));
+        service.rebuild();
+
+        // 새 결과(APPEND) 반영 후 이전 점수는 히스토그램에서 빠짐
+        service.onAssessmentCompleted(event(4L, 42L, 403L, 0L, 95.0));
+        PercentileRankResponse replaced = service.rankOf(4L, 42L).orElseThrow();
+        assertThat(replaced.getResultId()).isEqualTo(403L);
+        assertThat(replaced.getRank()).isEqualTo(1);
+        assertThat(replaced.getTotalPartners()).isEqualTo(2);
+        assertThat(service.rankOf(4L, 41L).orElseThrow().getRank()).isEqualTo(2);
+
+        // 제자리 갱신(UPSERT)은 같은 결과의 더 높은 버전으로 반영
+        service.onAssessmentCompleted(event(4L, 42L, 403L, 1L, 50.0));
+        assertThat(service.rankOf(4L, 42L).orElseThrow().getScore()).isEqualTo(50);
+
+        // 늦게 도착한 이전 결과 이벤트는 무시
+        service.onAssessmentCompleted(event(4L, 42L, 402L, 5L, 100.0));
+        assertThat(service.rankOf(4L, 42L).orElseThrow().getScore()).isEqualTo(50);
+
+        // 본사 자체 결과는 순위 대상이 아님
+        service.onAssessmentCompleted(event(4L, null, 404L, 0L, 100.0));
+        assertThat(service.rankOf(4L, 41L).orElseThrow().getTotalPartners()).isEqualTo(2);
+    }
+
+    @Test
+    void eventsArrivingDuringRebuildAreReplayedIntoNewIndex() {
+        // 구성 쿼리가 읽은 뒤(이전 점수) 커밋된 제출을 재현
+        when(resultRepository.findLatestPartnerScores()).thenAnswer(invocation -> {
+            service.onAssessmentCompleted(event(5L, 52L, 503L, 0L, 95.0));
+            service.rebuild(); // 진행 중인 재구성과 겹치면 건너뜀
+            return List.of(row(5L, 51L, 501L, 80.0), row(5L, 52L, 502L, 40.0));
+        });
+        service.rebuild();
+
+        PercentileRankResponse replayed = service.rankOf(5L, 52L).orElseThrow();
+        assertThat(replayed.getResultId()).isEqualTo(503L);
+        assertThat(replayed.getScore()).isEqualTo(95);
+        assertThat(replayed.getRank()).isEqualTo(1);
+        assertThat(replayed.getTotalPartners()).isEqualTo(2);
+        verify(resultRepository, times(1)).findLatestPartnerScores();
+    }
+
+    @Test
+    void failedRebuildKeepsPreviousIndex() {
+        when(resultRepository.findLatestPartnerScores())
+                .thenReturn(List.of(row(6L, 61L, 601L, 70.0)))
+                .thenThrow(new IllegalStateException("shard unavailable"));
+        service.rebuild();
+
+        service.rebuild();
+
+        assertThat(service.rankOf(6L, 61L)).isPresent();
+        // 실패 후에도 다음 재구성은 다시 실행됨
+        doReturn(List.of()).when(resultRepository).findLatestPartnerScores();
+        service.rebuild();
+        assertThat(service.rankOf(6L, 61L)).isEmpty();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private static SelfAssessmentResultRepository.LatestPartnerScore row(
+            Long headquartersId, Long partnerId, Long resultId, double score) {
+        return new ScoreRow(headquartersId, partnerId, resultId, score);
+    }
+
+    private static AssessmentCompletedEvent event(
+            Long headquartersId, Long partnerId, Long resultId, Long version, double score) {
+        SelfAssessmentResultResponse summary = SelfAssessmentResultResponse.builder().score(score).build();
+        return new AssessmentCompletedEvent(resultId, version, headquartersId, partnerId,
+                "/" + headquartersId + "/", summary, null);
+    }
+
+    private record ScoreRow(Long headquartersId, Long partnerId, Long resultId, double score)
+            implements SelfAssessmentResultRepository.LatestPartnerScore {
+
+        @Override
+        public Long getHeadquartersId() {
+            return headquartersId;
+        }
+
+        @Override
+        public Long getPartnerId() {
+            return partnerId;
+        }
+
+        @Override
+        public Long getResultId() {
+            return resultId;
+        }
+
+        @Override
+        public Long getVersion() {
+            return 0L;
+        }
+
+        @Override
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.nsmm.esg.csddd_service.config.ShardingProperties;
+import com.nsmm.esg.csddd_service.config.WarmupProperties;
+import com.nsmm.esg.csddd_service.repository.AssessmentDetailSnapshotRepository;
+import com.nsmm.esg.csddd_service.repository.SelfAssessmentResultRepository;
+import com.nsmm.esg.csddd_service.util.GradeCalculator;
+import com.nsmm.esg.csddd_service.util.GradingRuleRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 기동 워밍업 UP 전환 테스트
+ *
+ * 워밍업이 제한 시간을 넘기거나 실패해도 Eureka 인스턴스가 UP으로 전환되고
+ * 워밍업 소요 시간 지표에 결과(outcome)가 기록되는지 확인한다.
+ */
+class StartupWarmupServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationInfoManager applicationInfoManager = mock(ApplicationInfoManager.class);
+    private final SelfAssessmentResultRepository resultRepository = mock(SelfAssessmentResultRepository.class);
+
+    @Test
+    void timeoutSkipsRemainingPhasesAndStillMarksUp() {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setTimeout(Duration.ofNanos(1));
+
+        warmupService(properties, new JdbcTemplate()).run(new DefaultApplicationArguments());
+
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        assertThat(warmupCount("timeout")).isEqualTo(1L);
+        // 제한 시간이 지나 조회/캐시 적재 단계는 실행되지 않음
+        verifyNoInteractions(resultRepository);
+    }
+
+    @Test
+    void failedWarmupStillMarksUp() {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setScoringIterations(1);
+        properties.setSerializationIterations(1);
+        properties.setReadIterations(0);
+
+        // DataSource가 없는 JdbcTemplate로 캐시 적재 단계에서 실패
+        warmupService(properties, new JdbcTemplate()).run(new DefaultApplicationArguments());
+
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        assertThat(warmupCount("failed")).isEqualTo(1L);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private StartupWarmupService warmupService(WarmupProperties properties, JdbcTemplate jdbcTemplate) {
+        GradingRuleRegistry rules = new GradingRuleRegistry(new MockEnvironment(), meterRegistry);
+        return new StartupWarmupService(
+                properties,
+                new ShardingProperties(),
+                new GradeCalculator(rules),
+                resultRepository,
+                mock(AssessmentDetailSnapshotRepository.class),
+                List.of(new MappingJackson2HttpMessageConverter()),
+                jdbcTemplate,
+                new TransactionTemplate(),
+                new StaticListableBeanFactory(Map.of("applicationInfoManager", applicationInfoManager))
+                        .getBeanProvider(ApplicationInfoManager.class),
+                meterRegistry);
+    }
+
+    private long warmupCount(String outcome) {
+        return meterRegistry.get("csddd.startup.warmup").tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,55 @@
+package com.nsmm.esg.csddd_service.service;
+
+import com.nsmm.esg.csddd_service.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제출 허용 제어 테스트
+ *
+ * 본사별 동시 처리 한도와 유휴 본사 상태 제거를 확인한다.
+ */
+class SubmissionAdmissionServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final SubmissionAdmissionService service = new SubmissionAdmissionService(properties, meterRegistry);
+
+    @Test
+    void concurrencyLimitIsPerHeadquarters() {
+        properties.setMaxConcurrent(1);
+
+        SubmissionAdmissionService.Admission first = service.tryAdmit(1L);
+        assertThat(first.isAdmitted()).isTrue();
+        assertThat(service.tryAdmit(1L).isAdmitted()).isFalse();
+        assertThat(service.tryAdmit(2L).isAdmitted()).isTrue();
+
+        first.release();
+        assertThat(service.tryAdmit(1L).isAdmitted()).isTrue();
+    }
+
+    @Test
+    void idleTenantsAreEvictedWhileBusyTenantsAreKept() {
+        properties.setIdleEviction(Duration.ZERO);
+
+        SubmissionAdmissionService.Admission busy = service.tryAdmit(1L);
+        service.tryAdmit(2L).release();
+        service.tryAdmit(3L).release();
+        assertThat(tenantCount()).isEqualTo(3.0);
+
+        service.evictIdleTenants();
+        assertThat(tenantCount()).isEqualTo(1.0);
+
+        busy.release();
+        service.evictIdleTenants();
+        assertThat(tenantCount()).isZero();
+    }
+
+    private double tenantCount() {
+        return meterRegistry.get("csddd.admission.tenants").gauge().value();
+    }
+}
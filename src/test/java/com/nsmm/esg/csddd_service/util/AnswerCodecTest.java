@@ -0,0 +1,78 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 답변 목록 압축 인코딩 테스트
+ *
+ * 인코딩 후 디코딩한 답변이 ID 유무, 응답, 가중치, 중대위반 여부/강등 등급을 그대로 보존하는지 확인한다.
+ */
+class AnswerCodecTest {
+
+    private static final LocalDateTime ANSWERED_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Test
+    void roundTripPreservesEveryAnswerField() {
+        List<SelfAssessmentAnswer> answers = List.of(
+                answer(11L, "1.1", false, 2.0, AssessmentGrade.D),
+                answer(12L, "1.2", true, 1.5, null),
+                answer(null, "2.1", false, 1.0, AssessmentGrade.C));
+
+        List<SelfAssessmentAnswer> decoded = AnswerCodec.decode(AnswerCodec.encode(answers), ANSWERED_AT);
+
+        assertThat(decoded)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt", "updatedAt")
+                .containsExactlyElementsOf(answers);
+        assertThat(decoded).allSatisfy(answer -> {
+            assertThat(answer.getCreatedAt()).isEqualTo(ANSWERED_AT);
+            assertThat(answer.getUpdatedAt()).isEqualTo(ANSWERED_AT);
+            assertThat(answer.getResult()).isNull();
+        });
+    }
+
+    @Test
+    void roundTripOfEmptyList() {
+        assertThat(AnswerCodec.decode(AnswerCodec.encode(List.of()), ANSWERED_AT)).isEmpty();
+    }
+
+    @Test
+    void unsupportedFormatVersionIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(2);
+            out.writeInt(0);
+        }
+
+        assertThatThrownBy(() -> AnswerCodec.decode(bytes.toByteArray(), ANSWERED_AT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2");
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private SelfAssessmentAnswer answer(Long id, String questionId, boolean answer, double weight,
+                                        AssessmentGrade criticalGrade) {
+        return SelfAssessmentAnswer.builder()
+                .id(id)
+                .questionId(questionId)
+                .category(questionId.substring(0, 1))
+                .answer(answer)
+                .weight(weight)
+                .criticalViolation(criticalGrade != null)
+                .criticalGrade(criticalGrade)
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.nsmm.esg.csddd_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 답변 질의 파싱/평가 테스트
+ *
+ * 연산자 우선순위(NOT > AND > OR)와 괄호, 문법 오류와 알 수 없는 문항,
+ * 조건 수/토큰 수/중첩 깊이 제한이 입력 오류(IllegalArgumentException)로 거절되는지 확인한다.
+ */
+class AnswerQueryTest {
+
+    private final QuestionnaireCatalog.Questionnaire questionnaire =
+            QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+
+    /**
+     * 결과 0~3의 문항별 답변 (결과 3은 해당 문항 미응답)
+     * - 결과 0: 1.1 NO, 1.2 NO, 2.1 YES
+     * - 결과 1: 1.1 NO, 1.2 YES, 2.1 NO
+     * - 결과 2: 1.1 YES, 1.2 NO, 2.1 NO
+     */
+    private final AnswerQuery.Bitmaps bitmaps = new FixedBitmaps(4, Map.of(
+            "1.1", new Boolean[]{false, false, true, null},
+            "1.2", new Boolean[]{false, true, false, null},
+            "2.1", new Boolean[]{true, false, false, null}));
+
+    // ============================================================================
+    // 우선순위 (Precedence)
+    // ============================================================================
+
+    @Test
+    void andBindsTighterThanOr() {
+        AnswerQuery query = AnswerQuery.parse("1.1:NO OR 1.2:NO AND 2.1:NO", questionnaire);
+
+        assertThat(query).hasToString("(1.1:NO OR (1.2:NO AND 2.1:NO))");
+        assertThat(matching(query)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void notBindsTighterThanAnd() {
+        AnswerQuery query = AnswerQuery.parse("NOT 1.1:NO AND 1.2:NO", questionnaire);
+
+        assertThat(query).hasToString("(NOT 1.1:NO AND 1.2:NO)");
+        assertThat(matching(query)).containsExactly(2);
+    }
+
+    @Test
+    void parenthesesOverridePrecedence() {
+        AnswerQuery or = AnswerQuery.parse("(1.1:NO OR 1.2:NO) AND 2.1:NO", questionnaire);
+        assertThat(or).hasToString("((1.1:NO OR 1.2:NO) AND 2.1:NO)");
+        assertThat(matching(or)).containsExactly(1, 2);
+
+        AnswerQuery not = AnswerQuery.parse("NOT (1.1:NO AND 1.2:NO)", questionnaire);
+        assertThat(not).hasToString("NOT (1.1:NO AND 1.2:NO)");
+        assertThat(matching(not)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keywordsAndAnswersAreCaseInsensitive() {
+        AnswerQuery query = AnswerQuery.parse("not 1.1:no and 1.2:No", questionnaire);
+
+        assertThat(query).hasToString("(NOT 1.1:NO AND 1.2:NO)");
+    }
+
+    // ============================================================================
+    // 입력 오류 (Invalid Input)
+    // ============================================================================
+
+    @Test
+    void missingClosingParenthesisIsRejected() {
+        assertThatThrownBy(() -> AnswerQuery.parse("(1.1:NO AND 1.2:NO", questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("닫는 괄호");
+        assertThatThrownBy(() -> AnswerQuery.parse("(1.1:NO 1.2:NO)", questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("닫는 괄호");
+        assertThatThrownBy(() -> AnswerQuery.parse("1.1:NO)", questionnaire))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unknownQuestionIsRejected() {
+        assertThatThrownBy(() -> AnswerQuery.parse("1.1:NO AND 9.9:NO", questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("9.9");
+    }
+
+    @Test
+    void conditionCountIsLimited() {
+        String allowed = conditions(AnswerQuery.MAX_CONDITIONS);
+        assertThat(AnswerQuery.parse(allowed, questionnaire)).isNotNull();
+
+        assertThatThrownBy(() -> AnswerQuery.parse(conditions(AnswerQuery.MAX_CONDITIONS + 1), questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(AnswerQuery.MAX_CONDITIONS));
+    }
+
+    @Test
+    void nestingDepthIsLimited() {
+        String allowed = "NOT ".repeat(AnswerQuery.MAX_DEPTH) + "1.1:NO";
+        assertThat(AnswerQuery.parse(allowed, questionnaire)).isNotNull();
+
+        assertThatThrownBy(() -> AnswerQuery.parse("NOT " + allowed, questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(AnswerQuery.MAX_DEPTH));
+        String parentheses = "(".repeat(AnswerQuery.MAX_DEPTH + 1) + "1.1:NO"
+                + ")".repeat(AnswerQuery.MAX_DEPTH + 1);
+        assertThatThrownBy(() -> AnswerQuery.parse(parentheses, questionnaire))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(AnswerQuery.MAX_DEPTH));
+    }
+
+    @Test
+    void deeplyNestedInputIsRejectedWithoutStackOverflow() {
+        assertThatThrownBy(() -> AnswerQuery.parse("NOT ".repeat(100_000) + "1.1:NO", questionnaire))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AnswerQuery.parse("(".repeat(100_000), questionnaire))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private List<Integer> matching(AnswerQuery query) {
+        return query.evaluate(bitmaps).stream().boxed().toList();
+    }
+
+    private String conditions(int count) {
+        List<String> questionIds = questionnaire.getQuestions().stream()
+                .map(QuestionnaireCatalog.Question::questionId)
+                .toList();
+        return String.join(" AND ", IntStream.range(0, count)
+                .mapToObj(i -> questionIds.get(i) + ":NO")
+                .toList());
+    }
+
+    /**
+     * 문항별 답변 배열로 만든 고정 비트맵
+     */
+    private final class FixedBitmaps implements AnswerQuery.Bitmaps {
+
+        private final int size;
+        private final Map<String, Boolean[]> answers;
+
+        private FixedBitmaps(int size, Map<String, Boolean[]> answers) {
+            this.size = size;
+            this.answers = answers;
+        }
+
+        @Override
+        public BitSet matching(int ordinal, boolean yes) {
+            String questionId = questionnaire.getQuestions().get(ordinal).questionId();
+            Boolean[] values = answers.getOrDefault(questionId, Collections.nCopies(size, null).toArray(Boolean[]::new));
+            BitSet bits = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (values[i] != null && values[i] == yes) {
+                    bits.set(i);
+                }
+            }
+            return bits;
+        }
+
+        @Override
+        public BitSet universe() {
+            BitSet bits = new BitSet(size);
+            bits.set(0, size);
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.event.SubmissionMetricsEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제출 업무 지표 테스트
+ *
+ * - 커밋된 제출만 집계되는지 (롤백 제출 제외)
+ * - questionId 태그가 현재 문항 버전의 문항 ID와 other로 제한되는지
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:csddd-metrics;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AssessmentMetricsTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void committedSubmissionIsCountedWithBoundedQuestionTags() {
+        double before = submissions("B");
+
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(
+                new SubmissionMetricsEvent("B", "PARTNER", List.of("1.1", "999.9", "<script>"), 40)));
+
+        assertThat(submissions("B")).isEqualTo(before + 1);
+        assertThat(violations("1.1")).isGreaterThanOrEqualTo(1);
+        assertThat(violations(AssessmentMetrics.OTHER_QUESTION_TAG)).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.find("csddd.critical.violations").tag("questionId", "999.9").counter()).isNull();
+        assertThat(meterRegistry.find("csddd.critical.violations").tag("questionId", "<script>").counter()).isNull();
+    }
+
+    @Test
+    void rolledBackSubmissionIsNotCounted() {
+        double before = submissions("D");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SubmissionMetricsEvent("D", "PARTNER", List.of("1.4"), 40));
+            status.setRollbackOnly();
+        });
+
+        assertThat(submissions("D")).isEqualTo(before);
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private double submissions(String grade) {
+        Counter counter = meterRegistry.find("csddd.submissions")
+                .tag("grade", grade).tag("userType", "PARTNER").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double violations(String questionId) {
+        Counter counter = meterRegistry.find("csddd.critical.violations")
+                .tag("questionId", questionId).tag("userType", "PARTNER").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
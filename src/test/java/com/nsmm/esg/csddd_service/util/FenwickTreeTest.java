@@ -0,0 +1,75 @@
+package com.nsmm.esg.csddd_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fenwick 트리 누적합 테스트
+ *
+ * 점 갱신(증가/감소) 이후 누적합이 단순 배열 합과 같은지,
+ * 구간 양 끝(0, size-1)과 범위 밖 index가 올바르게 처리되는지 확인한다.
+ */
+class FenwickTreeTest {
+
+    @Test
+    void prefixSumCoversBothEnds() {
+        FenwickTree tree = new FenwickTree(101);
+        tree.add(0, 2);
+        tree.add(50, 3);
+        tree.add(100, 5);
+
+        assertThat(tree.prefixSum(0)).isEqualTo(2);
+        assertThat(tree.prefixSum(49)).isEqualTo(2);
+        assertThat(tree.prefixSum(50)).isEqualTo(5);
+        assertThat(tree.prefixSum(99)).isEqualTo(5);
+        assertThat(tree.prefixSum(100)).isEqualTo(10);
+    }
+
+    @Test
+    void outOfRangeIndexIsClamped() {
+        FenwickTree tree = new FenwickTree(101);
+        tree.add(0, 1);
+        tree.add(100, 1);
+
+        assertThat(tree.prefixSum(-1)).isZero();
+        assertThat(tree.prefixSum(1_000)).isEqualTo(2);
+    }
+
+    @Test
+    void negativeDeltaMovesCountBetweenBuckets() {
+        FenwickTree tree = new FenwickTree(101);
+        tree.add(80, 1);
+
+        // 80점 → 60점으로 변경
+        tree.add(80, -1);
+        tree.add(60, 1);
+
+        assertThat(tree.prefixSum(59)).isZero();
+        assertThat(tree.prefixSum(60)).isEqualTo(1);
+        assertThat(tree.prefixSum(100)).isEqualTo(1);
+    }
+
+    @Test
+    void prefixSumMatchesPlainArray() {
+        int size = 101;
+        FenwickTree tree = new FenwickTree(size);
+        long[] counts = new long[size];
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(size);
+            long delta = counts[index] > 0 && random.nextBoolean() ? -1 : 1;
+            tree.add(index, delta);
+            counts[index] += delta;
+        }
+
+        long expected = 0;
+        for (int index = 0; index < size; index++) {
+            expected += counts[index];
+            assertThat(tree.prefixSum(index)).as("prefixSum(%d)", index).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentAnswer;
+import com.nsmm.esg.csddd_service.entity.SelfAssessmentResult;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import com.nsmm.esg.csddd_service.enums.AssessmentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채점 시 중대위반 기준 적용 테스트
+ *
+ * 답변의 중대위반 항목 여부가 요청값이나 문항 목록의 내장 기본값이 아닌
+ * 현재 등급 산정 규칙 세트로 정해지는지 확인한다.
+ */
+class GradeCalculatorTest {
+
+    private final QuestionnaireCatalog.Questionnaire questionnaire =
+            QuestionnaireCatalog.get(QuestionnaireCatalog.CURRENT_VERSION);
+
+    @Test
+    void criticalFlagsComeFromActiveRuleSet() {
+        // 사용자 정의 규칙: 1.1은 중대위반 대상에서 제외, 2.1을 C 강등 대상으로 추가
+        GradeCalculator calculator = calculatorWith(new MockEnvironment()
+                .withProperty("csddd.grading.active-version", "custom")
+                .withProperty("csddd.grading.rule-sets.custom.critical-grades.[2.1]", "C"));
+        SelfAssessmentResult result = resultAnsweringNoTo("1.1", "2.1");
+
+        calculator.evaluate(result);
+
+        assertThat(result.getScore()).isEqualTo(95.0);
+        assertThat(result.getFinalGrade()).isEqualTo(AssessmentGrade.C);
+        assertThat(result.getRuleVersion()).isEqualTo("custom");
+        assertThat(result.getCriticalViolationCount()).isEqualTo(1);
+        assertThat(answer(result, "1.1").getCriticalViolation()).isFalse();
+        assertThat(answer(result, "1.1").getCriticalGrade()).isNull();
+        assertThat(answer(result, "2.1").getCriticalViolation()).isTrue();
+        assertThat(answer(result, "2.1").getCriticalGrade()).isEqualTo(AssessmentGrade.C);
+    }
+
+    @Test
+    void builtinRuleSetOverridesClientCriticalFlags() {
+        GradeCalculator calculator = calculatorWith(new MockEnvironment());
+        SelfAssessmentResult result = resultAnsweringNoTo("1.1", "2.1");
+
+        calculator.evaluate(result);
+
+        // 요청에서 1.1을 중대위반이 아니라고 보내도 내장 규칙(1.1 → D)으로 강등
+        assertThat(result.getFinalGrade()).isEqualTo(AssessmentGrade.D);
+        assertThat(answer(result, "1.1").getCriticalViolation()).isTrue();
+        assertThat(answer(result, "2.1").getCriticalViolation()).isFalse();
+    }
+
+    @Test
+    void packingDoesNotDependOnCriticalFlags() {
+        SelfAssessmentResult result = resultAnsweringNoTo("1.1", "2.1");
+
+        assertThat(questionnaire.pack(result.getEffectiveAnswers())).isNotNull();
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private GradeCalculator calculatorWith(MockEnvironment environment) {
+        GradingRuleRegistry registry = new GradingRuleRegistry(environment, new SimpleMeterRegistry());
+        registry.initialize();
+        return new GradeCalculator(registry);
+    }
+
+    /**
+     * 지정한 문항만 NO인 현재 문항 버전 답변 (요청의 중대위반 값은 모두 반대로 보낸 것으로 가정)
+     */
+    private SelfAssessmentResult resultAnsweringNoTo(String... noQuestionIds) {
+        List<String> no = List.of(noQuestionIds);
+        List<SelfAssessmentAnswer> answers = questionnaire.getQuestions().stream()
+                .map(question -> SelfAssessmentAnswer.builder()
+                        .questionId(question.questionId())
+                        .category(question.category())
+                        .weight(question.weight())
+                        .answer(!no.contains(question.questionId()))
+                        .criticalViolation(!question.critical())
+                        .build())
+                .toList();
+        SelfAssessmentResult result = SelfAssessmentResult.builder()
+                .companyName("테스트")
+                .status(AssessmentStatus.IN_PROGRESS)
+                .build();
+        result.assignAnswers(answers);
+        return result;
+    }
+
+    private SelfAssessmentAnswer answer(SelfAssessmentResult result, String questionId) {
+        return result.getEffectiveAnswers().stream()
+                .filter(answer -> answer.getQuestionId().equals(questionId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.nsmm.esg.csddd_service.util;
+
+import com.nsmm.esg.csddd_service.config.GradingRuleProperties;
+import com.nsmm.esg.csddd_service.enums.AssessmentGrade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 등급 산정 규칙 세트 컴파일/교체 테스트
+ *
+ * 설정 검증, 설정 갱신 이벤트에 따른 규칙 세트 교체,
+ * 잘못된 규칙 세트가 들어왔을 때 기존 규칙이 유지되는지 확인한다.
+ */
+class GradingRuleRegistryTest {
+
+    private static final Set<String> ACTIVE_VERSION_KEY = Set.of("csddd.grading.active-version");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // ============================================================================
+    // 컴파일 (Compile)
+    // ============================================================================
+
+    @Test
+    void compileAppliesThresholdsAndCriticalGrades() {
+        GradingRuleProperties.RuleSet source = ruleSet(95, 80, 50);
+        source.getCriticalGrades().put("2.1", AssessmentGrade.C);
+
+        GradingRuleSet rules = GradingRuleSet.compile("2025-07", source);
+
+        assertThat(rules.getVersion()).isEqualTo("2025-07");
+        assertThat(rules.gradeForScore(95)).isEqualTo(AssessmentGrade.A);
+        assertThat(rules.gradeForScore(94)).isEqualTo(AssessmentGrade.B);
+        assertThat(rules.gradeForScore(50)).isEqualTo(AssessmentGrade.C);
+        assertThat(rules.gradeForScore(49)).isEqualTo(AssessmentGrade.D);
+        assertThat(rules.criticalGrade("2.1")).isEqualTo(AssessmentGrade.C);
+        assertThat(rules.criticalGrade("1.1")).isNull();
+
+        // 컴파일 이후 원본 설정이 바뀌어도 규칙 세트는 불변
+        source.getCriticalGrades().put("1.1", AssessmentGrade.D);
+        assertThat(rules.criticalGrade("1.1")).isNull();
+    }
+
+    @Test
+    void compileRejectsInvalidRuleSets() {
+        assertThatThrownBy(() -> GradingRuleSet.compile("bad", ruleSet(80, 90, 60)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GradingRuleSet.compile("bad", ruleSet(101, 75, 60)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GradingRuleSet.compile("bad", ruleSet(90, 75, -1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GradingRuleSet.compile(" ", ruleSet(90, 75, 60)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        GradingRuleProperties.RuleSet missingGrade = ruleSet(90, 75, 60);
+        missingGrade.getCriticalGrades().put("1.1", null);
+        assertThatThrownBy(() -> GradingRuleSet.compile("bad", missingGrade))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1.1");
+    }
+
+    // ============================================================================
+    // 교체 (Reload)
+    // ============================================================================
+
+    @Test
+    void startupFailsOnUndefinedActiveVersion() {
+        GradingRuleRegistry registry = new GradingRuleRegistry(new MockEnvironment()
+                .withProperty("csddd.grading.active-version", "missing"), meterRegistry);
+
+        assertThatThrownBy(registry::initialize).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void environmentChangeSwapsToNewRuleSet() {
+        MockEnvironment environment = new MockEnvironment();
+        GradingRuleRegistry registry = initializedRegistry(environment);
+        assertThat(registry.current()).isSameAs(GradingRuleSet.builtin());
+
+        environment.setProperty("csddd.grading.rule-sets.2025-07.threshold-a", "95");
+        environment.setProperty("csddd.grading.rule-sets.2025-07.critical-grades.[2.1]", "C");
+        environment.setProperty("csddd.grading.active-version", "2025-07");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(ACTIVE_VERSION_KEY));
+
+        assertThat(registry.current().getVersion()).isEqualTo("2025-07");
+        assertThat(registry.current().gradeForScore(92)).isEqualTo(AssessmentGrade.B);
+        assertThat(registry.current().criticalGrade("2.1")).isEqualTo(AssessmentGrade.C);
+        assertThat(reloadCount("2025-07")).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidRuleSetKeepsPreviousRules() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("csddd.grading.active-version", "2025-07")
+                .withProperty("csddd.grading.rule-sets.2025-07.threshold-a", "95");
+        GradingRuleRegistry registry = initializedRegistry(environment);
+        GradingRuleSet previous = registry.current();
+
+        // 점수 기준이 내림차순이 아닌 규칙 세트
+        environment.setProperty("csddd.grading.rule-sets.2025-08.threshold-a", "70");
+        environment.setProperty("csddd.grading.active-version", "2025-08");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(ACTIVE_VERSION_KEY));
+        assertThat(registry.current()).isSameAs(previous);
+
+        // 정의되지 않은 버전
+        environment.setProperty("csddd.grading.active-version", "2025-09");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(ACTIVE_VERSION_KEY));
+        assertThat(registry.current()).isSameAs(previous);
+
+        assertThat(meterRegistry.find("csddd.grading.rule.reloads").counters()).isEmpty();
+    }
+
+    @Test
+    void unrelatedEnvironmentChangeIsIgnored() {
+        MockEnvironment environment = new MockEnvironment();
+        GradingRuleRegistry registry = initializedRegistry(environment);
+
+        environment.setProperty("csddd.grading.active-version", "missing");
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("csddd.archival.enabled")));
+
+        assertThat(registry.current()).isSameAs(GradingRuleSet.builtin());
+    }
+
+    // ============================================================================
+    // 테스트 헬퍼 (Test Helpers)
+    // ============================================================================
+
+    private GradingRuleRegistry initializedRegistry(MockEnvironment environment) {
+        GradingRuleRegistry registry = new GradingRuleRegistry(environment, meterRegistry);
+        registry.initialize();
+        return registry;
+    }
+
+    private GradingRuleProperties.RuleSet ruleSet(int thresholdA, int thresholdB, int thresholdC) {
+        GradingRuleProperties.RuleSet ruleSet = new GradingRuleProperties.RuleSet();
+        ruleSet.setThresholdA(thresholdA);
+        ruleSet.setThresholdB(thresholdB);
+        ruleSet.setThresholdC(thresholdC);
+        return ruleSet;
+    }
+
+    private double reloadCount(String version) {
+        return meterRegistry.get("csddd.grading.rule.reloads").tag("version", version).counter().count();
+    }
+}